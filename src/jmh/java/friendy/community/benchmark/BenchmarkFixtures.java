@@ -0,0 +1,49 @@
+package friendy.community.benchmark;
+
+import friendy.community.domain.common.BaseEntity;
+import friendy.community.domain.member.dto.request.MemberSignUpRequest;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.model.Post;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 벤치마크용 엔티티를 만든다. 영속화 없이 만들기 때문에 id 와 생성 시각은 직접 채운다.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Post createPost(final long postId) {
+        final Member member = new Member(
+            new MemberSignUpRequest("example@friendy.com", "bokSungKim", "password123!", LocalDate.parse("2002-08-13"), null),
+            "encryptedPassword",
+            "salt"
+        );
+        setField(member, "id", 1L);
+
+        final Post post = Post.of(new PostCreateRequest("This is a sample post content.", List.of(), List.of(), "창원시"), member);
+        setField(post, "id", postId);
+        setField(post, BaseEntity.class, "createdDate", LocalDateTime.of(2025, 1, 1, 12, 0));
+        return post;
+    }
+
+    private static void setField(final Object target, final String name, final Object value) {
+        setField(target, target.getClass(), name, value);
+    }
+
+    private static void setField(final Object target, final Class<?> type, final String name, final Object value) {
+        try {
+            final Field field = type.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
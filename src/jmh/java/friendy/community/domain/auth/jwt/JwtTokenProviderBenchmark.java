@@ -0,0 +1,93 @@
+package friendy.community.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급/검증 처리량을 키와 파서를 매번 만드는 기존 방식(legacy*)과 비교한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "SpringBootJWTHelperTokenSecretKeyFreindy246!@#";
+    private static final String EMAIL = "example@friendy.com";
+    private static final long EXPIRATION_IN_MS = 3_600_000L;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        jwtTokenProvider = new JwtTokenProvider(null);
+        setField("jwtAccessTokenSecret", SECRET);
+        setField("jwtAccessTokenKeyId", "default");
+        setField("jwtAccessTokenVerificationKeys", List.of());
+        setField("jwtAccessTokenExpirationInMs", EXPIRATION_IN_MS);
+        setField("jwtRefreshTokenSecret", SECRET);
+        setField("jwtRefreshTokenKeyId", "default");
+        setField("jwtRefreshTokenVerificationKeys", List.of());
+        setField("jwtRefreshTokenExpirationInMs", EXPIRATION_IN_MS);
+        jwtTokenProvider.initKeyRings();
+        accessToken = jwtTokenProvider.generateAccessToken(EMAIL);
+    }
+
+    @Benchmark
+    public String issue() {
+        return jwtTokenProvider.generateAccessToken(EMAIL);
+    }
+
+    @Benchmark
+    public AccessTokenClaims verify() {
+        return jwtTokenProvider.parseAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public String legacyIssue() {
+        final SecretKey secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+        final Date now = new Date();
+        return Jwts.builder()
+            .claim("email", EMAIL)
+            .setIssuedAt(now)
+            .setExpiration(new Date(now.getTime() + EXPIRATION_IN_MS))
+            .signWith(secretKey)
+            .compact();
+    }
+
+    @Benchmark
+    public Claims legacyVerify() {
+        // 기존 validateAccessToken + extractEmailFromAccessToken 처럼 파서를 두 번 만들고 두 번 파싱한다
+        Jwts.parserBuilder()
+            .setSigningKey(SECRET.getBytes(StandardCharsets.UTF_8))
+            .build()
+            .parseClaimsJws(accessToken);
+        return Jwts.parserBuilder()
+            .setSigningKey(SECRET.getBytes(StandardCharsets.UTF_8))
+            .build()
+            .parseClaimsJws(accessToken)
+            .getBody();
+    }
+
+    private void setField(final String name, final Object value) throws ReflectiveOperationException {
+        final Field field = JwtTokenProvider.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(jwtTokenProvider, value);
+    }
+}
@@ -0,0 +1,61 @@
+package friendy.community.domain.email.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메일 한 통의 본문을 만드는 비용을 미리 렌더링한 방식과 템플릿 엔진을 매번 거치는 기존 방식(legacy*)으로 비교한다.
+ * 기존 방식은 운영 설정(spring.thymeleaf.cache)에 따라 템플릿 캐시를 켜고 끈다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmailTemplateRendererBenchmark {
+
+    private static final String AUTH_CODE = "012345";
+
+    @Param({"false", "true"})
+    public boolean templateCache;
+
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateRenderer emailTemplateRenderer;
+
+    @Setup
+    public void setUp() {
+        final ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateResolver.setCacheable(templateCache);
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        emailTemplateRenderer = new EmailTemplateRenderer(templateEngine);
+        emailTemplateRenderer.init();
+    }
+
+    @Benchmark
+    public byte[] render() {
+        return emailTemplateRenderer.render(AUTH_CODE);
+    }
+
+    @Benchmark
+    public String legacyRender() {
+        final Context context = new Context();
+        context.setVariable("authCode", AUTH_CODE);
+        return templateEngine.process(EmailTemplateRenderer.TEMPLATE_NAME, context);
+    }
+}
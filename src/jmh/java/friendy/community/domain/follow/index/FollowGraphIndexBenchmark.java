@@ -0,0 +1,75 @@
+package friendy.community.domain.follow.index;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 10만 명, 팔로우 100만 건 그래프에서 팔로우 여부, 맞팔로우, 함께 팔로우하는 회원 계산 비용을 측정한다.
+ * 팔로우 대상의 절반은 상위 100명에 몰리게 해 인기 회원의 팔로워 집합이 비트맵 구간이 되도록 한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FollowGraphIndexBenchmark {
+
+    private static final int MEMBER_COUNT = 100_000;
+    private static final int EDGE_COUNT = 1_000_000;
+    private static final int POPULAR_COUNT = 100;
+    private static final int PROBE_COUNT = 1024;
+
+    private FollowGraphIndex followGraphIndex;
+    private long[] probeIds;
+    private int probe;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        followGraphIndex = new FollowGraphIndex();
+        for (int edge = 0; edge < EDGE_COUNT; edge++) {
+            final long followerId = 1 + random.nextInt(MEMBER_COUNT);
+            final long followingId = random.nextBoolean()
+                ? 1 + random.nextInt(POPULAR_COUNT)
+                : 1 + random.nextInt(MEMBER_COUNT);
+            if (followerId != followingId) {
+                followGraphIndex.follow(followerId, followingId);
+            }
+        }
+        probeIds = new long[PROBE_COUNT];
+        for (int index = 0; index < PROBE_COUNT; index++) {
+            probeIds[index] = 1 + random.nextInt(MEMBER_COUNT);
+        }
+    }
+
+    @Benchmark
+    public boolean isFollowing() {
+        return followGraphIndex.isFollowing(nextProbe(), nextProbe());
+    }
+
+    @Benchmark
+    public long[] findPopularMutualIds() {
+        return followGraphIndex.findMutualIds(1 + nextProbe() % POPULAR_COUNT);
+    }
+
+    @Benchmark
+    public int countMutuals() {
+        return followGraphIndex.countMutuals(nextProbe());
+    }
+
+    @Benchmark
+    public int countCommonFollowings() {
+        return followGraphIndex.countCommonFollowings(nextProbe(), nextProbe());
+    }
+
+    private long nextProbe() {
+        probe = (probe + 1) & (PROBE_COUNT - 1);
+        return probeIds[probe];
+    }
+}
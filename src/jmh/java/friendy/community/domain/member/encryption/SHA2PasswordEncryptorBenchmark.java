@@ -0,0 +1,29 @@
+package friendy.community.domain.member.encryption;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SHA2PasswordEncryptorBenchmark {
+
+    private PasswordEncryptor passwordEncryptor;
+
+    @Setup
+    public void setUp() {
+        passwordEncryptor = new SHA2PasswordEncryptor();
+    }
+
+    @Benchmark
+    public String encrypt() {
+        return passwordEncryptor.encrypt("password123!", "c2FsdHNhbHRzYWx0c2FsdA==");
+    }
+}
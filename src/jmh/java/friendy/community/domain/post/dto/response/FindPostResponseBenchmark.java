@@ -0,0 +1,37 @@
+package friendy.community.domain.post.dto.response;
+
+import friendy.community.benchmark.BenchmarkFixtures;
+import friendy.community.domain.post.model.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FindPostResponseBenchmark {
+
+    private final List<String> imageUrls = List.of(
+        "https://example.com/post-1.jpg",
+        "https://example.com/post-2.jpg"
+    );
+    private final List<String> hashtags = List.of("프렌디", "개발", "스터디");
+    private Post post;
+
+    @Setup
+    public void setUp() {
+        post = BenchmarkFixtures.createPost(1L);
+    }
+
+    @Benchmark
+    public FindPostResponse from() {
+        return FindPostResponse.from(post, imageUrls, hashtags, true, false);
+    }
+}
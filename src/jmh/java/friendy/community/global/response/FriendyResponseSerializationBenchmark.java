@@ -0,0 +1,56 @@
+package friendy.community.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import friendy.community.benchmark.BenchmarkFixtures;
+import friendy.community.domain.post.controller.code.PostSuccessCode;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.domain.post.dto.response.FindPostResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 목록 한 페이지(10건)를 담은 공통 응답의 직렬화 비용을 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FriendyResponseSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    private ObjectMapper objectMapper;
+    private FriendyResponse<FindAllPostResponse> response;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        final List<FindPostResponse> posts = new ArrayList<>();
+        for (long postId = PAGE_SIZE; postId > 0; postId--) {
+            posts.add(FindPostResponse.from(
+                BenchmarkFixtures.createPost(postId),
+                List.of("https://example.com/post" + postId + "-1.jpg", "https://example.com/post" + postId + "-2.jpg"),
+                List.of("프렌디", "개발"),
+                false,
+                postId % 2 == 0
+            ));
+        }
+        response = FriendyResponse.of(PostSuccessCode.GET_ALL_POSTS_SUCCESS, new FindAllPostResponse(posts, true, 1L));
+    }
+
+    @Benchmark
+    public byte[] serializePostPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,69 @@
+package friendy.community.domain.comment.model;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QReply is a Querydsl query type for Reply
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QReply extends EntityPathBase<Reply> {
+
+    private static final long serialVersionUID = -477299676L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QReply reply = new QReply("reply");
+
+    public final friendy.community.domain.common.QBaseEntity _super = new friendy.community.domain.common.QBaseEntity(this);
+
+    public final QComment comment;
+
+    public final StringPath content = createString("content");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdDate = _super.createdDate;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final NumberPath<Integer> likeCount = createNumber("likeCount", Integer.class);
+
+    public final friendy.community.domain.member.model.QMember member;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedDate = _super.modifiedDate;
+
+    public final friendy.community.domain.post.model.QPost post;
+
+    public QReply(String variable) {
+        this(Reply.class, forVariable(variable), INITS);
+    }
+
+    public QReply(Path<? extends Reply> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QReply(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QReply(PathMetadata metadata, PathInits inits) {
+        this(Reply.class, metadata, inits);
+    }
+
+    public QReply(Class<? extends Reply> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.comment = inits.isInitialized("comment") ? new QComment(forProperty("comment"), inits.get("comment")) : null;
+        this.member = inits.isInitialized("member") ? new friendy.community.domain.member.model.QMember(forProperty("member"), inits.get("member")) : null;
+        this.post = inits.isInitialized("post") ? new friendy.community.domain.post.model.QPost(forProperty("post"), inits.get("post")) : null;
+    }
+
+}
+
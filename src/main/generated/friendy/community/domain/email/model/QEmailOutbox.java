@@ -0,0 +1,57 @@
+package friendy.community.domain.email.model;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QEmailOutbox is a Querydsl query type for EmailOutbox
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QEmailOutbox extends EntityPathBase<EmailOutbox> {
+
+    private static final long serialVersionUID = -2011441232L;
+
+    public static final QEmailOutbox emailOutbox = new QEmailOutbox("emailOutbox");
+
+    public final friendy.community.domain.common.QBaseEntity _super = new friendy.community.domain.common.QBaseEntity(this);
+
+    public final NumberPath<Integer> attempts = createNumber("attempts", Integer.class);
+
+    public final StringPath authCode = createString("authCode");
+
+    public final StringPath claimToken = createString("claimToken");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdDate = _super.createdDate;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedDate = _super.modifiedDate;
+
+    public final DateTimePath<java.time.LocalDateTime> nextAttemptAt = createDateTime("nextAttemptAt", java.time.LocalDateTime.class);
+
+    public final StringPath recipient = createString("recipient");
+
+    public final EnumPath<EmailOutboxStatus> status = createEnum("status", EmailOutboxStatus.class);
+
+    public QEmailOutbox(String variable) {
+        super(EmailOutbox.class, forVariable(variable));
+    }
+
+    public QEmailOutbox(Path<? extends EmailOutbox> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QEmailOutbox(PathMetadata metadata) {
+        super(EmailOutbox.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,62 @@
+package friendy.community.domain.follow.model;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QFollow is a Querydsl query type for Follow
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QFollow extends EntityPathBase<Follow> {
+
+    private static final long serialVersionUID = -1418821951L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QFollow follow = new QFollow("follow");
+
+    public final friendy.community.domain.common.QBaseEntity _super = new friendy.community.domain.common.QBaseEntity(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdDate = _super.createdDate;
+
+    public final friendy.community.domain.member.model.QMember follower;
+
+    public final friendy.community.domain.member.model.QMember following;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedDate = _super.modifiedDate;
+
+    public QFollow(String variable) {
+        this(Follow.class, forVariable(variable), INITS);
+    }
+
+    public QFollow(Path<? extends Follow> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QFollow(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QFollow(PathMetadata metadata, PathInits inits) {
+        this(Follow.class, metadata, inits);
+    }
+
+    public QFollow(Class<? extends Follow> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.follower = inits.isInitialized("follower") ? new friendy.community.domain.member.model.QMember(forProperty("follower"), inits.get("follower")) : null;
+        this.following = inits.isInitialized("following") ? new friendy.community.domain.member.model.QMember(forProperty("following"), inits.get("following")) : null;
+    }
+
+}
+
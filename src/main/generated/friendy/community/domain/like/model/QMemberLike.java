@@ -0,0 +1,63 @@
+package friendy.community.domain.like.model;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QMemberLike is a Querydsl query type for MemberLike
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QMemberLike extends EntityPathBase<MemberLike> {
+
+    private static final long serialVersionUID = 470672571L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QMemberLike memberLike = new QMemberLike("memberLike");
+
+    public final friendy.community.domain.common.QBaseEntity _super = new friendy.community.domain.common.QBaseEntity(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdDate = _super.createdDate;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final friendy.community.domain.member.model.QMember member;
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedDate = _super.modifiedDate;
+
+    public final NumberPath<Long> targetId = createNumber("targetId", Long.class);
+
+    public final EnumPath<LikeTargetType> targetType = createEnum("targetType", LikeTargetType.class);
+
+    public QMemberLike(String variable) {
+        this(MemberLike.class, forVariable(variable), INITS);
+    }
+
+    public QMemberLike(Path<? extends MemberLike> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QMemberLike(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QMemberLike(PathMetadata metadata, PathInits inits) {
+        this(MemberLike.class, metadata, inits);
+    }
+
+    public QMemberLike(Class<? extends MemberLike> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.member = inits.isInitialized("member") ? new friendy.community.domain.member.model.QMember(forProperty("member"), inits.get("member")) : null;
+    }
+
+}
+
@@ -0,0 +1,51 @@
+package friendy.community.domain.member.model;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QMemberImage is a Querydsl query type for MemberImage
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QMemberImage extends EntityPathBase<MemberImage> {
+
+    private static final long serialVersionUID = -2099991430L;
+
+    public static final QMemberImage memberImage = new QMemberImage("memberImage");
+
+    public final friendy.community.domain.common.QBaseEntity _super = new friendy.community.domain.common.QBaseEntity(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdDate = _super.createdDate;
+
+    public final StringPath fileType = createString("fileType");
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath imageUrl = createString("imageUrl");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedDate = _super.modifiedDate;
+
+    public final StringPath s3Key = createString("s3Key");
+
+    public QMemberImage(String variable) {
+        super(MemberImage.class, forVariable(variable));
+    }
+
+    public QMemberImage(Path<? extends MemberImage> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QMemberImage(PathMetadata metadata) {
+        super(MemberImage.class, metadata);
+    }
+
+}
+
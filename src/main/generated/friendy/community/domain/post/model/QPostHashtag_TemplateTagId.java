@@ -0,0 +1,39 @@
+package friendy.community.domain.post.model;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QPostHashtag_TemplateTagId is a Querydsl query type for TemplateTagId
+ */
+@Generated("com.querydsl.codegen.DefaultEmbeddableSerializer")
+public class QPostHashtag_TemplateTagId extends BeanPath<PostHashtag.TemplateTagId> {
+
+    private static final long serialVersionUID = 1673733848L;
+
+    public static final QPostHashtag_TemplateTagId templateTagId = new QPostHashtag_TemplateTagId("templateTagId");
+
+    public final NumberPath<Long> hashtagId = createNumber("hashtagId", Long.class);
+
+    public final NumberPath<Long> postId = createNumber("postId", Long.class);
+
+    public QPostHashtag_TemplateTagId(String variable) {
+        super(PostHashtag.TemplateTagId.class, forVariable(variable));
+    }
+
+    public QPostHashtag_TemplateTagId(Path<? extends PostHashtag.TemplateTagId> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QPostHashtag_TemplateTagId(PathMetadata metadata) {
+        super(PostHashtag.TemplateTagId.class, metadata);
+    }
+
+}
+
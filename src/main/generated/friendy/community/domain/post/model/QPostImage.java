@@ -0,0 +1,63 @@
+package friendy.community.domain.post.model;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+import com.querydsl.core.types.dsl.PathInits;
+
+
+/**
+ * QPostImage is a Querydsl query type for PostImage
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QPostImage extends EntityPathBase<PostImage> {
+
+    private static final long serialVersionUID = 1011553018L;
+
+    private static final PathInits INITS = PathInits.DIRECT2;
+
+    public static final QPostImage postImage = new QPostImage("postImage");
+
+    public final friendy.community.domain.common.QBaseEntity _super = new friendy.community.domain.common.QBaseEntity(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdDate = _super.createdDate;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final NumberPath<Integer> imageOrder = createNumber("imageOrder", Integer.class);
+
+    public final StringPath imageUrl = createString("imageUrl");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedDate = _super.modifiedDate;
+
+    public final QPost post;
+
+    public QPostImage(String variable) {
+        this(PostImage.class, forVariable(variable), INITS);
+    }
+
+    public QPostImage(Path<? extends PostImage> path) {
+        this(path.getType(), path.getMetadata(), PathInits.getFor(path.getMetadata(), INITS));
+    }
+
+    public QPostImage(PathMetadata metadata) {
+        this(metadata, PathInits.getFor(metadata, INITS));
+    }
+
+    public QPostImage(PathMetadata metadata, PathInits inits) {
+        this(PostImage.class, metadata, inits);
+    }
+
+    public QPostImage(Class<? extends PostImage> type, PathMetadata metadata, PathInits inits) {
+        super(type, metadata, inits);
+        this.post = inits.isInitialized("post") ? new QPost(forProperty("post"), inits.get("post")) : null;
+    }
+
+}
+
@@ -0,0 +1,53 @@
+package friendy.community.domain.upload.model;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QImageVariant is a Querydsl query type for ImageVariant
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QImageVariant extends EntityPathBase<ImageVariant> {
+
+    private static final long serialVersionUID = -721193622L;
+
+    public static final QImageVariant imageVariant = new QImageVariant("imageVariant");
+
+    public final friendy.community.domain.common.QBaseEntity _super = new friendy.community.domain.common.QBaseEntity(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdDate = _super.createdDate;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath imageUrl = createString("imageUrl");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedDate = _super.modifiedDate;
+
+    public final StringPath s3Key = createString("s3Key");
+
+    public final StringPath sourceUrl = createString("sourceUrl");
+
+    public final NumberPath<Integer> width = createNumber("width", Integer.class);
+
+    public QImageVariant(String variable) {
+        super(ImageVariant.class, forVariable(variable));
+    }
+
+    public QImageVariant(Path<? extends ImageVariant> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QImageVariant(PathMetadata metadata) {
+        super(ImageVariant.class, metadata);
+    }
+
+}
+
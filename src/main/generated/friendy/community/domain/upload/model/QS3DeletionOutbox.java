@@ -0,0 +1,55 @@
+package friendy.community.domain.upload.model;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QS3DeletionOutbox is a Querydsl query type for S3DeletionOutbox
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QS3DeletionOutbox extends EntityPathBase<S3DeletionOutbox> {
+
+    private static final long serialVersionUID = -678361557L;
+
+    public static final QS3DeletionOutbox s3DeletionOutbox = new QS3DeletionOutbox("s3DeletionOutbox");
+
+    public final friendy.community.domain.common.QBaseEntity _super = new friendy.community.domain.common.QBaseEntity(this);
+
+    public final NumberPath<Integer> attempts = createNumber("attempts", Integer.class);
+
+    public final StringPath claimToken = createString("claimToken");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdDate = _super.createdDate;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedDate = _super.modifiedDate;
+
+    public final DateTimePath<java.time.LocalDateTime> nextAttemptAt = createDateTime("nextAttemptAt", java.time.LocalDateTime.class);
+
+    public final StringPath s3Key = createString("s3Key");
+
+    public final EnumPath<S3DeletionOutboxStatus> status = createEnum("status", S3DeletionOutboxStatus.class);
+
+    public QS3DeletionOutbox(String variable) {
+        super(S3DeletionOutbox.class, forVariable(variable));
+    }
+
+    public QS3DeletionOutbox(Path<? extends S3DeletionOutbox> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QS3DeletionOutbox(PathMetadata metadata) {
+        super(S3DeletionOutbox.class, metadata);
+    }
+
+}
+
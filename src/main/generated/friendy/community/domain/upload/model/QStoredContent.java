@@ -0,0 +1,55 @@
+package friendy.community.domain.upload.model;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QStoredContent is a Querydsl query type for StoredContent
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QStoredContent extends EntityPathBase<StoredContent> {
+
+    private static final long serialVersionUID = 1821675670L;
+
+    public static final QStoredContent storedContent = new QStoredContent("storedContent");
+
+    public final friendy.community.domain.common.QBaseEntity _super = new friendy.community.domain.common.QBaseEntity(this);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdDate = _super.createdDate;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    public final StringPath imageUrl = createString("imageUrl");
+
+    public final DateTimePath<java.time.LocalDateTime> lastReusedAt = createDateTime("lastReusedAt", java.time.LocalDateTime.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedDate = _super.modifiedDate;
+
+    public final NumberPath<Integer> refCount = createNumber("refCount", Integer.class);
+
+    public final StringPath s3Key = createString("s3Key");
+
+    public final StringPath sha256 = createString("sha256");
+
+    public QStoredContent(String variable) {
+        super(StoredContent.class, forVariable(variable));
+    }
+
+    public QStoredContent(Path<? extends StoredContent> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QStoredContent(PathMetadata metadata) {
+        super(StoredContent.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,53 @@
+package friendy.community.domain.upload.model;
+
+import static com.querydsl.core.types.PathMetadataFactory.*;
+
+import com.querydsl.core.types.dsl.*;
+
+import com.querydsl.core.types.PathMetadata;
+import javax.annotation.processing.Generated;
+import com.querydsl.core.types.Path;
+
+
+/**
+ * QUploadedFile is a Querydsl query type for UploadedFile
+ */
+@Generated("com.querydsl.codegen.DefaultEntitySerializer")
+public class QUploadedFile extends EntityPathBase<UploadedFile> {
+
+    private static final long serialVersionUID = 1549892284L;
+
+    public static final QUploadedFile uploadedFile = new QUploadedFile("uploadedFile");
+
+    public final friendy.community.domain.common.QBaseEntity _super = new friendy.community.domain.common.QBaseEntity(this);
+
+    public final NumberPath<Long> contentLength = createNumber("contentLength", Long.class);
+
+    public final StringPath contentType = createString("contentType");
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> createdDate = _super.createdDate;
+
+    public final NumberPath<Long> id = createNumber("id", Long.class);
+
+    //inherited
+    public final DateTimePath<java.time.LocalDateTime> modifiedDate = _super.modifiedDate;
+
+    public final StringPath s3Key = createString("s3Key");
+
+    public final StringPath sha256 = createString("sha256");
+
+    public QUploadedFile(String variable) {
+        super(UploadedFile.class, forVariable(variable));
+    }
+
+    public QUploadedFile(Path<? extends UploadedFile> path) {
+        super(path.getType(), path.getMetadata());
+    }
+
+    public QUploadedFile(PathMetadata metadata) {
+        super(UploadedFile.class, metadata);
+    }
+
+}
+
@@ -0,0 +1,7 @@
+package friendy.community.domain.auth.jwt;
+
+public record AccessTokenClaims(
+    String email,
+    long expiresAt
+) {
+}
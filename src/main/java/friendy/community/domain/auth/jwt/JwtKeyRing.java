@@ -0,0 +1,88 @@
+package friendy.community.domain.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import lombok.Getter;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서명 키 하나와 검증 전용 키들을 kid 로 묶어 보관한다.
+ * 키와 파서는 생성 시 한 번만 만들며, 모두 불변이라 여러 스레드에서 공유해도 안전하다.
+ */
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    private static final String KEY_SEPARATOR = "=";
+
+    @Getter
+    private final String signingKeyId;
+    @Getter
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> verificationKeys;
+    @Getter
+    private final JwtParser parser;
+
+    private JwtKeyRing(final String signingKeyId, final SecretKey signingKey, final Map<String, SecretKey> verificationKeys) {
+        this.signingKeyId = signingKeyId;
+        this.signingKey = signingKey;
+        this.verificationKeys = Map.copyOf(verificationKeys);
+        this.parser = Jwts.parserBuilder()
+            .setSigningKeyResolver(this)
+            .build();
+    }
+
+    /**
+     * @param verificationKeys 회전 이전 키처럼 검증에만 쓰는 "kid=secret" 목록
+     */
+    public static JwtKeyRing of(final String signingKeyId, final String signingSecret, final Collection<String> verificationKeys) {
+        final SecretKey signingKey = toSecretKey(signingSecret);
+        final Map<String, SecretKey> keys = new HashMap<>();
+        for (String verificationKey : verificationKeys) {
+            final int separatorIndex = verificationKey.indexOf(KEY_SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException("검증 키는 kid=secret 형식이어야 합니다.");
+            }
+            keys.put(verificationKey.substring(0, separatorIndex).trim(), toSecretKey(verificationKey.substring(separatorIndex + 1).trim()));
+        }
+        keys.put(signingKeyId, signingKey);
+        return new JwtKeyRing(signingKeyId, signingKey, keys);
+    }
+
+    @Override
+    public Key resolveSigningKey(final JwsHeader header, final Claims claims) {
+        return resolve(header);
+    }
+
+    @Override
+    public Key resolveSigningKey(final JwsHeader header, final String plaintext) {
+        return resolve(header);
+    }
+
+    private Key resolve(final JwsHeader header) {
+        final String keyId = header.getKeyId();
+        // kid 가 없는 토큰은 kid 도입 이전에 발급된 것이므로 현재 서명 키로 검증한다
+        if (keyId == null) {
+            return signingKey;
+        }
+        final SecretKey key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new JwtException("알 수 없는 서명 키입니다. kid : " + keyId);
+        }
+        return key;
+    }
+
+    private static SecretKey toSecretKey(final String secret) {
+        return new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
+    }
+}
@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import friendy.community.global.config.SecurityPathConfig;
 import friendy.community.global.exception.domain.UnAuthorizedException;
 import friendy.community.global.exception.dto.ExceptionResponse;
+import friendy.community.global.security.AuthenticationCache;
 import friendy.community.global.security.FriendyUserDetails;
 import friendy.community.global.security.FriendyUserDetailsService;
 import jakarta.servlet.FilterChain;
@@ -29,6 +30,7 @@ public class JwtTokenFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtTokenExtractor jwtTokenExtractor;
     private final FriendyUserDetailsService friendyUserDetailsService;
+    private final AuthenticationCache authenticationCache;
 
     @Override
     protected void doFilterInternal(
@@ -49,9 +51,9 @@ public class JwtTokenFilter extends OncePerRequestFilter {
                 );
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } else {
-                jwtTokenProvider.validateAccessToken(token);
+                AccessTokenClaims claims = jwtTokenProvider.parseAccessToken(token);
 
-                setAuthentication(token);
+                setAuthentication(token, claims);
             }
 
             filterChain.doFilter(request, response);
@@ -69,20 +71,13 @@ public class JwtTokenFilter extends OncePerRequestFilter {
         }
     }
 
-    public void setAuthentication(String token) {
-        String email;
-        try {
-            email = jwtTokenProvider.extractEmailFromAccessToken(token);
-        } catch (UnAuthorizedException e) {
-            throw e;
-        }
-
-        FriendyUserDetails friendyUserDetails;
-        try {
-            friendyUserDetails = friendyUserDetailsService.loadUserByUsername(email);
-        } catch (Exception e) {
-            throw e;
-        }
+    public void setAuthentication(String token, AccessTokenClaims claims) {
+        FriendyUserDetails friendyUserDetails = authenticationCache.get(token)
+            .orElseGet(() -> {
+                FriendyUserDetails loaded = friendyUserDetailsService.loadUserByUsername(claims.email());
+                authenticationCache.put(token, loaded, claims.expiresAt());
+                return loaded;
+            });
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
             friendyUserDetails,
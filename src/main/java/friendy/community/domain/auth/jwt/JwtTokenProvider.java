@@ -3,15 +3,14 @@ package friendy.community.domain.auth.jwt;
 import friendy.community.domain.auth.controller.code.AuthExceptionCode;
 import friendy.community.global.exception.domain.UnAuthorizedException;
 import io.jsonwebtoken.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import javax.crypto.spec.SecretKeySpec;
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 @Component
@@ -22,21 +21,35 @@ public class JwtTokenProvider {
     private final StringRedisTemplate redisTemplate;
     @Value("${jwt.access.secret}")
     private String jwtAccessTokenSecret;
+    @Value("${jwt.access.key-id:default}")
+    private String jwtAccessTokenKeyId;
+    @Value("${jwt.access.verification-keys:}")
+    private List<String> jwtAccessTokenVerificationKeys;
     @Value("${jwt.access.expiration}")
     private long jwtAccessTokenExpirationInMs;
     @Value("${jwt.refresh.secret}")
     private String jwtRefreshTokenSecret;
+    @Value("${jwt.refresh.key-id:default}")
+    private String jwtRefreshTokenKeyId;
+    @Value("${jwt.refresh.verification-keys:}")
+    private List<String> jwtRefreshTokenVerificationKeys;
     @Value("${jwt.refresh.expiration}")
     private long jwtRefreshTokenExpirationInMs;
+    private JwtKeyRing accessKeyRing;
+    private JwtKeyRing refreshKeyRing;
+
+    @PostConstruct
+    void initKeyRings() {
+        accessKeyRing = JwtKeyRing.of(jwtAccessTokenKeyId, jwtAccessTokenSecret, jwtAccessTokenVerificationKeys);
+        refreshKeyRing = JwtKeyRing.of(jwtRefreshTokenKeyId, jwtRefreshTokenSecret, jwtRefreshTokenVerificationKeys);
+    }
 
     public String generateAccessToken(final String email) {
-        final SecretKey secretKey = new SecretKeySpec(jwtAccessTokenSecret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
-        return buildJwtToken(email, jwtAccessTokenExpirationInMs, secretKey);
+        return buildJwtToken(email, jwtAccessTokenExpirationInMs, accessKeyRing);
     }
 
     public String generateRefreshToken(final String email) {
-        final SecretKey secretKey = new SecretKeySpec(jwtRefreshTokenSecret.getBytes(StandardCharsets.UTF_8), SignatureAlgorithm.HS256.getJcaName());
-        final String generatedToken = buildJwtToken(email, jwtRefreshTokenExpirationInMs, secretKey);
+        final String generatedToken = buildJwtToken(email, jwtRefreshTokenExpirationInMs, refreshKeyRing);
 
         saveRefreshToken(email, generatedToken);
 
@@ -53,9 +66,8 @@ public class JwtTokenProvider {
     }
 
     public String extractEmailFromRefreshToken(final String token) {
-        validateRefreshToken(token);
-        final Jws<Claims> claimsJws = getRefreshTokenParser().parseClaimsJws(token);
-        final String extractedEmail = claimsJws.getBody().get(EMAIL_KEY, String.class);
+        final Claims claims = parseRefreshTokenClaims(token);
+        final String extractedEmail = claims.get(EMAIL_KEY, String.class);
         if (extractedEmail == null) {
             throw new UnAuthorizedException(AuthExceptionCode.REFRESH_TOKEN_EMAIL_MISSING);
         }
@@ -64,21 +76,18 @@ public class JwtTokenProvider {
     }
 
     public void validateAccessToken(final String token) {
-        try {
-            final Claims claims = getAccessTokenParser().parseClaimsJws(token).getBody();
-        } catch (MalformedJwtException e) {
-            throw new UnAuthorizedException(AuthExceptionCode.MALFORMED_ACCESS_TOKEN);
-        } catch (UnsupportedJwtException e) {
-            throw new UnAuthorizedException(AuthExceptionCode.UNSUPPORTED_ACCESS_TOKEN);
-        } catch (ExpiredJwtException e) {
-            throw new UnAuthorizedException(AuthExceptionCode.EXPIRED_ACCESS_TOKEN);
-        } catch (IllegalArgumentException e) {
-            throw new UnAuthorizedException(AuthExceptionCode.EMPTY_ACCESS_TOKEN);
-        } catch (JwtException e) {
-            throw new UnAuthorizedException(AuthExceptionCode.INVALID_ACCESS_TOKEN);
-        }
+        parseAccessTokenClaims(token);
     }
 
+    public AccessTokenClaims parseAccessToken(final String token) {
+        final Claims claims = parseAccessTokenClaims(token);
+        final String extractedEmail = claims.get(EMAIL_KEY, String.class);
+        if (extractedEmail == null) {
+            throw new UnAuthorizedException(AuthExceptionCode.ACCESS_TOKEN_EMAIL_MISSING);
+        }
+        final Date expiration = claims.getExpiration();
+        return new AccessTokenClaims(extractedEmail, expiration == null ? Long.MAX_VALUE : expiration.getTime());
+    }
 
     public void deleteRefreshToken(final String email) {
         validateUserAuthorization(email);
@@ -86,8 +95,12 @@ public class JwtTokenProvider {
     }
 
     public void validateRefreshToken(final String token) {
+        parseRefreshTokenClaims(token);
+    }
+
+    private Claims parseRefreshTokenClaims(final String token) {
         try {
-            final Claims claims = getRefreshTokenParser().parseClaimsJws(token).getBody();
+            return getRefreshTokenParser().parseClaimsJws(token).getBody();
         } catch (MalformedJwtException | UnsupportedJwtException e) {
             throw new UnAuthorizedException(AuthExceptionCode.INVALID_REFRESH_TOKEN);
         } catch (ExpiredJwtException e) {
@@ -102,28 +115,41 @@ public class JwtTokenProvider {
         }
     }
 
-    private String buildJwtToken(final String email, final long tokenExpirationInMs, final SecretKey secretKey) {
+    private Claims parseAccessTokenClaims(final String token) {
+        try {
+            return getAccessTokenParser().parseClaimsJws(token).getBody();
+        } catch (MalformedJwtException e) {
+            throw new UnAuthorizedException(AuthExceptionCode.MALFORMED_ACCESS_TOKEN);
+        } catch (UnsupportedJwtException e) {
+            throw new UnAuthorizedException(AuthExceptionCode.UNSUPPORTED_ACCESS_TOKEN);
+        } catch (ExpiredJwtException e) {
+            throw new UnAuthorizedException(AuthExceptionCode.EXPIRED_ACCESS_TOKEN);
+        } catch (IllegalArgumentException e) {
+            throw new UnAuthorizedException(AuthExceptionCode.EMPTY_ACCESS_TOKEN);
+        } catch (JwtException e) {
+            throw new UnAuthorizedException(AuthExceptionCode.INVALID_ACCESS_TOKEN);
+        }
+    }
+
+    private String buildJwtToken(final String email, final long tokenExpirationInMs, final JwtKeyRing keyRing) {
         final Date now = new Date();
         Date expiryDate = new Date(now.getTime() + tokenExpirationInMs);
 
         return Jwts.builder()
+            .setHeaderParam(JwsHeader.KEY_ID, keyRing.getSigningKeyId())
             .claim(EMAIL_KEY, email)
             .setIssuedAt(now)
             .setExpiration(expiryDate)
-            .signWith(secretKey)
+            .signWith(keyRing.getSigningKey())
             .compact();
     }
 
     private JwtParser getAccessTokenParser() {
-        return Jwts.parserBuilder()
-            .setSigningKey(jwtAccessTokenSecret.getBytes(StandardCharsets.UTF_8))
-            .build();
+        return accessKeyRing.getParser();
     }
 
     private JwtParser getRefreshTokenParser() {
-        return Jwts.parserBuilder()
-            .setSigningKey(jwtRefreshTokenSecret.getBytes(StandardCharsets.UTF_8))
-            .build();
+        return refreshKeyRing.getParser();
     }
 
     public void saveRefreshToken(final String email, final String refreshToken) {
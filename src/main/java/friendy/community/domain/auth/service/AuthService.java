@@ -4,27 +4,35 @@ import friendy.community.domain.auth.controller.code.AuthExceptionCode;
 import friendy.community.domain.auth.dto.request.LoginRequest;
 import friendy.community.domain.auth.dto.response.TokenResponse;
 import friendy.community.domain.auth.jwt.JwtTokenProvider;
-import friendy.community.domain.member.encryption.PasswordEncryptor;
+import friendy.community.domain.member.encryption.PasswordHashingEngine;
 import friendy.community.domain.member.model.Member;
 import friendy.community.domain.member.repository.MemberRepository;
 import friendy.community.domain.member.service.MemberCommandService;
 import friendy.community.domain.member.service.MemberDomainService;
 import friendy.community.global.exception.domain.NotFoundException;
+import friendy.community.global.exception.domain.ServiceUnavailableException;
 import friendy.community.global.exception.domain.UnAuthorizedException;
+import friendy.community.global.security.AuthenticationCache;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AuthService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncryptor passwordEncryptor;
+    private final PasswordHashingEngine passwordHashingEngine;
     private final JwtTokenProvider jwtTokenProvider;
     private final MemberDomainService memberDomainService;
+    private final AuthenticationCache authenticationCache;
 
+    // 수십만 번 반복하는 비밀번호 검증과 재해시 동안 커넥션을 잡지 않도록 트랜잭션 밖에서 처리하고, 갱신만 짧게 쓴다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenResponse login(final LoginRequest request) {
         final Member member = getVerifiedMember(request.email(), request.password());
 
@@ -37,6 +45,7 @@ public class AuthService {
     public void logout(final String accessToken) {
         final String email = jwtTokenProvider.extractEmailFromAccessToken(accessToken);
         jwtTokenProvider.deleteRefreshToken(email);
+        authenticationCache.evict(accessToken);
     }
 
     public TokenResponse reissueToken(final String refreshToken) {
@@ -55,6 +64,7 @@ public class AuthService {
         final Member member = memberDomainService.getMemberByEmail(email);
 
         memberRepository.delete(member);
+        authenticationCache.evictMember(email);
     }
 
     private Member getVerifiedMember(String email, String password) {
@@ -69,9 +79,22 @@ public class AuthService {
 
     private void validateCorrectPassword(Member member, String password) {
         String salt = member.getSalt();
-        String encryptedPassword = passwordEncryptor.encrypt(password, salt);
-        if (!member.matchPassword(encryptedPassword)) {
+        if (!passwordHashingEngine.matches(password, salt, member.getPassword())) {
             throw new UnAuthorizedException(AuthExceptionCode.INVALID_PASSWORD);
         }
+        upgradePasswordHash(member, password);
+    }
+
+    // 기존 SHA-256 해시나 낮은 반복 횟수의 해시는 평문을 알고 있는 로그인 성공 시점에 다시 해시한다
+    private void upgradePasswordHash(Member member, String password) {
+        if (!passwordHashingEngine.needsUpgrade(member.getPassword())) {
+            return;
+        }
+        try {
+            memberRepository.upgradePassword(
+                member.getId(), member.getPassword(), passwordHashingEngine.hash(password, member.getSalt()));
+        } catch (ServiceUnavailableException e) {
+            log.warn("비밀번호 해시 갱신을 다음 로그인으로 미룹니다 - memberId : {}", member.getId());
+        }
     }
 }
@@ -31,11 +31,11 @@ public class Comment extends BaseEntity {
     @Column(nullable = false)
     private String content;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer likeCount;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer replyCount;
 
@@ -51,14 +51,6 @@ public class Comment extends BaseEntity {
         return new Comment(member, post, request.content());
     }
 
-    public void updateReplyCount(final Integer replyCount) {
-        this.replyCount = replyCount;
-    }
-
-    public void updateLikeCount(final Integer likeCount) {
-        this.likeCount = likeCount;
-    }
-
     public void updateContent(final String content) {
         this.content = content;
     }
@@ -35,7 +35,7 @@ public class Reply extends BaseEntity {
     @Column(nullable = false)
     private String content;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer likeCount;
 
@@ -51,10 +51,6 @@ public class Reply extends BaseEntity {
         return new Reply(member, post, comment, request.content());
     }
 
-    public void updateLikeCount(final Integer likeCount) {
-        this.likeCount = likeCount;
-    }
-
     public void updateContent(final String content) {
         this.content = content;
     }
@@ -12,6 +12,8 @@ import friendy.community.domain.comment.repository.CommentQueryDSLRepository;
 import friendy.community.domain.comment.repository.CommentRepository;
 import friendy.community.domain.comment.repository.ReplyQueryDSLRepository;
 import friendy.community.domain.comment.repository.ReplyRepository;
+import friendy.community.domain.counter.model.CounterType;
+import friendy.community.domain.counter.service.CounterService;
 import friendy.community.domain.member.model.Member;
 import friendy.community.domain.member.service.MemberCommandService;
 import friendy.community.domain.member.service.MemberDomainService;
@@ -37,15 +39,15 @@ public class CommentService {
     private final CommentQueryDSLRepository commentQueryDSLRepository;
     private final PostRepository postRepository;
     private final MemberDomainService memberDomainService;
+    private final CounterService counterService;
 
     public void saveComment(final CommentCreateRequest commentCreateRequest, final Long memberId) {
         final Member member = memberDomainService.getMemberById(memberId);
         final Post post = getPostByPostId(commentCreateRequest.postId());
         final Comment comment = Comment.of(commentCreateRequest, member, post);
 
-        post.updateCommentCount(post.getCommentCount() + 1);
-
         commentRepository.save(comment);
+        counterService.increment(CounterType.POST_COMMENT, post.getId());
     }
 
     public void saveReply(final ReplyCreateRequest replyCreateRequest, final Long memberId) {
@@ -54,8 +56,8 @@ public class CommentService {
         final Comment parentComment = getCommentByCommentId(replyCreateRequest.commentId());
         final Reply reply = Reply.of(replyCreateRequest, member, post, parentComment);
 
-        parentComment.updateReplyCount(parentComment.getReplyCount() + 1);
         replyRepository.save(reply);
+        counterService.increment(CounterType.COMMENT_REPLY, parentComment.getId());
     }
 
     public void updateComment(final CommentUpdateRequest commentUpdateRequest, Long id, final Long memberId) {
@@ -84,10 +86,8 @@ public class CommentService {
         List<Reply> replies = replyRepository.findAllByComment(comment);
         replyRepository.deleteAll(replies);
 
-        Post post = comment.getPost();
-        post.updateCommentCount(post.getCommentCount() - 1);
-
         commentRepository.delete(comment);
+        counterService.decrement(CounterType.POST_COMMENT, comment.getPost().getId());
     }
 
     public void deleteReply(final Long replyId, final Long memberId) {
@@ -95,10 +95,8 @@ public class CommentService {
         final Reply reply = getReplyByReplyId(replyId);
         validateAuthor(reply, member);
 
-        Comment comment = reply.getComment();
-        comment.updateReplyCount(comment.getReplyCount() - 1);
-
         replyRepository.delete(reply);
+        counterService.decrement(CounterType.COMMENT_REPLY, reply.getComment().getId());
     }
 
     public FindAllCommentsResponse getCommentsByLastId(final Long lastCommentId) {
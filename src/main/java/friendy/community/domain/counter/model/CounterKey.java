@@ -0,0 +1,7 @@
+package friendy.community.domain.counter.model;
+
+public record CounterKey(
+    CounterType type,
+    Long targetId
+) {
+}
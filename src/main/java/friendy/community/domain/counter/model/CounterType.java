@@ -0,0 +1,19 @@
+package friendy.community.domain.counter.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum CounterType {
+
+    POST_LIKE("post", "like_count"),
+    POST_COMMENT("post", "comment_count"),
+    POST_SHARE("post", "share_count"),
+    COMMENT_LIKE("comment", "like_count"),
+    COMMENT_REPLY("comment", "reply_count"),
+    REPLY_LIKE("reply", "like_count");
+
+    private final String table;
+    private final String column;
+}
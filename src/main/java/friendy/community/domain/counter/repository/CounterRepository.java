@@ -0,0 +1,34 @@
+package friendy.community.domain.counter.repository;
+
+import friendy.community.domain.counter.model.CounterType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Repository
+@RequiredArgsConstructor
+public class CounterRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void addAll(final CounterType type, final Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        // 락 획득 순서를 고정해 인스턴스 간 flush 가 교착되지 않도록 id 순으로 갱신한다
+        List<Object[]> batchArgs = new ArrayList<>();
+        new TreeMap<>(deltas).forEach((targetId, delta) -> batchArgs.add(new Object[]{delta, targetId}));
+
+        jdbcTemplate.batchUpdate(
+            "UPDATE " + type.getTable() + " SET " + type.getColumn() + " = " + type.getColumn() + " + ? WHERE id = ?",
+            batchArgs
+        );
+    }
+}
@@ -0,0 +1,163 @@
+package friendy.community.domain.counter.service;
+
+import friendy.community.domain.counter.model.CounterKey;
+import friendy.community.domain.counter.model.CounterType;
+import friendy.community.domain.counter.repository.CounterRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterService {
+
+    private static final int STRIPE_COUNT = 16;
+    private static final String REDIS_KEY_PREFIX = "counter:";
+
+    private final CounterRepository counterRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final ReadWriteLock[] locks = createLocks();
+    private final Map<CounterKey, LongAdder>[] stripes = createStripes();
+    @Value("${friendy.counter.redis-mirror:false}")
+    private boolean redisMirrorEnabled;
+
+    public void increment(final CounterType type, final Long targetId) {
+        add(type, targetId, 1);
+    }
+
+    public void decrement(final CounterType type, final Long targetId) {
+        add(type, targetId, -1);
+    }
+
+    public void add(final CounterType type, final Long targetId, final long delta) {
+        if (delta == 0) {
+            return;
+        }
+        final CounterKey key = new CounterKey(type, targetId);
+        record(key, delta);
+
+        // 증감을 즉시 반영하고, 호출한 트랜잭션이 롤백되면 같은 크기만큼 되돌린다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        record(key, -delta);
+                    }
+                }
+            });
+        }
+    }
+
+    public long getPendingDelta(final CounterType type, final Long targetId) {
+        final CounterKey key = new CounterKey(type, targetId);
+        final int index = stripeIndex(key);
+        locks[index].readLock().lock();
+        try {
+            final LongAdder adder = stripes[index].get(key);
+            return adder == null ? 0 : adder.sum();
+        } finally {
+            locks[index].readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${friendy.counter.flush-interval:1000}")
+    public void flush() {
+        final Map<CounterType, Map<Long, Long>> deltas = drain();
+        deltas.forEach((type, targetDeltas) -> {
+            try {
+                counterRepository.addAll(type, targetDeltas);
+                mirror(type, targetDeltas, -1);
+            } catch (Exception e) {
+                log.warn("카운터 반영 실패 - type : {}, size : {}", type, targetDeltas.size(), e);
+                targetDeltas.forEach((targetId, delta) -> accumulate(new CounterKey(type, targetId), delta));
+            }
+        });
+    }
+
+    private void record(final CounterKey key, final long delta) {
+        accumulate(key, delta);
+        mirror(key.type(), Map.of(key.targetId(), delta), 1);
+    }
+
+    private void accumulate(final CounterKey key, final long delta) {
+        final int index = stripeIndex(key);
+        locks[index].readLock().lock();
+        try {
+            stripes[index].computeIfAbsent(key, k -> new LongAdder()).add(delta);
+        } finally {
+            locks[index].readLock().unlock();
+        }
+    }
+
+    private Map<CounterType, Map<Long, Long>> drain() {
+        final Map<CounterType, Map<Long, Long>> deltas = new EnumMap<>(CounterType.class);
+        for (int index = 0; index < STRIPE_COUNT; index++) {
+            final Map<CounterKey, LongAdder> drained;
+            locks[index].writeLock().lock();
+            try {
+                drained = stripes[index];
+                stripes[index] = new ConcurrentHashMap<>();
+            } finally {
+                locks[index].writeLock().unlock();
+            }
+
+            drained.forEach((key, adder) -> {
+                final long delta = adder.sum();
+                if (delta != 0) {
+                    deltas.computeIfAbsent(key.type(), type -> new HashMap<>()).put(key.targetId(), delta);
+                }
+            });
+        }
+        return deltas;
+    }
+
+    private void mirror(final CounterType type, final Map<Long, Long> targetDeltas, final int sign) {
+        if (!redisMirrorEnabled) {
+            return;
+        }
+        try {
+            targetDeltas.forEach((targetId, delta) ->
+                redisTemplate.opsForValue().increment(REDIS_KEY_PREFIX + type.name() + ":" + targetId, sign * delta));
+        } catch (Exception e) {
+            log.warn("카운터 Redis 미러링 실패 - type : {}", type, e);
+        }
+    }
+
+    private int stripeIndex(final CounterKey key) {
+        return Math.floorMod(key.hashCode(), STRIPE_COUNT);
+    }
+
+    private static ReadWriteLock[] createLocks() {
+        final ReadWriteLock[] locks = new ReadWriteLock[STRIPE_COUNT];
+        for (int index = 0; index < STRIPE_COUNT; index++) {
+            locks[index] = new ReentrantReadWriteLock();
+        }
+        return locks;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<CounterKey, LongAdder>[] createStripes() {
+        final Map<CounterKey, LongAdder>[] stripes = new Map[STRIPE_COUNT];
+        for (int index = 0; index < STRIPE_COUNT; index++) {
+            stripes[index] = new ConcurrentHashMap<>();
+        }
+        return stripes;
+    }
+}
@@ -0,0 +1,6 @@
+package friendy.community.domain.email.event;
+
+public record EmailEnqueuedEvent(
+    Long outboxId
+) {
+}
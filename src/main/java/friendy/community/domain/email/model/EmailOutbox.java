@@ -0,0 +1,67 @@
+package friendy.community.domain.email.model;
+
+import friendy.community.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 중인 인증 메일. 발송에 성공하면 삭제하고, 재시도 한도를 넘기면 인증 코드를 지운 채 FAILED 로 남겼다가 보관 기간이 지나면 삭제한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "email_outbox",
+    indexes = { @Index(name = "idx_email_outbox_due", columnList = "status, next_attempt_at") }
+)
+public class EmailOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    // 발송을 포기하면 더 쓸 일이 없으므로 지운다
+    private String authCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EmailOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 발송을 맡은 워커가 선점할 때 기록하는 토큰
+    private String claimToken;
+
+    private EmailOutbox(final String recipient, final String authCode, final LocalDateTime now) {
+        this.recipient = recipient;
+        this.authCode = authCode;
+        this.status = EmailOutboxStatus.PENDING;
+        this.nextAttemptAt = now;
+    }
+
+    public static EmailOutbox of(final String recipient, final String authCode, final LocalDateTime now) {
+        return new EmailOutbox(recipient, authCode, now);
+    }
+
+    public void retryAt(final LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.claimToken = null;
+    }
+
+    public void fail() {
+        this.status = EmailOutboxStatus.FAILED;
+        this.authCode = null;
+        this.claimToken = null;
+    }
+}
@@ -0,0 +1,6 @@
+package friendy.community.domain.email.model;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,42 @@
+package friendy.community.domain.email.repository;
+
+import friendy.community.domain.email.model.EmailOutbox;
+import friendy.community.domain.email.model.EmailOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    @Query("SELECT e.id FROM EmailOutbox e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<Long> findDueIds(@Param("status") EmailOutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 조건부 UPDATE 로 선점하므로 여러 워커(인스턴스)가 같은 행을 동시에 가져가지 않는다.
+     * 선점 후 leaseUntil 까지 결과가 기록되지 않으면 다시 발송 대상이 된다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EmailOutbox e SET e.claimToken = :claimToken, e.nextAttemptAt = :leaseUntil, e.attempts = e.attempts + 1 "
+        + "WHERE e.id IN :ids AND e.status = :status AND e.nextAttemptAt <= :now")
+    int claim(
+        @Param("ids") Collection<Long> ids,
+        @Param("status") EmailOutboxStatus status,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil,
+        @Param("claimToken") String claimToken
+    );
+
+    List<EmailOutbox> findAllByClaimToken(String claimToken);
+
+    @Modifying
+    @Query("DELETE FROM EmailOutbox e WHERE e.status = :status AND e.modifiedDate < :before")
+    int deleteAllByStatusAndModifiedDateBefore(@Param("status") EmailOutboxStatus status, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,208 @@
+package friendy.community.domain.email.service;
+
+import friendy.community.domain.email.event.EmailEnqueuedEvent;
+import friendy.community.domain.email.model.EmailOutbox;
+import jakarta.activation.DataHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.util.ByteArrayDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 아웃박스에 쌓인 인증 메일을 백그라운드에서 발송한다.
+ * 한 배치를 {@link JavaMailSender#send(MimeMessage...)} 한 번으로 보내 SMTP 연결 하나를 배치 전체가 재사용하고,
+ * 실패한 메일만 골라 백오프 후 다시 보낸다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailDeliveryWorker {
+
+    private static final String SUBJECT = "Friendy Community 이메일 인증 코드";
+    private static final String CONTENT_TYPE = "text/html; charset=UTF-8";
+
+    private final EmailOutboxService emailOutboxService;
+    private final JavaMailSender mailSender;
+    private final EmailTemplateRenderer emailTemplateRenderer;
+    @Value("${friendy.email.worker.threads:2}")
+    private int threads;
+    @Value("${friendy.email.worker.batch-size:50}")
+    private int batchSize;
+    @Value("${friendy.email.failed-retention:604800000}")
+    private long failedRetentionMillis;
+    private final AtomicInteger activeDrains = new AtomicInteger();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        final AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "email-delivery-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnqueued(final EmailEnqueuedEvent event) {
+        dispatch();
+    }
+
+    /**
+     * 워커 수만큼만 동시에 비운다. 이미 모두 돌고 있다면 요청 표시만 남기고, 돌던 워커가 한 바퀴 더 돌거나 끝나면서 다시 띄운다.
+     */
+    @Scheduled(fixedDelayString = "${friendy.email.poll-interval:1000}")
+    public void dispatch() {
+        // 슬롯을 잡기 전에 표시해야 끝나 가는 워커가 이 요청을 놓치지 않는다
+        drainRequested.set(true);
+        if (activeDrains.incrementAndGet() > threads) {
+            activeDrains.decrementAndGet();
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            activeDrains.decrementAndGet();
+        }
+    }
+
+    private void drain() {
+        try {
+            do {
+                drainRequested.set(false);
+                deliverPending();
+            } while (drainRequested.get());
+        } catch (Exception e) {
+            log.warn("인증 메일 발송 워커 오류", e);
+        } finally {
+            activeDrains.decrementAndGet();
+        }
+        if (drainRequested.get() && !executor.isShutdown()) {
+            dispatch();
+        }
+    }
+
+    // 발송을 포기한 행은 원인을 볼 수 있도록 보관 기간 동안만 남긴다
+    @Scheduled(
+        fixedDelayString = "${friendy.email.failed-purge-interval:3600000}",
+        initialDelayString = "${friendy.email.failed-purge-interval:3600000}"
+    )
+    public void purgeFailed() {
+        try {
+            final int purged = emailOutboxService.purgeFailed(LocalDateTime.now().minusNanos(failedRetentionMillis * 1_000_000));
+            if (purged > 0) {
+                log.info("발송 포기한 인증 메일 삭제 - purged : {}", purged);
+            }
+        } catch (Exception e) {
+            log.warn("발송 포기한 인증 메일 삭제 오류", e);
+        }
+    }
+
+    /**
+     * 발송 대상이 없을 때까지 배치 단위로 선점해 보낸다.
+     *
+     * @return 발송에 성공한 메일 수
+     */
+    public int deliverPending() {
+        int delivered = 0;
+        List<EmailOutbox> batch;
+        while (!(batch = emailOutboxService.claim(batchSize)).isEmpty()) {
+            delivered += deliver(batch);
+        }
+        return delivered;
+    }
+
+    private int deliver(final List<EmailOutbox> batch) {
+        final Map<MimeMessage, Long> outboxIds = new IdentityHashMap<>();
+        final Set<Long> failedIds = new HashSet<>();
+        for (EmailOutbox outbox : batch) {
+            try {
+                outboxIds.put(createMessage(outbox), outbox.getId());
+            } catch (MessagingException e) {
+                log.warn("인증 메일 생성 실패 - outboxId : {}", outbox.getId(), e);
+                failedIds.add(outbox.getId());
+            }
+        }
+
+        if (!outboxIds.isEmpty()) {
+            try {
+                mailSender.send(outboxIds.keySet().toArray(MimeMessage[]::new));
+            } catch (MailSendException e) {
+                failedIds.addAll(failedIdsOf(e, outboxIds));
+            } catch (MailException e) {
+                log.warn("인증 메일 배치 발송 실패 - size : {}", outboxIds.size(), e);
+                failedIds.addAll(outboxIds.values());
+            }
+        }
+
+        final List<Long> sentIds = new ArrayList<>(outboxIds.values());
+        sentIds.removeAll(failedIds);
+        emailOutboxService.complete(sentIds);
+        if (!failedIds.isEmpty()) {
+            emailOutboxService.retry(failedIds);
+        }
+        return sentIds.size();
+    }
+
+    // 어떤 메일이 실패했는지 알 수 없으면(연결 실패 등) 배치 전체를 다시 보낸다
+    private Set<Long> failedIdsOf(final MailSendException exception, final Map<MimeMessage, Long> outboxIds) {
+        final Map<Object, Exception> failedMessages = exception.getFailedMessages();
+        if (failedMessages.isEmpty()) {
+            log.warn("인증 메일 배치 발송 실패 - size : {}", outboxIds.size(), exception);
+            return new HashSet<>(outboxIds.values());
+        }
+        log.warn("인증 메일 일부 발송 실패 - failed : {}, size : {}", failedMessages.size(), outboxIds.size());
+        final Set<Long> failedIds = new HashSet<>();
+        for (Object failedMessage : failedMessages.keySet()) {
+            final Long outboxId = outboxIds.get(failedMessage);
+            if (outboxId != null) {
+                failedIds.add(outboxId);
+            }
+        }
+        return failedIds;
+    }
+
+    private MimeMessage createMessage(final EmailOutbox outbox) throws MessagingException {
+        final MimeMessage message = mailSender.createMimeMessage();
+        final MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        helper.setTo(outbox.getRecipient());
+        helper.setSubject(SUBJECT);
+        // 렌더링된 바이트를 그대로 본문으로 넘겨 문자열로 되돌리지 않는다
+        message.setDataHandler(new DataHandler(new ByteArrayDataSource(
+            emailTemplateRenderer.render(outbox.getAuthCode()), CONTENT_TYPE)));
+        return message;
+    }
+}
@@ -0,0 +1,91 @@
+package friendy.community.domain.email.service;
+
+import friendy.community.domain.email.event.EmailEnqueuedEvent;
+import friendy.community.domain.email.model.EmailOutbox;
+import friendy.community.domain.email.model.EmailOutboxStatus;
+import friendy.community.domain.email.repository.EmailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class EmailOutboxService {
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    @Value("${friendy.email.lease:30000}")
+    private long leaseMillis;
+    @Value("${friendy.email.retry.max-attempts:5}")
+    private int maxAttempts;
+    @Value("${friendy.email.retry.base-delay:2000}")
+    private long baseDelayMillis;
+    @Value("${friendy.email.retry.max-delay:60000}")
+    private long maxDelayMillis;
+
+    public void enqueue(final String recipient, final String authCode) {
+        final EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.of(recipient, authCode, LocalDateTime.now()));
+        eventPublisher.publishEvent(new EmailEnqueuedEvent(outbox.getId()));
+    }
+
+    public List<EmailOutbox> claim(final int batchSize) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<Long> dueIds = emailOutboxRepository.findDueIds(EmailOutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+        if (dueIds.isEmpty()) {
+            return List.of();
+        }
+
+        final String claimToken = UUID.randomUUID().toString();
+        final int claimed = emailOutboxRepository.claim(
+            dueIds, EmailOutboxStatus.PENDING, now, now.plusNanos(leaseMillis * 1_000_000), claimToken);
+        if (claimed == 0) {
+            return List.of();
+        }
+        return emailOutboxRepository.findAllByClaimToken(claimToken);
+    }
+
+    public void complete(final Collection<Long> sentIds) {
+        if (!sentIds.isEmpty()) {
+            emailOutboxRepository.deleteAllByIdInBatch(sentIds);
+        }
+    }
+
+    /**
+     * 재시도 간격은 시도할 때마다 두 배로 늘린다. 한도를 넘겼거나 인증 코드가 이미 만료됐다면 더 보내지 않는다.
+     */
+    public void retry(final Collection<Long> failedIds) {
+        final LocalDateTime now = LocalDateTime.now();
+        final LocalDateTime expiredBefore = now.minusNanos(EmailService.CODE_EXPIRE_MILLIS * 1_000_000);
+        for (EmailOutbox outbox : emailOutboxRepository.findAllById(failedIds)) {
+            if (outbox.getAttempts() >= maxAttempts || outbox.getCreatedDate().isBefore(expiredBefore)) {
+                log.warn("인증 메일 발송 포기 - outboxId : {}, attempts : {}", outbox.getId(), outbox.getAttempts());
+                outbox.fail();
+                continue;
+            }
+            outbox.retryAt(now.plusNanos(backoffMillis(outbox.getAttempts()) * 1_000_000));
+        }
+    }
+
+    /**
+     * @return 삭제한 행 수
+     */
+    public int purgeFailed(final LocalDateTime failedBefore) {
+        return emailOutboxRepository.deleteAllByStatusAndModifiedDateBefore(EmailOutboxStatus.FAILED, failedBefore);
+    }
+
+    private long backoffMillis(final int attempts) {
+        final int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(maxDelayMillis, baseDelayMillis << exponent);
+    }
+}
@@ -3,17 +3,11 @@ package friendy.community.domain.email.service;
 import friendy.community.domain.email.controller.code.EmailExceptionCode;
 import friendy.community.domain.email.dto.request.EmailRequest;
 import friendy.community.domain.email.dto.request.VerifyCodeRequest;
-import friendy.community.global.exception.domain.BadGatewayException;
 import friendy.community.global.exception.domain.BadRequestException;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.context.Context;
-import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
@@ -22,19 +16,17 @@ import java.util.concurrent.TimeUnit;
 @RequiredArgsConstructor
 public class EmailService {
 
-    private static final long CODE_EXPIRE_MILLIS = 300000;  // 5분
+    static final long CODE_EXPIRE_MILLIS = 300000;  // 5분
     private final StringRedisTemplate redisTemplate;
-    private final JavaMailSender mailSender;
-    private final SpringTemplateEngine templateEngine;
+    private final EmailOutboxService emailOutboxService;
 
+    /**
+     * 인증 코드를 Redis 에 저장하고 발송은 아웃박스에 맡긴다. 메일 서버 응답을 기다리지 않고 바로 반환한다.
+     */
+    @Transactional
     public void sendAuthenticatedEmail(final EmailRequest request) {
-        try {
-            final String authCode = generateAndSaveAuthCode(request.email());
-            final MimeMessage message = createEmailMessage(request.email(), authCode);
-            mailSender.send(message);
-        } catch (MessagingException e) {
-            throw new BadGatewayException(EmailExceptionCode.EMAIL_SEND_FAILURE);
-        }
+        final String authCode = generateAndSaveAuthCode(request.email());
+        emailOutboxService.enqueue(request.email(), authCode);
     }
 
     public void verifyAuthCode(final VerifyCodeRequest request) {
@@ -55,15 +47,6 @@ public class EmailService {
         return authCode;
     }
 
-    private MimeMessage createEmailMessage(final String toEmail, final String authCode) throws MessagingException {
-        final MimeMessage message = mailSender.createMimeMessage();
-        final MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-        helper.setTo(toEmail);
-        helper.setSubject("Friendy Community 이메일 인증 코드");
-        helper.setText(getEmailContent(authCode), true);
-        return message;
-    }
-
     private String generateAuthCode() {
         final int maxRange = 1000000;
         final Random random = new Random();
@@ -74,10 +57,4 @@ public class EmailService {
         redisTemplate.opsForValue().set(email, authCode, CODE_EXPIRE_MILLIS, TimeUnit.MILLISECONDS);
     }
 
-    private String getEmailContent(final String authCode) {
-        final Context context = new Context();
-        context.setVariable("authCode", authCode);
-        return templateEngine.process("email", context);
-    }
-
 }
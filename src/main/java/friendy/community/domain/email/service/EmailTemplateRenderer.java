@@ -0,0 +1,53 @@
+package friendy.community.domain.email.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 인증 메일 본문을 만든다.
+ * 기동 시 템플릿을 한 번만 렌더링해 인증 코드 앞뒤의 고정된 부분을 UTF-8 바이트로 들고 있고,
+ * 메일마다 그 사이에 코드만 이어 붙여 템플릿 엔진을 다시 거치지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmailTemplateRenderer {
+
+    static final String TEMPLATE_NAME = "email";
+    private static final String AUTH_CODE_PLACEHOLDER = "FRIENDY_AUTH_CODE_PLACEHOLDER";
+
+    private final SpringTemplateEngine templateEngine;
+    private byte[] prefix;
+    private byte[] suffix;
+
+    @PostConstruct
+    void init() {
+        final Context context = new Context();
+        context.setVariable("authCode", AUTH_CODE_PLACEHOLDER);
+        final String rendered = templateEngine.process(TEMPLATE_NAME, context);
+
+        final int placeholderIndex = rendered.indexOf(AUTH_CODE_PLACEHOLDER);
+        if (placeholderIndex < 0 || rendered.indexOf(AUTH_CODE_PLACEHOLDER, placeholderIndex + 1) >= 0) {
+            throw new IllegalStateException("인증 메일 템플릿에는 authCode 가 정확히 한 번 들어가야 합니다.");
+        }
+        prefix = rendered.substring(0, placeholderIndex).getBytes(StandardCharsets.UTF_8);
+        suffix = rendered.substring(placeholderIndex + AUTH_CODE_PLACEHOLDER.length()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return UTF-8 로 인코딩된 HTML 본문
+     */
+    public byte[] render(final String authCode) {
+        final byte[] code = HtmlUtils.htmlEscape(authCode).getBytes(StandardCharsets.UTF_8);
+        final byte[] content = new byte[prefix.length + code.length + suffix.length];
+        System.arraycopy(prefix, 0, content, 0, prefix.length);
+        System.arraycopy(code, 0, content, prefix.length, code.length);
+        System.arraycopy(suffix, 0, content, prefix.length + code.length, suffix.length);
+        return content;
+    }
+}
@@ -2,6 +2,7 @@ package friendy.community.domain.follow.controller;
 
 import friendy.community.domain.follow.controller.code.FollowSuccessCode;
 import friendy.community.domain.follow.dto.response.FollowListResponse;
+import friendy.community.domain.follow.dto.response.FollowRelationResponse;
 import friendy.community.domain.follow.service.FollowCommandService;
 import friendy.community.domain.follow.service.FollowQueryService;
 import friendy.community.global.response.FriendyResponse;
@@ -54,4 +55,22 @@ public class FollowController implements SpringDocFollowController {
         return ResponseEntity.ok(FriendyResponse.of(FollowSuccessCode.GET_FOLLOWER_LIST_SUCCESS,
             followQueryService.getFollowerList(targetId, lastFollowerId)));
     }
+
+    @GetMapping("/mutual/{targetId}")
+    public ResponseEntity<FriendyResponse<FollowListResponse>> getMutualMembers(
+        @PathVariable final Long targetId,
+        @RequestParam(required = false) Long lastMemberId
+    ) {
+        return ResponseEntity.ok(FriendyResponse.of(FollowSuccessCode.GET_MUTUAL_LIST_SUCCESS,
+            followQueryService.getMutualList(targetId, lastMemberId)));
+    }
+
+    @GetMapping("/relation/{targetId}")
+    public ResponseEntity<FriendyResponse<FollowRelationResponse>> getRelation(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable final Long targetId
+    ) {
+        return ResponseEntity.ok(FriendyResponse.of(FollowSuccessCode.GET_FOLLOW_RELATION_SUCCESS,
+            followQueryService.getRelation(userDetails.getMemberId(), targetId)));
+    }
 }
@@ -1,6 +1,7 @@
 package friendy.community.domain.follow.controller;
 
 import friendy.community.domain.follow.dto.response.FollowListResponse;
+import friendy.community.domain.follow.dto.response.FollowRelationResponse;
 import friendy.community.global.response.FriendyResponse;
 import friendy.community.global.security.FriendyUserDetails;
 import friendy.community.global.security.annotation.LoggedInUser;
@@ -71,4 +72,21 @@ public interface SpringDocFollowController {
         @PathVariable Long targetId,
         @RequestParam(required = false) Long lastFollowerId
     );
+
+    @Operation(summary = "맞팔로우 리스트 조회", description = "특정 사용자와 서로 팔로우하는 멤버 목록을 회원 id 순으로 가져옵니다.")
+    @ApiResponse(responseCode = "200", description = "맞팔로우 목록 조회 성공")
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/follow/mutual/{targetId}", errorCases = {
+        @ErrorCase(description = "맞팔로우 멤버가 없습니다.", exampleMessage = "맞팔로우 멤버가 없습니다.")
+    })
+    ResponseEntity<FriendyResponse<FollowListResponse>> getMutualMembers(
+        @PathVariable Long targetId,
+        @RequestParam(required = false) Long lastMemberId
+    );
+
+    @Operation(summary = "팔로우 관계 조회", description = "특정 사용자와의 팔로우 여부, 그 사용자의 맞팔로우 수, 함께 팔로우하는 멤버 수를 가져옵니다.")
+    @ApiResponse(responseCode = "200", description = "팔로우 관계 조회 성공")
+    ResponseEntity<FriendyResponse<FollowRelationResponse>> getRelation(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long targetId
+    );
 }
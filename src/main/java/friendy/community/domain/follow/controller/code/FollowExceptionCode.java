@@ -12,7 +12,8 @@ public enum FollowExceptionCode implements ExceptionCode {
     NOT_FOLLOWED(4602, "팔로우하지 않은 회원입니다."),
     SELF_FOLLOW_NOT_ALLOWED(4603, "자기 자신을 대상으로 수행할 수 없습니다."),
     FOLLOWING_MEMBER_NOT_FOUND(4604, "팔로잉 멤버가 없습니다."),
-    FOLLOWER_MEMBER_NOT_FOUND(4605, "팔로워 멤버가 없습니다.");
+    FOLLOWER_MEMBER_NOT_FOUND(4605, "팔로워 멤버가 없습니다."),
+    MUTUAL_MEMBER_NOT_FOUND(4606, "맞팔로우 멤버가 없습니다.");
 
     private final int code;
     private final String message;
@@ -12,6 +12,11 @@ public record FollowMemberResponse(
 
         if(member.getMemberImage() != null) { imageUrl = member.getMemberImage().getImageUrl();}
 
+        return from(member, imageUrl);
+    }
+
+    // 목록에서는 원본 대신 고른 파생 이미지 URL 을 넘긴다
+    public static FollowMemberResponse from(Member member, String imageUrl) {
         return new FollowMemberResponse(
             member.getId(),
             member.getNickname(),
@@ -0,0 +1,9 @@
+package friendy.community.domain.follow.dto.response;
+
+public record FollowRelationResponse(
+    boolean following,
+    boolean followedBy,
+    int mutualCount,
+    int commonFollowingCount
+) {
+}
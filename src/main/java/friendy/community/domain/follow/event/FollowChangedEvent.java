@@ -0,0 +1,7 @@
+package friendy.community.domain.follow.event;
+
+public record FollowChangedEvent(
+    Long followerId,
+    Long followingId
+) {
+}
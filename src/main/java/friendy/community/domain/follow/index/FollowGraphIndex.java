@@ -0,0 +1,218 @@
+package friendy.community.domain.follow.index;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 회원 id 별 팔로잉/팔로워 집합을 압축 비트맵으로 보관하는 팔로우 그래프 색인.
+ * 시작 시 follow 테이블을 읽어 만들고 이후 이 인스턴스의 팔로우/언팔로우 커밋마다 갱신하며, 주기적으로 새 그래프를 적재해 바꿔 끼운다.
+ * 다른 인스턴스의 변경은 다음 적재 때까지 늦게 반영되므로, 팔로우/언팔로우 검증은 색인이 거절할 때 DB 로 다시 확인한다.
+ * 첫 적재가 끝나기 전에는 {@link #isReady()} 가 false 이므로 호출하는 쪽은 DB 로 조회한다.
+ */
+@Component
+public class FollowGraphIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    // 쓰기는 팔로우/언팔로우 때만 일어나므로 색인 전체에 락 하나를 두고, 두 집합을 함께 읽는 교집합도 같은 읽기 락으로 처리한다
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Graph graph = new Graph();
+    // 적재 중인 새 그래프와, 적재가 시작된 뒤 커밋된 관계의 마지막 상태. 바꿔 끼우기 전에 새 그래프에 다시 반영한다
+    private Graph rebuilding;
+    private final Map<FollowEdge, Boolean> changedDuringRebuild = new LinkedHashMap<>();
+    private volatile boolean ready;
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void follow(final long followerId, final long followingId) {
+        lock.writeLock().lock();
+        try {
+            graph.add(followerId, followingId);
+            if (rebuilding != null) {
+                changedDuringRebuild.put(new FollowEdge(followerId, followingId), true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void unfollow(final long followerId, final long followingId) {
+        lock.writeLock().lock();
+        try {
+            graph.remove(followerId, followingId);
+            if (rebuilding != null) {
+                changedDuringRebuild.put(new FollowEdge(followerId, followingId), false);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isFollowing(final long followerId, final long followingId) {
+        lock.readLock().lock();
+        try {
+            final MemberIdBitmap followingIds = graph.followings.get(followerId);
+            return followingIds != null && followingIds.contains(followingId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * targetIds 중 followerId 가 팔로우하는 회원만 골라낸다.
+     */
+    public List<Long> filterFollowing(final long followerId, final Collection<Long> targetIds) {
+        lock.readLock().lock();
+        try {
+            final MemberIdBitmap followingIds = graph.followings.get(followerId);
+            if (followingIds == null) {
+                return List.of();
+            }
+            final List<Long> followed = new ArrayList<>();
+            for (Long targetId : targetIds) {
+                if (followingIds.contains(targetId)) {
+                    followed.add(targetId);
+                }
+            }
+            return followed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 서로 팔로우하는 회원 id 를 오름차순으로 반환한다.
+     */
+    public long[] findMutualIds(final long memberId) {
+        lock.readLock().lock();
+        try {
+            final MemberIdBitmap followingIds = graph.followings.get(memberId);
+            final MemberIdBitmap followerIds = graph.followers.get(memberId);
+            if (followingIds == null || followerIds == null) {
+                return EMPTY;
+            }
+            return followingIds.and(followerIds).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int countMutuals(final long memberId) {
+        lock.readLock().lock();
+        try {
+            return countIntersection(graph.followings.get(memberId), graph.followers.get(memberId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 두 회원이 함께 팔로우하는 회원 수.
+     */
+    public int countCommonFollowings(final long memberId, final long otherMemberId) {
+        lock.readLock().lock();
+        try {
+            return countIntersection(graph.followings.get(memberId), graph.followings.get(otherMemberId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 적재하는 동안에는 기존 그래프로 계속 답하고, 새 그래프는 적재하는 스레드만 채운다
+    void startRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = new Graph();
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 적재 중 읽어 온 행을 새 그래프에 넣는다. 적재가 시작된 뒤 바뀐 관계는 {@link #finishRebuild()} 에서 바로잡는다.
+     */
+    void load(final long followerId, final long followingId) {
+        rebuilding.add(followerId, followingId);
+    }
+
+    void finishRebuild() {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild.forEach((edge, followed) -> {
+                if (followed) {
+                    rebuilding.add(edge.followerId(), edge.followingId());
+                } else {
+                    rebuilding.remove(edge.followerId(), edge.followingId());
+                }
+            });
+            graph = rebuilding;
+            rebuilding = null;
+            changedDuringRebuild.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 적재가 실패하면 만들던 그래프를 버리고 기존 그래프를 그대로 쓴다
+    void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuilding = null;
+            changedDuringRebuild.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    long sizeInBytes() {
+        lock.readLock().lock();
+        try {
+            return graph.followings.values().stream().mapToLong(MemberIdBitmap::sizeInBytes).sum()
+                + graph.followers.values().stream().mapToLong(MemberIdBitmap::sizeInBytes).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int countIntersection(final MemberIdBitmap leftIds, final MemberIdBitmap rightIds) {
+        return leftIds == null || rightIds == null ? 0 : leftIds.andCardinality(rightIds);
+    }
+
+    private static final class Graph {
+
+        private final Map<Long, MemberIdBitmap> followings = new HashMap<>();
+        private final Map<Long, MemberIdBitmap> followers = new HashMap<>();
+
+        private void add(final long followerId, final long followingId) {
+            followers.computeIfAbsent(followingId, id -> new MemberIdBitmap()).add(followerId);
+            followings.computeIfAbsent(followerId, id -> new MemberIdBitmap()).add(followingId);
+        }
+
+        private void remove(final long followerId, final long followingId) {
+            remove(followings, followerId, followingId);
+            remove(followers, followingId, followerId);
+        }
+
+        private static void remove(final Map<Long, MemberIdBitmap> bitmaps, final long memberId, final long targetId) {
+            final MemberIdBitmap memberIds = bitmaps.get(memberId);
+            if (memberIds != null && memberIds.remove(targetId) && memberIds.isEmpty()) {
+                bitmaps.remove(memberId);
+            }
+        }
+    }
+
+    private record FollowEdge(long followerId, long followingId) {
+    }
+}
@@ -0,0 +1,63 @@
+package friendy.community.domain.follow.index;
+
+import friendy.community.domain.follow.repository.FollowIndexRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowGraphIndexLoader {
+
+    private final FollowIndexRepository followIndexRepository;
+    private final FollowGraphIndex followGraphIndex;
+    @Value("${friendy.follow.index.load-on-startup:true}")
+    private boolean loadOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (loadOnStartup) {
+            load();
+        }
+    }
+
+    // 다른 인스턴스에서 일어난 팔로우/언팔로우는 이 색인에 반영되지 않으므로 주기적으로 다시 적재한다
+    @Scheduled(
+        fixedDelayString = "${friendy.follow.index.refresh-interval:600000}",
+        initialDelayString = "${friendy.follow.index.refresh-interval:600000}"
+    )
+    public void scheduledRefresh() {
+        if (!loadOnStartup) {
+            return;
+        }
+        try {
+            load();
+        } catch (Exception e) {
+            log.warn("팔로우 그래프 색인 재적재 오류", e);
+        }
+    }
+
+    // 새 그래프를 따로 적재해 끝난 뒤 바꿔 끼우므로, 적재하는 동안에도 기존 색인으로 답한다
+    public synchronized void load() {
+        final long startedAt = System.currentTimeMillis();
+        final long[] rowCount = new long[1];
+        followGraphIndex.startRebuild();
+        try {
+            followIndexRepository.streamFollows((followerId, followingId) -> {
+                rowCount[0]++;
+                followGraphIndex.load(followerId, followingId);
+            });
+        } catch (RuntimeException e) {
+            followGraphIndex.abortRebuild();
+            throw e;
+        }
+        followGraphIndex.finishRebuild();
+        log.info("팔로우 그래프 색인 적재 완료 - rows : {}, bytes : {}, elapsed : {}ms",
+            rowCount[0], followGraphIndex.sizeInBytes(), System.currentTimeMillis() - startedAt);
+    }
+}
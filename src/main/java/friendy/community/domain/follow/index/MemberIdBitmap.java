@@ -0,0 +1,404 @@
+package friendy.community.domain.follow.index;
+
+import java.util.Arrays;
+
+/**
+ * 회원 id 집합을 Roaring 방식으로 압축해 보관한다.
+ * id 의 상위 비트(id >>> 16)로 구간을 나누고, 구간마다 하위 16비트를 원소가 {@value #ARRAY_CONTAINER_MAX} 개 이하면
+ * 정렬된 char 배열로, 그보다 많으면 65536 비트짜리 비트맵으로 담는다.
+ * 교집합은 같은 구간끼리만 비교하며, 비트맵끼리는 64비트 단위 AND 로 센다.
+ * 동기화는 호출하는 쪽에서 담당한다.
+ */
+public class MemberIdBitmap {
+
+    static final int ARRAY_CONTAINER_MAX = 4096;
+
+    private long[] keys = new long[0];
+    private Container[] containers = new Container[0];
+    private int containerCount;
+    private int cardinality;
+
+    public boolean add(final long memberId) {
+        final long key = memberId >>> 16;
+        int index = findContainer(key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new ArrayContainer());
+        }
+        final Container container = containers[index];
+        final int before = container.cardinality();
+        containers[index] = container.add((char) memberId);
+        if (containers[index].cardinality() == before) {
+            return false;
+        }
+        cardinality++;
+        return true;
+    }
+
+    public boolean remove(final long memberId) {
+        final int index = findContainer(memberId >>> 16);
+        if (index < 0) {
+            return false;
+        }
+        final Container container = containers[index];
+        final int before = container.cardinality();
+        final Container removed = container.remove((char) memberId);
+        if (removed.cardinality() == before) {
+            return false;
+        }
+        if (removed.cardinality() == 0) {
+            removeContainer(index);
+        } else {
+            containers[index] = removed;
+        }
+        cardinality--;
+        return true;
+    }
+
+    public boolean contains(final long memberId) {
+        final int index = findContainer(memberId >>> 16);
+        return index >= 0 && containers[index].contains((char) memberId);
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    public MemberIdBitmap and(final MemberIdBitmap other) {
+        final MemberIdBitmap result = new MemberIdBitmap();
+        int left = 0;
+        int right = 0;
+        while (left < containerCount && right < other.containerCount) {
+            final long leftKey = keys[left];
+            final long rightKey = other.keys[right];
+            if (leftKey < rightKey) {
+                left++;
+            } else if (leftKey > rightKey) {
+                right++;
+            } else {
+                final Container intersection = containers[left++].and(other.containers[right++]);
+                if (intersection.cardinality() > 0) {
+                    result.insertContainer(result.containerCount, leftKey, intersection);
+                    result.cardinality += intersection.cardinality();
+                }
+            }
+        }
+        return result;
+    }
+
+    // 교집합을 만들지 않고 크기만 센다
+    public int andCardinality(final MemberIdBitmap other) {
+        int count = 0;
+        int left = 0;
+        int right = 0;
+        while (left < containerCount && right < other.containerCount) {
+            final long leftKey = keys[left];
+            final long rightKey = other.keys[right];
+            if (leftKey < rightKey) {
+                left++;
+            } else if (leftKey > rightKey) {
+                right++;
+            } else {
+                count += containers[left++].andCardinality(other.containers[right++]);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return 오름차순으로 정렬된 회원 id
+     */
+    public long[] toArray() {
+        final long[] memberIds = new long[cardinality];
+        int offset = 0;
+        for (int index = 0; index < containerCount; index++) {
+            offset = containers[index].copyTo(keys[index] << 16, memberIds, offset);
+        }
+        return memberIds;
+    }
+
+    long sizeInBytes() {
+        long bytes = (long) keys.length * Long.BYTES;
+        for (int index = 0; index < containerCount; index++) {
+            bytes += containers[index].sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private int findContainer(final long key) {
+        return Arrays.binarySearch(keys, 0, containerCount, key);
+    }
+
+    private void insertContainer(final int index, final long key, final Container container) {
+        if (containerCount == keys.length) {
+            final int capacity = Math.max(4, containerCount * 2);
+            keys = Arrays.copyOf(keys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(keys, index, keys, index + 1, containerCount - index);
+        System.arraycopy(containers, index, containers, index + 1, containerCount - index);
+        keys[index] = key;
+        containers[index] = container;
+        containerCount++;
+    }
+
+    private void removeContainer(final int index) {
+        System.arraycopy(keys, index + 1, keys, index, containerCount - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, containerCount - index - 1);
+        containerCount--;
+        containers[containerCount] = null;
+    }
+
+    private sealed interface Container permits ArrayContainer, BitmapContainer {
+
+        Container add(char value);
+
+        Container remove(char value);
+
+        boolean contains(char value);
+
+        int cardinality();
+
+        Container and(Container other);
+
+        int andCardinality(Container other);
+
+        int copyTo(long base, long[] target, int offset);
+
+        long sizeInBytes();
+    }
+
+    private static final class ArrayContainer implements Container {
+
+        // 한쪽이 이 배수 이상 크면 병합 대신 작은 쪽 원소마다 이진 탐색한다
+        private static final int GALLOP_RATIO = 64;
+
+        private char[] values;
+        private int size;
+
+        private ArrayContainer() {
+            this.values = new char[4];
+        }
+
+        private ArrayContainer(final char[] values, final int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        public Container add(final char value) {
+            final int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                return this;
+            }
+            if (size >= ARRAY_CONTAINER_MAX) {
+                return toBitmap().add(value);
+            }
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.max(4, Math.min(size * 2, ARRAY_CONTAINER_MAX)));
+            }
+            final int insertion = -position - 1;
+            System.arraycopy(values, insertion, values, insertion + 1, size - insertion);
+            values[insertion] = value;
+            size++;
+            return this;
+        }
+
+        @Override
+        public Container remove(final char value) {
+            final int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) {
+                System.arraycopy(values, position + 1, values, position, size - position - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        public boolean contains(final char value) {
+            return Arrays.binarySearch(values, 0, size, value) >= 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return size;
+        }
+
+        @Override
+        public Container and(final Container other) {
+            final char[] intersection = new char[Math.min(size, other.cardinality())];
+            final int count = intersect(other, intersection);
+            return new ArrayContainer(intersection, count);
+        }
+
+        @Override
+        public int andCardinality(final Container other) {
+            return intersect(other, null);
+        }
+
+        // target 이 null 이면 세기만 한다
+        private int intersect(final Container other, final char[] target) {
+            int count = 0;
+            if (other instanceof ArrayContainer array && array.size * GALLOP_RATIO >= size && size * GALLOP_RATIO >= array.size) {
+                int left = 0;
+                int right = 0;
+                while (left < size && right < array.size) {
+                    if (values[left] < array.values[right]) {
+                        left++;
+                    } else if (values[left] > array.values[right]) {
+                        right++;
+                    } else {
+                        if (target != null) {
+                            target[count] = values[left];
+                        }
+                        count++;
+                        left++;
+                        right++;
+                    }
+                }
+                return count;
+            }
+            if (other instanceof ArrayContainer array && array.size < size) {
+                return array.intersect(this, target);
+            }
+            for (int index = 0; index < size; index++) {
+                if (other.contains(values[index])) {
+                    if (target != null) {
+                        target[count] = values[index];
+                    }
+                    count++;
+                }
+            }
+            return count;
+        }
+
+        @Override
+        public int copyTo(final long base, final long[] target, final int offset) {
+            for (int index = 0; index < size; index++) {
+                target[offset + index] = base | values[index];
+            }
+            return offset + size;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return (long) values.length * Character.BYTES;
+        }
+
+        private BitmapContainer toBitmap() {
+            final BitmapContainer bitmap = new BitmapContainer();
+            for (int index = 0; index < size; index++) {
+                bitmap.add(values[index]);
+            }
+            return bitmap;
+        }
+    }
+
+    private static final class BitmapContainer implements Container {
+
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer() {
+            this(new long[1 << 10], 0);
+        }
+
+        private BitmapContainer(final long[] words, final int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        @Override
+        public Container add(final char value) {
+            final long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                words[value >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        public Container remove(final char value) {
+            final long bit = 1L << value;
+            if ((words[value >>> 6] & bit) == 0) {
+                return this;
+            }
+            words[value >>> 6] &= ~bit;
+            cardinality--;
+            return cardinality <= ARRAY_CONTAINER_MAX ? toArray() : this;
+        }
+
+        @Override
+        public boolean contains(final char value) {
+            return (words[value >>> 6] & (1L << value)) != 0;
+        }
+
+        @Override
+        public int cardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public Container and(final Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                final long[] intersection = new long[words.length];
+                int count = 0;
+                for (int index = 0; index < words.length; index++) {
+                    intersection[index] = words[index] & bitmap.words[index];
+                    count += Long.bitCount(intersection[index]);
+                }
+                final BitmapContainer result = new BitmapContainer(intersection, count);
+                return count <= ARRAY_CONTAINER_MAX ? result.toArray() : result;
+            }
+            return other.and(this);
+        }
+
+        @Override
+        public int andCardinality(final Container other) {
+            if (other instanceof BitmapContainer bitmap) {
+                int count = 0;
+                for (int index = 0; index < words.length; index++) {
+                    count += Long.bitCount(words[index] & bitmap.words[index]);
+                }
+                return count;
+            }
+            return other.andCardinality(this);
+        }
+
+        @Override
+        public int copyTo(final long base, final long[] target, final int offset) {
+            int position = offset;
+            for (int index = 0; index < words.length; index++) {
+                long word = words[index];
+                while (word != 0) {
+                    target[position++] = base | ((long) index << 6) | Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return position;
+        }
+
+        @Override
+        public long sizeInBytes() {
+            return (long) words.length * Long.BYTES;
+        }
+
+        private ArrayContainer toArray() {
+            final char[] values = new char[cardinality];
+            int position = 0;
+            for (int index = 0; index < words.length; index++) {
+                long word = words[index];
+                while (word != 0) {
+                    values[position++] = (char) ((index << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return new ArrayContainer(values, cardinality);
+        }
+    }
+}
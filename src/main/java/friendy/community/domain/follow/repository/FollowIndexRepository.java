@@ -0,0 +1,45 @@
+package friendy.community.domain.follow.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class FollowIndexRepository {
+
+    private static final String FOLLOW_SQL = "SELECT id, follower_id, following_id FROM follow WHERE id > ? ORDER BY id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    @Value("${friendy.follow.index.page-size:1000}")
+    private int pageSize;
+
+    // MySQL 드라이버는 fetchSize 를 줘도 결과 전체를 한 번에 받으므로, id 순으로 pageSize 만큼씩 끊어 읽는다
+    public void streamFollows(final FollowRowConsumer consumer) {
+        long lastId = 0;
+        while (true) {
+            final List<FollowRow> rows = jdbcTemplate.query(FOLLOW_SQL, (rs, rowNum) -> new FollowRow(
+                rs.getLong("id"),
+                rs.getLong("follower_id"),
+                rs.getLong("following_id")
+            ), lastId, pageSize);
+            rows.forEach(row -> consumer.accept(row.followerId(), row.followingId()));
+            if (rows.size() < pageSize) {
+                return;
+            }
+            lastId = rows.get(rows.size() - 1).id();
+        }
+    }
+
+    @FunctionalInterface
+    public interface FollowRowConsumer {
+
+        void accept(long followerId, long followingId);
+    }
+
+    private record FollowRow(long id, long followerId, long followingId) {
+    }
+}
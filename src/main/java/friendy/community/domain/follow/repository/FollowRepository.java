@@ -12,7 +12,5 @@ public interface FollowRepository extends JpaRepository<Follow, Long>, FollowQue
 
     Follow findByFollowerAndFollowing(Member follower, Member following);
 
-    int countByFollowing(Member following);
-
-    int countByFollower(Member follower);
+    boolean existsByFollowerIdAndFollowingId(Long followerId, Long followingId);
 }
@@ -2,9 +2,15 @@ package friendy.community.domain.follow.repository.query;
 
 import friendy.community.domain.follow.model.Follow;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface FollowQueryRepository {
     List<Follow> findFollowingFollows(Long memberId, Long lastFollowingId, int size);
     List<Follow> findFollowerFollows(Long memberId, Long lastFollowerId, int size);
+    List<Long> findFollowerIds(Long memberId, int limit);
+    List<Long> findFollowingIdsIn(Long memberId, Collection<Long> targetIds);
+    List<Long> findMutualIds(Long memberId, Long lastMemberId, int size);
+    long countMutuals(Long memberId);
+    long countCommonFollowings(Long memberId, Long otherMemberId);
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package friendy.community.domain.follow.repository.query.impl;
 
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import friendy.community.domain.follow.model.QFollow;
 import friendy.community.domain.follow.model.Follow;
 import friendy.community.domain.follow.repository.query.FollowQueryRepository;
 import friendy.community.domain.member.model.QMember;
@@ -8,6 +11,7 @@ import friendy.community.domain.member.model.QMemberImage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import static friendy.community.domain.follow.model.QFollow.follow;
@@ -45,4 +49,79 @@ public class FollowRepositoryImpl implements FollowQueryRepository {
             .limit(size + 1)
             .fetch();
     }
-}
\ No newline at end of file
+
+    public List<Long> findFollowerIds(Long memberId, int limit) {
+        return queryFactory
+            .select(follow.follower.id)
+            .from(follow)
+            .where(follow.following.id.eq(memberId))
+            .limit(limit)
+            .fetch();
+    }
+
+    public List<Long> findFollowingIdsIn(Long memberId, Collection<Long> targetIds) {
+        return queryFactory
+            .select(follow.following.id)
+            .from(follow)
+            .where(
+                follow.follower.id.eq(memberId),
+                follow.following.id.in(targetIds)
+            )
+            .fetch();
+    }
+
+    public List<Long> findMutualIds(Long memberId, Long lastMemberId, int size) {
+        return queryFactory
+            .select(follow.following.id)
+            .from(follow)
+            .where(
+                follow.follower.id.eq(memberId),
+                followsBack(memberId),
+                lastMemberId != null ? follow.following.id.gt(lastMemberId) : null
+            )
+            .orderBy(follow.following.id.asc())
+            .limit(size + 1)
+            .fetch();
+    }
+
+    public long countMutuals(Long memberId) {
+        Long count = queryFactory
+            .select(follow.count())
+            .from(follow)
+            .where(
+                follow.follower.id.eq(memberId),
+                followsBack(memberId)
+            )
+            .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    public long countCommonFollowings(Long memberId, Long otherMemberId) {
+        QFollow other = new QFollow("other");
+        Long count = queryFactory
+            .select(follow.count())
+            .from(follow)
+            .where(
+                follow.follower.id.eq(memberId),
+                follow.following.id.in(JPAExpressions
+                    .select(other.following.id)
+                    .from(other)
+                    .where(other.follower.id.eq(otherMemberId)))
+            )
+            .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    // 팔로우한 회원도 memberId 를 팔로우하는지
+    private BooleanExpression followsBack(Long memberId) {
+        QFollow reverse = new QFollow("reverse");
+        return JPAExpressions
+            .selectOne()
+            .from(reverse)
+            .where(
+                reverse.follower.id.eq(follow.following.id),
+                reverse.following.id.eq(memberId)
+            )
+            .exists();
+    }
+}
@@ -1,13 +1,21 @@
 package friendy.community.domain.follow.service;
 
+import friendy.community.domain.follow.controller.code.FollowExceptionCode;
+import friendy.community.domain.follow.event.FollowChangedEvent;
+import friendy.community.domain.follow.index.FollowGraphIndex;
 import friendy.community.domain.follow.model.Follow;
 import friendy.community.domain.follow.repository.FollowRepository;
 import friendy.community.domain.member.model.Member;
-import friendy.community.domain.member.service.MemberCommandService;
+import friendy.community.domain.member.repository.MemberRepository;
 import friendy.community.domain.member.service.MemberDomainService;
+import friendy.community.global.exception.domain.BadRequestException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -17,14 +25,19 @@ public class FollowCommandService {
     private final MemberDomainService memberDomainService;
     private final FollowDomainService followDomainService;
     private final FollowRepository followRepository;
+    private final MemberRepository memberRepository;
+    private final FollowGraphIndex followGraphIndex;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void follow(Long memberId, Long targetId) {
         Member requester = memberDomainService.getMemberById(memberId);
         Member target = memberDomainService.getMemberById(targetId);
 
         followDomainService.validateFollowable(requester, target);
-        Follow follow = Follow.of(requester, target);
-        followRepository.save(follow);
+        updateFollowCounts(requester, target, true);
+        saveFollow(Follow.of(requester, target));
+        afterCommit(() -> followGraphIndex.follow(requester.getId(), target.getId()));
+        eventPublisher.publishEvent(new FollowChangedEvent(requester.getId(), target.getId()));
     }
 
     public void unfollow(Long memberId, Long targetId) {
@@ -33,6 +46,63 @@ public class FollowCommandService {
         followDomainService.validateUnfollowable(requester, target);
 
         Follow follow = followRepository.findByFollowerAndFollowing(requester, target);
+        if (follow == null) {
+            throw new BadRequestException(FollowExceptionCode.NOT_FOLLOWED);
+        }
+        updateFollowCounts(requester, target, false);
         followRepository.delete(follow);
+        afterCommit(() -> followGraphIndex.unfollow(requester.getId(), target.getId()));
+        eventPublisher.publishEvent(new FollowChangedEvent(requester.getId(), target.getId()));
+    }
+
+    // 같은 팔로우 요청이 동시에 검증을 통과하면 유니크 제약에 걸리므로 이미 팔로우한 것으로 응답한다
+    private void saveFollow(Follow follow) {
+        try {
+            followRepository.saveAndFlush(follow);
+        } catch (DataIntegrityViolationException e) {
+            throw new BadRequestException(FollowExceptionCode.ALREADY_FOLLOWED);
+        }
+    }
+
+    // follow 행을 쓰기 전에 두 회원 행을 id 순으로 갱신해 배타 락을 먼저 잡는다.
+    // 먼저 insert 하면 외래 키 검사가 두 회원 행에 공유 락을 걸어, 서로를 동시에 팔로우할 때 교착된다
+    private void updateFollowCounts(Member requester, Member target, boolean followed) {
+        if (requester.getId() < target.getId()) {
+            updateFollowingCount(requester.getId(), followed);
+            updateFollowerCount(target.getId(), followed);
+        } else {
+            updateFollowerCount(target.getId(), followed);
+            updateFollowingCount(requester.getId(), followed);
+        }
+    }
+
+    private void updateFollowingCount(Long memberId, boolean followed) {
+        if (followed) {
+            memberRepository.increaseFollowingCount(memberId);
+        } else {
+            memberRepository.decreaseFollowingCount(memberId);
+        }
+    }
+
+    private void updateFollowerCount(Long memberId, boolean followed) {
+        if (followed) {
+            memberRepository.increaseFollowerCount(memberId);
+        } else {
+            memberRepository.decreaseFollowerCount(memberId);
+        }
+    }
+
+    // 롤백된 변경이 색인에 남지 않도록 커밋 이후에 반영한다
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 }
@@ -0,0 +1,54 @@
+package friendy.community.domain.follow.service;
+
+import friendy.community.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 회원에 저장해 둔 팔로워/팔로잉 수를 실제 팔로우 행 수로 다시 세어, 어긋난 값(탈퇴, 수동 수정 등)을 바로잡는다.
+ * 회원 id 구간 단위로 나눠 구간마다 짧은 트랜잭션 하나로 고치므로 팔로우 요청을 오래 막지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowCountReconciler {
+
+    static final String REPAIRED_METRIC = "friendy.follow.count.repaired";
+
+    private final MemberRepository memberRepository;
+    private final MeterRegistry meterRegistry;
+    @Value("${friendy.follow.reconcile.chunk-size:1000}")
+    private int chunkSize;
+
+    @Scheduled(
+        fixedDelayString = "${friendy.follow.reconcile.interval:86400000}",
+        initialDelayString = "${friendy.follow.reconcile.initial-delay:600000}"
+    )
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("팔로우 수 보정 작업 오류", e);
+        }
+    }
+
+    /**
+     * @return 값을 고친 회원 수
+     */
+    public int reconcile() {
+        final long maxId = memberRepository.findMaxId().orElse(0L);
+        int repaired = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            repaired += memberRepository.reconcileFollowCounts(fromId, fromId + chunkSize - 1);
+        }
+        if (repaired > 0) {
+            log.info("팔로우 수 보정 - repaired : {}", repaired);
+            meterRegistry.counter(REPAIRED_METRIC).increment(repaired);
+        }
+        return repaired;
+    }
+}
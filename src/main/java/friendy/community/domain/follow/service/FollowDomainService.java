@@ -1,6 +1,7 @@
 package friendy.community.domain.follow.service;
 
 import friendy.community.domain.follow.controller.code.FollowExceptionCode;
+import friendy.community.domain.follow.index.FollowGraphIndex;
 import friendy.community.domain.follow.model.Follow;
 import friendy.community.domain.follow.repository.FollowRepository;
 import friendy.community.domain.member.model.Member;
@@ -16,16 +17,25 @@ import java.util.List;
 public class FollowDomainService {
 
     private final FollowRepository followRepository;
+    private final FollowGraphIndex followGraphIndex;
 
+    // 색인이 팔로우하지 않았다고 답하면 DB 를 거치지 않는다. 다른 인스턴스의 팔로우를 놓쳤더라도 유니크 제약이 중복을 막는다
     public void validateFollowable(Member follower, Member following) {
         validateSelfFollow(follower, following);
+        if (followGraphIndex.isReady() && !followGraphIndex.isFollowing(follower.getId(), following.getId())) {
+            return;
+        }
         if (followRepository.existsByFollowerAndFollowing(follower, following)) {
             throw new BadRequestException(FollowExceptionCode.ALREADY_FOLLOWED);
         }
     }
 
+    // 색인이 팔로우했다고 답하면 DB 를 거치지 않는다. 이어서 팔로우 행을 조회할 때 없으면 그때 거절한다
     public void validateUnfollowable(Member follower, Member following) {
         validateSelfFollow(follower, following);
+        if (followGraphIndex.isReady() && followGraphIndex.isFollowing(follower.getId(), following.getId())) {
+            return;
+        }
         if (!followRepository.existsByFollowerAndFollowing(follower, following)) {
             throw new BadRequestException(FollowExceptionCode.NOT_FOLLOWED);
         }
@@ -48,4 +58,10 @@ public class FollowDomainService {
             throw new NotFoundException(FollowExceptionCode.FOLLOWER_MEMBER_NOT_FOUND);
         }
     }
+
+    public void validateMutualExists(List<Long> mutualIds) {
+        if (mutualIds.isEmpty()) {
+            throw new NotFoundException(FollowExceptionCode.MUTUAL_MEMBER_NOT_FOUND);
+        }
+    }
 }
@@ -2,14 +2,23 @@ package friendy.community.domain.follow.service;
 
 import friendy.community.domain.follow.dto.response.FollowListResponse;
 import friendy.community.domain.follow.dto.response.FollowMemberResponse;
+import friendy.community.domain.follow.dto.response.FollowRelationResponse;
+import friendy.community.domain.follow.index.FollowGraphIndex;
 import friendy.community.domain.follow.model.Follow;
 import friendy.community.domain.follow.repository.FollowRepository;
 import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.model.MemberImage;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.domain.upload.service.ImageDisplaySize;
+import friendy.community.domain.upload.service.ImageVariantService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,8 +26,13 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class FollowQueryService {
 
+    private static final int PAGE_SIZE = 20;
+
     private final FollowRepository followRepository;
     private final FollowDomainService followDomainService;
+    private final ImageVariantService imageVariantService;
+    private final FollowGraphIndex followGraphIndex;
+    private final MemberRepository memberRepository;
 
     public FollowListResponse getFollowingList(Long memberId, Long lastId) {
         List<Follow> follows = followRepository.findFollowingFollows(memberId, lastId, 20);
@@ -30,9 +44,9 @@ public class FollowQueryService {
         }
 
         Long newLastFollowId = follows.get(follows.size() - 1).getId();
-        List<FollowMemberResponse> members = follows.stream()
-            .map(f -> FollowMemberResponse.from(f.getFollowing()))
-            .collect(Collectors.toList());
+        List<FollowMemberResponse> members = toMemberResponses(follows.stream()
+            .map(Follow::getFollowing)
+            .toList());
 
         return new FollowListResponse(members, hasNext, newLastFollowId);
     }
@@ -46,19 +60,90 @@ public class FollowQueryService {
         }
 
         Long newLastFollowId = follows.get(follows.size() - 1).getId();
-        List<FollowMemberResponse> members = follows.stream()
-            .map(f -> FollowMemberResponse.from(f.getFollower()))
-            .collect(Collectors.toList());
+        List<FollowMemberResponse> members = toMemberResponses(follows.stream()
+            .map(Follow::getFollower)
+            .toList());
 
         return new FollowListResponse(members, hasNext, newLastFollowId);
     }
 
+    // 팔로우/언팔로우 때 함께 증감해 둔 값이라 팔로워가 많아도 조회 비용이 같다
     public int getFollowerCount(Member member) {
-        return followRepository.countByFollower(member);
+        return member.getFollowerCount();
     }
 
     public int getFollowingCount(Member member) {
-        return followRepository.countByFollowing(member);
+        return member.getFollowingCount();
+    }
+
+    /**
+     * 서로 팔로우하는 회원을 회원 id 오름차순으로 20명씩 조회한다. 팔로우 그래프 색인이 적재되기 전에는 DB 로 조회한다.
+     */
+    public FollowListResponse getMutualList(Long memberId, Long lastMemberId) {
+        List<Long> mutualIds = followGraphIndex.isReady()
+            ? findMutualIdsFromIndex(memberId, lastMemberId)
+            : followRepository.findMutualIds(memberId, lastMemberId, PAGE_SIZE);
+
+        followDomainService.validateMutualExists(mutualIds);
+        boolean hasNext = mutualIds.size() > PAGE_SIZE;
+        if (hasNext) {
+            mutualIds = mutualIds.subList(0, PAGE_SIZE);
+        }
+
+        Long newLastMemberId = mutualIds.get(mutualIds.size() - 1);
+        List<FollowMemberResponse> members = toMemberResponses(memberRepository.findAllWithImageByIdIn(mutualIds));
+
+        return new FollowListResponse(members, hasNext, newLastMemberId);
     }
-}
 
+    /**
+     * 대상 회원과의 팔로우 관계, 대상의 맞팔로우 수, 두 회원이 함께 팔로우하는 회원 수를 조회한다.
+     */
+    public FollowRelationResponse getRelation(Long memberId, Long targetId) {
+        if (!followGraphIndex.isReady()) {
+            return new FollowRelationResponse(
+                followRepository.existsByFollowerIdAndFollowingId(memberId, targetId),
+                followRepository.existsByFollowerIdAndFollowingId(targetId, memberId),
+                (int) followRepository.countMutuals(targetId),
+                (int) followRepository.countCommonFollowings(memberId, targetId)
+            );
+        }
+        return new FollowRelationResponse(
+            followGraphIndex.isFollowing(memberId, targetId),
+            followGraphIndex.isFollowing(targetId, memberId),
+            followGraphIndex.countMutuals(targetId),
+            followGraphIndex.countCommonFollowings(memberId, targetId)
+        );
+    }
+
+    // DB 조회와 같게 다음 페이지 여부를 알 수 있도록 한 명 더 담는다
+    private List<Long> findMutualIdsFromIndex(Long memberId, Long lastMemberId) {
+        long[] mutualIds = followGraphIndex.findMutualIds(memberId);
+        int from = 0;
+        if (lastMemberId != null) {
+            int position = Arrays.binarySearch(mutualIds, lastMemberId);
+            from = position >= 0 ? position + 1 : -position - 1;
+        }
+        int to = Math.min(mutualIds.length, from + PAGE_SIZE + 1);
+        return Arrays.stream(mutualIds, from, to).boxed().collect(Collectors.toList());
+    }
+
+    private List<FollowMemberResponse> toMemberResponses(List<Member> members) {
+        List<String> imageUrls = members.stream()
+            .map(Member::getMemberImage)
+            .filter(Objects::nonNull)
+            .map(MemberImage::getImageUrl)
+            .toList();
+        Map<String, String> avatars = imageVariantService.resolve(imageUrls, ImageDisplaySize.AVATAR);
+
+        return members.stream()
+            .map(member -> {
+                MemberImage memberImage = member.getMemberImage();
+                if (memberImage == null) {
+                    return FollowMemberResponse.from(member);
+                }
+                return FollowMemberResponse.from(member, avatars.getOrDefault(memberImage.getImageUrl(), memberImage.getImageUrl()));
+            })
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,40 @@
+package friendy.community.domain.hashtag.controller;
+
+import friendy.community.domain.hashtag.controller.code.HashtagSuccessCode;
+import friendy.community.domain.hashtag.dto.response.FindTrendingHashtagsResponse;
+import friendy.community.domain.hashtag.service.HashtagQueryService;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.global.response.FriendyResponse;
+import friendy.community.global.security.FriendyUserDetails;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/hashtags")
+public class HashtagController implements SpringDocHashtagController {
+
+    private final HashtagQueryService hashtagQueryService;
+
+    @GetMapping("/{name}/posts")
+    public ResponseEntity<FriendyResponse<FindAllPostResponse>> getPostsByHashtag(
+        @AuthenticationPrincipal FriendyUserDetails userDetails,
+        @PathVariable String name,
+        @RequestParam(required = false) Long lastPostId
+    ) {
+        return ResponseEntity.ok(FriendyResponse.of(
+            HashtagSuccessCode.GET_HASHTAG_POSTS_SUCCESS,
+            hashtagQueryService.getPostsByHashtag(name, lastPostId, userDetails.getMemberId())));
+    }
+
+    @GetMapping("/trending")
+    public ResponseEntity<FriendyResponse<FindTrendingHashtagsResponse>> getTrendingHashtags(
+        @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(FriendyResponse.of(
+            HashtagSuccessCode.GET_TRENDING_HASHTAGS_SUCCESS,
+            hashtagQueryService.getTrendingHashtags(size)));
+    }
+}
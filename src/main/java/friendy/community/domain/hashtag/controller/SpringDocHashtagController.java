@@ -0,0 +1,38 @@
+package friendy.community.domain.hashtag.controller;
+
+import friendy.community.domain.hashtag.dto.response.FindTrendingHashtagsResponse;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.global.response.FriendyResponse;
+import friendy.community.global.security.FriendyUserDetails;
+import friendy.community.global.swagger.error.ApiErrorResponse;
+import friendy.community.global.swagger.error.ErrorCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "해시태그 API", description = "해시태그 API")
+public interface SpringDocHashtagController {
+
+    @Operation(summary = "해시태그 게시글 목록 조회", description = "해시태그가 달린 게시글을 최신순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "해시태그 게시글 목록 조회 성공")
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/hashtags/{name}/posts", errorCases = {
+        @ErrorCase(description = "존재하지 않는 해시태그", exampleMessage = "존재하지 않는 해시태그입니다."),
+        @ErrorCase(description = "게시글이 없습니다.", exampleMessage = "게시글이 없습니다.")
+    })
+    ResponseEntity<FriendyResponse<FindAllPostResponse>> getPostsByHashtag(
+        @AuthenticationPrincipal FriendyUserDetails userDetails,
+        @PathVariable String name,
+        @RequestParam(required = false) Long lastPostId
+    );
+
+    @Operation(summary = "인기 해시태그 조회", description = "최근 사용량에 시간 감쇠를 적용한 점수 순으로 해시태그를 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "인기 해시태그 조회 성공")
+    ResponseEntity<FriendyResponse<FindTrendingHashtagsResponse>> getTrendingHashtags(
+        @RequestParam(defaultValue = "10") int size
+    );
+}
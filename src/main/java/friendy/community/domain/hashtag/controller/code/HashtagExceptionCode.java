@@ -0,0 +1,15 @@
+package friendy.community.domain.hashtag.controller.code;
+
+import friendy.community.global.exception.dto.ExceptionCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum HashtagExceptionCode implements ExceptionCode {
+
+    HASHTAG_NOT_FOUND(4901, "존재하지 않는 해시태그입니다.");
+
+    private final int code;
+    private final String message;
+}
@@ -0,0 +1,15 @@
+package friendy.community.domain.hashtag.controller.code;
+
+import friendy.community.global.response.ApiCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum HashtagSuccessCode implements ApiCode {
+    GET_HASHTAG_POSTS_SUCCESS(1901, "해시태그 게시글 목록 조회 성공"),
+    GET_TRENDING_HASHTAGS_SUCCESS(1902, "인기 해시태그 조회 성공");
+
+    private final int code;
+    private final String message;
+}
@@ -0,0 +1,8 @@
+package friendy.community.domain.hashtag.dto.response;
+
+public record TrendingHashtagResponse(
+    String name,
+    double score,
+    int postCount
+) {
+}
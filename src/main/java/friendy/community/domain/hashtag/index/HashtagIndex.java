@@ -0,0 +1,257 @@
+package friendy.community.domain.hashtag.index;
+
+import friendy.community.domain.hashtag.model.Hashtag;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.LongStream;
+
+/**
+ * 해시태그 id 별로 게시글 id 목록을 보관하는 역색인.
+ * 시작 시와 주기적으로 DB 를 새 색인에 적재해 바꿔 끼우므로, 다른 인스턴스에서 추가되거나 지워진 게시글도 다음 적재 때 반영된다.
+ */
+@Component
+public class HashtagIndex {
+
+    // 게시글 색인 갱신은 서로 막지 않도록 읽기 락을 잡고, 새 색인으로 바꿔 끼울 때만 쓰기 락으로 갱신을 멈춘다
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private volatile Postings postings = new Postings();
+    // 적재 중인 새 색인과, 적재가 시작된 뒤 수정되거나 삭제된 게시글의 최신 해시태그. 바꿔 끼우기 전에 새 색인에 다시 반영한다
+    private volatile Postings rebuilding;
+    private final Map<Long, long[]> changedDuringRebuild = new ConcurrentHashMap<>();
+
+    /**
+     * 게시글의 해시태그를 주어진 목록으로 맞추고, 새로 붙은 해시태그 id 를 반환한다.
+     */
+    public List<Long> index(final Long postId, final Collection<Hashtag> hashtags) {
+        swapLock.readLock().lock();
+        try {
+            for (Hashtag hashtag : hashtags) {
+                postings.register(hashtag);
+            }
+            final long[] current = hashtags.stream()
+                .mapToLong(Hashtag::getId)
+                .distinct()
+                .sorted()
+                .toArray();
+            if (rebuilding != null) {
+                changedDuringRebuild.put(postId, current);
+            }
+            return postings.replace(postId, current);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public void remove(final Long postId) {
+        swapLock.readLock().lock();
+        try {
+            if (rebuilding != null) {
+                changedDuringRebuild.put(postId, new long[0]);
+            }
+            postings.replace(postId, new long[0]);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    public List<Long> findPostIds(final String hashtagName, final Long lastPostId, final int limit) {
+        return postings.findPostIds(hashtagName, lastPostId, limit);
+    }
+
+    public Optional<Long> findHashtagId(final String hashtagName) {
+        return Optional.ofNullable(postings.hashtagIds.get(hashtagName));
+    }
+
+    public Optional<String> findHashtagName(final Long hashtagId) {
+        return Optional.ofNullable(postings.hashtagNames.get(hashtagId));
+    }
+
+    public int countPosts(final Long hashtagId) {
+        return postings.countPosts(hashtagId);
+    }
+
+    public void registerHashtag(final Hashtag hashtag) {
+        swapLock.readLock().lock();
+        try {
+            postings.register(hashtag);
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    // 적재하는 동안에는 기존 색인으로 계속 답하고, 새 색인은 적재하는 스레드만 채운다
+    void startRebuild() {
+        swapLock.writeLock().lock();
+        try {
+            rebuilding = new Postings();
+            changedDuringRebuild.clear();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    void loadHashtag(final Hashtag hashtag) {
+        rebuilding.register(hashtag);
+    }
+
+    /**
+     * 적재 중 읽어 온 행을 새 색인에 넣고, 기존 색인에 없던 행이면 true 를 반환한다.
+     * 적재가 시작된 뒤 삭제된 게시글이나 수정으로 빠진 해시태그는 넣지 않는다.
+     */
+    boolean load(final long postId, final long hashtagId) {
+        final long[] latest = changedDuringRebuild.get(postId);
+        if (latest != null && Arrays.binarySearch(latest, hashtagId) < 0) {
+            return false;
+        }
+        rebuilding.add(postId, hashtagId);
+        return !postings.contains(postId, hashtagId);
+    }
+
+    void finishRebuild() {
+        swapLock.writeLock().lock();
+        try {
+            changedDuringRebuild.forEach(rebuilding::replace);
+            // 해시태그 이름과 id 는 바뀌지 않으므로, 적재가 읽은 뒤 등록된 해시태그도 그대로 옮긴다
+            postings.hashtagIds.forEach(rebuilding.hashtagIds::putIfAbsent);
+            postings.hashtagNames.forEach(rebuilding.hashtagNames::putIfAbsent);
+            postings = rebuilding;
+            rebuilding = null;
+            changedDuringRebuild.clear();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    // 적재가 실패하면 만들던 색인을 버리고 기존 색인을 그대로 쓴다
+    void abortRebuild() {
+        swapLock.writeLock().lock();
+        try {
+            rebuilding = null;
+            changedDuringRebuild.clear();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private static final class Postings {
+
+        private final Map<String, Long> hashtagIds = new ConcurrentHashMap<>();
+        private final Map<Long, String> hashtagNames = new ConcurrentHashMap<>();
+        private final Map<Long, PostingList> postingLists = new ConcurrentHashMap<>();
+        private final Map<Long, long[]> postHashtagIds = new ConcurrentHashMap<>();
+
+        private void register(final Hashtag hashtag) {
+            hashtagIds.putIfAbsent(hashtag.getName(), hashtag.getId());
+            hashtagNames.putIfAbsent(hashtag.getId(), hashtag.getName());
+        }
+
+        // 게시글의 해시태그를 current 로 맞추고 새로 붙은 해시태그 id 를 반환한다
+        private List<Long> replace(final long postId, final long[] current) {
+            final long[] previous = postHashtagIds.getOrDefault(postId, new long[0]);
+
+            final List<Long> added = new ArrayList<>();
+            for (long hashtagId : current) {
+                if (Arrays.binarySearch(previous, hashtagId) < 0 && addPosting(hashtagId, postId)) {
+                    added.add(hashtagId);
+                }
+            }
+            for (long hashtagId : previous) {
+                if (Arrays.binarySearch(current, hashtagId) < 0) {
+                    removePosting(hashtagId, postId);
+                }
+            }
+
+            if (current.length == 0) {
+                postHashtagIds.remove(postId);
+            } else {
+                postHashtagIds.put(postId, current);
+            }
+            return added;
+        }
+
+        private void add(final long postId, final long hashtagId) {
+            if (addPosting(hashtagId, postId)) {
+                postHashtagIds.merge(postId, new long[]{hashtagId}, Postings::union);
+            }
+        }
+
+        private boolean contains(final long postId, final long hashtagId) {
+            final long[] hashtagIds = postHashtagIds.get(postId);
+            return hashtagIds != null && Arrays.binarySearch(hashtagIds, hashtagId) >= 0;
+        }
+
+        private List<Long> findPostIds(final String hashtagName, final Long lastPostId, final int limit) {
+            final Long hashtagId = hashtagIds.get(hashtagName);
+            if (hashtagId == null) {
+                return List.of();
+            }
+            final PostingList postingList = postingLists.get(hashtagId);
+            if (postingList == null) {
+                return List.of();
+            }
+            postingList.lock().readLock().lock();
+            try {
+                return postingList.findBefore(lastPostId, limit);
+            } finally {
+                postingList.lock().readLock().unlock();
+            }
+        }
+
+        private int countPosts(final Long hashtagId) {
+            final PostingList postingList = postingLists.get(hashtagId);
+            if (postingList == null) {
+                return 0;
+            }
+            postingList.lock().readLock().lock();
+            try {
+                return postingList.size();
+            } finally {
+                postingList.lock().readLock().unlock();
+            }
+        }
+
+        private boolean addPosting(final long hashtagId, final long postId) {
+            // 빈 목록 제거와 겹치지 않도록 맵의 compute 안에서 추가한다
+            final boolean[] added = new boolean[1];
+            postingLists.compute(hashtagId, (id, postingList) -> {
+                final PostingList target = postingList == null ? new PostingList() : postingList;
+                target.lock().writeLock().lock();
+                try {
+                    added[0] = target.add(postId);
+                } finally {
+                    target.lock().writeLock().unlock();
+                }
+                return target;
+            });
+            return added[0];
+        }
+
+        private void removePosting(final long hashtagId, final long postId) {
+            postingLists.computeIfPresent(hashtagId, (id, postingList) -> {
+                postingList.lock().writeLock().lock();
+                try {
+                    postingList.remove(postId);
+                    return postingList.isEmpty() ? null : postingList;
+                } finally {
+                    postingList.lock().writeLock().unlock();
+                }
+            });
+        }
+
+        private static long[] union(final long[] left, final long[] right) {
+            return LongStream.concat(Arrays.stream(left), Arrays.stream(right))
+                .distinct()
+                .sorted()
+                .toArray();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package friendy.community.domain.hashtag.index;
+
+import friendy.community.domain.hashtag.repository.HashtagIndexRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HashtagIndexLoader {
+
+    private final HashtagIndexRepository hashtagIndexRepository;
+    private final HashtagIndex hashtagIndex;
+    private final HashtagTrendingCounter hashtagTrendingCounter;
+    @Value("${friendy.hashtag.index.load-on-startup:true}")
+    private boolean loadOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        if (loadOnStartup) {
+            load();
+        }
+    }
+
+    // 다른 인스턴스에서 작성, 수정, 삭제된 게시글은 이 색인에 반영되지 않으므로 주기적으로 다시 적재한다
+    @Scheduled(
+        fixedDelayString = "${friendy.hashtag.index.refresh-interval:600000}",
+        initialDelayString = "${friendy.hashtag.index.refresh-interval:600000}"
+    )
+    public void scheduledRefresh() {
+        if (!loadOnStartup) {
+            return;
+        }
+        try {
+            load();
+        } catch (Exception e) {
+            log.warn("해시태그 색인 재적재 오류", e);
+        }
+    }
+
+    // 새 색인을 따로 적재해 끝난 뒤 바꿔 끼우므로, 적재하는 동안에도 기존 색인으로 답한다.
+    // 인기 해시태그 집계는 기존 색인에 없던 행만 더해 다시 적재해도 두 번 세지 않는다
+    public synchronized void load() {
+        final long startedAt = System.currentTimeMillis();
+        final long[] rowCount = new long[1];
+        hashtagIndex.startRebuild();
+        try {
+            hashtagIndexRepository.streamHashtags(hashtagIndex::loadHashtag);
+            hashtagIndexRepository.streamPostHashtags(row -> {
+                rowCount[0]++;
+                if (hashtagIndex.load(row.postId(), row.hashtagId()) && row.createdDate() != null) {
+                    hashtagTrendingCounter.record(row.hashtagId(),
+                        row.createdDate().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+                }
+            });
+        } catch (RuntimeException e) {
+            hashtagIndex.abortRebuild();
+            throw e;
+        }
+        hashtagIndex.finishRebuild();
+        log.info("해시태그 색인 적재 완료 - rows : {}, elapsed : {}ms", rowCount[0], System.currentTimeMillis() - startedAt);
+    }
+}
@@ -0,0 +1,142 @@
+package friendy.community.domain.hashtag.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 해시태그 사용 횟수를 시간 구간(bucket)별로 세고, 오래된 구간일수록 반감기에 따라 가중치를 낮춰 점수를 낸다.
+ * 구간은 window-buckets 개만 유지하는 원형 배열이라 기간이 지난 집계는 자연히 밀려난다.
+ */
+@Component
+public class HashtagTrendingCounter {
+
+    @Value("${friendy.hashtag.trending.bucket-minutes:60}")
+    private long bucketMinutes;
+    @Value("${friendy.hashtag.trending.window-buckets:24}")
+    private int windowBuckets;
+    @Value("${friendy.hashtag.trending.half-life-minutes:360}")
+    private long halfLifeMinutes;
+
+    private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+
+    public void recordAll(final Collection<Long> hashtagIds, final long occurredAt) {
+        hashtagIds.forEach(hashtagId -> record(hashtagId, occurredAt));
+    }
+
+    public void record(final Long hashtagId, final long occurredAt) {
+        final long bucket = toBucket(occurredAt);
+        if (bucket <= toBucket(System.currentTimeMillis()) - windowBuckets) {
+            return;
+        }
+        windows.compute(hashtagId, (id, window) -> {
+            final Window target = window == null ? new Window(windowBuckets) : window;
+            target.add(bucket);
+            return target;
+        });
+    }
+
+    public List<TrendingScore> findTop(final int limit, final long now) {
+        final long currentBucket = toBucket(now);
+        final PriorityQueue<TrendingScore> top = new PriorityQueue<>(Comparator.comparingDouble(TrendingScore::score));
+        windows.forEach((hashtagId, window) -> {
+            final double score = window.score(currentBucket, windowBuckets, decayPerBucket());
+            if (score <= 0) {
+                return;
+            }
+            top.offer(new TrendingScore(hashtagId, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+
+        final List<TrendingScore> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingDouble(TrendingScore::score).reversed());
+        return result;
+    }
+
+    @Scheduled(fixedDelayString = "${friendy.hashtag.trending.evict-interval:600000}")
+    public void evictExpired() {
+        final long currentBucket = toBucket(System.currentTimeMillis());
+        windows.keySet().forEach(hashtagId -> windows.computeIfPresent(hashtagId,
+            (id, window) -> window.isExpired(currentBucket, windowBuckets) ? null : window));
+    }
+
+    private long toBucket(final long epochMillis) {
+        return epochMillis / (bucketMinutes * 60_000);
+    }
+
+    // 한 구간이 지날 때마다 곱해지는 감쇠율
+    private double decayPerBucket() {
+        return Math.pow(0.5, (double) bucketMinutes / halfLifeMinutes);
+    }
+
+    public record TrendingScore(Long hashtagId, double score) {
+    }
+
+    private static final class Window {
+
+        private final long[] buckets;
+        private final long[] counts;
+        private final Lock lock = new ReentrantLock();
+
+        private Window(final int size) {
+            this.buckets = new long[size];
+            this.counts = new long[size];
+        }
+
+        private void add(final long bucket) {
+            lock.lock();
+            try {
+                final int slot = (int) Math.floorMod(bucket, (long) buckets.length);
+                if (buckets[slot] != bucket) {
+                    buckets[slot] = bucket;
+                    counts[slot] = 0;
+                }
+                counts[slot]++;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private double score(final long currentBucket, final int windowBuckets, final double decay) {
+            lock.lock();
+            try {
+                double score = 0;
+                for (int slot = 0; slot < buckets.length; slot++) {
+                    final long age = currentBucket - buckets[slot];
+                    if (counts[slot] > 0 && age >= 0 && age < windowBuckets) {
+                        score += counts[slot] * Math.pow(decay, age);
+                    }
+                }
+                return score;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean isExpired(final long currentBucket, final int windowBuckets) {
+            lock.lock();
+            try {
+                for (int slot = 0; slot < buckets.length; slot++) {
+                    if (counts[slot] > 0 && currentBucket - buckets[slot] < windowBuckets) {
+                        return false;
+                    }
+                }
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
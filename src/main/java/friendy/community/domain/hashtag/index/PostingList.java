@@ -0,0 +1,208 @@
+package friendy.community.domain.hashtag.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 id 를 오름차순으로 보관하는 압축 리스트.
+ * id 를 최대 {@value #BLOCK_SIZE} 개씩 블록으로 나누고, 블록 안에서는 이전 id 와의 차이를 varint 로 저장한다.
+ * 동기화는 호출하는 쪽에서 {@link #lock()} 으로 담당한다.
+ */
+public class PostingList {
+
+    static final int BLOCK_SIZE = 128;
+
+    private final List<Block> blocks = new ArrayList<>();
+    // synchronized 는 가상 스레드를 캐리어 스레드에 고정시키므로 j.u.c 락을 쓴다
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private int size;
+
+    public boolean add(final long postId) {
+        if (blocks.isEmpty()) {
+            blocks.add(Block.of(new long[]{postId}, 1));
+            size++;
+            return true;
+        }
+
+        // 새 게시글은 항상 가장 큰 id 를 가지므로 마지막 블록 뒤에 바로 붙인다
+        final Block lastBlock = blocks.get(blocks.size() - 1);
+        if (postId > lastBlock.last) {
+            if (lastBlock.count < BLOCK_SIZE) {
+                lastBlock.append(postId);
+            } else {
+                blocks.add(Block.of(new long[]{postId}, 1));
+            }
+            size++;
+            return true;
+        }
+
+        final int blockIndex = Math.max(findBlockIndex(postId), 0);
+        final Block block = blocks.get(blockIndex);
+        final long[] ids = block.decode();
+        final int position = Arrays.binarySearch(ids, postId);
+        if (position >= 0) {
+            return false;
+        }
+
+        final int insertion = -position - 1;
+        final long[] inserted = new long[ids.length + 1];
+        System.arraycopy(ids, 0, inserted, 0, insertion);
+        inserted[insertion] = postId;
+        System.arraycopy(ids, insertion, inserted, insertion + 1, ids.length - insertion);
+        replace(blockIndex, inserted);
+        size++;
+        return true;
+    }
+
+    public boolean remove(final long postId) {
+        final int blockIndex = findBlockIndex(postId);
+        if (blockIndex < 0) {
+            return false;
+        }
+
+        final long[] ids = blocks.get(blockIndex).decode();
+        final int position = Arrays.binarySearch(ids, postId);
+        if (position < 0) {
+            return false;
+        }
+
+        final long[] removed = new long[ids.length - 1];
+        System.arraycopy(ids, 0, removed, 0, position);
+        System.arraycopy(ids, position + 1, removed, position, ids.length - position - 1);
+        if (removed.length == 0) {
+            blocks.remove(blockIndex);
+        } else {
+            blocks.set(blockIndex, Block.of(removed, removed.length));
+        }
+        size--;
+        return true;
+    }
+
+    /**
+     * lastPostId 보다 작은 id 를 최신순으로 최대 limit 개 반환한다. lastPostId 가 null 이면 가장 최신 id 부터 반환한다.
+     */
+    public List<Long> findBefore(final Long lastPostId, final int limit) {
+        final List<Long> result = new ArrayList<>(Math.min(limit, size));
+        int blockIndex = lastPostId == null ? blocks.size() - 1 : findBlockIndex(lastPostId - 1);
+
+        while (blockIndex >= 0 && result.size() < limit) {
+            final long[] ids = blocks.get(blockIndex).decode();
+            for (int index = ids.length - 1; index >= 0 && result.size() < limit; index--) {
+                if (lastPostId == null || ids[index] < lastPostId) {
+                    result.add(ids[index]);
+                }
+            }
+            blockIndex--;
+        }
+        return result;
+    }
+
+    public boolean contains(final long postId) {
+        final int blockIndex = findBlockIndex(postId);
+        return blockIndex >= 0 && Arrays.binarySearch(blocks.get(blockIndex).decode(), postId) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    ReadWriteLock lock() {
+        return lock;
+    }
+
+    long encodedBytes() {
+        return blocks.stream()
+            .mapToLong(block -> Long.BYTES + block.length)
+            .sum();
+    }
+
+    // 첫 id 가 postId 이하인 마지막 블록, 없으면 -1
+    private int findBlockIndex(final long postId) {
+        int low = 0;
+        int high = blocks.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (blocks.get(mid).first <= postId) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    private void replace(final int blockIndex, final long[] ids) {
+        if (ids.length <= BLOCK_SIZE) {
+            blocks.set(blockIndex, Block.of(ids, ids.length));
+            return;
+        }
+        final int half = ids.length / 2;
+        blocks.set(blockIndex, Block.of(Arrays.copyOfRange(ids, 0, half), half));
+        blocks.add(blockIndex + 1, Block.of(Arrays.copyOfRange(ids, half, ids.length), ids.length - half));
+    }
+
+    private static final class Block {
+
+        private final long first;
+        private long last;
+        private int count;
+        private byte[] deltas;
+        private int length;
+
+        private Block(final long first) {
+            this.first = first;
+            this.last = first;
+            this.count = 1;
+            this.deltas = new byte[8];
+        }
+
+        private static Block of(final long[] ids, final int count) {
+            final Block block = new Block(ids[0]);
+            for (int index = 1; index < count; index++) {
+                block.append(ids[index]);
+            }
+            return block;
+        }
+
+        private void append(final long postId) {
+            long delta = postId - last;
+            if (deltas.length - length < 10) {
+                deltas = Arrays.copyOf(deltas, deltas.length * 2);
+            }
+            while ((delta & ~0x7FL) != 0) {
+                deltas[length++] = (byte) ((delta & 0x7F) | 0x80);
+                delta >>>= 7;
+            }
+            deltas[length++] = (byte) delta;
+            last = postId;
+            count++;
+        }
+
+        private long[] decode() {
+            final long[] ids = new long[count];
+            ids[0] = first;
+            int offset = 0;
+            for (int index = 1; index < count; index++) {
+                long delta = 0;
+                int shift = 0;
+                byte current;
+                do {
+                    current = deltas[offset++];
+                    delta |= (long) (current & 0x7F) << shift;
+                    shift += 7;
+                } while ((current & 0x80) != 0);
+                ids[index] = ids[index - 1] + delta;
+            }
+            return ids;
+        }
+    }
+}
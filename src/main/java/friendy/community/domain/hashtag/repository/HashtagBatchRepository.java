@@ -0,0 +1,87 @@
+package friendy.community.domain.hashtag.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class HashtagBatchRepository {
+
+    // INSERT IGNORE 는 중복 외에 길이 초과 같은 오류도 경고로 바꿔 잘린 이름을 넣으므로, 중복만 무시한다
+    private static final String INSERT_HASHTAG_SQL = "INSERT INTO hashtag (name) VALUES (?) ON DUPLICATE KEY UPDATE id = id";
+    private static final String INSERT_POST_HASHTAG_SQL = "INSERT INTO post_hashtag (post_id, hashtag_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<String, Long> findIdsByNames(final Collection<String> names) {
+        return findIdsByNames(names, false);
+    }
+
+    /**
+     * 없는 해시태그만 삽입하고, 이름별 id 를 반환한다. 같은 이름을 동시에 삽입하면 한쪽은 무시된다.
+     * 겹치는 이름을 다른 순서로 삽입하는 트랜잭션끼리 서로의 키 잠금을 기다리지 않도록 이름 순으로 삽입한다.
+     */
+    public Map<String, Long> upsertAll(final Collection<String> names) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        jdbcTemplate.batchUpdate(INSERT_HASHTAG_SQL, names.stream()
+            .distinct()
+            .sorted()
+            .map(name -> new Object[]{name})
+            .toList());
+        // 다른 트랜잭션이 먼저 커밋한 행은 일관된 읽기 스냅샷에 보이지 않을 수 있어 잠금 읽기로 조회한다
+        return findIdsByNames(names, true);
+    }
+
+    public void insertPostHashtags(final Long postId, final Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_POST_HASHTAG_SQL, hashtagIds.stream()
+            .map(hashtagId -> new Object[]{postId, hashtagId})
+            .toList());
+    }
+
+    public List<Long> findHashtagIdsByPostId(final Long postId) {
+        return jdbcTemplate.queryForList("SELECT hashtag_id FROM post_hashtag WHERE post_id = ?", Long.class, postId);
+    }
+
+    public int deletePostHashtags(final Long postId, final Collection<Long> hashtagIds) {
+        if (hashtagIds.isEmpty()) {
+            return 0;
+        }
+        final String placeholders = String.join(", ", Collections.nCopies(hashtagIds.size(), "?"));
+        final List<Object> args = new ArrayList<>();
+        args.add(postId);
+        args.addAll(hashtagIds);
+        return jdbcTemplate.update(
+            "DELETE FROM post_hashtag WHERE post_id = ? AND hashtag_id IN (" + placeholders + ")", args.toArray());
+    }
+
+    public int deleteAllByPostId(final Long postId) {
+        return jdbcTemplate.update("DELETE FROM post_hashtag WHERE post_id = ?", postId);
+    }
+
+    private Map<String, Long> findIdsByNames(final Collection<String> names, final boolean lock) {
+        if (names.isEmpty()) {
+            return Map.of();
+        }
+        final String placeholders = String.join(", ", Collections.nCopies(names.size(), "?"));
+        final String sql = "SELECT id, name FROM hashtag WHERE name IN (" + placeholders + ")" + (lock ? " FOR UPDATE" : "");
+
+        final Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            ids.put(rs.getString("name"), rs.getLong("id"));
+        }, List.copyOf(names).toArray());
+        return ids;
+    }
+}
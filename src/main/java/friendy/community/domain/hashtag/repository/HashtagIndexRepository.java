@@ -0,0 +1,69 @@
+package friendy.community.domain.hashtag.repository;
+
+import friendy.community.domain.hashtag.model.Hashtag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class HashtagIndexRepository {
+
+    private static final String HASHTAG_SQL = "SELECT id, name FROM hashtag WHERE id > ? ORDER BY id LIMIT ?";
+    // 기본 키 (post_id, hashtag_id) 순으로 마지막에 읽은 행 다음부터 읽는다
+    private static final String POST_HASHTAG_SQL = "SELECT ph.post_id, ph.hashtag_id, p.created_date "
+        + "FROM post_hashtag ph JOIN post p ON p.id = ph.post_id "
+        + "WHERE ph.post_id > ? OR (ph.post_id = ? AND ph.hashtag_id > ?) "
+        + "ORDER BY ph.post_id, ph.hashtag_id LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    @Value("${friendy.hashtag.index.page-size:1000}")
+    private int pageSize;
+
+    // MySQL 드라이버는 fetchSize 를 줘도 결과 전체를 한 번에 받으므로, 키 순으로 pageSize 만큼씩 끊어 읽는다
+    public void streamHashtags(final Consumer<Hashtag> consumer) {
+        long lastId = 0;
+        while (true) {
+            final List<Hashtag> hashtags = jdbcTemplate.query(HASHTAG_SQL, (rs, rowNum) -> new Hashtag(
+                rs.getLong("id"),
+                rs.getString("name")
+            ), lastId, pageSize);
+            hashtags.forEach(consumer);
+            if (hashtags.size() < pageSize) {
+                return;
+            }
+            lastId = hashtags.get(hashtags.size() - 1).getId();
+        }
+    }
+
+    public void streamPostHashtags(final Consumer<PostHashtagRow> consumer) {
+        long lastPostId = 0;
+        long lastHashtagId = 0;
+        while (true) {
+            final List<PostHashtagRow> rows = jdbcTemplate.query(POST_HASHTAG_SQL, (rs, rowNum) -> {
+                final Timestamp createdDate = rs.getTimestamp("created_date");
+                return new PostHashtagRow(
+                    rs.getLong("post_id"),
+                    rs.getLong("hashtag_id"),
+                    createdDate == null ? null : createdDate.toLocalDateTime()
+                );
+            }, lastPostId, lastPostId, lastHashtagId, pageSize);
+            rows.forEach(consumer);
+            if (rows.size() < pageSize) {
+                return;
+            }
+            final PostHashtagRow lastRow = rows.get(rows.size() - 1);
+            lastPostId = lastRow.postId();
+            lastHashtagId = lastRow.hashtagId();
+        }
+    }
+
+    public record PostHashtagRow(long postId, long hashtagId, LocalDateTime createdDate) {
+    }
+}
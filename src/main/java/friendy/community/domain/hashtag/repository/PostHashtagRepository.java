@@ -6,6 +6,4 @@ import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PostHashtagRepository extends JpaRepository<PostHashtag, Long> {
-
-    void deleteAllByPostId(Long postId);
 }
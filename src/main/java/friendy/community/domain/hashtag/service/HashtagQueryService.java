@@ -0,0 +1,59 @@
+package friendy.community.domain.hashtag.service;
+
+import friendy.community.domain.hashtag.controller.code.HashtagExceptionCode;
+import friendy.community.domain.hashtag.dto.response.FindTrendingHashtagsResponse;
+import friendy.community.domain.hashtag.dto.response.TrendingHashtagResponse;
+import friendy.community.domain.hashtag.index.HashtagIndex;
+import friendy.community.domain.hashtag.index.HashtagTrendingCounter;
+import friendy.community.domain.post.controller.code.PostExceptionCode;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.domain.post.dto.response.FindPostResponse;
+import friendy.community.domain.post.service.PostQueryService;
+import friendy.community.global.exception.domain.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HashtagQueryService {
+
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_TRENDING_SIZE = 50;
+
+    private final HashtagIndex hashtagIndex;
+    private final HashtagTrendingCounter hashtagTrendingCounter;
+    private final PostQueryService postQueryService;
+
+    public FindAllPostResponse getPostsByHashtag(final String hashtagName, final Long lastPostId, final Long memberId) {
+        if (hashtagIndex.findHashtagId(hashtagName).isEmpty()) {
+            throw new NotFoundException(HashtagExceptionCode.HASHTAG_NOT_FOUND);
+        }
+
+        List<Long> postIds = hashtagIndex.findPostIds(hashtagName, lastPostId, PAGE_SIZE + 1);
+        if (postIds.isEmpty()) {
+            throw new NotFoundException(PostExceptionCode.POST_NOT_FOUND);
+        }
+
+        boolean hasNext = postIds.size() > PAGE_SIZE;
+        if (hasNext) {
+            postIds = postIds.subList(0, PAGE_SIZE);
+        }
+
+        List<FindPostResponse> postResponses = postQueryService.getPostResponsesByIds(postIds, memberId);
+        return new FindAllPostResponse(postResponses, hasNext, postIds.get(postIds.size() - 1));
+    }
+
+    public FindTrendingHashtagsResponse getTrendingHashtags(final int size) {
+        int limit = Math.max(1, Math.min(size, MAX_TRENDING_SIZE));
+        List<TrendingHashtagResponse> hashtags = hashtagTrendingCounter.findTop(limit, System.currentTimeMillis()).stream()
+            .flatMap(trending -> hashtagIndex.findHashtagName(trending.hashtagId())
+                .map(name -> new TrendingHashtagResponse(name, trending.score(), hashtagIndex.countPosts(trending.hashtagId())))
+                .stream())
+            .toList();
+        return new FindTrendingHashtagsResponse(hashtags);
+    }
+}
@@ -1,63 +1,131 @@
 package friendy.community.domain.hashtag.service;
 
+import friendy.community.domain.hashtag.index.HashtagIndex;
+import friendy.community.domain.hashtag.index.HashtagTrendingCounter;
 import friendy.community.domain.hashtag.model.Hashtag;
-import friendy.community.domain.hashtag.repository.HashtagRepository;
-import friendy.community.domain.hashtag.repository.PostHashtagRepository;
+import friendy.community.domain.hashtag.repository.HashtagBatchRepository;
 import friendy.community.domain.post.model.Post;
-import friendy.community.domain.post.model.PostHashtag;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class HashtagService {
 
-    private final HashtagRepository hashtagRepository;
-    private final PostHashtagRepository postHashtagRepository;
+    private static final String UPDATE_ROWS_METRIC = "friendy.hashtag.update.rows";
+    private static final String UPDATE_UNCHANGED_METRIC = "friendy.hashtag.update.unchanged";
+
+    private final HashtagBatchRepository hashtagBatchRepository;
+    private final HashtagIndex hashtagIndex;
+    private final HashtagTrendingCounter hashtagTrendingCounter;
+    private final MeterRegistry meterRegistry;
 
     public void saveHashtags(Post post, List<String> hashtagNames) {
-        List<Hashtag> existTags = hashtagRepository.findAllByNameIn(hashtagNames);
-        List<String> existNames = getExistHashtagNames(existTags);
+        List<Hashtag> hashtags = persistHashtags(post, hashtagNames);
+        reindexAfterCommit(post.getId(), hashtags);
+    }
 
-        List<Hashtag> newHashtags = getOnlyNewHashags(existNames, hashtagNames);
-        List<Hashtag> savedNewHashtags = hashtagRepository.saveAll(newHashtags);
+    public void updateHashtags(Post post, List<String> hashtagNames) {
+        Long postId = post.getId();
+        List<Hashtag> hashtags = resolveHashtags(hashtagNames);
+        Set<Long> requestedIds = hashtags.stream()
+                .map(Hashtag::getId)
+                .collect(Collectors.toSet());
+        Set<Long> currentIds = new HashSet<>(hashtagBatchRepository.findHashtagIdsByPostId(postId));
 
-        existTags.addAll(savedNewHashtags);
-        savePostHashtags(post, existTags);
-    }
+        List<Long> removedIds = currentIds.stream()
+                .filter(id -> !requestedIds.contains(id))
+                .toList();
+        List<Long> addedIds = hashtags.stream()
+                .map(Hashtag::getId)
+                .filter(id -> !currentIds.contains(id))
+                .toList();
+        if (removedIds.isEmpty() && addedIds.isEmpty()) {
+            meterRegistry.counter(UPDATE_UNCHANGED_METRIC).increment();
+            return;
+        }
 
-    public void updateHashtags(Post post, List<String> hashtags) {
-        deleteHashtags(post.getId());
-        saveHashtags(post, hashtags);
+        int deletedRows = hashtagBatchRepository.deletePostHashtags(postId, removedIds);
+        hashtagBatchRepository.insertPostHashtags(postId, addedIds);
+        meterRegistry.summary(UPDATE_ROWS_METRIC, "operation", "delete").record(deletedRows);
+        meterRegistry.summary(UPDATE_ROWS_METRIC, "operation", "insert").record(addedIds.size());
+        reindexAfterCommit(postId, hashtags);
     }
 
     public void deleteHashtags(Long postId) {
-        postHashtagRepository.deleteAllByPostId(postId);
+        hashtagBatchRepository.deleteAllByPostId(postId);
+        afterCommit(() -> hashtagIndex.remove(postId));
     }
 
-    private List<String> getExistHashtagNames(List<Hashtag> existTags) {
-        return existTags.stream()
-                .map(Hashtag::getName)
+    private List<Hashtag> persistHashtags(Post post, List<String> hashtagNames) {
+        List<Hashtag> hashtags = resolveHashtags(hashtagNames);
+        List<Long> hashtagIds = hashtags.stream()
+                .map(Hashtag::getId)
                 .toList();
+        hashtagBatchRepository.insertPostHashtags(post.getId(), hashtagIds);
+        return hashtags;
     }
 
-    private List<Hashtag> getOnlyNewHashags(List<String> existNames, List<String> hashtagNames) {
-        return hashtagNames.stream()
-                .distinct()
-                .filter(name -> !existNames.contains(name))
-                .map(Hashtag::new)
+    private List<Hashtag> resolveHashtags(List<String> hashtagNames) {
+        if (hashtagNames == null || hashtagNames.isEmpty()) {
+            return List.of();
+        }
+        Set<String> names = new LinkedHashSet<>(hashtagNames);
+
+        // 색인이 커밋된 해시태그의 이름과 id 를 이미 들고 있으므로 캐시로 먼저 조회한다
+        Map<String, Long> hashtagIds = new HashMap<>();
+        names.forEach(name -> hashtagIndex.findHashtagId(name).ifPresent(id -> hashtagIds.put(name, id)));
+
+        List<String> uncachedNames = getMissingNames(names, hashtagIds);
+        if (!uncachedNames.isEmpty()) {
+            Map<String, Long> existIds = hashtagBatchRepository.findIdsByNames(uncachedNames);
+            existIds.forEach((name, id) -> hashtagIndex.registerHashtag(new Hashtag(id, name)));
+            hashtagIds.putAll(existIds);
+            hashtagIds.putAll(hashtagBatchRepository.upsertAll(getMissingNames(uncachedNames, existIds)));
+        }
+
+        return names.stream()
+                .filter(hashtagIds::containsKey)
+                .map(name -> new Hashtag(hashtagIds.get(name), name))
                 .toList();
     }
 
-    private void savePostHashtags(Post post, List<Hashtag> hashtags) {
-        List<PostHashtag> postHashtags = hashtags.stream()
-                .map(hashtag -> new PostHashtag(post, hashtag))
+    private List<String> getMissingNames(Collection<String> names, Map<String, Long> hashtagIds) {
+        return names.stream()
+                .filter(name -> !hashtagIds.containsKey(name))
                 .toList();
-        postHashtagRepository.saveAll(postHashtags);
+    }
+
+    private void reindexAfterCommit(Long postId, List<Hashtag> hashtags) {
+        afterCommit(() -> hashtagTrendingCounter.recordAll(hashtagIndex.index(postId, hashtags), System.currentTimeMillis()));
+    }
+
+    // 롤백된 변경이 색인에 남지 않도록 커밋 이후에 반영한다
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
 
 }
@@ -0,0 +1,73 @@
+package friendy.community.domain.like.controller;
+
+import friendy.community.domain.like.controller.code.LikeSuccessCode;
+import friendy.community.domain.like.model.LikeTargetType;
+import friendy.community.domain.like.service.LikeCommandService;
+import friendy.community.global.response.FriendyResponse;
+import friendy.community.global.security.FriendyUserDetails;
+import friendy.community.global.security.annotation.LoggedInUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/likes")
+public class LikeController implements SpringDocLikeController {
+
+    private final LikeCommandService likeCommandService;
+
+    @PostMapping("/posts/{postId}")
+    public ResponseEntity<FriendyResponse<Void>> likePost(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long postId
+    ) {
+        likeCommandService.like(userDetails.getMemberId(), LikeTargetType.POST, postId);
+        return ResponseEntity.ok(FriendyResponse.of(LikeSuccessCode.LIKE_SUCCESS));
+    }
+
+    @DeleteMapping("/posts/{postId}")
+    public ResponseEntity<FriendyResponse<Void>> unlikePost(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long postId
+    ) {
+        likeCommandService.unlike(userDetails.getMemberId(), LikeTargetType.POST, postId);
+        return ResponseEntity.ok(FriendyResponse.of(LikeSuccessCode.UNLIKE_SUCCESS));
+    }
+
+    @PostMapping("/comments/{commentId}")
+    public ResponseEntity<FriendyResponse<Void>> likeComment(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long commentId
+    ) {
+        likeCommandService.like(userDetails.getMemberId(), LikeTargetType.COMMENT, commentId);
+        return ResponseEntity.ok(FriendyResponse.of(LikeSuccessCode.LIKE_SUCCESS));
+    }
+
+    @DeleteMapping("/comments/{commentId}")
+    public ResponseEntity<FriendyResponse<Void>> unlikeComment(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long commentId
+    ) {
+        likeCommandService.unlike(userDetails.getMemberId(), LikeTargetType.COMMENT, commentId);
+        return ResponseEntity.ok(FriendyResponse.of(LikeSuccessCode.UNLIKE_SUCCESS));
+    }
+
+    @PostMapping("/replies/{replyId}")
+    public ResponseEntity<FriendyResponse<Void>> likeReply(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long replyId
+    ) {
+        likeCommandService.like(userDetails.getMemberId(), LikeTargetType.REPLY, replyId);
+        return ResponseEntity.ok(FriendyResponse.of(LikeSuccessCode.LIKE_SUCCESS));
+    }
+
+    @DeleteMapping("/replies/{replyId}")
+    public ResponseEntity<FriendyResponse<Void>> unlikeReply(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long replyId
+    ) {
+        likeCommandService.unlike(userDetails.getMemberId(), LikeTargetType.REPLY, replyId);
+        return ResponseEntity.ok(FriendyResponse.of(LikeSuccessCode.UNLIKE_SUCCESS));
+    }
+}
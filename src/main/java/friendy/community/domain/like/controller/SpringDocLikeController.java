@@ -0,0 +1,77 @@
+package friendy.community.domain.like.controller;
+
+import friendy.community.global.response.FriendyResponse;
+import friendy.community.global.security.FriendyUserDetails;
+import friendy.community.global.security.annotation.LoggedInUser;
+import friendy.community.global.swagger.error.ApiErrorResponse;
+import friendy.community.global.swagger.error.ErrorCase;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@Tag(name = "좋아요 API", description = "좋아요 API")
+public interface SpringDocLikeController {
+
+    @Operation(summary = "게시글 좋아요", description = "이미 좋아요한 게시글이면 아무 변화 없이 성공합니다.")
+    @ApiResponse(responseCode = "200", description = "좋아요 성공")
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/likes/posts/{postId}", errorCases = {
+        @ErrorCase(description = "존재하지 않는 게시글", exampleMessage = "게시글이 없습니다.")
+    })
+    ResponseEntity<FriendyResponse<Void>> likePost(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long postId
+    );
+
+    @Operation(summary = "게시글 좋아요 취소", description = "좋아요하지 않은 게시글이면 아무 변화 없이 성공합니다.")
+    @ApiResponse(responseCode = "200", description = "좋아요 취소 성공")
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/likes/posts/{postId}", errorCases = {
+        @ErrorCase(description = "존재하지 않는 게시글", exampleMessage = "게시글이 없습니다.")
+    })
+    ResponseEntity<FriendyResponse<Void>> unlikePost(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long postId
+    );
+
+    @Operation(summary = "댓글 좋아요", description = "이미 좋아요한 댓글이면 아무 변화 없이 성공합니다.")
+    @ApiResponse(responseCode = "200", description = "좋아요 성공")
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/likes/comments/{commentId}", errorCases = {
+        @ErrorCase(description = "존재하지 않는 댓글", exampleMessage = "존재하지 않는 댓글입니다.")
+    })
+    ResponseEntity<FriendyResponse<Void>> likeComment(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long commentId
+    );
+
+    @Operation(summary = "댓글 좋아요 취소", description = "좋아요하지 않은 댓글이면 아무 변화 없이 성공합니다.")
+    @ApiResponse(responseCode = "200", description = "좋아요 취소 성공")
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/likes/comments/{commentId}", errorCases = {
+        @ErrorCase(description = "존재하지 않는 댓글", exampleMessage = "존재하지 않는 댓글입니다.")
+    })
+    ResponseEntity<FriendyResponse<Void>> unlikeComment(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long commentId
+    );
+
+    @Operation(summary = "답글 좋아요", description = "이미 좋아요한 답글이면 아무 변화 없이 성공합니다.")
+    @ApiResponse(responseCode = "200", description = "좋아요 성공")
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/likes/replies/{replyId}", errorCases = {
+        @ErrorCase(description = "존재하지 않는 답글", exampleMessage = "존재하지 않는 답글입니다.")
+    })
+    ResponseEntity<FriendyResponse<Void>> likeReply(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long replyId
+    );
+
+    @Operation(summary = "답글 좋아요 취소", description = "좋아요하지 않은 답글이면 아무 변화 없이 성공합니다.")
+    @ApiResponse(responseCode = "200", description = "좋아요 취소 성공")
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/likes/replies/{replyId}", errorCases = {
+        @ErrorCase(description = "존재하지 않는 답글", exampleMessage = "존재하지 않는 답글입니다.")
+    })
+    ResponseEntity<FriendyResponse<Void>> unlikeReply(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @PathVariable Long replyId
+    );
+}
@@ -0,0 +1,15 @@
+package friendy.community.domain.like.controller.code;
+
+import friendy.community.global.response.ApiCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum LikeSuccessCode implements ApiCode {
+    LIKE_SUCCESS(1801, "좋아요 성공"),
+    UNLIKE_SUCCESS(1802, "좋아요 취소 성공");
+
+    private final int code;
+    private final String message;
+}
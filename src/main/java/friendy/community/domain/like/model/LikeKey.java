@@ -0,0 +1,8 @@
+package friendy.community.domain.like.model;
+
+public record LikeKey(
+    Long memberId,
+    LikeTargetType targetType,
+    Long targetId
+) {
+}
@@ -0,0 +1,16 @@
+package friendy.community.domain.like.model;
+
+import friendy.community.domain.counter.model.CounterType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum LikeTargetType {
+
+    POST(CounterType.POST_LIKE),
+    COMMENT(CounterType.COMMENT_LIKE),
+    REPLY(CounterType.REPLY_LIKE);
+
+    private final CounterType counterType;
+}
@@ -0,0 +1,46 @@
+package friendy.community.domain.like.model;
+
+import friendy.community.domain.common.BaseEntity;
+import friendy.community.domain.member.model.Member;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(
+    name = "member_like",
+    uniqueConstraints = { @UniqueConstraint(name = "unique_member_like", columnNames = {"member_id", "target_type", "target_id"}) },
+    indexes = { @Index(name = "idx_like_target", columnList = "target_type, target_id") }
+)
+public class MemberLike extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private LikeTargetType targetType;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    private MemberLike(Member member, LikeTargetType targetType, Long targetId) {
+        this.member = member;
+        this.targetType = targetType;
+        this.targetId = targetId;
+    }
+
+    public static MemberLike of(Member member, LikeTargetType targetType, Long targetId) {
+        return new MemberLike(member, targetType, targetId);
+    }
+}
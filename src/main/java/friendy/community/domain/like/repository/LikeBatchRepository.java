@@ -0,0 +1,56 @@
+package friendy.community.domain.like.repository;
+
+import friendy.community.domain.like.model.LikeKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class LikeBatchRepository {
+
+    // INSERT IGNORE 는 중복 말고도 잘못된 값, 외래 키 위반 같은 오류를 경고로 바꿔 삼키므로 중복 키만 건너뛴다
+    private static final String INSERT_SQL = "INSERT INTO member_like "
+        + "(member_id, target_type, target_id, created_date, modified_date) VALUES (?, ?, ?, ?, ?) "
+        + "ON DUPLICATE KEY UPDATE id = id";
+    private static final String DELETE_SQL = "DELETE FROM member_like "
+        + "WHERE member_id = ? AND target_type = ? AND target_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 키마다 실제로 바뀐 행 수. 이미 있던 좋아요의 INSERT 나 없던 좋아요의 DELETE 는 0 이다.
+     * 드라이버가 알려 주지 않으면 {@link Statement#SUCCESS_NO_INFO} 가 들어간다.
+     * MySQL 은 useAffectedRows=true 로 연결해야 값이 그대로인 중복 행을 0 으로 알려 준다
+     */
+    @Transactional
+    public Map<LikeKey, Integer> applyAll(final List<LikeKey> likes, final List<LikeKey> unlikes) {
+        final Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        final Map<LikeKey, Integer> changedRows = new HashMap<>();
+        if (!likes.isEmpty()) {
+            collect(likes, jdbcTemplate.batchUpdate(INSERT_SQL, likes.stream()
+                .map(key -> new Object[]{key.memberId(), key.targetType().name(), key.targetId(), now, now})
+                .toList()), changedRows);
+        }
+        if (!unlikes.isEmpty()) {
+            collect(unlikes, jdbcTemplate.batchUpdate(DELETE_SQL, unlikes.stream()
+                .map(key -> new Object[]{key.memberId(), key.targetType().name(), key.targetId()})
+                .toList()), changedRows);
+        }
+        return changedRows;
+    }
+
+    private void collect(final List<LikeKey> keys, final int[] counts, final Map<LikeKey, Integer> changedRows) {
+        for (int index = 0; index < keys.size(); index++) {
+            changedRows.put(keys.get(index), counts[index]);
+        }
+    }
+}
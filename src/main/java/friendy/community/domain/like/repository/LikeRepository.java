@@ -0,0 +1,12 @@
+package friendy.community.domain.like.repository;
+
+import friendy.community.domain.like.model.LikeTargetType;
+import friendy.community.domain.like.model.MemberLike;
+import friendy.community.domain.like.repository.query.LikeQueryRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface LikeRepository extends JpaRepository<MemberLike, Long>, LikeQueryRepository {
+    boolean existsByMemberIdAndTargetTypeAndTargetId(Long memberId, LikeTargetType targetType, Long targetId);
+}
@@ -0,0 +1,10 @@
+package friendy.community.domain.like.repository.query;
+
+import friendy.community.domain.like.model.LikeTargetType;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LikeQueryRepository {
+    List<Long> findLikedTargetIds(Long memberId, LikeTargetType targetType, Collection<Long> targetIds);
+}
@@ -0,0 +1,34 @@
+package friendy.community.domain.like.repository.query.impl;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import friendy.community.domain.like.model.LikeTargetType;
+import friendy.community.domain.like.repository.query.LikeQueryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static friendy.community.domain.like.model.QMemberLike.memberLike;
+
+@Repository
+@RequiredArgsConstructor
+public class LikeRepositoryImpl implements LikeQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    public List<Long> findLikedTargetIds(Long memberId, LikeTargetType targetType, Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return List.of();
+        }
+        return queryFactory
+            .select(memberLike.targetId)
+            .from(memberLike)
+            .where(
+                memberLike.member.id.eq(memberId),
+                memberLike.targetType.eq(targetType),
+                memberLike.targetId.in(targetIds)
+            )
+            .fetch();
+    }
+}
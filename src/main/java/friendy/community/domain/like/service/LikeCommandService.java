@@ -0,0 +1,52 @@
+package friendy.community.domain.like.service;
+
+import friendy.community.domain.comment.controller.code.CommentExceptionCode;
+import friendy.community.domain.comment.repository.CommentRepository;
+import friendy.community.domain.comment.repository.ReplyRepository;
+import friendy.community.domain.like.model.LikeKey;
+import friendy.community.domain.like.model.LikeTargetType;
+import friendy.community.domain.post.controller.code.PostExceptionCode;
+import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.global.exception.domain.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+public class LikeCommandService {
+
+    private final LikeWriteBuffer likeWriteBuffer;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ReplyRepository replyRepository;
+
+    public void like(final Long memberId, final LikeTargetType targetType, final Long targetId) {
+        validateTargetExists(targetType, targetId);
+        likeWriteBuffer.apply(new LikeKey(memberId, targetType, targetId), true);
+    }
+
+    public void unlike(final Long memberId, final LikeTargetType targetType, final Long targetId) {
+        validateTargetExists(targetType, targetId);
+        likeWriteBuffer.apply(new LikeKey(memberId, targetType, targetId), false);
+    }
+
+    private void validateTargetExists(final LikeTargetType targetType, final Long targetId) {
+        switch (targetType) {
+            case POST -> {
+                if (!postRepository.existsById(targetId)) {
+                    throw new NotFoundException(PostExceptionCode.POST_NOT_FOUND);
+                }
+            }
+            case COMMENT -> {
+                if (!commentRepository.existsById(targetId)) {
+                    throw new NotFoundException(CommentExceptionCode.COMMENT_NOT_FOUND);
+                }
+            }
+            case REPLY -> {
+                if (!replyRepository.existsById(targetId)) {
+                    throw new NotFoundException(CommentExceptionCode.REPLY_NOT_FOUND);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package friendy.community.domain.like.service;
+
+import friendy.community.domain.like.model.LikeTargetType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LikeQueryService {
+
+    private final LikeWriteBuffer likeWriteBuffer;
+
+    public Set<Long> getLikedTargetIds(final Long memberId, final LikeTargetType targetType, final Collection<Long> targetIds) {
+        if (targetIds.isEmpty()) {
+            return Set.of();
+        }
+        return likeWriteBuffer.findLikedTargetIds(memberId, targetType, targetIds);
+    }
+}
@@ -0,0 +1,175 @@
+package friendy.community.domain.like.service;
+
+import friendy.community.domain.counter.service.CounterService;
+import friendy.community.domain.like.model.LikeKey;
+import friendy.community.domain.like.model.LikeTargetType;
+import friendy.community.domain.like.repository.LikeBatchRepository;
+import friendy.community.domain.like.repository.LikeRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeWriteBuffer {
+
+    private static final int STRIPE_COUNT = 64;
+
+    private final LikeRepository likeRepository;
+    private final LikeBatchRepository likeBatchRepository;
+    private final CounterService counterService;
+    private final Lock[] locks = createLocks();
+    private final Map<LikeKey, PendingLike> pending = new ConcurrentHashMap<>();
+    private final Map<LikeKey, PendingLike> flushing = new ConcurrentHashMap<>();
+
+    /**
+     * 좋아요 수는 바로 보이도록 이 인스턴스가 본 상태 변화로 먼저 늘리거나 줄이고, flush 에서 실제로 바뀐 행 수에 맞춰 바로잡는다.
+     */
+    public boolean apply(final LikeKey key, final boolean liked) {
+        final Lock lock = lockOf(key);
+        lock.lock();
+        try {
+            final boolean current = isLiked(key);
+            if (current == liked) {
+                return false;
+            }
+            // 버퍼에 처음 들어오는 변경이면 지금 상태를 기준으로 삼는다
+            final PendingLike previous = pending.get(key);
+            pending.put(key, new PendingLike(liked, previous != null ? previous.initiallyLiked() : current));
+            counterService.add(key.targetType().getCounterType(), key.targetId(), liked ? 1 : -1);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Set<Long> findLikedTargetIds(final Long memberId, final LikeTargetType targetType, final Collection<Long> targetIds) {
+        // DB 보다 버퍼를 먼저 읽어야 flush 도중에도 최신 상태를 놓치지 않는다
+        final Map<Long, Boolean> buffered = new HashMap<>();
+        for (Long targetId : targetIds) {
+            final PendingLike pendingLike = findBuffered(new LikeKey(memberId, targetType, targetId));
+            if (pendingLike != null) {
+                buffered.put(targetId, pendingLike.liked());
+            }
+        }
+
+        final Set<Long> likedTargetIds = new HashSet<>(likeRepository.findLikedTargetIds(memberId, targetType, targetIds));
+        buffered.forEach((targetId, liked) -> {
+            if (liked) {
+                likedTargetIds.add(targetId);
+            } else {
+                likedTargetIds.remove(targetId);
+            }
+        });
+        return likedTargetIds;
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${friendy.like.flush-interval:1000}")
+    public void flush() {
+        // apply 가 읽은 이전 변경을 flush 가 가져간 뒤 그 기준 상태로 새 변경을 쓰지 않도록, 키마다 같은 락을 잡고 옮긴다
+        final Map<LikeKey, PendingLike> drained = new HashMap<>();
+        for (LikeKey key : pending.keySet()) {
+            final Lock lock = lockOf(key);
+            lock.lock();
+            try {
+                final PendingLike pendingLike = pending.get(key);
+                if (pendingLike != null) {
+                    flushing.put(key, pendingLike);
+                    pending.remove(key);
+                    drained.put(key, pendingLike);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        final List<LikeKey> likes = new ArrayList<>();
+        final List<LikeKey> unlikes = new ArrayList<>();
+        drained.forEach((key, pendingLike) -> (pendingLike.liked() ? likes : unlikes).add(key));
+        try {
+            final Map<LikeKey, Integer> changedRows = likeBatchRepository.applyAll(likes, unlikes);
+            drained.forEach((key, pendingLike) -> correctCount(key, pendingLike, changedRows.get(key)));
+        } catch (Exception e) {
+            log.warn("좋아요 반영 실패 - size : {}", drained.size(), e);
+            drained.forEach(this::restore);
+        } finally {
+            drained.forEach(flushing::remove);
+        }
+    }
+
+    // 다른 인스턴스가 먼저 기록했거나 재시작으로 버퍼를 잃어 미리 센 값과 실제 바뀐 행이 다르면 그 차이만큼 되돌린다
+    private void correctCount(final LikeKey key, final PendingLike pendingLike, final Integer changedRows) {
+        final int counted = pendingLike.countedDelta();
+        final int applied = changedRows == null || changedRows == Statement.SUCCESS_NO_INFO
+            ? counted
+            : Integer.signum(changedRows) * (pendingLike.liked() ? 1 : -1);
+        if (applied != counted) {
+            counterService.add(key.targetType().getCounterType(), key.targetId(), applied - counted);
+        }
+    }
+
+    // 실패한 변경 뒤에 새 변경이 쌓였다면 기준 상태는 실패한 변경의 것을 이어받는다
+    private void restore(final LikeKey key, final PendingLike failed) {
+        final Lock lock = lockOf(key);
+        lock.lock();
+        try {
+            pending.merge(key, failed, (newer, older) -> new PendingLike(newer.liked(), older.initiallyLiked()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isLiked(final LikeKey key) {
+        final PendingLike buffered = findBuffered(key);
+        if (buffered != null) {
+            return buffered.liked();
+        }
+        return likeRepository.existsByMemberIdAndTargetTypeAndTargetId(key.memberId(), key.targetType(), key.targetId());
+    }
+
+    private PendingLike findBuffered(final LikeKey key) {
+        final PendingLike pendingLike = pending.get(key);
+        return pendingLike != null ? pendingLike : flushing.get(key);
+    }
+
+    private Lock lockOf(final LikeKey key) {
+        return locks[Math.floorMod(key.hashCode(), STRIPE_COUNT)];
+    }
+
+    /**
+     * 기록할 좋아요 상태와, 버퍼에 처음 들어올 때의 상태. 둘의 차이가 좋아요 수에 미리 반영한 값이다.
+     */
+    private record PendingLike(boolean liked, boolean initiallyLiked) {
+
+        int countedDelta() {
+            return (liked ? 1 : 0) - (initiallyLiked ? 1 : 0);
+        }
+    }
+
+    private static Lock[] createLocks() {
+        final Lock[] locks = new Lock[STRIPE_COUNT];
+        for (int index = 0; index < STRIPE_COUNT; index++) {
+            locks[index] = new ReentrantLock();
+        }
+        return locks;
+    }
+}
@@ -5,7 +5,7 @@ import friendy.community.domain.member.dto.request.MemberSignUpRequest;
 import friendy.community.domain.member.dto.request.MemberUpdateRequest;
 import friendy.community.domain.member.dto.request.PasswordRequest;
 import friendy.community.domain.member.dto.response.FindMemberResponse;
-import friendy.community.domain.member.service.MemberCommandService;
+import friendy.community.domain.member.service.MemberCommandFacade;
 import friendy.community.domain.member.service.MemberQueryService;
 import friendy.community.domain.post.controller.code.PostSuccessCode;
 import friendy.community.domain.member.dto.response.FindMemberPostsResponse;
@@ -23,12 +23,12 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class MemberController implements SpringDocMemberController {
 
-    private final MemberCommandService memberCommandService;
+    private final MemberCommandFacade memberCommandFacade;
     private final MemberQueryService memberQueryService;
 
     @PostMapping("/signup")
     public ResponseEntity<FriendyResponse<Void>> signup(@Valid @RequestBody MemberSignUpRequest request) {
-        memberCommandService.signup(request);
+        memberCommandFacade.signup(request);
         FriendyResponse<Void> response = FriendyResponse.of(MemberSuccessCode.SIGN_UP_SUCCESS);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
@@ -37,7 +37,7 @@ public class MemberController implements SpringDocMemberController {
     public ResponseEntity<FriendyResponse<Void>> changePassword(
         @Valid @RequestBody PasswordRequest passwordRequest
     ) {
-        memberCommandService.changePassword(passwordRequest);
+        memberCommandFacade.changePassword(passwordRequest);
         return ResponseEntity.ok(FriendyResponse.of(MemberSuccessCode.CHANGE_PASSWORD_SUCCESS));
     }
 
@@ -57,7 +57,7 @@ public class MemberController implements SpringDocMemberController {
         @LoggedInUser FriendyUserDetails userDetails,
         @Valid @RequestBody MemberUpdateRequest request
     ) {
-        memberCommandService.updateMember(request, userDetails.getMemberId());
+        memberCommandFacade.updateMember(request, userDetails.getMemberId());
         return ResponseEntity.ok(
             FriendyResponse.of(MemberSuccessCode.UPDATE_PROFILE_SUCCESS)
         );
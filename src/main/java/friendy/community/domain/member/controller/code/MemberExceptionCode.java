@@ -12,7 +12,8 @@ public enum MemberExceptionCode implements ExceptionCode {
     DUPLICATE_NICKNAME_EXCEPTION(4102,"닉네임이 이미 존재합니다."),
     USER_NOT_FOUND_EXCEPTION(4103, "존재하지 않는 회원입니다."),
     EMAIL_NOT_FOUND_EXCEPTION(4104, "존재하지 않는 이메일입니다."),
-    INVALID_ENCRYPTION_ALGORITHM(4105, "암호화 알고리즘이 잘못 명시되었습니다.");
+    INVALID_ENCRYPTION_ALGORITHM(4105, "암호화 알고리즘이 잘못 명시되었습니다."),
+    PASSWORD_HASHING_BUSY(4106, "요청이 많아 비밀번호를 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
 
     private final int code;
     private final String message;
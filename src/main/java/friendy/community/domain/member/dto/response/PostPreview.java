@@ -6,8 +6,7 @@ public record PostPreview(
     Long id,
     String thumbnail
 ) {
-    public static PostPreview from(Post post) {
-        String image = post.getImages().isEmpty() ? null : post.getImages().get(0).getImageUrl();
-        return new PostPreview(post.getId(), image);
+    public static PostPreview from(Post post, String thumbnail) {
+        return new PostPreview(post.getId(), thumbnail);
     }
 }
@@ -0,0 +1,7 @@
+package friendy.community.domain.member.encryption;
+
+/**
+ * 비밀번호 해시와 해시에 쓴 솔트.
+ */
+public record HashedPassword(String password, String salt) {
+}
@@ -0,0 +1,68 @@
+package friendy.community.domain.member.encryption;
+
+import friendy.community.domain.member.controller.code.MemberExceptionCode;
+import friendy.community.global.exception.domain.BadRequestException;
+
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.PBEKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * PBKDF2-HMAC-SHA256 암호화기. 반복 횟수를 해시 문자열에 함께 저장하므로
+ * 작업량을 올려도 기존 해시를 그대로 검증할 수 있다.
+ * 형식 : {@code $pbkdf2-sha256$<반복 횟수>$<base64 해시>}
+ */
+public class PBKDF2PasswordEncryptor implements PasswordEncryptor {
+
+    private static final String PREFIX = "$pbkdf2-sha256$";
+    private static final String ALGORITHM = "PBKDF2WithHmacSHA256";
+    private static final int KEY_LENGTH = 256;
+
+    private final int iterations;
+
+    public PBKDF2PasswordEncryptor(final int iterations) {
+        if (iterations <= 0) {
+            throw new IllegalArgumentException("반복 횟수는 1 이상이어야 합니다.");
+        }
+        this.iterations = iterations;
+    }
+
+    @Override
+    public String encrypt(final String plainPassword, final String salt) {
+        return PREFIX + iterations + "$" + Base64.getEncoder().encodeToString(derive(plainPassword, salt, iterations));
+    }
+
+    public boolean matches(final String plainPassword, final String salt, final String encryptedPassword) {
+        final int separatorIndex = encryptedPassword.indexOf('$', PREFIX.length());
+        final byte[] expected = Base64.getDecoder().decode(encryptedPassword.substring(separatorIndex + 1));
+        return MessageDigest.isEqual(expected, derive(plainPassword, salt, iterationsOf(encryptedPassword)));
+    }
+
+    public static boolean supports(final String encryptedPassword) {
+        return encryptedPassword != null && encryptedPassword.startsWith(PREFIX);
+    }
+
+    public static int iterationsOf(final String encryptedPassword) {
+        final int separatorIndex = encryptedPassword.indexOf('$', PREFIX.length());
+        return Integer.parseInt(encryptedPassword.substring(PREFIX.length(), separatorIndex));
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    private static byte[] derive(final String plainPassword, final String salt, final int iterations) {
+        final PBEKeySpec spec = new PBEKeySpec(plainPassword.toCharArray(), salt.getBytes(StandardCharsets.UTF_8), iterations, KEY_LENGTH);
+        try {
+            // SecretKeyFactory 도 스레드 안전하지 않지만 생성 비용이 해시 비용에 비해 무시할 만하다
+            return SecretKeyFactory.getInstance(ALGORITHM).generateSecret(spec).getEncoded();
+        } catch (GeneralSecurityException e) {
+            throw new BadRequestException(MemberExceptionCode.INVALID_ENCRYPTION_ALGORITHM);
+        } finally {
+            spec.clearPassword();
+        }
+    }
+}
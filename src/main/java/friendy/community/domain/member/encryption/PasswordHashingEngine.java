@@ -0,0 +1,149 @@
+package friendy.community.domain.member.encryption;
+
+import friendy.community.domain.member.controller.code.MemberExceptionCode;
+import friendy.community.global.exception.domain.ServiceUnavailableException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 생성/검증을 담당한다.
+ * 비용이 큰 PBKDF2 연산은 크기가 제한된 전용 풀에서 실행해 로그인이 몰려도 동시에 도는 해시 수가 풀 크기를 넘지 않고,
+ * 대기열까지 가득 차면 즉시 503 으로 거절해 요청 스레드가 해시를 기다리며 쌓이지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordHashingEngine {
+
+    private static final int CALIBRATION_ITERATIONS = 10_000;
+
+    private final SHA2PasswordEncryptor legacyPasswordEncryptor;
+    @Value("${friendy.password.hash.iterations:310000}")
+    private int minIterations;
+    @Value("${friendy.password.hash.target-millis:0}")
+    private long targetMillis;
+    @Value("${friendy.password.hash.pool-size:0}")
+    private int poolSize;
+    @Value("${friendy.password.hash.queue-capacity:64}")
+    private int queueCapacity;
+    @Value("${friendy.password.hash.timeout-millis:3000}")
+    private long timeoutMillis;
+    private PBKDF2PasswordEncryptor passwordEncryptor;
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        passwordEncryptor = new PBKDF2PasswordEncryptor(calibrateIterations());
+        final int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            namedThreadFactory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+        log.info("비밀번호 해시 설정 - iterations : {}, pool-size : {}, queue-capacity : {}",
+            passwordEncryptor.getIterations(), threads, queueCapacity);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public String hash(final String plainPassword, final String salt) {
+        return execute(() -> passwordEncryptor.encrypt(plainPassword, salt));
+    }
+
+    public boolean matches(final String plainPassword, final String salt, final String encryptedPassword) {
+        if (PBKDF2PasswordEncryptor.supports(encryptedPassword)) {
+            return execute(() -> passwordEncryptor.matches(plainPassword, salt, encryptedPassword));
+        }
+        // 기존 SHA-256 해시는 비용이 작아 호출 스레드에서 바로 비교한다
+        final String legacyPassword = legacyPasswordEncryptor.encrypt(plainPassword, salt);
+        return MessageDigest.isEqual(
+            legacyPassword.getBytes(StandardCharsets.UTF_8),
+            encryptedPassword.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * 기존 SHA-256 해시이거나 현재보다 적은 반복 횟수로 만든 해시라면 다시 해시해야 한다.
+     */
+    public boolean needsUpgrade(final String encryptedPassword) {
+        return !PBKDF2PasswordEncryptor.supports(encryptedPassword)
+            || PBKDF2PasswordEncryptor.iterationsOf(encryptedPassword) < passwordEncryptor.getIterations();
+    }
+
+    private <T> T execute(final Callable<T> task) {
+        final Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("비밀번호 해시 대기열 초과 - active : {}, queued : {}", executor.getActiveCount(), executor.getQueue().size());
+            throw new ServiceUnavailableException(MemberExceptionCode.PASSWORD_HASHING_BUSY);
+        }
+
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ServiceUnavailableException(MemberExceptionCode.PASSWORD_HASHING_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(MemberExceptionCode.PASSWORD_HASHING_BUSY);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 목표 시간이 주어지면 현재 장비에서 해시 한 번이 그 시간만큼 걸리도록 반복 횟수를 정한다.
+     * 설정한 반복 횟수보다 낮아지지는 않는다.
+     */
+    private int calibrateIterations() {
+        if (targetMillis <= 0) {
+            return minIterations;
+        }
+        final PBKDF2PasswordEncryptor probe = new PBKDF2PasswordEncryptor(CALIBRATION_ITERATIONS);
+        probe.encrypt("calibration", "calibration");
+        final long startedAt = System.nanoTime();
+        probe.encrypt("calibration", "calibration");
+        final long elapsedNanos = Math.max(1, System.nanoTime() - startedAt);
+
+        final long calibrated = CALIBRATION_ITERATIONS * TimeUnit.MILLISECONDS.toNanos(targetMillis) / elapsedNanos;
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(minIterations, calibrated));
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        final AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
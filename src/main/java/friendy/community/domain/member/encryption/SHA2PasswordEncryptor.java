@@ -4,27 +4,51 @@ import friendy.community.domain.member.controller.code.MemberExceptionCode;
 import friendy.community.global.exception.domain.BadRequestException;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
+/**
+ * 기존 SHA-256 해시 검증용 암호화기. 새 비밀번호는 {@link PBKDF2PasswordEncryptor} 로 저장한다.
+ */
 @Component
 public class SHA2PasswordEncryptor implements PasswordEncryptor {
 
-    private final MessageDigest digest;
+    private static final String ALGORITHM = "SHA-256";
+
+    // MessageDigest 는 스레드 안전하지 않으므로 요청마다 풀에서 빌려 쓰고 돌려준다
+    private final Queue<MessageDigest> digests = new ConcurrentLinkedQueue<>();
 
     public SHA2PasswordEncryptor() {
-        try {
-            digest = MessageDigest.getInstance("SHA-256");
-        } catch (NoSuchAlgorithmException e) {
-            throw new BadRequestException(MemberExceptionCode.INVALID_ENCRYPTION_ALGORITHM);
-        }
+        digests.offer(createDigest());
     }
 
     @Override
     public String encrypt(String plainPassword, String salt) {
-        String passwordWithSalt = plainPassword + salt;
-        byte[] encryptByte = digest.digest(passwordWithSalt.getBytes());
-        return Base64.getEncoder().encodeToString(encryptByte);
+        final MessageDigest digest = borrowDigest();
+        try {
+            final String passwordWithSalt = plainPassword + salt;
+            final byte[] encryptByte = digest.digest(passwordWithSalt.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(encryptByte);
+        } finally {
+            digest.reset();
+            digests.offer(digest);
+        }
+    }
+
+    private MessageDigest borrowDigest() {
+        final MessageDigest digest = digests.poll();
+        return digest != null ? digest : createDigest();
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new BadRequestException(MemberExceptionCode.INVALID_ENCRYPTION_ALGORITHM);
+        }
     }
 }
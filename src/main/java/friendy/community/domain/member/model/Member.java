@@ -4,6 +4,7 @@ import friendy.community.domain.common.BaseEntity;
 import friendy.community.domain.member.dto.request.MemberSignUpRequest;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 
@@ -36,6 +37,15 @@ public class Member extends BaseEntity {
     @JoinColumn(name = "member_image_id")
     private MemberImage memberImage;
 
+    // 팔로우/언팔로우 트랜잭션에서 SQL 로 바로 증감하므로 엔티티 변경 감지로는 덮어쓰지 않는다
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Integer followerCount;
+
+    @Column(nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Integer followingCount;
+
     public void changePassword(final String password, final String salt) {
         this.password = password;
         this.salt = salt;
@@ -60,6 +70,8 @@ public class Member extends BaseEntity {
         this.password = encryptedPassword;
         this.salt = salt;
         this.birthDate = request.birthDate();
+        this.followerCount = 0;
+        this.followingCount = 0;
     }
 
     public static Member of(final MemberSignUpRequest request, final String encryptedPassword, final String salt) {
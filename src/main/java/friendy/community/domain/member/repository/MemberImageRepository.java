@@ -0,0 +1,17 @@
+package friendy.community.domain.member.repository;
+
+import friendy.community.domain.member.model.MemberImage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MemberImageRepository extends JpaRepository<MemberImage, Long> {
+
+    @Query("select mi.s3Key from MemberImage mi where mi.s3Key in :s3Keys")
+    List<String> findS3KeysIn(@Param("s3Keys") Collection<String> s3Keys);
+}
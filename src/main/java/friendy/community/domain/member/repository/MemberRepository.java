@@ -2,8 +2,14 @@ package friendy.community.domain.member.repository;
 
 import friendy.community.domain.member.model.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,4 +22,55 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByEmail(String email);
 
     Optional<Long> findIdByEmail(String email);
+
+    @Query("SELECT m FROM Member m LEFT JOIN FETCH m.memberImage WHERE m.id IN :memberIds ORDER BY m.id")
+    List<Member> findAllWithImageByIdIn(@Param("memberIds") Collection<Long> memberIds);
+
+    @Modifying
+    @Query("UPDATE Member m SET m.followerCount = m.followerCount + 1 WHERE m.id = :memberId")
+    int increaseFollowerCount(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("UPDATE Member m SET m.followerCount = m.followerCount - 1 WHERE m.id = :memberId AND m.followerCount > 0")
+    int decreaseFollowerCount(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("UPDATE Member m SET m.followingCount = m.followingCount + 1 WHERE m.id = :memberId")
+    int increaseFollowingCount(@Param("memberId") Long memberId);
+
+    @Modifying
+    @Query("UPDATE Member m SET m.followingCount = m.followingCount - 1 WHERE m.id = :memberId AND m.followingCount > 0")
+    int decreaseFollowingCount(@Param("memberId") Long memberId);
+
+    /**
+     * 비밀번호 해시를 바꾼다. 그 사이 비밀번호가 바뀌었으면 덮어쓰지 않는다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :password WHERE m.id = :memberId AND m.password = :previousPassword")
+    int upgradePassword(
+        @Param("memberId") Long memberId,
+        @Param("previousPassword") String previousPassword,
+        @Param("password") String password
+    );
+
+    @Query("SELECT MAX(m.id) FROM Member m")
+    Optional<Long> findMaxId();
+
+    /**
+     * id 구간 안에서 저장된 팔로우 수가 실제 팔로우 행 수와 다른 회원만 다시 센 값으로 고친다.
+     *
+     * @return 고친 회원 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE member m
+        SET follower_count = (SELECT COUNT(*) FROM follow f WHERE f.following_id = m.id),
+            following_count = (SELECT COUNT(*) FROM follow f WHERE f.follower_id = m.id)
+        WHERE m.id BETWEEN :fromId AND :toId
+          AND (m.follower_count <> (SELECT COUNT(*) FROM follow f WHERE f.following_id = m.id)
+            OR m.following_count <> (SELECT COUNT(*) FROM follow f WHERE f.follower_id = m.id))
+        """, nativeQuery = true)
+    int reconcileFollowCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
 }
@@ -0,0 +1,79 @@
+package friendy.community.domain.member.service;
+
+import friendy.community.domain.member.dto.request.MemberSignUpRequest;
+import friendy.community.domain.member.dto.request.MemberUpdateRequest;
+import friendy.community.domain.member.dto.request.PasswordRequest;
+import friendy.community.domain.member.encryption.HashedPassword;
+import friendy.community.domain.member.encryption.PasswordHashingEngine;
+import friendy.community.domain.member.encryption.SaltGenerator;
+import friendy.community.domain.member.model.MemberImage;
+import friendy.community.domain.upload.service.S3ObjectMover;
+import friendy.community.domain.upload.service.S3service;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 비밀번호 해시와, 프로필 이미지를 profile 디렉터리로 옮기고 형식을 확인하는 S3/메타데이터 작업을 트랜잭션 밖에서 먼저 끝낸 뒤 DB 작업을 한다.
+ * 해시를 기다리는 동안 커넥션을 잡지 않고, 옮긴 객체의 기록은 별도 트랜잭션으로 남기므로 회원 트랜잭션이 커넥션을 잡은 채 두 번째 커넥션을 기다리지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MemberCommandFacade {
+
+    private static final String PROFILE_DIR = "profile";
+
+    private final MemberCommandService memberCommandService;
+    private final S3ObjectMover s3ObjectMover;
+    private final S3service s3service;
+    private final SaltGenerator saltGenerator;
+    private final PasswordHashingEngine passwordHashingEngine;
+
+    // 해시가 밀려 거절되면 S3 객체를 옮기기 전에 끝나도록 먼저 해시한다
+    public Long signup(final MemberSignUpRequest request) {
+        final HashedPassword hashedPassword = hash(request.password());
+        if (request.imageUrl() == null) {
+            return memberCommandService.signup(request, hashedPassword, null);
+        }
+        return withProfileImage(request.imageUrl(), memberImage -> memberCommandService.signup(request, hashedPassword, memberImage));
+    }
+
+    public void updateMember(final MemberUpdateRequest request, final Long memberId) {
+        if (request.imageUrl() == null) {
+            memberCommandService.updateMember(request, memberId, null);
+            return;
+        }
+        withProfileImage(request.imageUrl(), memberImage -> {
+            memberCommandService.updateMember(request, memberId, memberImage);
+            return null;
+        });
+    }
+
+    public void changePassword(final PasswordRequest request) {
+        memberCommandService.changePassword(request.email(), hash(request.newPassword()));
+    }
+
+    private HashedPassword hash(final String password) {
+        final String salt = saltGenerator.generate();
+        return new HashedPassword(passwordHashingEngine.hash(password, salt), salt);
+    }
+
+    // 트랜잭션이 실패하면 새로 복사한 객체를 지워 되돌린다
+    private <T> T withProfileImage(final String imageUrl, final Function<MemberImage, T> transaction) {
+        final List<String> imageUrls = List.of(imageUrl);
+        final List<String> movedUrls = s3ObjectMover.moveAll(imageUrls, PROFILE_DIR);
+        try {
+            return transaction.apply(toMemberImage(movedUrls.get(0)));
+        } catch (RuntimeException e) {
+            s3ObjectMover.deleteMoved(imageUrls, movedUrls);
+            throw e;
+        }
+    }
+
+    private MemberImage toMemberImage(final String imageUrl) {
+        final String s3Key = s3service.extractFilePath(imageUrl);
+        return MemberImage.of(imageUrl, s3Key, s3service.getContentTypeFromS3(s3Key));
+    }
+}
@@ -2,69 +2,82 @@ package friendy.community.domain.member.service;
 
 import friendy.community.domain.member.dto.request.MemberSignUpRequest;
 import friendy.community.domain.member.dto.request.MemberUpdateRequest;
-import friendy.community.domain.member.dto.request.PasswordRequest;
-import friendy.community.domain.member.encryption.PasswordEncryptor;
-import friendy.community.domain.member.encryption.SaltGenerator;
+import friendy.community.domain.member.encryption.HashedPassword;
 import friendy.community.domain.member.model.Member;
 import friendy.community.domain.member.model.MemberImage;
 import friendy.community.domain.member.repository.MemberRepository;
-import friendy.community.domain.upload.service.S3service;
+import friendy.community.domain.upload.event.ImageStoredEvent;
+import friendy.community.domain.upload.service.ImageVariantService;
+import friendy.community.domain.upload.service.S3DeletionOutboxService;
+import friendy.community.domain.upload.service.StoredContentService;
+import friendy.community.global.security.AuthenticationCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class MemberCommandService {
 
     private final MemberRepository memberRepository;
-    private final SaltGenerator saltGenerator;
-    private final PasswordEncryptor passwordEncryptor;
-    private final S3service s3service;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
     private final MemberDomainService memberDomainService;
+    private final AuthenticationCache authenticationCache;
+    private final ImageVariantService imageVariantService;
+    private final StoredContentService storedContentService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public Long signup(MemberSignUpRequest request) {
-        final String salt = saltGenerator.generate();
-        final String encryptedPassword = passwordEncryptor.encrypt(request.password(), salt);
+    /**
+     * 비밀번호 해시와 프로필 이미지는 MemberCommandFacade 가 트랜잭션 전에 만들고 옮겨 둔다. 이미지 없이 가입하면 null 이다.
+     */
+    public Long signup(MemberSignUpRequest request, HashedPassword hashedPassword, MemberImage memberImage) {
         memberDomainService.validateUniqueMemberAttributes(request.email(), request.nickname());
-        Member member = new Member(request, encryptedPassword, salt);
+        Member member = new Member(request, hashedPassword.password(), hashedPassword.salt());
 
-        if (request.imageUrl() != null) {
-            MemberImage memberImage = saveProfileImage(request.imageUrl());
-            member.updateMemberImage(memberImage);
+        if (memberImage != null) {
+            member.updateMemberImage(acquireProfileImage(memberImage));
         }
         memberRepository.save(member);
         return member.getId();
     }
 
-    public void updateMember(final MemberUpdateRequest request, final Long memberId) {
+    public void updateMember(final MemberUpdateRequest request, final Long memberId, final MemberImage memberImage) {
         Member member = memberDomainService.getMemberById(memberId);
 
         member.updateMember(request.nickname(),request.birthDate());
 
-        if (request.imageUrl() != null) {
-            s3service.deleteFromS3(member.getMemberImage().getS3Key());
-            MemberImage newImage = saveProfileImage(request.imageUrl());
-            member.updateMemberImage(newImage);
+        if (memberImage != null) {
+            MemberImage oldImage = member.getMemberImage();
+            // 같은 내용을 게시글 등에서 함께 쓰고 있으면 객체는 남긴다
+            List<String> releasedUrls = storedContentService.release(List.of(oldImage.getImageUrl()));
+            if (!releasedUrls.isEmpty()) {
+                List<String> s3Keys = new ArrayList<>(List.of(oldImage.getS3Key()));
+                s3Keys.addAll(imageVariantService.removeVariants(releasedUrls));
+                s3DeletionOutboxService.enqueue(s3Keys);
+            }
+            member.updateMemberImage(acquireProfileImage(memberImage));
         }
         memberRepository.save(member);
     }
 
-    public void changePassword(PasswordRequest request) {
-        Member member =  memberDomainService.getMemberByEmail(request.email());
-        final String salt = saltGenerator.generate();
-        final String encryptedPassword = passwordEncryptor.encrypt(request.newPassword(), salt);
+    public void changePassword(String email, HashedPassword hashedPassword) {
+        Member member =  memberDomainService.getMemberByEmail(email);
 
-        member.changePassword(encryptedPassword, salt);
+        member.changePassword(hashedPassword.password(), hashedPassword.salt());
         memberRepository.save(member);
+        authenticationCache.evictMember(member.getEmail());
     }
 
-    public MemberImage saveProfileImage(String imageUrl) {
-        String movedUrl = s3service.moveS3Object(imageUrl, "profile");
-        String s3Key = s3service.extractFilePath(movedUrl);
-        String fileType = s3service.getContentTypeFromS3(s3Key);
-        return MemberImage.of(movedUrl, s3Key, fileType);
+    // 파생 이미지는 커밋 이후에 만든다
+    private MemberImage acquireProfileImage(MemberImage memberImage) {
+        storedContentService.acquire(memberImage.getImageUrl());
+        eventPublisher.publishEvent(new ImageStoredEvent(memberImage.getImageUrl()));
+        return memberImage;
     }
 
 }
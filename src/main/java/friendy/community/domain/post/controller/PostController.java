@@ -6,7 +6,9 @@ import friendy.community.domain.post.dto.request.PostUpdateRequest;
 import friendy.community.domain.post.dto.response.FindAllPostResponse;
 import friendy.community.domain.post.dto.response.FindPostResponse;
 import friendy.community.domain.post.dto.response.PostIdResponse;
+import friendy.community.domain.post.service.PostCommandFacade;
 import friendy.community.domain.post.service.PostCommandService;
+import friendy.community.domain.post.service.PostFeedService;
 import friendy.community.domain.post.service.PostQueryService;
 import friendy.community.global.response.FriendyResponse;
 import friendy.community.global.security.FriendyUserDetails;
@@ -24,14 +26,16 @@ import org.springframework.web.bind.annotation.*;
 public class PostController implements SpringDocPostController {
 
     private final PostCommandService postCommandService;
+    private final PostCommandFacade postCommandFacade;
     private final PostQueryService postQueryService;
+    private final PostFeedService postFeedService;
 
     @PostMapping
     public ResponseEntity<FriendyResponse<Void>> createPost(
         @LoggedInUser FriendyUserDetails userDetails,
         @Valid @RequestBody PostCreateRequest postCreateRequest
     ) {
-        postCommandService.savePost(postCreateRequest, userDetails.getMemberId());
+        postCommandFacade.savePost(postCreateRequest, userDetails.getMemberId());
         return ResponseEntity.status(HttpStatus.CREATED)
             .body(FriendyResponse.of(PostSuccessCode.CREATE_POST_SUCCESS));
     }
@@ -43,7 +47,7 @@ public class PostController implements SpringDocPostController {
         @Valid @RequestBody PostUpdateRequest postUpdateRequest
     ) {
         return ResponseEntity.ok(FriendyResponse.of(PostSuccessCode.UPDATE_POST_SUCCESS,
-            postCommandService.updatePost(postUpdateRequest, userDetails.getMemberId(), postId)));
+            postCommandFacade.updatePost(postUpdateRequest, userDetails.getMemberId(), postId)));
     }
 
     @DeleteMapping("/{postId}")
@@ -74,4 +78,14 @@ public class PostController implements SpringDocPostController {
             PostSuccessCode.GET_ALL_POSTS_SUCCESS,
             postQueryService.getPostsByLastId(lastPostId, userDetails.getMemberId())));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/feed")
+    public ResponseEntity<FriendyResponse<FindAllPostResponse>> getFeed(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @RequestParam(required = false) Long lastPostId
+    ) {
+        return ResponseEntity.ok(FriendyResponse.of(
+            PostSuccessCode.GET_FEED_SUCCESS,
+            postFeedService.getFeed(userDetails.getMemberId(), lastPostId)));
+    }
+}
@@ -103,4 +103,18 @@ public interface    SpringDocPostController {
         @AuthenticationPrincipal FriendyUserDetails userDetails,
         @RequestParam(required = false) Long lastPostId
     );
-}
\ No newline at end of file
+
+    @Operation(summary = "피드 조회", description = "팔로우한 회원들의 게시글을 최신순으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "피드 조회 성공")
+    @ApiErrorResponse(status = HttpStatus.NOT_FOUND, instance = "/posts/feed", errorCases = {
+        @ErrorCase(description = "게시글이 없습니다.", exampleMessage = "게시글이 없습니다.")
+    })
+    @ApiErrorResponse(status = HttpStatus.UNAUTHORIZED, instance = "/posts/feed", errorCases = {
+        @ErrorCase(description = "액세스 토큰 추출 실패", exampleMessage = "인증 실패(액세스 토큰 추출 실패) - 토큰 : {token}"),
+        @ErrorCase(description = "JWT 액세스 토큰 Payload 이메일 누락", exampleMessage = "인증 실패(JWT 액세스 토큰 Payload 이메일 누락) - 토큰 : {token}")
+    })
+    ResponseEntity<FriendyResponse<FindAllPostResponse>> getFeed(
+        @LoggedInUser FriendyUserDetails userDetails,
+        @RequestParam(required = false) Long lastPostId
+    );
+}
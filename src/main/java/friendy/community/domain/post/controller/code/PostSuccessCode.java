@@ -13,7 +13,8 @@ public enum PostSuccessCode implements ApiCode {
     DELETE_POST_SUCCESS(1403, "게시글 삭제 성공"),
     GET_POST_SUCCESS(1404, "게시글 조회 성공"),
     GET_ALL_POSTS_SUCCESS(1405, "게시글 목록 조회 성공"),
-    GET_MEMBER_POSTS_SUCCESS(1406, "특정 멤버 게시글 목록 조회 성공");
+    GET_MEMBER_POSTS_SUCCESS(1406, "특정 멤버 게시글 목록 조회 성공"),
+    GET_FEED_SUCCESS(1407, "피드 조회 성공");
 
     private final int code;
     private final String message;
@@ -7,14 +7,15 @@ public record FindMemberResponse(
     String nickname,
     String profileImageUrl
 ) {
+    private static final String DEFAULT_PROFILE_IMAGE_URL = "https://friendybucket.s3.us-east-2.amazonaws.com/defaultimages/image.png";
+
     public static FindMemberResponse from(Member member) {
-        String profileImage;
+        return from(member, member.getMemberImage() == null ? null : member.getMemberImage().getImageUrl());
+    }
 
-        if (member.getMemberImage() == null) {
-            profileImage = "https://friendybucket.s3.us-east-2.amazonaws.com/defaultimages/image.png";
-        } else {
-            profileImage = member.getMemberImage().getImageUrl();
-        }
+    // 목록에서는 원본 대신 고른 파생 이미지 URL 을 넘긴다
+    public static FindMemberResponse from(Member member, String profileImageUrl) {
+        String profileImage = profileImageUrl == null ? DEFAULT_PROFILE_IMAGE_URL : profileImageUrl;
         return new FindMemberResponse(member.getId(), member.getNickname(), profileImage);
     }
 }
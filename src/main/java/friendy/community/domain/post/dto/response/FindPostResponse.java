@@ -1,12 +1,10 @@
 package friendy.community.domain.post.dto.response;
 
 import friendy.community.domain.post.model.Post;
-import friendy.community.domain.post.model.PostImage;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public record FindPostResponse(
         Long id,
@@ -18,18 +16,18 @@ public record FindPostResponse(
         int shareCount,
         FindMemberResponse authorResponse,
         List<String> imageUrls,
-        Boolean me
+        List<String> hashtags,
+        Boolean me,
+        Boolean liked
 ) {
 
-    public static FindPostResponse from(Post post, Boolean me) {
-        List<String> imageUrls = post.getImages().stream()
-            .map(PostImage::getImageUrl)
-            .collect(Collectors.toList());
-
-        if (imageUrls.isEmpty()) {
-            imageUrls = List.of();
-        }
+    public static FindPostResponse from(Post post, List<String> imageUrls, List<String> hashtags, Boolean me, Boolean liked) {
+        return from(post, imageUrls, hashtags, me, liked, FindMemberResponse.from(post.getMember()));
+    }
 
+    public static FindPostResponse from(
+        Post post, List<String> imageUrls, List<String> hashtags, Boolean me, Boolean liked, FindMemberResponse authorResponse
+    ) {
         return new FindPostResponse(
             post.getId(),
             post.getContent(),
@@ -38,9 +36,11 @@ public record FindPostResponse(
             post.getLikeCount(),
             post.getCommentCount(),
             post.getShareCount(),
-            FindMemberResponse.from(post.getMember()),
-            imageUrls, 
-            me
+            authorResponse,
+            imageUrls,
+            hashtags,
+            me,
+            liked
         );
     }
 
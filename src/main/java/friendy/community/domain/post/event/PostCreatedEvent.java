@@ -0,0 +1,7 @@
+package friendy.community.domain.post.event;
+
+public record PostCreatedEvent(
+    Long postId,
+    Long authorId
+) {
+}
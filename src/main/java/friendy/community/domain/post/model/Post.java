@@ -34,15 +34,15 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private String location;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer likeCount;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer commentCount;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     @ColumnDefault("0")
     private Integer shareCount;
 
@@ -71,8 +71,4 @@ public class Post extends BaseEntity {
         this.content = postUpdateRequest.content();
         this.location = postUpdateRequest.location();
     }
-
-    public void updateCommentCount(final Integer commentCount) {
-        this.commentCount = commentCount;
-    }
 }
\ No newline at end of file
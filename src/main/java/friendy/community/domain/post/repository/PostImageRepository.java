@@ -2,11 +2,17 @@ package friendy.community.domain.post.repository;
 
 import friendy.community.domain.post.model.PostImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface PostImageRepository extends JpaRepository<PostImage, Long> {
     List<PostImage>  findByPostIdOrderByImageOrderAsc(Long postId);
+
+    @Query("select pi.imageUrl from PostImage pi where pi.imageUrl in :imageUrls")
+    List<String> findImageUrlsIn(@Param("imageUrls") Collection<String> imageUrls);
 }
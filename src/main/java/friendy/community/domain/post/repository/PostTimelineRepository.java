@@ -0,0 +1,103 @@
+package friendy.community.domain.post.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class PostTimelineRepository {
+
+    private static final String TIMELINE_KEY_PREFIX = "timeline:";
+    private static final String FAN_OUT_ON_READ_AUTHORS_KEY = "timeline:fan-out-on-read";
+
+    private final StringRedisTemplate redisTemplate;
+    @Value("${friendy.feed.timeline-size:800}")
+    private int timelineSize;
+
+    public void pushAll(final Collection<Long> memberIds, final Long postId) {
+        final String value = String.valueOf(postId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            final StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long memberId : memberIds) {
+                final String key = timelineKey(memberId);
+                stringConnection.zAdd(key, postId, value);
+                stringConnection.zRemRange(key, 0, -(timelineSize + 1));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 여러 게시글을 회원들의 타임라인에 한 번에 넣는다. 팔로우 직후나 읽기 시점 병합을 해제할 때 지난 게시글을 채우는 데 쓴다.
+     */
+    public void backfill(final Collection<Long> memberIds, final Collection<Long> postIds) {
+        if (memberIds.isEmpty() || postIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            final StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long memberId : memberIds) {
+                final String key = timelineKey(memberId);
+                for (Long postId : postIds) {
+                    stringConnection.zAdd(key, postId, String.valueOf(postId));
+                }
+                stringConnection.zRemRange(key, 0, -(timelineSize + 1));
+            }
+            return null;
+        });
+    }
+
+    public List<Long> findPostIds(final Long memberId, final Long lastPostId, final int size) {
+        final double max = lastPostId != null ? lastPostId - 1 : Double.POSITIVE_INFINITY;
+        final Set<String> postIds = redisTemplate.opsForZSet()
+            .reverseRangeByScore(timelineKey(memberId), Double.NEGATIVE_INFINITY, max, 0, size);
+        if (postIds == null) {
+            return List.of();
+        }
+        return postIds.stream()
+            .map(Long::valueOf)
+            .toList();
+    }
+
+    public void removeAll(final Long memberId, final Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForZSet().remove(timelineKey(memberId), postIds.stream().map(String::valueOf).toArray());
+    }
+
+    public void markFanOutOnRead(final Long authorId) {
+        redisTemplate.opsForSet().add(FAN_OUT_ON_READ_AUTHORS_KEY, String.valueOf(authorId));
+    }
+
+    public void unmarkFanOutOnRead(final Long authorId) {
+        redisTemplate.opsForSet().remove(FAN_OUT_ON_READ_AUTHORS_KEY, String.valueOf(authorId));
+    }
+
+    public boolean isFanOutOnRead(final Long authorId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(FAN_OUT_ON_READ_AUTHORS_KEY, String.valueOf(authorId)));
+    }
+
+    public Set<Long> findFanOutOnReadAuthorIds() {
+        final Set<String> authorIds = redisTemplate.opsForSet().members(FAN_OUT_ON_READ_AUTHORS_KEY);
+        if (authorIds == null) {
+            return Set.of();
+        }
+        return authorIds.stream()
+            .map(Long::valueOf)
+            .collect(Collectors.toSet());
+    }
+
+    private String timelineKey(final Long memberId) {
+        return TIMELINE_KEY_PREFIX + memberId;
+    }
+}
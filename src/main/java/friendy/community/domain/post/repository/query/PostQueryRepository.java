@@ -1,11 +1,18 @@
 package friendy.community.domain.post.repository.query;
 
 import friendy.community.domain.post.model.Post;
+
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PostQueryRepository {
     Optional<Post> findPostById(Long postId);
     List<Post> findPostsByLastId(Long lastPostId, int size);
     List<Post> findPostsByMemberId(Long memberId, Long lastPostId);
+    List<Long> findPostIdsByMemberIds(Collection<Long> memberIds, Long lastPostId, int size);
+    List<Post> findPostsByIds(Collection<Long> postIds);
+    Map<Long, List<String>> findImageUrlsByPostIds(Collection<Long> postIds);
+    Map<Long, List<String>> findHashtagNamesByPostIds(Collection<Long> postIds);
 }
@@ -1,16 +1,24 @@
 package friendy.community.domain.post.repository.query.impl;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import friendy.community.domain.hashtag.model.QHashtag;
 import friendy.community.domain.member.model.QMember;
+import friendy.community.domain.member.model.QMemberImage;
 import friendy.community.domain.post.model.Post;
 import friendy.community.domain.post.model.QPost;
+import friendy.community.domain.post.model.QPostHashtag;
 import friendy.community.domain.post.model.QPostImage;
 import friendy.community.domain.post.repository.query.PostQueryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
@@ -22,32 +30,85 @@ public class PostRepositoryImpl implements PostQueryRepository {
         return Optional.ofNullable(
             queryFactory.selectFrom(QPost.post)
                 .leftJoin(QPost.post.member, QMember.member).fetchJoin()
+                .leftJoin(QMember.member.memberImage, QMemberImage.memberImage).fetchJoin()
                 .leftJoin(QPost.post.images, QPostImage.postImage).fetchJoin()
                 .where(QPost.post.id.eq(postId))
+                .orderBy(QPostImage.postImage.imageOrder.asc())
                 .fetchOne()
         );
     }
 
     public List<Post> findPostsByLastId(Long lastPostId, int size) {
-        return queryFactory.selectFrom(QPost.post)
-            .leftJoin(QPost.post.member, QMember.member).fetchJoin()
-            .leftJoin(QPost.post.images, QPostImage.postImage).fetchJoin()
+        List<Long> postIds = queryFactory.select(QPost.post.id)
+            .from(QPost.post)
             .where(lastPostId != null ? QPost.post.id.lt(lastPostId) : null)
             .orderBy(QPost.post.id.desc())
             .limit(size + 1)
             .fetch();
+
+        return findPostsByIds(postIds);
     }
 
     public List<Post> findPostsByMemberId(Long memberId, Long lastPostId) {
-        return queryFactory.selectFrom(QPost.post)
-            .leftJoin(QPost.post.member, QMember.member).fetchJoin()
-            .leftJoin(QPost.post.images, QPostImage.postImage).fetchJoin()
+        return findPostsByIds(findPostIdsByMemberIds(List.of(memberId), lastPostId, 13));
+    }
+
+    public List<Long> findPostIdsByMemberIds(Collection<Long> memberIds, Long lastPostId, int size) {
+        return queryFactory.select(QPost.post.id)
+            .from(QPost.post)
             .where(
-                QMember.member.id.eq(memberId)
-                    .and(lastPostId != null ? QPost.post.id.lt(lastPostId) : null)
+                QPost.post.member.id.in(memberIds),
+                lastPostId != null ? QPost.post.id.lt(lastPostId) : null
             )
             .orderBy(QPost.post.id.desc())
-            .limit(13)
+            .limit(size)
+            .fetch();
+    }
+
+    public List<Post> findPostsByIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return queryFactory.selectFrom(QPost.post)
+            .join(QPost.post.member, QMember.member).fetchJoin()
+            .leftJoin(QMember.member.memberImage, QMemberImage.memberImage).fetchJoin()
+            .where(QPost.post.id.in(postIds))
+            .orderBy(QPost.post.id.desc())
             .fetch();
     }
+
+    public Map<Long, List<String>> findImageUrlsByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Tuple> rows = queryFactory.select(QPostImage.postImage.post.id, QPostImage.postImage.imageUrl)
+            .from(QPostImage.postImage)
+            .where(QPostImage.postImage.post.id.in(postIds))
+            .orderBy(QPostImage.postImage.imageOrder.asc())
+            .fetch();
+
+        return rows.stream()
+            .collect(Collectors.groupingBy(
+                row -> row.get(QPostImage.postImage.post.id),
+                Collectors.mapping(row -> row.get(QPostImage.postImage.imageUrl), Collectors.toList())
+            ));
+    }
+
+    public Map<Long, List<String>> findHashtagNamesByPostIds(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Tuple> rows = queryFactory.select(QPostHashtag.postHashtag.post.id, QHashtag.hashtag.name)
+            .from(QPostHashtag.postHashtag)
+            .join(QPostHashtag.postHashtag.hashtag, QHashtag.hashtag)
+            .where(QPostHashtag.postHashtag.post.id.in(postIds))
+            .orderBy(QHashtag.hashtag.id.asc())
+            .fetch();
+
+        return rows.stream()
+            .collect(Collectors.groupingBy(
+                row -> row.get(QPostHashtag.postHashtag.post.id),
+                Collectors.mapping(row -> row.get(QHashtag.hashtag.name), Collectors.toList())
+            ));
+    }
 }
@@ -0,0 +1,72 @@
+package friendy.community.domain.post.service;
+
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.dto.request.PostUpdateRequest;
+import friendy.community.domain.post.dto.response.PostIdResponse;
+import friendy.community.domain.upload.service.S3ObjectMover;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 이미지를 post 디렉터리로 옮기는 S3 복사를 트랜잭션 밖에서 병렬로 먼저 끝낸 뒤 DB 작업을 한다.
+ * 복사하는 동안 DB 커넥션을 잡고 있지 않고, 트랜잭션이 실패하면 복사한 객체를 지워 되돌린다.
+ * 단계별 소요 시간은 friendy.post.write 타이머(operation, stage 태그)로 남긴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PostCommandFacade {
+
+    static final String STAGE_METRIC = "friendy.post.write";
+    private static final String IMAGE_DIR = "post";
+
+    private final PostCommandService postCommandService;
+    private final S3ObjectMover s3ObjectMover;
+    private final MeterRegistry meterRegistry;
+
+    public long savePost(final PostCreateRequest request, final Long memberId) {
+        final List<String> imageUrls = request.imageUrls();
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return record("save", "transaction", () -> postCommandService.savePost(request, memberId));
+        }
+
+        final List<String> movedUrls = record("save", "image-move", () -> s3ObjectMover.moveAll(imageUrls, IMAGE_DIR));
+        final PostCreateRequest movedRequest = new PostCreateRequest(
+            request.content(), request.hashtags(), movedUrls, request.location());
+        try {
+            return record("save", "transaction", () -> postCommandService.savePost(movedRequest, memberId));
+        } catch (RuntimeException e) {
+            record("save", "compensation", () -> compensate(imageUrls, movedUrls));
+            throw e;
+        }
+    }
+
+    public PostIdResponse updatePost(final PostUpdateRequest request, final Long memberId, final Long postId) {
+        final List<String> imageUrls = request.imageUrls();
+        if (imageUrls == null || imageUrls.isEmpty()) {
+            return record("update", "transaction", () -> postCommandService.updatePost(request, memberId, postId));
+        }
+
+        final List<String> movedUrls = record("update", "image-move", () -> s3ObjectMover.moveAll(imageUrls, IMAGE_DIR));
+        final PostUpdateRequest movedRequest = new PostUpdateRequest(
+            request.content(), request.hashtags(), movedUrls, request.location());
+        try {
+            return record("update", "transaction", () -> postCommandService.updatePost(movedRequest, memberId, postId));
+        } catch (RuntimeException e) {
+            record("update", "compensation", () -> compensate(imageUrls, movedUrls));
+            throw e;
+        }
+    }
+
+    private Void compensate(final List<String> imageUrls, final List<String> movedUrls) {
+        s3ObjectMover.deleteMoved(imageUrls, movedUrls);
+        return null;
+    }
+
+    private <T> T record(final String operation, final String stage, final Supplier<T> task) {
+        return meterRegistry.timer(STAGE_METRIC, "operation", operation, "stage", stage).record(task);
+    }
+}
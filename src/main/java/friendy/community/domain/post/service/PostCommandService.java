@@ -7,9 +7,11 @@ import friendy.community.domain.member.service.MemberDomainService;
 import friendy.community.domain.post.dto.request.PostCreateRequest;
 import friendy.community.domain.post.dto.request.PostUpdateRequest;
 import friendy.community.domain.post.dto.response.PostIdResponse;
+import friendy.community.domain.post.event.PostCreatedEvent;
 import friendy.community.domain.post.model.Post;
 import friendy.community.domain.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class PostCommandService {
     private final PostImageService postImageService;
     private final HashtagService hashtagService;
     private final MemberDomainService memberDomainService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public long savePost(final PostCreateRequest request, final Long memberId) {
         final Member member = memberDomainService.getMemberById(memberId);
@@ -33,7 +36,7 @@ public class PostCommandService {
         }
         postRepository.save(post);
         hashtagService.saveHashtags(post, request.hashtags());
-
+        eventPublisher.publishEvent(new PostCreatedEvent(post.getId(), memberId));
 
         return post.getId();
     }
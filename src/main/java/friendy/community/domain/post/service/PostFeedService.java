@@ -0,0 +1,199 @@
+package friendy.community.domain.post.service;
+
+import friendy.community.domain.follow.event.FollowChangedEvent;
+import friendy.community.domain.follow.index.FollowGraphIndex;
+import friendy.community.domain.follow.repository.FollowRepository;
+import friendy.community.domain.member.service.MemberDomainService;
+import friendy.community.domain.post.controller.code.PostExceptionCode;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.domain.post.dto.response.FindPostResponse;
+import friendy.community.domain.post.event.PostCreatedEvent;
+import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.domain.post.repository.PostTimelineRepository;
+import friendy.community.global.exception.domain.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostFeedService {
+
+    private static final int FEED_PAGE_SIZE = 10;
+    private static final int MAX_FEED_ROUNDS = 5;
+
+    private final PostTimelineRepository postTimelineRepository;
+    private final PostRepository postRepository;
+    private final PostQueryService postQueryService;
+    private final FollowRepository followRepository;
+    private final FollowGraphIndex followGraphIndex;
+    private final MemberDomainService memberDomainService;
+    @Value("${friendy.feed.fan-out-threshold:5000}")
+    private int fanOutThreshold;
+    @Value("${friendy.feed.timeline-size:800}")
+    private int timelineSize;
+    @Value("${friendy.feed.backfill-size:20}")
+    private int backfillSize;
+
+    @Async
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void fanOut(final PostCreatedEvent event) {
+        try {
+            List<Long> followerIds = followRepository.findFollowerIds(event.authorId(), fanOutThreshold + 1);
+            List<Long> receiverIds = new ArrayList<>(List.of(event.authorId()));
+
+            if (followerIds.size() > fanOutThreshold) {
+                postTimelineRepository.markFanOutOnRead(event.authorId());
+            } else {
+                receiverIds.addAll(followerIds);
+            }
+            postTimelineRepository.pushAll(receiverIds, event.postId());
+        } catch (Exception e) {
+            log.warn("타임라인 반영 실패 - postId : {}", event.postId(), e);
+        }
+    }
+
+    /**
+     * 팔로우가 바뀌면 팔로워의 타임라인에 작성자의 최근 게시글을 채우거나 빼고, 작성자의 읽기 시점 병합 여부를 다시 정한다.
+     * 이벤트는 순서 없이 비동기로 처리되므로 이벤트 대신 커밋된 현재 팔로우 상태를 읽어 맞춘다.
+     */
+    @Async
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void syncTimeline(final FollowChangedEvent event) {
+        try {
+            if (followRepository.existsByFollowerIdAndFollowingId(event.followerId(), event.followingId())) {
+                backfillFollowedPosts(event.followerId(), event.followingId());
+            } else {
+                removeUnfollowedPosts(event.followerId(), event.followingId());
+            }
+            refreshFanOutOnRead(event.followingId());
+        } catch (Exception e) {
+            log.warn("팔로우 타임라인 반영 실패 - followerId : {}, followingId : {}", event.followerId(), event.followingId(), e);
+        }
+    }
+
+    /**
+     * 타임라인에는 삭제된 게시글 id 가 남아 있을 수 있다. 없는 게시글은 건너뛰고 페이지가 찰 때까지 다음 id 를 이어 읽으며,
+     * 건너뛴 id 는 이 회원의 타임라인에서 지운다. 한 번에 {@value #MAX_FEED_ROUNDS} 번까지만 이어 읽고 나머지는 다음 페이지에 맡긴다.
+     */
+    @Transactional(readOnly = true)
+    public FindAllPostResponse getFeed(final Long memberId, final Long lastPostId) {
+        List<FindPostResponse> postResponses = new ArrayList<>();
+        Long cursor = lastPostId;
+        boolean hasNext = false;
+        for (int round = 0; round < MAX_FEED_ROUNDS; round++) {
+            List<Long> feedPostIds = findFeedPostIds(memberId, cursor);
+            int remaining = FEED_PAGE_SIZE - postResponses.size();
+            hasNext = feedPostIds.size() > remaining;
+            List<Long> pagePostIds = hasNext ? feedPostIds.subList(0, remaining) : feedPostIds;
+            if (pagePostIds.isEmpty()) {
+                break;
+            }
+
+            List<FindPostResponse> found = postQueryService.getPostResponsesByIds(pagePostIds, memberId);
+            postResponses.addAll(found);
+            cursor = pagePostIds.get(pagePostIds.size() - 1);
+            if (found.size() == pagePostIds.size()) {
+                break;
+            }
+            removeDeletedPostIds(memberId, pagePostIds, found);
+            if (!hasNext) {
+                break;
+            }
+        }
+
+        // 이어 읽는 중에 남은 게시글이 모두 삭제됐으면 예외 대신 빈 마지막 페이지를 준다
+        if (postResponses.isEmpty() && lastPostId == null && !hasNext) {
+            throw new NotFoundException(PostExceptionCode.POST_NOT_FOUND);
+        }
+        return new FindAllPostResponse(postResponses, hasNext, cursor);
+    }
+
+    // 최신순으로 합친 id 중 페이지 크기보다 하나 더 가져와 다음 페이지가 있는지 판단한다
+    private List<Long> findFeedPostIds(final Long memberId, final Long lastPostId) {
+        TreeSet<Long> feedPostIds = new TreeSet<>(Comparator.reverseOrder());
+        feedPostIds.addAll(postTimelineRepository.findPostIds(memberId, lastPostId, FEED_PAGE_SIZE + 1));
+        feedPostIds.addAll(findFanOutOnReadPostIds(memberId, lastPostId));
+        return feedPostIds.stream()
+            .limit(FEED_PAGE_SIZE + 1)
+            .toList();
+    }
+
+    // 읽기 시점 병합 대상 작성자의 게시글은 조회할 때 합쳐지므로 채우지 않는다
+    private void backfillFollowedPosts(final Long followerId, final Long authorId) {
+        if (postTimelineRepository.isFanOutOnRead(authorId)) {
+            return;
+        }
+        List<Long> postIds = postRepository.findPostIdsByMemberIds(List.of(authorId), null, backfillSize);
+        postTimelineRepository.backfill(List.of(followerId), postIds);
+    }
+
+    // 타임라인은 최신 게시글부터 남기므로, 남아 있는 작성자의 게시글은 작성자의 최근 timelineSize 개 안에 모두 들어 있다
+    private void removeUnfollowedPosts(final Long followerId, final Long authorId) {
+        List<Long> postIds = postRepository.findPostIdsByMemberIds(List.of(authorId), null, timelineSize);
+        postTimelineRepository.removeAll(followerId, postIds);
+    }
+
+    // 팔로워 수가 임계치 아래로 내려가면 병합 대상에서 빼기 전에, 그동안 밀어 넣지 않은 최근 게시글을 팔로워 타임라인에 채운다
+    private void refreshFanOutOnRead(final Long authorId) {
+        boolean popular = memberDomainService.getMemberById(authorId).getFollowerCount() > fanOutThreshold;
+        boolean fanOutOnRead = postTimelineRepository.isFanOutOnRead(authorId);
+        if (popular && !fanOutOnRead) {
+            postTimelineRepository.markFanOutOnRead(authorId);
+        } else if (!popular && fanOutOnRead) {
+            List<Long> followerIds = followRepository.findFollowerIds(authorId, fanOutThreshold + 1);
+            if (followerIds.size() > fanOutThreshold) {
+                return;
+            }
+            List<Long> receiverIds = new ArrayList<>(followerIds);
+            receiverIds.add(authorId);
+            postTimelineRepository.backfill(receiverIds, postRepository.findPostIdsByMemberIds(List.of(authorId), null, backfillSize));
+            postTimelineRepository.unmarkFanOutOnRead(authorId);
+        }
+    }
+
+    private void removeDeletedPostIds(final Long memberId, final List<Long> pagePostIds, final List<FindPostResponse> found) {
+        Set<Long> foundIds = found.stream()
+            .map(FindPostResponse::id)
+            .collect(Collectors.toSet());
+        List<Long> deletedIds = pagePostIds.stream()
+            .filter(postId -> !foundIds.contains(postId))
+            .toList();
+        try {
+            postTimelineRepository.removeAll(memberId, deletedIds);
+        } catch (Exception e) {
+            log.warn("타임라인 정리 실패 - memberId : {}", memberId, e);
+        }
+    }
+
+    private List<Long> findFanOutOnReadPostIds(final Long memberId, final Long lastPostId) {
+        Set<Long> fanOutOnReadAuthorIds = postTimelineRepository.findFanOutOnReadAuthorIds();
+        if (fanOutOnReadAuthorIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> followingAuthorIds = followGraphIndex.isReady()
+            ? followGraphIndex.filterFollowing(memberId, fanOutOnReadAuthorIds)
+            : followRepository.findFollowingIdsIn(memberId, fanOutOnReadAuthorIds);
+        if (followingAuthorIds.isEmpty()) {
+            return List.of();
+        }
+        return postRepository.findPostIdsByMemberIds(followingAuthorIds, lastPostId, FEED_PAGE_SIZE + 1);
+    }
+}
@@ -3,11 +3,17 @@ package friendy.community.domain.post.service;
 import friendy.community.domain.post.model.Post;
 import friendy.community.domain.post.model.PostImage;
 import friendy.community.domain.post.repository.PostImageRepository;
+import friendy.community.domain.upload.event.ImageStoredEvent;
+import friendy.community.domain.upload.service.ImageVariantService;
+import friendy.community.domain.upload.service.S3DeletionOutboxService;
 import friendy.community.domain.upload.service.S3service;
+import friendy.community.domain.upload.service.StoredContentService;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
@@ -19,6 +25,10 @@ import java.util.Set;
 class PostImageService {
     private final PostImageRepository postImageRepository;
     private final S3service s3service;
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+    private final ImageVariantService imageVariantService;
+    private final StoredContentService storedContentService;
+    private final ApplicationEventPublisher eventPublisher;
 
     public void saveImagesForPost(Post post, List<String> imageUrls) {
         int imageOrder = 1;
@@ -41,11 +51,7 @@ class PostImageService {
 
     public void deleteImagesForPost(Post post) {
         List<PostImage> imagesToDelete = postImageRepository.findByPostIdOrderByImageOrderAsc(post.getId());
-        for (PostImage image : imagesToDelete) {
-            String s3Key = s3service.extractS3Key(image.getImageUrl());
-            s3service.deleteFromS3(s3Key);
-            postImageRepository.delete(image);
-        }
+        deleteImages(imagesToDelete);
     }
 
     private void addOrUpdateImages(List<String> newImageUrls, List<PostImage> existingPostImages, Post post) {
@@ -71,11 +77,19 @@ class PostImageService {
             .filter(existingImage -> !newImageUrlSet.contains(existingImage.getImageUrl()))
             .toList();
 
-        for (PostImage imageToRemove : imagesToRemove) {
-            String s3Key = s3service.extractS3Key(imageToRemove.getImageUrl());
-            s3service.deleteFromS3(s3Key);
-            postImageRepository.delete(imageToRemove);
-        }
+        deleteImages(imagesToRemove);
+    }
+
+    // 다른 곳에서 더 이상 참조하지 않는 S3 객체만 파생 이미지까지 커밋 이후 삭제 워커가 지운다
+    private void deleteImages(List<PostImage> images) {
+        List<String> imageUrls = storedContentService.release(images.stream()
+            .map(PostImage::getImageUrl)
+            .toList());
+        List<String> s3Keys = new ArrayList<>();
+        imageUrls.forEach(imageUrl -> s3Keys.add(s3service.extractS3Key(imageUrl)));
+        s3Keys.addAll(imageVariantService.removeVariants(imageUrls));
+        postImageRepository.deleteAll(images);
+        s3DeletionOutboxService.enqueue(s3Keys);
     }
 
     private Optional<PostImage> findExistingImage(String newImageUrl, List<PostImage> existingPostImages) {
@@ -84,8 +98,10 @@ class PostImageService {
             .findFirst();
     }
 
-    private PostImage savePostImage(String requestImageUrl, int imageOrder) {
-        String imageUrl = s3service.moveS3Object(requestImageUrl, "post");
+    // 이미지는 PostCommandFacade 가 트랜잭션 전에 post 디렉터리로 옮겨 둔다. 파생 이미지는 커밋 이후에 만든다
+    private PostImage savePostImage(String imageUrl, int imageOrder) {
+        storedContentService.acquire(imageUrl);
+        eventPublisher.publishEvent(new ImageStoredEvent(imageUrl));
         return PostImage.of(imageUrl, imageOrder);
     }
 }
\ No newline at end of file
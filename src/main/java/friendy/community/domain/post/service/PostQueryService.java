@@ -1,18 +1,30 @@
 package friendy.community.domain.post.service;
 
+import friendy.community.domain.like.model.LikeTargetType;
+import friendy.community.domain.like.service.LikeQueryService;
 import friendy.community.domain.member.dto.response.FindMemberPostsResponse;
 import friendy.community.domain.member.dto.response.PostPreview;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.model.MemberImage;
 import friendy.community.domain.post.controller.code.PostExceptionCode;
 import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.domain.post.dto.response.FindMemberResponse;
 import friendy.community.domain.post.dto.response.FindPostResponse;
 import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.model.PostImage;
 import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.domain.upload.service.ImageDisplaySize;
+import friendy.community.domain.upload.service.ImageVariantService;
 import friendy.community.global.exception.domain.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,11 +33,20 @@ import java.util.stream.Collectors;
 public class PostQueryService {
 
     private final PostRepository postRepository;
+    private final LikeQueryService likeQueryService;
+    private final ImageVariantService imageVariantService;
 
     public FindPostResponse getPost(final Long postId, final Long memberId) {
         Post post = postRepository.findPostById(postId)
             .orElseThrow(() -> new NotFoundException(PostExceptionCode.POST_NOT_FOUND));
-        return FindPostResponse.from(post, isPostOwner(post, memberId));
+        List<String> imageUrls = post.getImages().stream()
+            .map(PostImage::getImageUrl)
+            .toList();
+        List<String> hashtags = postRepository.findHashtagNamesByPostIds(List.of(postId))
+            .getOrDefault(postId, List.of());
+        boolean liked = likeQueryService.getLikedTargetIds(memberId, LikeTargetType.POST, List.of(postId)).contains(postId);
+        Map<String, String> avatars = resolveAvatars(List.of(post));
+        return FindPostResponse.from(post, imageUrls, hashtags, isPostOwner(post, memberId), liked, toAuthorResponse(post, avatars));
     }
 
     public FindAllPostResponse getPostsByLastId(final Long lastPostId, final Long memberId) {
@@ -41,11 +62,11 @@ public class PostQueryService {
         }
         Long newLastPostId = posts.get(posts.size() - 1).getId();
 
-        List<FindPostResponse> postResponses = posts.stream()
-            .map(post -> FindPostResponse.from(post, isPostOwner(post, memberId)))
-            .collect(Collectors.toList());
+        return new FindAllPostResponse(toPostResponses(posts, memberId), hasNext, newLastPostId);
+    }
 
-        return new FindAllPostResponse(postResponses, hasNext, newLastPostId);
+    public List<FindPostResponse> getPostResponsesByIds(final List<Long> postIds, final Long memberId) {
+        return toPostResponses(postRepository.findPostsByIds(postIds), memberId);
     }
 
     public Post getPostById(Long postId) {
@@ -66,13 +87,67 @@ public class PostQueryService {
         }
         Long newLastPostId = posts.get(posts.size() - 1).getId();
 
+        Map<Long, List<String>> imageUrls = postRepository.findImageUrlsByPostIds(extractIds(posts));
+        Map<Long, String> firstImageUrls = new HashMap<>();
+        imageUrls.forEach((postId, urls) -> {
+            if (!urls.isEmpty()) {
+                firstImageUrls.put(postId, urls.get(0));
+            }
+        });
+        Map<String, String> thumbnails = imageVariantService.resolve(firstImageUrls.values(), ImageDisplaySize.POST_PREVIEW);
         List<PostPreview> previews = posts.stream()
-            .map(PostPreview::from)
+            .map(post -> {
+                String firstImageUrl = firstImageUrls.get(post.getId());
+                return PostPreview.from(post, firstImageUrl == null ? null : thumbnails.getOrDefault(firstImageUrl, firstImageUrl));
+            })
             .collect(Collectors.toList());
 
         return new FindMemberPostsResponse(previews, hasNext, newLastPostId);
     }
 
+    private List<FindPostResponse> toPostResponses(final List<Post> posts, final Long memberId) {
+        List<Long> postIds = extractIds(posts);
+        Map<Long, List<String>> imageUrls = postRepository.findImageUrlsByPostIds(postIds);
+        Map<Long, List<String>> hashtags = postRepository.findHashtagNamesByPostIds(postIds);
+        Set<Long> likedPostIds = likeQueryService.getLikedTargetIds(memberId, LikeTargetType.POST, postIds);
+        Map<String, String> avatars = resolveAvatars(posts);
+
+        return posts.stream()
+            .map(post -> FindPostResponse.from(
+                post,
+                imageUrls.getOrDefault(post.getId(), List.of()),
+                hashtags.getOrDefault(post.getId(), List.of()),
+                isPostOwner(post, memberId),
+                likedPostIds.contains(post.getId()),
+                toAuthorResponse(post, avatars)
+            ))
+            .collect(Collectors.toList());
+    }
+
+    private Map<String, String> resolveAvatars(final List<Post> posts) {
+        List<String> profileImageUrls = posts.stream()
+            .map(Post::getMember)
+            .map(Member::getMemberImage)
+            .filter(Objects::nonNull)
+            .map(MemberImage::getImageUrl)
+            .toList();
+        return imageVariantService.resolve(profileImageUrls, ImageDisplaySize.AVATAR);
+    }
+
+    private FindMemberResponse toAuthorResponse(final Post post, final Map<String, String> avatars) {
+        MemberImage memberImage = post.getMember().getMemberImage();
+        if (memberImage == null) {
+            return FindMemberResponse.from(post.getMember());
+        }
+        return FindMemberResponse.from(post.getMember(), avatars.getOrDefault(memberImage.getImageUrl(), memberImage.getImageUrl()));
+    }
+
+    private List<Long> extractIds(final List<Post> posts) {
+        return posts.stream()
+            .map(Post::getId)
+            .toList();
+    }
+
     private boolean isPostOwner(final Post post, final Long memberId) {
         return post.getMember().getId().equals(memberId);
     }
@@ -1,11 +1,15 @@
 package friendy.community.domain.upload.controller;
 
 import friendy.community.domain.post.dto.response.FindPostResponse;
+import friendy.community.domain.upload.dto.request.PresignedUploadConfirmRequest;
+import friendy.community.domain.upload.dto.request.PresignedUploadRequest;
+import friendy.community.domain.upload.dto.response.PresignedUploadResponse;
 import friendy.community.domain.upload.dto.response.UploadResponse;
 import friendy.community.global.response.FriendyResponse;
 import friendy.community.global.swagger.error.ApiErrorResponse;
 import friendy.community.global.swagger.error.ErrorCase;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
@@ -13,6 +17,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 @Tag(name = "업로드 API", description = "업로드 API")
 public interface SpringDocUploadController {
     @Operation(summary = "이미지 업로드", description = "이미지를 업로드합니다.")
@@ -30,4 +36,44 @@ public interface SpringDocUploadController {
     })
     ResponseEntity<FriendyResponse<UploadResponse>> uploadMultipleFile(
             @RequestPart("file") MultipartFile multipartFile);
-}
\ No newline at end of file
+
+    @Operation(summary = "이미지 스트리밍 업로드",
+            description = "요청 본문(파일 바이트)을 서버에 모으지 않고 S3 멀티파트 업로드로 바로 전송합니다. 큰 이미지는 이 API 를 사용합니다.")
+    @ApiResponse(responseCode = "200", description = "이미지 업로드 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/file/upload/stream", errorCases = {
+            @ErrorCase(description = "파일 이름이 없습니다.", exampleMessage = "파일 이름이 없습니다."),
+            @ErrorCase(description = "지원되지 않는 파일 확장자입니다.", exampleMessage = "지원되지 않는 파일 확장자입니다."),
+            @ErrorCase(description = "파일 내용이 확장자와 맞는 이미지 형식이 아닙니다.", exampleMessage = "지원되지 않는 파일 형식입니다."),
+            @ErrorCase(description = "파일이 비어 있습니다.", exampleMessage = "파일이 비어 있습니다."),
+            @ErrorCase(description = "파일 크기가 허용된 범위를 초과했습니다.", exampleMessage = "파일 크기가 허용된 범위를 초과했습니다."),
+            @ErrorCase(description = "업로드 중 연결이 끊겼습니다.", exampleMessage = "업로드 중 파일을 끝까지 읽지 못했습니다.")
+    })
+    @ApiErrorResponse(status = HttpStatus.BAD_GATEWAY, instance = "/file/upload/stream", errorCases = {
+            @ErrorCase(description = "S3 업로드 중 오류 발생" , exampleMessage = "S3 업로드 중 오류 발생")
+    })
+    ResponseEntity<FriendyResponse<UploadResponse>> uploadStream(
+            @Parameter(description = "원본 파일 이름(확장자 포함)") String fileName,
+            @Parameter(hidden = true) InputStream inputStream);
+
+    @Operation(summary = "이미지 직접 업로드 URL 발급",
+            description = "이미지를 서버를 거치지 않고 S3 에 바로 올릴 수 있는 서명된 PUT URL 을 발급합니다. "
+                    + "업로드 시 요청한 Content-Type, Content-Length 헤더를 그대로 보내야 하며, 업로드 후 확인 API 를 호출해야 합니다.")
+    @ApiResponse(responseCode = "200", description = "업로드 URL 발급 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/file/presigned", errorCases = {
+            @ErrorCase(description = "지원되지 않는 파일 확장자입니다.", exampleMessage = "지원되지 않는 파일 확장자입니다."),
+            @ErrorCase(description = "확장자와 Content-Type 이 맞지 않습니다.", exampleMessage = "지원되지 않는 파일 형식입니다."),
+            @ErrorCase(description = "파일 크기가 허용된 범위를 초과했습니다.", exampleMessage = "파일 크기가 허용된 범위를 초과했습니다.")
+    })
+    ResponseEntity<FriendyResponse<PresignedUploadResponse>> issuePresignedUpload(PresignedUploadRequest request);
+
+    @Operation(summary = "이미지 직접 업로드 확인",
+            description = "S3 에 올라간 이미지의 형식과 크기를 확인하고 게시글/프로필 저장에 쓸 이미지 URL 을 반환합니다.")
+    @ApiResponse(responseCode = "200", description = "업로드 확인 성공")
+    @ApiErrorResponse(status = HttpStatus.BAD_REQUEST, instance = "/file/presigned/confirm", errorCases = {
+            @ErrorCase(description = "발급된 업로드 경로가 아닙니다.", exampleMessage = "발급된 업로드 경로가 아닙니다."),
+            @ErrorCase(description = "업로드된 파일을 찾을 수 없습니다.", exampleMessage = "업로드된 파일을 찾을 수 없습니다."),
+            @ErrorCase(description = "파일 내용이 이미지 형식이 아닙니다.", exampleMessage = "지원되지 않는 파일 형식입니다."),
+            @ErrorCase(description = "파일 크기가 허용된 범위를 초과했습니다.", exampleMessage = "파일 크기가 허용된 범위를 초과했습니다.")
+    })
+    ResponseEntity<FriendyResponse<UploadResponse>> confirmPresignedUpload(PresignedUploadConfirmRequest request);
+}
@@ -1,28 +1,62 @@
 package friendy.community.domain.upload.controller;
 
 import friendy.community.domain.upload.controller.code.UploadSuccessCode;
+import friendy.community.domain.upload.dto.request.PresignedUploadConfirmRequest;
+import friendy.community.domain.upload.dto.request.PresignedUploadRequest;
+import friendy.community.domain.upload.dto.response.PresignedUploadResponse;
 import friendy.community.domain.upload.dto.response.UploadResponse;
 import friendy.community.global.response.FriendyResponse;
+import friendy.community.domain.upload.service.S3PresignedUploadService;
 import friendy.community.domain.upload.service.S3service;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("/file")
 @RequiredArgsConstructor
 public class UploadController implements SpringDocUploadController {
 
     private final S3service s3service;
+    private final S3PresignedUploadService s3PresignedUploadService;
 
     @PostMapping(value = "/upload", consumes = {MediaType.MULTIPART_FORM_DATA_VALUE})
     public ResponseEntity<FriendyResponse<UploadResponse>> uploadMultipleFile(@RequestPart(value = "file") MultipartFile multipartFile) {
         return ResponseEntity.ok(FriendyResponse.of(UploadSuccessCode.IMAGE_UPLOAD_SUCCESS,
                 s3service.upload(multipartFile,"temp")));
     }
-}
\ No newline at end of file
+
+    @PostMapping(value = "/upload/stream", consumes = {
+        MediaType.IMAGE_JPEG_VALUE, MediaType.IMAGE_PNG_VALUE, MediaType.IMAGE_GIF_VALUE, MediaType.APPLICATION_OCTET_STREAM_VALUE
+    })
+    public ResponseEntity<FriendyResponse<UploadResponse>> uploadStream(
+            @RequestParam("fileName") String fileName,
+            InputStream inputStream) {
+        return ResponseEntity.ok(FriendyResponse.of(UploadSuccessCode.IMAGE_UPLOAD_SUCCESS,
+                s3service.uploadStream(inputStream, fileName, "temp")));
+    }
+
+    @PostMapping("/presigned")
+    public ResponseEntity<FriendyResponse<PresignedUploadResponse>> issuePresignedUpload(
+            @Valid @RequestBody PresignedUploadRequest request) {
+        return ResponseEntity.ok(FriendyResponse.of(UploadSuccessCode.PRESIGNED_UPLOAD_URL_ISSUED,
+                s3PresignedUploadService.issue(request)));
+    }
+
+    @PostMapping("/presigned/confirm")
+    public ResponseEntity<FriendyResponse<UploadResponse>> confirmPresignedUpload(
+            @Valid @RequestBody PresignedUploadConfirmRequest request) {
+        return ResponseEntity.ok(FriendyResponse.of(UploadSuccessCode.IMAGE_UPLOAD_CONFIRMED,
+                s3PresignedUploadService.confirm(request)));
+    }
+}
@@ -18,7 +18,10 @@ public enum UploadExceptionCode implements ExceptionCode {
     FILE_DELETION_FAILED(4708, "파일을 삭제하지 못했습니다."),
     URL_FORMAT_INVALID(4709, "유효한 URL 형식이어야 합니다."),
     S3_UPLOAD_ERROR(4710, "S3 업로드 중 오류 발생"),
-    S3_OBJECT_COPY_FAILED(4711, "S3 객체 복사에 실패했습니다.");
+    S3_OBJECT_COPY_FAILED(4711, "S3 객체 복사에 실패했습니다."),
+    UPLOAD_STREAM_INTERRUPTED(4712, "업로드 중 파일을 끝까지 읽지 못했습니다."),
+    UPLOADED_FILE_NOT_FOUND(4713, "업로드된 파일을 찾을 수 없습니다."),
+    INVALID_UPLOAD_KEY(4714, "발급된 업로드 경로가 아닙니다.");
 
     private final int code;
     private final String message;
@@ -8,7 +8,9 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum UploadSuccessCode implements ApiCode {
 
-    IMAGE_UPLOAD_SUCCESS(1701, "이미지 업로드 성공");
+    IMAGE_UPLOAD_SUCCESS(1701, "이미지 업로드 성공"),
+    PRESIGNED_UPLOAD_URL_ISSUED(1702, "이미지 업로드 URL 발급 성공"),
+    IMAGE_UPLOAD_CONFIRMED(1703, "이미지 업로드 확인 성공");
 
     private final int code;
     private final String message;
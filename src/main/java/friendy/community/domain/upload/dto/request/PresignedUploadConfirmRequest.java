@@ -0,0 +1,14 @@
+package friendy.community.domain.upload.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+@Schema(description = "S3 직접 업로드 완료 확인")
+public record PresignedUploadConfirmRequest(
+
+        @Schema(description = "업로드 URL 발급 시 받은 객체 키", example = "temp/3f2a8c1e-5b7d-4e4f-9a0b-1c2d3e4f5a6b.png")
+        @NotBlank(message = "객체 키가 입력되지 않았습니다.")
+        String key
+
+) {
+}
@@ -0,0 +1,25 @@
+package friendy.community.domain.upload.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+@Schema(description = "S3 직접 업로드 URL 발급")
+public record PresignedUploadRequest(
+
+        @Schema(description = "원본 파일 이름(확장자 포함)", example = "profile.png")
+        @NotBlank(message = "파일 이름이 입력되지 않았습니다.")
+        String fileName,
+
+        @Schema(description = "업로드할 파일의 Content-Type", example = "image/png")
+        @NotBlank(message = "Content-Type 이 입력되지 않았습니다.")
+        String contentType,
+
+        @Schema(description = "업로드할 파일 크기(byte)", example = "204800")
+        @NotNull(message = "파일 크기가 입력되지 않았습니다.")
+        @Positive(message = "파일 크기는 0보다 커야 합니다.")
+        Long contentLength
+
+) {
+}
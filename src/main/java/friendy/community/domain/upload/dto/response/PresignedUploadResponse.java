@@ -0,0 +1,16 @@
+package friendy.community.domain.upload.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+public record PresignedUploadResponse(
+        @Schema(description = "파일 바이트를 PUT 할 서명된 URL. 요청한 Content-Type, Content-Length 헤더를 그대로 보내야 한다.",
+                example = "https://friendybucket.s3.amazonaws.com/temp/3f2a8c1e.png?X-Amz-Algorithm=AWS4-HMAC-SHA256&...")
+        String uploadUrl,
+        @Schema(description = "업로드 완료 확인에 사용할 객체 키", example = "temp/3f2a8c1e-5b7d-4e4f-9a0b-1c2d3e4f5a6b.png")
+        String key,
+        @Schema(description = "서명된 URL 만료 시각", example = "2025-01-01T12:10:00")
+        LocalDateTime expiresAt
+) {
+}
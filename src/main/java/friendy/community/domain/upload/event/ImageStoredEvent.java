@@ -0,0 +1,6 @@
+package friendy.community.domain.upload.event;
+
+public record ImageStoredEvent(
+    String imageUrl
+) {
+}
@@ -0,0 +1,47 @@
+package friendy.community.domain.upload.model;
+
+import friendy.community.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 원본 이미지를 고정 너비로 줄여 원본 옆에 저장한 파생 이미지.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "image_variant",
+    uniqueConstraints = { @UniqueConstraint(name = "uk_image_variant_source_width", columnNames = {"source_url", "width"}) }
+)
+public class ImageVariant extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "source_url", nullable = false)
+    private String sourceUrl;
+
+    @Column(nullable = false)
+    private int width;
+
+    @Column(nullable = false)
+    private String imageUrl;
+
+    @Column(nullable = false)
+    private String s3Key;
+
+    private ImageVariant(final String sourceUrl, final int width, final String imageUrl, final String s3Key) {
+        this.sourceUrl = sourceUrl;
+        this.width = width;
+        this.imageUrl = imageUrl;
+        this.s3Key = s3Key;
+    }
+
+    public static ImageVariant of(final String sourceUrl, final int width, final String imageUrl, final String s3Key) {
+        return new ImageVariant(sourceUrl, width, imageUrl, s3Key);
+    }
+}
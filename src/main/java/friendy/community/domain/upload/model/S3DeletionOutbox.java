@@ -0,0 +1,62 @@
+package friendy.community.domain.upload.model;
+
+import friendy.community.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 삭제를 기다리는 S3 객체 키. 요청 트랜잭션과 함께 커밋된 뒤에만 지우며, 삭제에 성공하면 행을 지우고 재시도 한도를 넘기면 FAILED 로 남긴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "s3_deletion_outbox",
+    indexes = { @Index(name = "idx_s3_deletion_outbox_due", columnList = "status, next_attempt_at") }
+)
+public class S3DeletionOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String s3Key;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private S3DeletionOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 삭제를 맡은 워커가 선점할 때 기록하는 토큰
+    private String claimToken;
+
+    private S3DeletionOutbox(final String s3Key, final LocalDateTime now) {
+        this.s3Key = s3Key;
+        this.status = S3DeletionOutboxStatus.PENDING;
+        this.nextAttemptAt = now;
+    }
+
+    public static S3DeletionOutbox of(final String s3Key, final LocalDateTime now) {
+        return new S3DeletionOutbox(s3Key, now);
+    }
+
+    public void retryAt(final LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+        this.claimToken = null;
+    }
+
+    public void fail() {
+        this.status = S3DeletionOutboxStatus.FAILED;
+        this.claimToken = null;
+    }
+}
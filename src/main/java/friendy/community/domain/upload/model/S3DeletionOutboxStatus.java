@@ -0,0 +1,6 @@
+package friendy.community.domain.upload.model;
+
+public enum S3DeletionOutboxStatus {
+    PENDING,
+    FAILED
+}
@@ -0,0 +1,56 @@
+package friendy.community.domain.upload.model;
+
+import friendy.community.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용(SHA-256)이 같은 업로드가 함께 쓰는 S3 객체. 게시글 이미지와 프로필 이미지가 몇 번 참조하는지 세어 두고,
+ * 마지막 참조가 사라질 때만 객체를 지운다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "stored_content",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_stored_content_sha256", columnNames = "sha256"),
+        @UniqueConstraint(name = "uk_stored_content_s3_key", columnNames = "s3_key"),
+        @UniqueConstraint(name = "uk_stored_content_image_url", columnNames = "image_url")
+    }
+)
+public class StoredContent extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "s3_key", nullable = false)
+    private String s3Key;
+
+    @Column(name = "image_url", nullable = false)
+    private String imageUrl;
+
+    @Column(nullable = false)
+    private int refCount;
+
+    // 업로드가 이 객체를 돌려받은 마지막 시각. 아직 게시글이나 프로필에 붙기 전이라도 이 시각부터 유예 기간 동안은 지우지 않는다
+    private LocalDateTime lastReusedAt;
+
+    private StoredContent(final String sha256, final String s3Key, final String imageUrl) {
+        this.sha256 = sha256;
+        this.s3Key = s3Key;
+        this.imageUrl = imageUrl;
+    }
+
+    public static StoredContent of(final String sha256, final String s3Key, final String imageUrl) {
+        return new StoredContent(sha256, s3Key, imageUrl);
+    }
+}
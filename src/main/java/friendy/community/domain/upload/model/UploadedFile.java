@@ -0,0 +1,51 @@
+package friendy.community.domain.upload.model;
+
+import friendy.community.domain.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 업로드한 S3 객체의 형식과 크기. 업로드 시점에 한 번 기록해 두고, 이후에는 S3 에 묻지 않고 이 값을 쓴다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+    name = "uploaded_file",
+    uniqueConstraints = { @UniqueConstraint(name = "uk_uploaded_file_s3_key", columnNames = "s3_key") }
+)
+public class UploadedFile extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "s3_key", nullable = false)
+    private String s3Key;
+
+    @Column(nullable = false)
+    private String contentType;
+
+    @Column(nullable = false)
+    private long contentLength;
+
+    @Column(length = 64)
+    private String sha256;
+
+    private UploadedFile(final String s3Key, final String contentType, final long contentLength, final String sha256) {
+        this.s3Key = s3Key;
+        this.contentType = contentType;
+        this.contentLength = contentLength;
+        this.sha256 = sha256;
+    }
+
+    public static UploadedFile of(final String s3Key, final String contentType, final long contentLength) {
+        return new UploadedFile(s3Key, contentType, contentLength, null);
+    }
+
+    public static UploadedFile of(final String s3Key, final String contentType, final long contentLength, final String sha256) {
+        return new UploadedFile(s3Key, contentType, contentLength, sha256);
+    }
+}
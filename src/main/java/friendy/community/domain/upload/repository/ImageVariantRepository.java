@@ -0,0 +1,27 @@
+package friendy.community.domain.upload.repository;
+
+import friendy.community.domain.upload.model.ImageVariant;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, Long> {
+
+    List<ImageVariant> findAllBySourceUrlIn(Collection<String> sourceUrls);
+
+    boolean existsBySourceUrl(String sourceUrl);
+
+    List<ImageVariant> findAllByS3KeyIn(Collection<String> s3Keys);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ImageVariant v where v.s3Key in :s3Keys")
+    int deleteAllByS3KeyIn(@Param("s3Keys") Collection<String> s3Keys);
+}
@@ -0,0 +1,40 @@
+package friendy.community.domain.upload.repository;
+
+import friendy.community.domain.upload.model.S3DeletionOutbox;
+import friendy.community.domain.upload.model.S3DeletionOutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface S3DeletionOutboxRepository extends JpaRepository<S3DeletionOutbox, Long> {
+
+    @Query("SELECT o.id FROM S3DeletionOutbox o WHERE o.status = :status AND o.nextAttemptAt <= :now ORDER BY o.id")
+    List<Long> findDueIds(@Param("status") S3DeletionOutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 조건부 UPDATE 로 선점하므로 여러 워커(인스턴스)가 같은 행을 동시에 가져가지 않는다.
+     * 선점 후 leaseUntil 까지 결과가 기록되지 않으면 다시 삭제 대상이 된다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE S3DeletionOutbox o SET o.claimToken = :claimToken, o.nextAttemptAt = :leaseUntil, o.attempts = o.attempts + 1 "
+        + "WHERE o.id IN :ids AND o.status = :status AND o.nextAttemptAt <= :now")
+    int claim(
+        @Param("ids") Collection<Long> ids,
+        @Param("status") S3DeletionOutboxStatus status,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil,
+        @Param("claimToken") String claimToken
+    );
+
+    List<S3DeletionOutbox> findAllByClaimToken(String claimToken);
+
+    long countByStatus(S3DeletionOutboxStatus status);
+}
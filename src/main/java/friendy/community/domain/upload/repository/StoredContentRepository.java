@@ -0,0 +1,70 @@
+package friendy.community.domain.upload.repository;
+
+import friendy.community.domain.upload.model.StoredContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredContentRepository extends JpaRepository<StoredContent, Long> {
+
+    Optional<StoredContent> findBySha256(String sha256);
+
+    boolean existsBySha256(String sha256);
+
+    boolean existsByImageUrl(String imageUrl);
+
+    @Modifying
+    @Query("UPDATE StoredContent c SET c.lastReusedAt = :now WHERE c.id = :id")
+    int markReused(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE StoredContent c SET c.refCount = c.refCount + 1 WHERE c.imageUrl = :imageUrl")
+    int increaseRefCount(@Param("imageUrl") String imageUrl);
+
+    @Modifying
+    @Query("UPDATE StoredContent c SET c.refCount = c.refCount - 1 WHERE c.imageUrl = :imageUrl AND c.refCount > 0")
+    int decreaseRefCount(@Param("imageUrl") String imageUrl);
+
+    /**
+     * 참조가 없고 유예 기간 안에 재사용되지 않은 행만 지운다. 지운 행이 있으면 호출한 쪽이 객체를 지운다.
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM StoredContent c
+        WHERE c.imageUrl = :imageUrl
+          AND c.refCount = 0
+          AND (c.lastReusedAt IS NULL OR c.lastReusedAt < :reusedBefore)
+        """)
+    int deleteReleased(@Param("imageUrl") String imageUrl, @Param("reusedBefore") LocalDateTime reusedBefore);
+
+    /**
+     * 참조된 적도, 재사용된 적도 없는 행만 지운다. 저장이 실패해 되돌리는 복사본을 다른 업로드가 받아 간 경우를 걸러낸다.
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM StoredContent c
+        WHERE c.imageUrl = :imageUrl
+          AND c.refCount = 0
+          AND c.lastReusedAt IS NULL
+        """)
+    int deleteUnused(@Param("imageUrl") String imageUrl);
+
+    @Query("""
+        SELECT c.s3Key FROM StoredContent c
+        WHERE c.s3Key IN :s3Keys
+          AND (c.refCount > 0 OR c.lastReusedAt >= :reusedAfter)
+        """)
+    List<String> findPinnedS3Keys(@Param("s3Keys") Collection<String> s3Keys, @Param("reusedAfter") LocalDateTime reusedAfter);
+
+    @Modifying
+    @Query("DELETE FROM StoredContent c WHERE c.s3Key IN :s3Keys")
+    int deleteAllByS3KeyIn(@Param("s3Keys") Collection<String> s3Keys);
+}
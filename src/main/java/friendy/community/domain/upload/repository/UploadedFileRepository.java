@@ -0,0 +1,25 @@
+package friendy.community.domain.upload.repository;
+
+import friendy.community.domain.upload.model.UploadedFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+@Repository
+public interface UploadedFileRepository extends JpaRepository<UploadedFile, Long> {
+
+    Optional<UploadedFile> findByS3Key(String s3Key);
+
+    boolean existsByS3Key(String s3Key);
+
+    void deleteByS3Key(String s3Key);
+
+    @Modifying
+    @Query("DELETE FROM UploadedFile f WHERE f.s3Key IN :s3Keys")
+    int deleteAllByS3KeyIn(@Param("s3Keys") Collection<String> s3Keys);
+}
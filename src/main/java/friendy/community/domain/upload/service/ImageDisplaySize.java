@@ -0,0 +1,17 @@
+package friendy.community.domain.upload.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 목록 화면에서 이미지를 보여 주는 크기. 고밀도 화면을 고려해 실제 표시 크기의 두 배 정도로 잡는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageDisplaySize {
+
+    AVATAR(160),
+    POST_PREVIEW(320);
+
+    private final int width;
+}
@@ -0,0 +1,44 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.member.repository.MemberImageRepository;
+import friendy.community.domain.post.repository.PostImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 저장한 이미지가 아직 쓰이는지 DB 와 대조한다.
+ * 게시글 이미지나 프로필 이미지로 붙어 있거나, 같은 내용의 업로드가 함께 쓰거나 막 재사용한 이미지를 쓰이는 것으로 본다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ImageReferenceFinder {
+
+    private final PostImageRepository postImageRepository;
+    private final MemberImageRepository memberImageRepository;
+    private final StoredContentService storedContentService;
+
+    /**
+     * @param keysByUrl 대조할 이미지의 URL 과 S3 키
+     * @return 쓰이는 이미지의 S3 키
+     */
+    public Set<String> findReferencedKeys(final Map<String, String> keysByUrl) {
+        if (keysByUrl.isEmpty()) {
+            return Set.of();
+        }
+        final Set<String> referenced = new HashSet<>();
+        // 게시글 이미지는 URL 로 저장돼 있다
+        postImageRepository.findImageUrlsIn(keysByUrl.keySet()).forEach(imageUrl -> referenced.add(keysByUrl.get(imageUrl)));
+        referenced.addAll(memberImageRepository.findS3KeysIn(keysByUrl.values()));
+        // 같은 내용의 업로드가 막 돌려받아 아직 게시글이나 프로필에 붙지 않은 객체도 남긴다
+        referenced.addAll(storedContentService.findPinnedKeys(keysByUrl.values()));
+        return referenced;
+    }
+
+    public boolean isReferenced(final String imageUrl, final String s3Key) {
+        return !findReferencedKeys(Map.of(imageUrl, s3Key)).isEmpty();
+    }
+}
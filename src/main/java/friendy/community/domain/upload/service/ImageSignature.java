@@ -0,0 +1,47 @@
+package friendy.community.domain.upload.service;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 파일 앞부분의 매직 바이트로 실제 이미지 형식을 판별한다. 클라이언트가 보낸 Content-Type 은 믿지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public enum ImageSignature {
+
+    JPEG("image/jpeg", List.of("jpg", "jpeg"), new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+    PNG("image/png", List.of("png"), new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}),
+    GIF87A("image/gif", List.of("gif"), new byte[]{'G', 'I', 'F', '8', '7', 'a'}),
+    GIF89A("image/gif", List.of("gif"), new byte[]{'G', 'I', 'F', '8', '9', 'a'});
+
+    private final String contentType;
+    private final List<String> extensions;
+    private final byte[] magicBytes;
+
+    public static Optional<ImageSignature> detect(final byte[] head, final int length) {
+        return Arrays.stream(values())
+            .filter(signature -> signature.matches(head, length))
+            .findFirst();
+    }
+
+    public static boolean isAllowed(final String extension, final String contentType) {
+        return Arrays.stream(values())
+            .anyMatch(signature -> signature.supports(extension) && signature.contentType.equals(contentType));
+    }
+
+    public boolean supports(final String extension) {
+        return extensions.contains(extension.toLowerCase());
+    }
+
+    private boolean matches(final byte[] head, final int length) {
+        if (length < magicBytes.length) {
+            return false;
+        }
+        return Arrays.equals(head, 0, magicBytes.length, magicBytes, 0, magicBytes.length);
+    }
+}
@@ -0,0 +1,254 @@
+package friendy.community.domain.upload.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import friendy.community.domain.upload.event.ImageStoredEvent;
+import friendy.community.domain.upload.model.ImageVariant;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 저장이 끝난 원본 이미지를 설정한 너비들로 줄여 원본 옆에 JPEG 로 올린다.
+ * 디코딩과 인코딩은 비용이 커서 크기가 제한된 전용 풀에서 커밋 이후에 실행하고, 대기열이 가득 차면 원본을 그대로 쓰도록 건너뛴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantGenerator {
+
+    static final String METRIC = "friendy.image.variant";
+    private static final String CONTENT_TYPE = "image/jpeg";
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    private final AmazonS3 s3Client;
+    private final S3service s3service;
+    private final ImageVariantService imageVariantService;
+    private final UploadedFileMetadataService uploadedFileMetadataService;
+    private final ImageReferenceFinder imageReferenceFinder;
+    private final MeterRegistry meterRegistry;
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+    @Value("${friendy.upload.variant.widths:160,320,640}")
+    private int[] widths;
+    @Value("${friendy.upload.variant.jpeg-quality:0.8}")
+    private float jpegQuality;
+    @Value("${friendy.upload.variant.max-pixels:40000000}")
+    private long maxPixels;
+    @Value("${friendy.upload.variant.threads:2}")
+    private int threads;
+    @Value("${friendy.upload.variant.queue-capacity:100}")
+    private int queueCapacity;
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    void init() {
+        widths = Arrays.stream(widths).distinct().sorted().toArray();
+        final AtomicInteger sequence = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                final Thread thread = new Thread(runnable, "image-variant-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStored(final ImageStoredEvent event) {
+        try {
+            executor.execute(() -> generate(event.imageUrl()));
+        } catch (RejectedExecutionException e) {
+            log.warn("파생 이미지 대기열 초과 - url : {}, queued : {}", event.imageUrl(), executor.getQueue().size());
+            count("rejected", 1);
+        }
+    }
+
+    /**
+     * 원본보다 작은 너비마다 파생 이미지를 만든다. 실패해도 목록은 원본을 보여 주므로 예외를 밖으로 던지지 않는다.
+     * 만드는 동안 원본이 게시글이나 프로필에서 빠져 지워질 수 있으므로, 기록하기 직전에 원본이 아직 쓰이는지 다시 확인한다.
+     *
+     * @return 새로 만든 파생 이미지 수
+     */
+    public int generate(final String imageUrl) {
+        try {
+            if (imageVariantService.hasVariants(imageUrl)) {
+                count("skipped", 1);
+                return 0;
+            }
+            final String sourceKey = s3service.extractS3Key(imageUrl);
+            if (!imageReferenceFinder.isReferenced(imageUrl, sourceKey)) {
+                count("unreferenced", 1);
+                return 0;
+            }
+            final BufferedImage source = decode(download(sourceKey));
+            if (source == null) {
+                count("skipped", 1);
+                return 0;
+            }
+
+            final List<ImageVariant> variants = new ArrayList<>();
+            for (int width : widths) {
+                if (width >= source.getWidth()) {
+                    break;
+                }
+                final String variantKey = variantKey(sourceKey, width);
+                final byte[] encoded = encodeJpeg(resize(source, width));
+                put(variantKey, encoded);
+                uploadedFileMetadataService.record(variantKey, CONTENT_TYPE, encoded.length);
+                variants.add(ImageVariant.of(imageUrl, width, s3Client.getUrl(bucket, variantKey).toString(), variantKey));
+            }
+            if (!imageReferenceFinder.isReferenced(imageUrl, sourceKey)) {
+                s3service.deleteAllFromS3(variants.stream().map(ImageVariant::getS3Key).toList());
+                count("unreferenced", 1);
+                return 0;
+            }
+            imageVariantService.saveVariants(variants);
+            count("generated", variants.size());
+            return variants.size();
+        } catch (Exception e) {
+            log.warn("파생 이미지 생성 실패 - url : {}", imageUrl, e);
+            count("failed", 1);
+            return 0;
+        }
+    }
+
+    private byte[] download(final String s3Key) throws IOException {
+        try (S3Object object = s3Client.getObject(bucket, s3Key);
+             InputStream content = object.getObjectContent()) {
+            return content.readAllBytes();
+        }
+    }
+
+    // 헤더로 크기를 먼저 읽어 지나치게 큰 이미지는 픽셀을 메모리에 올리기 전에 거른다
+    private BufferedImage decode(final byte[] bytes) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+            final Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                log.warn("파생 이미지를 만들 수 없는 형식 - size : {}", bytes.length);
+                return null;
+            }
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                final long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > maxPixels) {
+                    log.warn("파생 이미지를 만들기에 너무 큰 원본 - pixels : {}", pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 한 번에 크게 줄이면 계단 현상이 생기므로 목표의 두 배 이하가 될 때까지 절반씩 줄인 뒤 맞춘다
+    private static BufferedImage resize(final BufferedImage source, final int width) {
+        final int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+        BufferedImage current = source;
+        while (true) {
+            final int nextWidth = Math.max(width, current.getWidth() / 2);
+            final int nextHeight = nextWidth == width ? height : Math.max(height, current.getHeight() / 2);
+            current = draw(current, nextWidth, nextHeight);
+            if (nextWidth == width) {
+                return current;
+            }
+        }
+    }
+
+    // JPEG 는 투명도를 담지 못하므로 흰 바탕 위에 그린다
+    private static BufferedImage draw(final BufferedImage source, final int width, final int height) {
+        final BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        final Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(final BufferedImage image) throws IOException {
+        final ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        final ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(jpegQuality);
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(bytes)) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return bytes.toByteArray();
+    }
+
+    private void put(final String s3Key, final byte[] bytes) {
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(CONTENT_TYPE);
+        metadata.setContentLength(bytes.length);
+        // 파생 이미지는 키마다 내용이 바뀌지 않으므로 오래 캐시하게 한다
+        metadata.setCacheControl(CACHE_CONTROL);
+        s3Client.putObject(bucket, s3Key, new ByteArrayInputStream(bytes), metadata);
+    }
+
+    // post/{uuid}.png -> post/{uuid}_w320.jpg
+    static String variantKey(final String sourceKey, final int width) {
+        final int extensionIndex = sourceKey.lastIndexOf('.');
+        final String base = extensionIndex > sourceKey.lastIndexOf('/') ? sourceKey.substring(0, extensionIndex) : sourceKey;
+        return base + "_w" + width + ".jpg";
+    }
+
+    private void count(final String outcome, final int amount) {
+        if (amount > 0) {
+            meterRegistry.counter(METRIC, "outcome", outcome).increment(amount);
+        }
+    }
+}
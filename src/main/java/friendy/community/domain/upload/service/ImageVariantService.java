@@ -0,0 +1,77 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.upload.model.ImageVariant;
+import friendy.community.domain.upload.repository.ImageVariantRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ImageVariantService {
+
+    private final ImageVariantRepository imageVariantRepository;
+
+    /**
+     * 표시 크기 이상인 파생 이미지 중 가장 작은 것을 고른다. 한 번의 조회로 여러 원본을 함께 처리한다.
+     *
+     * @return 알맞은 파생 이미지가 있는 원본 URL 에 대해서만 파생 이미지 URL 을 담는다
+     */
+    @Transactional(readOnly = true)
+    public Map<String, String> resolve(final Collection<String> sourceUrls, final ImageDisplaySize displaySize) {
+        final List<String> distinctUrls = sourceUrls.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        if (distinctUrls.isEmpty()) {
+            return Map.of();
+        }
+
+        final Map<String, ImageVariant> fittest = new HashMap<>();
+        for (ImageVariant variant : imageVariantRepository.findAllBySourceUrlIn(distinctUrls)) {
+            if (variant.getWidth() < displaySize.getWidth()) {
+                continue;
+            }
+            fittest.merge(variant.getSourceUrl(), variant,
+                (current, candidate) -> candidate.getWidth() < current.getWidth() ? candidate : current);
+        }
+
+        final Map<String, String> resolved = new HashMap<>();
+        fittest.forEach((sourceUrl, variant) -> resolved.put(sourceUrl, variant.getImageUrl()));
+        return resolved;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasVariants(final String sourceUrl) {
+        return imageVariantRepository.existsBySourceUrl(sourceUrl);
+    }
+
+    public void saveVariants(final List<ImageVariant> variants) {
+        imageVariantRepository.saveAll(variants);
+    }
+
+    /**
+     * 원본을 지울 때 파생 이미지 기록도 함께 지운다.
+     *
+     * @return 함께 지워야 할 파생 이미지의 S3 키
+     */
+    public List<String> removeVariants(final Collection<String> sourceUrls) {
+        if (sourceUrls.isEmpty()) {
+            return List.of();
+        }
+        final List<ImageVariant> variants = imageVariantRepository.findAllBySourceUrlIn(sourceUrls);
+        imageVariantRepository.deleteAllInBatch(variants);
+        return variants.stream()
+            .sorted(Comparator.comparing(ImageVariant::getId))
+            .map(ImageVariant::getS3Key)
+            .toList();
+    }
+}
@@ -0,0 +1,103 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.upload.event.S3DeletionEnqueuedEvent;
+import friendy.community.domain.upload.model.S3DeletionOutbox;
+import friendy.community.domain.upload.model.S3DeletionOutboxStatus;
+import friendy.community.domain.upload.repository.S3DeletionOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 지울 S3 객체 키를 요청 트랜잭션 안에서 아웃박스에 남긴다.
+ * 트랜잭션이 롤백되면 삭제 요청도 함께 사라지므로, DB 에 남은 행이 지워진 객체를 가리키는 일이 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class S3DeletionOutboxService {
+
+    private final S3DeletionOutboxRepository s3DeletionOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    @Value("${friendy.upload.deletion.lease:60000}")
+    private long leaseMillis;
+    @Value("${friendy.upload.deletion.retry.max-attempts:10}")
+    private int maxAttempts;
+    @Value("${friendy.upload.deletion.retry.base-delay:5000}")
+    private long baseDelayMillis;
+    @Value("${friendy.upload.deletion.retry.max-delay:600000}")
+    private long maxDelayMillis;
+
+    public void enqueue(final Collection<String> s3Keys) {
+        if (s3Keys.isEmpty()) {
+            return;
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        s3DeletionOutboxRepository.saveAll(s3Keys.stream()
+            .map(s3Key -> S3DeletionOutbox.of(s3Key, now))
+            .toList());
+        eventPublisher.publishEvent(new S3DeletionEnqueuedEvent(s3Keys.size()));
+    }
+
+    public List<S3DeletionOutbox> claim(final int batchSize) {
+        final LocalDateTime now = LocalDateTime.now();
+        final List<Long> dueIds = s3DeletionOutboxRepository.findDueIds(S3DeletionOutboxStatus.PENDING, now, PageRequest.of(0, batchSize));
+        if (dueIds.isEmpty()) {
+            return List.of();
+        }
+
+        final String claimToken = UUID.randomUUID().toString();
+        final int claimed = s3DeletionOutboxRepository.claim(
+            dueIds, S3DeletionOutboxStatus.PENDING, now, now.plusNanos(leaseMillis * 1_000_000), claimToken);
+        if (claimed == 0) {
+            return List.of();
+        }
+        return s3DeletionOutboxRepository.findAllByClaimToken(claimToken);
+    }
+
+    public void complete(final Collection<Long> deletedIds) {
+        if (!deletedIds.isEmpty()) {
+            s3DeletionOutboxRepository.deleteAllByIdInBatch(deletedIds);
+        }
+    }
+
+    /**
+     * 재시도 간격은 시도할 때마다 두 배로 늘리고, 한도를 넘기면 FAILED 로 남겨 더 시도하지 않는다.
+     *
+     * @return 재시도를 포기한 행 수
+     */
+    public int retry(final Collection<Long> failedIds) {
+        final LocalDateTime now = LocalDateTime.now();
+        int abandoned = 0;
+        for (S3DeletionOutbox outbox : s3DeletionOutboxRepository.findAllById(failedIds)) {
+            if (outbox.getAttempts() >= maxAttempts) {
+                log.warn("S3 객체 삭제 포기 - key : {}, attempts : {}", outbox.getS3Key(), outbox.getAttempts());
+                outbox.fail();
+                abandoned++;
+                continue;
+            }
+            outbox.retryAt(now.plusNanos(backoffMillis(outbox.getAttempts()) * 1_000_000));
+        }
+        return abandoned;
+    }
+
+    @Transactional(readOnly = true)
+    public long count(final S3DeletionOutboxStatus status) {
+        return s3DeletionOutboxRepository.countByStatus(status);
+    }
+
+    private long backoffMillis(final int attempts) {
+        final int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        return Math.min(maxDelayMillis, baseDelayMillis << exponent);
+    }
+}
@@ -0,0 +1,177 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.upload.event.S3DeletionEnqueuedEvent;
+import friendy.community.domain.upload.model.S3DeletionOutbox;
+import friendy.community.domain.upload.model.S3DeletionOutboxStatus;
+import friendy.community.global.exception.domain.BadGatewayException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 삭제 아웃박스에 쌓인 키를 커밋 이후 백그라운드에서 지운다.
+ * 한 배치를 S3 다중 삭제 요청 한 번으로 보내고, 실패한 키만 골라 백오프 후 다시 지운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3DeletionWorker {
+
+    static final String OBJECTS_METRIC = "friendy.s3.deletion.objects";
+    static final String BACKLOG_METRIC = "friendy.s3.deletion.backlog";
+
+    private final S3DeletionOutboxService s3DeletionOutboxService;
+    private final S3service s3service;
+    private final MeterRegistry meterRegistry;
+    @Value("${friendy.upload.deletion.worker.threads:1}")
+    private int threads;
+    @Value("${friendy.upload.deletion.worker.batch-size:1000}")
+    private int batchSize;
+    private final AtomicInteger activeDrains = new AtomicInteger();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final AtomicLong pendingBacklog = new AtomicLong();
+    private final AtomicLong failedBacklog = new AtomicLong();
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        batchSize = Math.min(batchSize, S3service.MAX_DELETE_KEYS);
+        final AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "s3-deletion-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder(BACKLOG_METRIC, pendingBacklog, AtomicLong::get)
+            .tag("status", "pending")
+            .register(meterRegistry);
+        Gauge.builder(BACKLOG_METRIC, failedBacklog, AtomicLong::get)
+            .tag("status", "failed")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onEnqueued(final S3DeletionEnqueuedEvent event) {
+        dispatch();
+    }
+
+    /**
+     * 워커 수만큼만 동시에 비운다. 이미 모두 돌고 있다면 요청 표시만 남기고, 돌던 워커가 한 바퀴 더 돌거나 끝나면서 다시 띄운다.
+     */
+    @Scheduled(fixedDelayString = "${friendy.upload.deletion.poll-interval:5000}")
+    public void dispatch() {
+        // 슬롯을 잡기 전에 표시해야 끝나 가는 워커가 이 요청을 놓치지 않는다
+        drainRequested.set(true);
+        if (activeDrains.incrementAndGet() > threads) {
+            activeDrains.decrementAndGet();
+            return;
+        }
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            activeDrains.decrementAndGet();
+        }
+    }
+
+    private void drain() {
+        try {
+            do {
+                drainRequested.set(false);
+                deletePending();
+            } while (drainRequested.get());
+        } catch (Exception e) {
+            log.warn("S3 객체 삭제 워커 오류", e);
+        } finally {
+            activeDrains.decrementAndGet();
+        }
+        if (drainRequested.get() && !executor.isShutdown()) {
+            dispatch();
+        }
+    }
+
+    /**
+     * 삭제 대상이 없을 때까지 배치 단위로 선점해 지우고, 남은 대기 건수를 게이지에 반영한다.
+     *
+     * @return 삭제에 성공한 객체 수
+     */
+    public int deletePending() {
+        int deleted = 0;
+        List<S3DeletionOutbox> batch;
+        while (!(batch = s3DeletionOutboxService.claim(batchSize)).isEmpty()) {
+            deleted += delete(batch);
+        }
+        pendingBacklog.set(s3DeletionOutboxService.count(S3DeletionOutboxStatus.PENDING));
+        failedBacklog.set(s3DeletionOutboxService.count(S3DeletionOutboxStatus.FAILED));
+        return deleted;
+    }
+
+    private int delete(final List<S3DeletionOutbox> batch) {
+        // 같은 키가 여러 번 들어와도 요청에는 한 번만 담는다
+        final Map<String, List<Long>> outboxIdsByKey = new HashMap<>();
+        for (S3DeletionOutbox outbox : batch) {
+            outboxIdsByKey.computeIfAbsent(outbox.getS3Key(), key -> new ArrayList<>()).add(outbox.getId());
+        }
+
+        final Set<String> failedKeys = deleteAll(outboxIdsByKey.keySet());
+        final List<Long> deletedIds = new ArrayList<>();
+        final List<Long> failedIds = new ArrayList<>();
+        outboxIdsByKey.forEach((key, ids) -> (failedKeys.contains(key) ? failedIds : deletedIds).addAll(ids));
+
+        s3DeletionOutboxService.complete(deletedIds);
+        int abandoned = 0;
+        if (!failedIds.isEmpty()) {
+            abandoned = s3DeletionOutboxService.retry(failedIds);
+        }
+        count("deleted", deletedIds.size());
+        count("retried", failedIds.size() - abandoned);
+        count("failed", abandoned);
+        return deletedIds.size();
+    }
+
+    // 요청 자체가 실패하면(연결 실패 등) 배치 전체를 다시 지운다
+    private Set<String> deleteAll(final Set<String> s3Keys) {
+        try {
+            final Set<String> failedKeys = s3service.deleteAllFromS3(s3Keys);
+            if (!failedKeys.isEmpty()) {
+                log.warn("S3 객체 일부 삭제 실패 - failed : {}, size : {}", failedKeys.size(), s3Keys.size());
+            }
+            return failedKeys;
+        } catch (BadGatewayException e) {
+            log.warn("S3 다중 삭제 요청 실패 - size : {}", s3Keys.size(), e);
+            return s3Keys;
+        }
+    }
+
+    private void count(final String outcome, final int amount) {
+        if (amount > 0) {
+            meterRegistry.counter(OBJECTS_METRIC, "outcome", outcome).increment(amount);
+        }
+    }
+}
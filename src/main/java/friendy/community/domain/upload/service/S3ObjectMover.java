@@ -0,0 +1,143 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.upload.controller.code.UploadExceptionCode;
+import friendy.community.global.exception.domain.BadGatewayException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여러 S3 객체를 다른 디렉터리로 옮기는 복사를 동시에 실행한다. 동시에 도는 복사 수는 전용 풀 크기로 제한한다.
+ * 하나라도 실패하면 이미 복사한 객체를 지워 되돌린다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3ObjectMover {
+
+    static final String COPY_METRIC = "friendy.s3.move.copy";
+
+    private final S3service s3service;
+    private final MeterRegistry meterRegistry;
+    @Value("${friendy.upload.move.concurrency:8}")
+    private int concurrency;
+    @Value("${friendy.upload.move.timeout-millis:10000}")
+    private long timeoutMillis;
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        final AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            final Thread thread = new Thread(runnable, "s3-move-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 이미 대상 디렉터리에 있는 URL 은 복사하지 않고 그대로 돌려준다.
+     *
+     * @return 요청한 순서대로 옮긴 뒤의 URL
+     */
+    public List<String> moveAll(final List<String> imageUrls, final String newDirName) {
+        final List<CompletableFuture<String>> moves = new ArrayList<>();
+        for (String imageUrl : imageUrls) {
+            if (isIn(imageUrl, newDirName)) {
+                moves.add(CompletableFuture.completedFuture(imageUrl));
+                continue;
+            }
+            moves.add(CompletableFuture.supplyAsync(() -> copy(imageUrl, newDirName), executor));
+        }
+
+        try {
+            CompletableFuture.allOf(moves.toArray(CompletableFuture[]::new)).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("S3 객체 이동 실패 - size : {}, dir : {}", imageUrls.size(), newDirName, e);
+            rollback(imageUrls, moves);
+            throw new BadGatewayException(UploadExceptionCode.S3_OBJECT_COPY_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rollback(imageUrls, moves);
+            throw new BadGatewayException(UploadExceptionCode.S3_OBJECT_COPY_FAILED);
+        }
+        return moves.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * moveAll 로 새로 복사한 객체만 지운다. 원래부터 대상 디렉터리에 있던 객체와 같은 내용이라 재사용한 객체는 건드리지 않는다.
+     */
+    public void deleteMoved(final List<String> sourceUrls, final List<String> movedUrls) {
+        for (int i = 0; i < movedUrls.size(); i++) {
+            if (isNewCopy(sourceUrls.get(i), movedUrls.get(i))) {
+                deleteQuietly(movedUrls.get(i));
+            }
+        }
+    }
+
+    private String copy(final String imageUrl, final String newDirName) {
+        final Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            final String movedUrl = s3service.moveS3Object(imageUrl, newDirName);
+            outcome = "success";
+            return movedUrl;
+        } finally {
+            sample.stop(meterRegistry.timer(COPY_METRIC, "outcome", outcome));
+        }
+    }
+
+    // 이미 끝난 복사는 바로, 아직 도는 복사는 끝나는 대로 지운다
+    private void rollback(final List<String> imageUrls, final List<CompletableFuture<String>> moves) {
+        for (int i = 0; i < moves.size(); i++) {
+            final String sourceUrl = imageUrls.get(i);
+            moves.get(i).thenAccept(movedUrl -> {
+                if (isNewCopy(sourceUrl, movedUrl)) {
+                    deleteQuietly(movedUrl);
+                }
+            });
+        }
+    }
+
+    private void deleteQuietly(final String imageUrl) {
+        try {
+            s3service.discardCopy(imageUrl);
+        } catch (RuntimeException e) {
+            log.warn("옮긴 S3 객체 정리 실패 - url : {}", imageUrl, e);
+        }
+    }
+
+    // 복사는 파일 이름을 그대로 두므로, 이름이 다르면 같은 내용의 다른 객체를 재사용한 것이다
+    private boolean isNewCopy(final String sourceUrl, final String movedUrl) {
+        return !movedUrl.equals(sourceUrl) && fileName(movedUrl).equals(fileName(sourceUrl));
+    }
+
+    private String fileName(final String imageUrl) {
+        final String s3Key = s3service.extractS3Key(imageUrl);
+        return s3Key.substring(s3Key.lastIndexOf('/') + 1);
+    }
+
+    private boolean isIn(final String imageUrl, final String dirName) {
+        return s3service.extractS3Key(imageUrl).startsWith(dirName + "/");
+    }
+}
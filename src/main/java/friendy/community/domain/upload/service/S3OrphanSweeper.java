@@ -0,0 +1,158 @@
+package friendy.community.domain.upload.service;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import friendy.community.domain.upload.model.ImageVariant;
+import friendy.community.domain.upload.repository.ImageVariantRepository;
+import friendy.community.global.exception.domain.BadGatewayException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 버킷을 주기적으로 훑어 더 이상 쓰이지 않는 객체를 지운다.
+ * temp/ 는 TTL 이 지난 객체를 모두 지우고, post/ 와 profile/ 은 게시글 이미지나 프로필 이미지로 쓰이지 않고
+ * 중복 업로드가 재사용 중이지도 않은 객체만 지운다. 파생 이미지는 원본이 쓰이는 동안만 남긴다.
+ * 목록은 한 페이지씩 내려받아 그 페이지의 키만 DB 와 대조하고 바로 다중 삭제하므로, 버킷 크기와 관계없이 메모리에는 한 페이지만 올라간다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3OrphanSweeper {
+
+    static final String OBJECTS_METRIC = "friendy.s3.sweeper.objects";
+    static final String BYTES_METRIC = "friendy.s3.sweeper.reclaimed.bytes";
+    static final String TEMP_PREFIX = "temp/";
+    static final List<String> STORED_PREFIXES = List.of("post/", "profile/");
+
+    private final AmazonS3 s3Client;
+    private final S3service s3service;
+    private final ImageReferenceFinder imageReferenceFinder;
+    private final ImageVariantRepository imageVariantRepository;
+    private final MeterRegistry meterRegistry;
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+    @Value("${friendy.upload.sweeper.page-size:1000}")
+    private int pageSize;
+    @Value("${friendy.upload.sweeper.temp-ttl:86400000}")
+    private long tempTtlMillis;
+    @Value("${friendy.upload.sweeper.orphan-grace:86400000}")
+    private long orphanGraceMillis;
+
+    @PostConstruct
+    void init() {
+        pageSize = Math.min(pageSize, S3service.MAX_DELETE_KEYS);
+    }
+
+    @Scheduled(
+        fixedDelayString = "${friendy.upload.sweeper.interval:3600000}",
+        initialDelayString = "${friendy.upload.sweeper.initial-delay:600000}"
+    )
+    public void scheduledSweep() {
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.warn("S3 정리 작업 오류", e);
+        }
+    }
+
+    /**
+     * @return 지운 객체들의 총 크기(바이트)
+     */
+    public long sweep() {
+        final Instant now = Instant.now();
+        long reclaimedBytes = sweep(TEMP_PREFIX, now.minusMillis(tempTtlMillis), keys -> Set.of());
+        for (String prefix : STORED_PREFIXES) {
+            reclaimedBytes += sweep(prefix, now.minusMillis(orphanGraceMillis), this::findReferencedKeys);
+        }
+        return reclaimedBytes;
+    }
+
+    private long sweep(final String prefix, final Instant cutoff, final Function<List<String>, Set<String>> referencedKeys) {
+        final ListObjectsV2Request request = new ListObjectsV2Request()
+            .withBucketName(bucket)
+            .withPrefix(prefix)
+            .withMaxKeys(pageSize);
+        long reclaimedBytes = 0;
+        ListObjectsV2Result page;
+        do {
+            page = s3Client.listObjectsV2(request);
+            final List<S3ObjectSummary> expired = page.getObjectSummaries().stream()
+                .filter(summary -> summary.getLastModified().toInstant().isBefore(cutoff))
+                .toList();
+            if (!expired.isEmpty()) {
+                final Set<String> referenced = referencedKeys.apply(expired.stream().map(S3ObjectSummary::getKey).toList());
+                final List<S3ObjectSummary> orphans = expired.stream()
+                    .filter(summary -> !referenced.contains(summary.getKey()))
+                    .toList();
+                reclaimedBytes += delete(prefix, orphans);
+            }
+            request.setContinuationToken(page.getNextContinuationToken());
+        } while (page.isTruncated());
+        return reclaimedBytes;
+    }
+
+    // 게시글 이미지는 URL 로 저장돼 있으므로 저장할 때와 같은 방식으로 키를 URL 로 바꿔 대조한다
+    private Set<String> findReferencedKeys(final List<String> s3Keys) {
+        final Map<String, String> keysByUrl = s3Keys.stream()
+            .collect(Collectors.toMap(s3Key -> s3Client.getUrl(bucket, s3Key).toString(), Function.identity()));
+
+        final Set<String> referenced = new HashSet<>(imageReferenceFinder.findReferencedKeys(keysByUrl));
+        final List<ImageVariant> variants = imageVariantRepository.findAllByS3KeyIn(s3Keys);
+        if (!variants.isEmpty()) {
+            // 원본이 지워지는 사이에 기록된 파생 이미지도 원본을 따라 지워지도록 원본이 쓰이는지로 판단한다
+            final Map<String, String> sourceKeysByUrl = variants.stream()
+                .map(ImageVariant::getSourceUrl)
+                .distinct()
+                .collect(Collectors.toMap(Function.identity(), s3service::extractS3Key));
+            final Set<String> referencedSources = imageReferenceFinder.findReferencedKeys(sourceKeysByUrl);
+            variants.stream()
+                .filter(variant -> referencedSources.contains(sourceKeysByUrl.get(variant.getSourceUrl())))
+                .forEach(variant -> referenced.add(variant.getS3Key()));
+        }
+        return referenced;
+    }
+
+    // 실패한 키는 다음 주기에 다시 목록에 잡히므로 따로 재시도하지 않는다
+    private long delete(final String prefix, final List<S3ObjectSummary> orphans) {
+        if (orphans.isEmpty()) {
+            return 0;
+        }
+        final Set<String> failedKeys;
+        try {
+            failedKeys = s3service.deleteAllFromS3(orphans.stream().map(S3ObjectSummary::getKey).toList());
+        } catch (BadGatewayException | SdkClientException e) {
+            log.warn("S3 정리 삭제 요청 실패 - prefix : {}, size : {}", prefix, orphans.size(), e);
+            return 0;
+        }
+
+        final List<S3ObjectSummary> deleted = orphans.stream()
+            .filter(summary -> !failedKeys.contains(summary.getKey()))
+            .toList();
+        if (!deleted.isEmpty()) {
+            imageVariantRepository.deleteAllByS3KeyIn(deleted.stream().map(S3ObjectSummary::getKey).toList());
+        }
+        final long bytes = deleted.stream().mapToLong(S3ObjectSummary::getSize).sum();
+        meterRegistry.counter(OBJECTS_METRIC, "prefix", prefix).increment(deleted.size());
+        meterRegistry.counter(BYTES_METRIC, "prefix", prefix).increment(bytes);
+        if (!deleted.isEmpty()) {
+            log.info("S3 고아 객체 정리 - prefix : {}, objects : {}, bytes : {}", prefix, deleted.size(), bytes);
+        }
+        return bytes;
+    }
+}
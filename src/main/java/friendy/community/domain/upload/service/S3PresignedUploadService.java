@@ -0,0 +1,145 @@
+package friendy.community.domain.upload.service;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import friendy.community.domain.upload.controller.code.UploadExceptionCode;
+import friendy.community.domain.upload.dto.request.PresignedUploadConfirmRequest;
+import friendy.community.domain.upload.dto.request.PresignedUploadRequest;
+import friendy.community.domain.upload.dto.response.PresignedUploadResponse;
+import friendy.community.domain.upload.dto.response.UploadResponse;
+import friendy.community.global.exception.domain.BadGatewayException;
+import friendy.community.global.exception.domain.BadRequestException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+/**
+ * 클라이언트가 이미지를 서버를 거치지 않고 S3 에 바로 올리도록 서명된 PUT URL 을 발급하고, 업로드가 끝나면 확인한다.
+ * URL 에는 Content-Type 과 Content-Length 를 서명에 포함해 발급 시 검사한 형식과 크기로만 올릴 수 있고,
+ * 확인 단계에서 객체 메타데이터와 앞부분 몇 바이트만 읽어 실제 형식을 검사한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3PresignedUploadService {
+
+    static final String UPLOAD_DIR = "temp";
+    private static final int SIGNATURE_BYTES = 16;
+
+    private final AmazonS3 s3Client;
+    private final S3service s3service;
+    private final UploadedFileMetadataService uploadedFileMetadataService;
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+    @Value("${friendy.upload.presigned.expiration:600000}")
+    private long expirationMillis;
+    @Value("${friendy.upload.presigned.max-size:10485760}")
+    private long maxSize;
+
+    public PresignedUploadResponse issue(final PresignedUploadRequest request) {
+        final String extension = extractExtension(request.fileName());
+        if (!ImageSignature.isAllowed(extension, request.contentType())) {
+            throw new BadRequestException(UploadExceptionCode.INVALID_FILE_FORMAT);
+        }
+        if (request.contentLength() > maxSize) {
+            throw new BadRequestException(UploadExceptionCode.FILE_SIZE_EXCEEDED);
+        }
+
+        final String key = s3service.generateStoredFileName(request.fileName(), UPLOAD_DIR);
+        final Date expiration = new Date(System.currentTimeMillis() + expirationMillis);
+        final GeneratePresignedUrlRequest presignedUrlRequest = new GeneratePresignedUrlRequest(bucket, key, HttpMethod.PUT)
+            .withExpiration(expiration)
+            .withContentType(request.contentType());
+        presignedUrlRequest.putCustomRequestHeader(Headers.CONTENT_LENGTH, String.valueOf(request.contentLength()));
+
+        final String uploadUrl;
+        try {
+            uploadUrl = s3Client.generatePresignedUrl(presignedUrlRequest).toString();
+        } catch (SdkClientException e) {
+            throw new BadGatewayException(UploadExceptionCode.S3_UPLOAD_ERROR);
+        }
+        return new PresignedUploadResponse(uploadUrl, key, LocalDateTime.ofInstant(expiration.toInstant(), ZoneId.systemDefault()));
+    }
+
+    /**
+     * 확인을 통과한 객체만 기존 업로드 API 와 같은 URL 로 돌려주므로 게시글/프로필 저장 흐름은 그대로 쓴다.
+     * 형식이나 크기가 맞지 않으면 객체를 지운다.
+     */
+    public UploadResponse confirm(final PresignedUploadConfirmRequest request) {
+        final String key = request.key();
+        if (!key.startsWith(UPLOAD_DIR + "/") || key.contains("..")) {
+            throw new BadRequestException(UploadExceptionCode.INVALID_UPLOAD_KEY);
+        }
+
+        final ObjectMetadata metadata = getObjectMetadata(key);
+        if (metadata.getContentLength() > maxSize) {
+            deleteQuietly(key);
+            throw new BadRequestException(UploadExceptionCode.FILE_SIZE_EXCEEDED);
+        }
+        final boolean validSignature = ImageSignature.detect(readHead(key), SIGNATURE_BYTES)
+            .filter(signature -> signature.supports(extractExtension(key)))
+            .filter(signature -> signature.getContentType().equals(metadata.getContentType()))
+            .isPresent();
+        if (!validSignature) {
+            deleteQuietly(key);
+            throw new BadRequestException(UploadExceptionCode.INVALID_FILE_FORMAT);
+        }
+        uploadedFileMetadataService.record(key, metadata.getContentType(), metadata.getContentLength());
+        return new UploadResponse(s3Client.getUrl(bucket, key).toString());
+    }
+
+    private ObjectMetadata getObjectMetadata(final String key) {
+        try {
+            return s3Client.getObjectMetadata(bucket, key);
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == HttpStatus.NOT_FOUND.value()) {
+                throw new BadRequestException(UploadExceptionCode.UPLOADED_FILE_NOT_FOUND);
+            }
+            throw new BadGatewayException(UploadExceptionCode.FILE_TYPE_UNAVAILABLE);
+        } catch (SdkClientException e) {
+            throw new BadGatewayException(UploadExceptionCode.FILE_TYPE_UNAVAILABLE);
+        }
+    }
+
+    private byte[] readHead(final String key) {
+        final byte[] head = new byte[SIGNATURE_BYTES];
+        try (S3Object object = s3Client.getObject(new GetObjectRequest(bucket, key).withRange(0, SIGNATURE_BYTES - 1));
+             InputStream inputStream = object.getObjectContent()) {
+            inputStream.readNBytes(head, 0, SIGNATURE_BYTES);
+            return head;
+        } catch (IOException | SdkClientException e) {
+            throw new BadGatewayException(UploadExceptionCode.FILE_TYPE_UNAVAILABLE);
+        }
+    }
+
+    private void deleteQuietly(final String key) {
+        try {
+            s3Client.deleteObject(bucket, key);
+        } catch (SdkClientException e) {
+            log.warn("검증에 실패한 업로드 파일 삭제 실패 - key : {}", key, e);
+        }
+    }
+
+    private static String extractExtension(final String fileName) {
+        final int dot = fileName.lastIndexOf('.');
+        if (dot < 0 || dot == fileName.length() - 1) {
+            throw new BadRequestException(UploadExceptionCode.UNSUPPORTED_FILE_EXTENSION);
+        }
+        return fileName.substring(dot + 1);
+    }
+}
@@ -0,0 +1,265 @@
+package friendy.community.domain.upload.service;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import friendy.community.domain.upload.controller.code.UploadExceptionCode;
+import friendy.community.global.exception.domain.BadGatewayException;
+import friendy.community.global.exception.domain.BadRequestException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * 요청 본문을 디스크나 메모리에 모으지 않고 고정 크기 파트로 잘라 S3 멀티파트 업로드로 바로 흘려보낸다.
+ * 업로드 하나가 동시에 들고 있는 파트 버퍼는 max-in-flight-parts 개를 넘지 않으며,
+ * 형식(매직 바이트)과 크기는 읽는 도중에 검사해 어긋나는 순간 업로드를 중단한다.
+ * 읽는 동안 SHA-256 을 함께 구해, 같은 내용의 객체가 이미 있으면 PUT 을 건너뛰거나 멀티파트 업로드를 완료하지 않고 중단한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class S3StreamingUploader {
+
+    private final AmazonS3 s3Client;
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+    // S3 는 마지막 파트를 제외한 파트가 5MB 이상이어야 한다
+    @Value("${friendy.upload.stream.part-size:5242880}")
+    private int partSize;
+    @Value("${friendy.upload.stream.max-size:52428800}")
+    private long maxSize;
+    @Value("${friendy.upload.stream.max-in-flight-parts:4}")
+    private int maxInFlightParts;
+    @Value("${friendy.upload.stream.threads:4}")
+    private int threads;
+    private ExecutorService executor;
+
+    @PostConstruct
+    void init() {
+        final AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            final Thread thread = new Thread(runnable, "s3-part-upload-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public UploadedObject upload(final InputStream inputStream, final String key, final String extension) {
+        return upload(inputStream, key, extension, sha256 -> null);
+    }
+
+    /**
+     * @param reusableUrl 내용 해시로 이미 저장된 객체의 URL 을 찾는다. 없으면 null 을 돌려준다
+     * @return 업로드한(또는 재사용한) 객체의 URL 과 Content-Type, 크기, 내용 해시
+     */
+    public UploadedObject upload(
+        final InputStream inputStream,
+        final String key,
+        final String extension,
+        final UnaryOperator<String> reusableUrl
+    ) {
+        final Semaphore permits = new Semaphore(maxInFlightParts);
+        acquire(permits);
+        final byte[] firstPart = new byte[partSize];
+        final int firstLength = read(inputStream, firstPart);
+        if (firstLength == 0) {
+            throw new BadRequestException(UploadExceptionCode.EMPTY_FILE);
+        }
+        final ImageSignature signature = ImageSignature.detect(firstPart, firstLength)
+            .filter(detected -> detected.supports(extension))
+            .orElseThrow(() -> new BadRequestException(UploadExceptionCode.INVALID_FILE_FORMAT));
+        validateSize(firstLength);
+        final MessageDigest digest = sha256Digest();
+        digest.update(firstPart, 0, firstLength);
+
+        final ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(signature.getContentType());
+        if (firstLength < partSize) {
+            final String sha256 = HexFormat.of().formatHex(digest.digest());
+            final String existingUrl = reusableUrl.apply(sha256);
+            if (existingUrl != null) {
+                return new UploadedObject(existingUrl, signature.getContentType(), firstLength, sha256, true);
+            }
+            putObject(key, firstPart, firstLength, metadata);
+            return new UploadedObject(s3Client.getUrl(bucket, key).toString(), signature.getContentType(), firstLength, sha256, false);
+        }
+        return multipartUpload(inputStream, key, metadata, firstPart, permits, digest, reusableUrl);
+    }
+
+    private void putObject(final String key, final byte[] content, final int length, final ObjectMetadata metadata) {
+        metadata.setContentLength(length);
+        try {
+            s3Client.putObject(bucket, key, new ByteArrayInputStream(content, 0, length), metadata);
+        } catch (SdkClientException e) {
+            throw new BadGatewayException(UploadExceptionCode.S3_UPLOAD_ERROR);
+        }
+    }
+
+    private UploadedObject multipartUpload(
+        final InputStream inputStream,
+        final String key,
+        final ObjectMetadata metadata,
+        final byte[] firstPart,
+        final Semaphore permits,
+        final MessageDigest digest,
+        final UnaryOperator<String> reusableUrl
+    ) {
+        final String uploadId = initiate(key, metadata);
+        final List<Future<PartETag>> parts = new ArrayList<>();
+        final AtomicReference<Exception> failure = new AtomicReference<>();
+        try {
+            byte[] buffer = firstPart;
+            int length = partSize;
+            long totalSize = length;
+            int partNumber = 1;
+            while (length > 0) {
+                parts.add(submitPart(key, uploadId, partNumber++, buffer, length, permits, failure));
+                if (length < partSize) {
+                    break;
+                }
+                // 앞선 파트가 끝나 버퍼가 돌아올 때까지 본문을 더 읽지 않는다
+                acquire(permits);
+                if (failure.get() != null) {
+                    throw new BadGatewayException(UploadExceptionCode.S3_UPLOAD_ERROR);
+                }
+                buffer = new byte[partSize];
+                length = read(inputStream, buffer);
+                digest.update(buffer, 0, length);
+                totalSize += length;
+                validateSize(totalSize);
+            }
+
+            final List<PartETag> partETags = new ArrayList<>();
+            for (Future<PartETag> part : parts) {
+                partETags.add(part.get());
+            }
+            final String sha256 = HexFormat.of().formatHex(digest.digest());
+            final String existingUrl = reusableUrl.apply(sha256);
+            if (existingUrl != null) {
+                // 완료하지 않은 멀티파트 업로드는 객체를 남기지 않으므로 중단만 하면 된다
+                abort(key, uploadId, parts);
+                return new UploadedObject(existingUrl, metadata.getContentType(), totalSize, sha256, true);
+            }
+            s3Client.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+            return new UploadedObject(s3Client.getUrl(bucket, key).toString(), metadata.getContentType(), totalSize, sha256, false);
+        } catch (RuntimeException | ExecutionException e) {
+            abort(key, uploadId, parts);
+            if (e instanceof RuntimeException runtimeException && !(e instanceof SdkClientException)) {
+                throw runtimeException;
+            }
+            log.warn("S3 멀티파트 업로드 실패 - key : {}", key, e);
+            throw new BadGatewayException(UploadExceptionCode.S3_UPLOAD_ERROR);
+        } catch (InterruptedException e) {
+            abort(key, uploadId, parts);
+            Thread.currentThread().interrupt();
+            throw new BadGatewayException(UploadExceptionCode.S3_UPLOAD_ERROR);
+        }
+    }
+
+    private Future<PartETag> submitPart(
+        final String key,
+        final String uploadId,
+        final int partNumber,
+        final byte[] buffer,
+        final int length,
+        final Semaphore permits,
+        final AtomicReference<Exception> failure
+    ) {
+        return executor.submit(() -> {
+            try {
+                return s3Client.uploadPart(new UploadPartRequest()
+                    .withBucketName(bucket)
+                    .withKey(key)
+                    .withUploadId(uploadId)
+                    .withPartNumber(partNumber)
+                    .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                    .withPartSize(length)
+                ).getPartETag();
+            } catch (Exception e) {
+                failure.compareAndSet(null, e);
+                throw e;
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private String initiate(final String key, final ObjectMetadata metadata) {
+        try {
+            return s3Client.initiateMultipartUpload(new InitiateMultipartUploadRequest(bucket, key, metadata)).getUploadId();
+        } catch (SdkClientException e) {
+            throw new BadGatewayException(UploadExceptionCode.S3_UPLOAD_ERROR);
+        }
+    }
+
+    private void abort(final String key, final String uploadId, final List<Future<PartETag>> parts) {
+        parts.forEach(part -> part.cancel(true));
+        try {
+            s3Client.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+        } catch (SdkClientException e) {
+            log.warn("S3 멀티파트 업로드 중단 실패 - key : {}, uploadId : {}", key, uploadId, e);
+        }
+    }
+
+    private void validateSize(final long size) {
+        if (size > maxSize) {
+            throw new BadRequestException(UploadExceptionCode.FILE_SIZE_EXCEEDED);
+        }
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static int read(final InputStream inputStream, final byte[] buffer) {
+        try {
+            return inputStream.readNBytes(buffer, 0, buffer.length);
+        } catch (IOException e) {
+            throw new BadRequestException(UploadExceptionCode.UPLOAD_STREAM_INTERRUPTED);
+        }
+    }
+
+    private static void acquire(final Semaphore permits) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BadGatewayException(UploadExceptionCode.S3_UPLOAD_ERROR);
+        }
+    }
+}
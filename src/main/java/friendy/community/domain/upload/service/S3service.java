@@ -1,5 +1,6 @@
 package friendy.community.domain.upload.service;
 
+import com.amazonaws.SdkClientException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.*;
 import friendy.community.domain.upload.controller.code.UploadExceptionCode;
@@ -16,6 +17,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -23,54 +31,99 @@ import java.util.UUID;
 @Slf4j
 public class S3service {
 
+    public static final int MAX_DELETE_KEYS = 1000;
+
     private final AmazonS3 s3Client;
     private final S3exception s3exception;
+    private final S3StreamingUploader s3StreamingUploader;
+    private final UploadedFileMetadataService uploadedFileMetadataService;
+    private final StoredContentService storedContentService;
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    /**
+     * 같은 내용의 객체가 이미 저장돼 있으면 새로 올리지 않고 그 객체의 URL 을 돌려준다.
+     */
     public UploadResponse upload(MultipartFile multipartFile, String dirName) {
         s3exception.validateFile(multipartFile);
 
-        String imageUrl = putS3(multipartFile, generateStoredFileName(multipartFile, dirName));
+        String sha256 = sha256(multipartFile);
+        String existingUrl = storedContentService.reuse(sha256);
+        if (existingUrl != null) {
+            return new UploadResponse(existingUrl);
+        }
+        String imageUrl = putS3(multipartFile, generateStoredFileName(multipartFile, dirName), sha256);
 
         return new UploadResponse(imageUrl);
     }
 
+    public UploadResponse uploadStream(InputStream inputStream, String fileName, String dirName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new BadRequestException(UploadExceptionCode.MISSING_FILE_NAME);
+        }
+        if (!fileName.contains(".")) {
+            throw new BadRequestException(UploadExceptionCode.UNSUPPORTED_FILE_EXTENSION);
+        }
+        String extension = fileName.substring(fileName.lastIndexOf(".") + 1);
+
+        String storedFileName = generateStoredFileName(fileName, dirName);
+        UploadedObject uploadedObject = s3StreamingUploader.upload(inputStream, storedFileName, extension, storedContentService::reuse);
+        if (!uploadedObject.reused()) {
+            uploadedFileMetadataService.record(
+                storedFileName, uploadedObject.contentType(), uploadedObject.contentLength(), uploadedObject.sha256());
+        }
+
+        return new UploadResponse(uploadedObject.url());
+    }
+
     public String generateStoredFileName(MultipartFile multipartFile, String dirName) {
-        String originalFileName = multipartFile.getOriginalFilename();
+        return generateStoredFileName(multipartFile.getOriginalFilename(), dirName);
+    }
 
+    public String generateStoredFileName(String originalFileName, String dirName) {
         String extension = originalFileName.substring(originalFileName.lastIndexOf("."));
         String uuid = UUID.randomUUID().toString();
         return dirName + "/" + uuid + extension;
     }
 
+    /**
+     * 같은 내용의 객체가 이미 저장돼 있으면 복사하지 않고 그 객체의 URL 을 돌려준다.
+     * 새로 복사한 객체는 내용 해시와 함께 기록해 이후 같은 내용의 업로드가 재사용하게 한다.
+     */
     public String moveS3Object(String imageUrl, String newDirName) {
         String oldKey = extractFilePath(imageUrl);
+        String sha256 = uploadedFileMetadataService.findSha256(oldKey);
+        if (sha256 != null) {
+            String existingUrl = storedContentService.reuse(sha256);
+            if (existingUrl != null) {
+                return existingUrl;
+            }
+        }
+
         String fileName = oldKey.substring(oldKey.lastIndexOf("/") + 1);
         String newKey = newDirName + "/" + fileName;
 
         copyObject(bucket, oldKey, bucket, newKey);
+        uploadedFileMetadataService.recordCopy(oldKey, newKey);
 
-        return s3Client.getUrl(bucket, newKey).toString();
+        String newUrl = s3Client.getUrl(bucket, newKey).toString();
+        if (sha256 != null) {
+            storedContentService.register(sha256, newKey, newUrl);
+        }
+        return newUrl;
     }
 
     public String extractFilePath(String imageUrl) {
         try {
             URL url = new URL(imageUrl);
-            String path = url.getPath();
-            return path.substring(1);
+            return toKey(url.getPath());
         } catch (MalformedURLException e) {
             throw new BadRequestException(UploadExceptionCode.INVALID_URL_FORMAT);
         }
     }
 
     public String getContentTypeFromS3(String key) {
-        try {
-            S3Object object = s3Client.getObject(new GetObjectRequest(bucket, key));
-            return object.getObjectMetadata().getContentType();
-        } catch (Exception e) {
-            throw new BadGatewayException(UploadExceptionCode.FILE_TYPE_UNAVAILABLE);
-        }
+        return uploadedFileMetadataService.get(key).contentType();
     }
 
     public void deleteFromS3(String s3Key) {
@@ -79,19 +132,87 @@ public class S3service {
         } catch (AmazonS3Exception e) {
             throw new BadGatewayException(UploadExceptionCode.FILE_DELETION_FAILED);
         }
+        uploadedFileMetadataService.evict(s3Key);
+        storedContentService.forget(List.of(s3Key));
+    }
+
+    /**
+     * 저장이 실패해 moveS3Object 로 새로 복사한 객체를 되돌린다.
+     * 등록과 실패 사이에 같은 내용의 다른 업로드가 이 객체를 재사용했으면 지우지 않는다.
+     */
+    public void discardCopy(String imageUrl) {
+        if (storedContentService.discard(imageUrl)) {
+            deleteFromS3(extractS3Key(imageUrl));
+        }
+    }
+
+    /**
+     * 여러 객체를 한 번의 다중 삭제 요청으로 지운다. 한 요청에 담을 수 있는 키는 최대 {@value #MAX_DELETE_KEYS} 개다.
+     *
+     * @return 삭제하지 못한 키
+     */
+    public Set<String> deleteAllFromS3(Collection<String> s3Keys) {
+        if (s3Keys.isEmpty()) {
+            return Set.of();
+        }
+        if (s3Keys.size() > MAX_DELETE_KEYS) {
+            throw new IllegalArgumentException("한 번에 삭제할 수 있는 키는 " + MAX_DELETE_KEYS + "개까지입니다.");
+        }
+
+        Set<String> failedKeys = new HashSet<>();
+        try {
+            s3Client.deleteObjects(new DeleteObjectsRequest(bucket)
+                .withKeys(s3Keys.toArray(String[]::new))
+                .withQuiet(true));
+        } catch (MultiObjectDeleteException e) {
+            e.getErrors().forEach(error -> failedKeys.add(error.getKey()));
+        } catch (SdkClientException e) {
+            throw new BadGatewayException(UploadExceptionCode.FILE_DELETION_FAILED);
+        }
+
+        List<String> deletedKeys = s3Keys.stream()
+            .filter(s3Key -> !failedKeys.contains(s3Key))
+            .toList();
+        uploadedFileMetadataService.evictAll(deletedKeys);
+        storedContentService.forget(deletedKeys);
+        return failedKeys;
     }
 
     public String extractS3Key(String imageUrl) {
         try {
             URL url = new URL(imageUrl);
-            String path = url.getPath();
-            return path.substring(1);
+            return toKey(url.getPath());
         } catch (MalformedURLException e) {
             throw new BadRequestException(UploadExceptionCode.INVALID_URL_FORMAT);
         }
     }
 
-    private String putS3(MultipartFile multipartFile, String uuidFileName) {
+    // path-style URL(https://s3.../bucket/key)이면 경로 앞의 버킷 이름을 뗀다
+    private String toKey(String path) {
+        String bucketPrefix = "/" + bucket + "/";
+        if (path.startsWith(bucketPrefix)) {
+            return path.substring(bucketPrefix.length());
+        }
+        return path.substring(1);
+    }
+
+    private String sha256(MultipartFile multipartFile) {
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) > 0) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException e) {
+            throw new BadGatewayException(UploadExceptionCode.S3_UPLOAD_ERROR);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String putS3(MultipartFile multipartFile, String uuidFileName, String sha256) {
         ObjectMetadata metadata = new ObjectMetadata();
         metadata.setContentLength(multipartFile.getSize());
         metadata.setContentType(multipartFile.getContentType());
@@ -101,6 +222,7 @@ public class S3service {
         } catch (IOException e) {
             throw new BadGatewayException(UploadExceptionCode.S3_UPLOAD_ERROR);
         }
+        uploadedFileMetadataService.record(uuidFileName, multipartFile.getContentType(), multipartFile.getSize(), sha256);
         return s3Client.getUrl(bucket, uuidFileName).toString();
     }
 
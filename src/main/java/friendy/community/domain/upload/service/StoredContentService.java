@@ -0,0 +1,139 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.upload.model.StoredContent;
+import friendy.community.domain.upload.repository.StoredContentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 내용이 같은 업로드가 하나의 S3 객체를 함께 쓰도록 SHA-256 으로 객체를 찾고, 게시글/프로필 이미지의 참조 수를 관리한다.
+ * 기록이 없는 예전 객체는 지금까지처럼 참조가 하나뿐인 것으로 본다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class StoredContentService {
+
+    static final String DEDUP_METRIC = "friendy.upload.dedup";
+
+    private final StoredContentRepository storedContentRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    @Value("${friendy.upload.dedup.reuse-grace:86400000}")
+    private long reuseGraceMillis;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        // 객체는 이미 S3 에 있으므로 호출한 쪽 트랜잭션과 관계없이 기록을 남긴다
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 같은 내용의 객체가 이미 있으면 재사용 시각을 남기고 그 URL 을 돌려준다.
+     *
+     * @return 재사용할 객체의 URL, 없으면 null
+     */
+    public String reuse(final String sha256) {
+        final String imageUrl = storedContentRepository.findBySha256(sha256)
+            .filter(content -> storedContentRepository.markReused(content.getId(), LocalDateTime.now()) == 1)
+            .map(StoredContent::getImageUrl)
+            .orElse(null);
+        meterRegistry.counter(DEDUP_METRIC, "outcome", imageUrl == null ? "miss" : "hit").increment();
+        return imageUrl;
+    }
+
+    // 바깥 트랜잭션 없이 별도 트랜잭션 하나로만 기록해 커넥션을 두 개 잡지 않는다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void register(final String sha256, final String s3Key, final String imageUrl) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!storedContentRepository.existsBySha256(sha256)) {
+                    storedContentRepository.save(StoredContent.of(sha256, s3Key, imageUrl));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용을 동시에 옮긴 경우로, 먼저 기록된 객체를 쓰고 이 객체는 참조 없는 예전 객체처럼 다룬다
+            log.debug("저장 객체 중복 기록 - key : {}", s3Key);
+        }
+    }
+
+    public void acquire(final String imageUrl) {
+        storedContentRepository.increaseRefCount(imageUrl);
+    }
+
+    /**
+     * 참조를 하나씩 줄이고, 더 이상 참조하지 않아 지워도 되는 URL 만 돌려준다.
+     * 최근에 재사용돼 곧 다시 참조될 수 있는 객체는 남겨 두고 정리 작업에 맡긴다.
+     */
+    public List<String> release(final Collection<String> imageUrls) {
+        final LocalDateTime reusedBefore = reuseCutoff();
+        final List<String> releasable = new ArrayList<>();
+        for (String imageUrl : imageUrls) {
+            if (!storedContentRepository.existsByImageUrl(imageUrl)) {
+                releasable.add(imageUrl);
+                continue;
+            }
+            storedContentRepository.decreaseRefCount(imageUrl);
+            if (storedContentRepository.deleteReleased(imageUrl, reusedBefore) == 1) {
+                releasable.add(imageUrl);
+            }
+        }
+        return releasable;
+    }
+
+    /**
+     * 저장 트랜잭션이 실패해 새로 복사한 객체를 되돌릴 때, 그 객체를 지워도 되는지 판단한다.
+     * 기록이 없으면 이 복사본만 쓰는 것이고, 기록이 있으면 그 사이 아무도 참조하거나 재사용하지 않았을 때만 기록을 지운다.
+     *
+     * @return 객체를 지워도 되면 true
+     */
+    public boolean discard(final String imageUrl) {
+        if (!storedContentRepository.existsByImageUrl(imageUrl)) {
+            return true;
+        }
+        return storedContentRepository.deleteUnused(imageUrl) == 1;
+    }
+
+    /**
+     * 참조 중이거나 유예 기간 안에 재사용된 키. 정리 작업은 이 키를 지우지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public Set<String> findPinnedKeys(final Collection<String> s3Keys) {
+        if (s3Keys.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(storedContentRepository.findPinnedS3Keys(s3Keys, reuseCutoff()));
+    }
+
+    // 지운 객체를 다시 돌려주지 않도록 기록을 지운다
+    public void forget(final Collection<String> s3Keys) {
+        if (!s3Keys.isEmpty()) {
+            storedContentRepository.deleteAllByS3KeyIn(s3Keys);
+        }
+    }
+
+    private LocalDateTime reuseCutoff() {
+        return LocalDateTime.now().minus(Duration.ofMillis(reuseGraceMillis));
+    }
+}
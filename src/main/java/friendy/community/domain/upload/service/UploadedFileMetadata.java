@@ -0,0 +1,13 @@
+package friendy.community.domain.upload.service;
+
+public record UploadedFileMetadata(
+    String contentType,
+    long contentLength,
+    String sha256
+) {
+
+    // 업로드 시점에 해시를 구하지 않은 객체(서명된 URL 업로드, 예전 객체)
+    public UploadedFileMetadata(final String contentType, final long contentLength) {
+        this(contentType, contentLength, null);
+    }
+}
@@ -0,0 +1,174 @@
+package friendy.community.domain.upload.service;
+
+import com.amazonaws.SdkClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import friendy.community.domain.upload.controller.code.UploadExceptionCode;
+import friendy.community.domain.upload.model.UploadedFile;
+import friendy.community.domain.upload.repository.UploadedFileRepository;
+import friendy.community.global.exception.domain.BadGatewayException;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 업로드한 객체의 Content-Type 과 크기를 키 기준으로 기록하고 조회한다.
+ * 로컬 캐시, DB 순으로 찾고, 기록이 없는 예전 객체만 S3 에 HEAD 요청을 보내 본문은 내려받지 않는다.
+ * 객체 키는 UUID 로 만들어 내용이 바뀌지 않으므로 캐시 항목은 만료 없이 크기로만 제한한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UploadedFileMetadataService {
+
+    static final String LOOKUP_METRIC = "friendy.upload.metadata.lookup";
+
+    private final AmazonS3 s3Client;
+    private final UploadedFileRepository uploadedFileRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, UploadedFileMetadata> entries = new ConcurrentHashMap<>();
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+    @Value("${friendy.upload.metadata.cache.max-size:10000}")
+    private int maxSize;
+    private TransactionTemplate transactionTemplate;
+
+    @PostConstruct
+    void init() {
+        // 호출한 쪽 트랜잭션이 롤백돼도 S3 객체는 남아 있으므로 기록은 별도 트랜잭션으로 남긴다
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void record(final String s3Key, final String contentType, final long contentLength) {
+        record(s3Key, contentType, contentLength, null);
+    }
+
+    public void record(final String s3Key, final String contentType, final long contentLength, final String sha256) {
+        final UploadedFileMetadata metadata = new UploadedFileMetadata(contentType, contentLength, sha256);
+        save(s3Key, metadata);
+        putLocal(s3Key, metadata);
+    }
+
+    /**
+     * 복사한 객체는 원본과 형식, 크기가 같으므로 원본의 기록을 대상 키로 옮겨 적는다.
+     * 원본 기록이 없는 예전 객체는 복사 때문에 S3 에 묻지 않고, 대상 키를 처음 조회할 때 채운다.
+     */
+    public void recordCopy(final String sourceKey, final String targetKey) {
+        final UploadedFileMetadata metadata = find(sourceKey);
+        if (metadata != null) {
+            record(targetKey, metadata.contentType(), metadata.contentLength(), metadata.sha256());
+        }
+    }
+
+    /**
+     * 업로드할 때 구해 둔 내용 해시. 기록이 없거나 해시 없이 올라온 객체면 null 이며, 이때도 S3 에 묻지 않는다.
+     */
+    public String findSha256(final String s3Key) {
+        final UploadedFileMetadata metadata = find(s3Key);
+        return metadata == null ? null : metadata.sha256();
+    }
+
+    public UploadedFileMetadata get(final String s3Key) {
+        final UploadedFileMetadata found = find(s3Key);
+        if (found != null) {
+            return found;
+        }
+
+        countLookup("s3");
+        final UploadedFileMetadata fetched = head(s3Key);
+        record(s3Key, fetched.contentType(), fetched.contentLength());
+        return fetched;
+    }
+
+    public void evict(final String s3Key) {
+        entries.remove(s3Key);
+        transactionTemplate.executeWithoutResult(status -> uploadedFileRepository.deleteByS3Key(s3Key));
+    }
+
+    public void evictAll(final Collection<String> s3Keys) {
+        if (s3Keys.isEmpty()) {
+            return;
+        }
+        s3Keys.forEach(entries::remove);
+        transactionTemplate.executeWithoutResult(status -> uploadedFileRepository.deleteAllByS3KeyIn(s3Keys));
+    }
+
+    private UploadedFileMetadata find(final String s3Key) {
+        final UploadedFileMetadata cached = entries.get(s3Key);
+        if (cached != null) {
+            countLookup("cache");
+            return cached;
+        }
+
+        final UploadedFileMetadata stored = uploadedFileRepository.findByS3Key(s3Key)
+            .map(uploadedFile -> new UploadedFileMetadata(
+                uploadedFile.getContentType(), uploadedFile.getContentLength(), uploadedFile.getSha256()))
+            .orElse(null);
+        if (stored != null) {
+            countLookup("db");
+            putLocal(s3Key, stored);
+        }
+        return stored;
+    }
+
+    private UploadedFileMetadata head(final String s3Key) {
+        try {
+            final ObjectMetadata metadata = s3Client.getObjectMetadata(bucket, s3Key);
+            if (metadata.getContentType() == null) {
+                throw new BadGatewayException(UploadExceptionCode.FILE_TYPE_UNAVAILABLE);
+            }
+            return new UploadedFileMetadata(metadata.getContentType(), metadata.getContentLength());
+        } catch (SdkClientException e) {
+            throw new BadGatewayException(UploadExceptionCode.FILE_TYPE_UNAVAILABLE);
+        }
+    }
+
+    private void save(final String s3Key, final UploadedFileMetadata metadata) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!uploadedFileRepository.existsByS3Key(s3Key)) {
+                    uploadedFileRepository.save(UploadedFile.of(
+                        s3Key, metadata.contentType(), metadata.contentLength(), metadata.sha256()));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 같은 키를 동시에 기록한 경우로, 값은 같으므로 먼저 들어간 행을 그대로 쓴다
+            log.debug("업로드 파일 메타데이터 중복 기록 - key : {}", s3Key);
+        }
+    }
+
+    private void putLocal(final String s3Key, final UploadedFileMetadata metadata) {
+        if (entries.size() >= maxSize) {
+            evictOverflow();
+        }
+        entries.put(s3Key, metadata);
+    }
+
+    // 가득 차면 용량의 10% 를 비운다
+    private void evictOverflow() {
+        int overflow = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        final Iterator<String> iterator = entries.keySet().iterator();
+        while (overflow-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private void countLookup(final String source) {
+        meterRegistry.counter(LOOKUP_METRIC, "source", source).increment();
+    }
+}
@@ -0,0 +1,13 @@
+package friendy.community.domain.upload.service;
+
+/**
+ * @param reused 같은 내용의 객체가 이미 있어 새로 올리지 않고 그 객체를 돌려받았는지
+ */
+public record UploadedObject(
+    String url,
+    String contentType,
+    long contentLength,
+    String sha256,
+    boolean reused
+) {
+}
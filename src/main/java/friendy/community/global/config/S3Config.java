@@ -1,5 +1,6 @@
 package friendy.community.global.config;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
@@ -20,12 +21,17 @@ public class S3Config {
     @Value("${cloud.aws.region}")
     private String region;
 
+    // 가상 스레드 모드에서는 동시 요청이 스레드 풀이 아닌 커넥션 풀에서 막히므로 풀 크기를 설정으로 연다
+    @Value("${cloud.aws.s3.max-connections:50}")
+    private int maxConnections;
+
     @Bean
     public AmazonS3 amazonS3() {
         BasicAWSCredentials awsCreds = new BasicAWSCredentials(accessKey, secretKey);
         return AmazonS3ClientBuilder.standard()
                 .withRegion(region)
                 .withCredentials(new AWSStaticCredentialsProvider(awsCreds))
+                .withClientConfiguration(new ClientConfiguration().withMaxConnections(maxConnections))
                 .build();
     }
 }
@@ -124,6 +124,13 @@ public class GlobalExceptionHandler {
             .body(new ExceptionResponse(e.getExceptionType().getCode(), e.getMessage()));
     }
 
+    @ExceptionHandler
+    public ResponseEntity<ExceptionResponse> handleServiceUnavailableException(final ServiceUnavailableException e) {
+        log.error("{} : {}", e.getClass(), e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .body(new ExceptionResponse(e.getExceptionType().getCode(), e.getMessage()));
+    }
+
     private ResponseEntity<ExceptionResponse> buildErrorResponse(
             final int code,
             final Exception e,
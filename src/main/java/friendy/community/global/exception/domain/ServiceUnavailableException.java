@@ -0,0 +1,11 @@
+package friendy.community.global.exception.domain;
+
+import friendy.community.global.exception.dto.ExceptionCode;
+
+public class ServiceUnavailableException extends BusinessException {
+
+    public ServiceUnavailableException(ExceptionCode exceptionType) {
+        super(exceptionType);
+    }
+
+}
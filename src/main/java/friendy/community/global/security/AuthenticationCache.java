@@ -0,0 +1,195 @@
+package friendy.community.global.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증을 마친 액세스 토큰의 사용자 정보를 토큰 해시 기준으로 캐시한다.
+ * 로컬 캐시를 먼저 보고, 설정된 경우 Redis 를 2차 캐시로 사용한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuthenticationCache {
+
+    private static final String REDIS_PRINCIPAL_PREFIX = "auth:principal:";
+    private static final String REDIS_MEMBER_TOKENS_PREFIX = "auth:principal-tokens:";
+    private static final String REDIS_VALUE_DELIMITER = ":";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    @Value("${friendy.auth.cache.max-size:10000}")
+    private int maxSize;
+    @Value("${friendy.auth.cache.ttl:60000}")
+    private long ttlInMs;
+    @Value("${friendy.auth.cache.redis-enabled:false}")
+    private boolean redisEnabled;
+
+    public Optional<FriendyUserDetails> get(final String token) {
+        final String tokenHash = hash(token);
+        final long now = System.currentTimeMillis();
+        final Entry entry = entries.get(tokenHash);
+        if (entry != null) {
+            if (entry.expiresAt() > now) {
+                return Optional.of(entry.userDetails());
+            }
+            entries.remove(tokenHash, entry);
+        }
+        return getFromRedis(tokenHash, now);
+    }
+
+    public void put(final String token, final FriendyUserDetails userDetails, final long tokenExpiresAt) {
+        final long expiresAt = Math.min(System.currentTimeMillis() + ttlInMs, tokenExpiresAt);
+        final String tokenHash = hash(token);
+        final FriendyUserDetails cached = withoutCredentials(userDetails);
+        putLocal(tokenHash, new Entry(cached, expiresAt));
+        putToRedis(tokenHash, cached, expiresAt);
+    }
+
+    public void evict(final String token) {
+        final String tokenHash = hash(token);
+        entries.remove(tokenHash);
+        if (redisEnabled) {
+            runOnRedis(() -> redisTemplate.delete(REDIS_PRINCIPAL_PREFIX + tokenHash));
+        }
+    }
+
+    public void evictMember(final String email) {
+        evictMemberNow(email);
+
+        // 커밋 전에 다른 요청이 옛 상태를 다시 캐시할 수 있어 커밋 이후에 한 번 더 비운다
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictMemberNow(email);
+                }
+            });
+        }
+    }
+
+    private void evictMemberNow(final String email) {
+        entries.values().removeIf(entry -> entry.userDetails().getEmail().equals(email));
+        if (redisEnabled) {
+            runOnRedis(() -> {
+                final String memberTokensKey = REDIS_MEMBER_TOKENS_PREFIX + email;
+                final Set<String> tokenHashes = redisTemplate.opsForSet().members(memberTokensKey);
+                if (tokenHashes != null && !tokenHashes.isEmpty()) {
+                    redisTemplate.delete(tokenHashes.stream().map(REDIS_PRINCIPAL_PREFIX::concat).toList());
+                }
+                redisTemplate.delete(memberTokensKey);
+            });
+        }
+    }
+
+    private void putLocal(final String tokenHash, final Entry entry) {
+        if (entries.size() >= maxSize) {
+            evictOverflow();
+        }
+        entries.put(tokenHash, entry);
+    }
+
+    // 만료된 항목을 먼저 지우고, 그래도 가득 차 있으면 용량의 10% 를 비운다
+    private void evictOverflow() {
+        final long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+
+        int overflow = entries.size() - maxSize + Math.max(1, maxSize / 10);
+        final Iterator<String> iterator = entries.keySet().iterator();
+        while (overflow-- > 0 && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private Optional<FriendyUserDetails> getFromRedis(final String tokenHash, final long now) {
+        if (!redisEnabled) {
+            return Optional.empty();
+        }
+        try {
+            final String key = REDIS_PRINCIPAL_PREFIX + tokenHash;
+            final String value = redisTemplate.opsForValue().get(key);
+            if (value == null) {
+                return Optional.empty();
+            }
+            final Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+            final FriendyUserDetails userDetails = fromRedisValue(value);
+            putLocal(tokenHash, new Entry(userDetails, now + Math.min(ttlInMs, ttl == null || ttl < 0 ? ttlInMs : ttl)));
+            return Optional.of(userDetails);
+        } catch (Exception e) {
+            log.warn("인증 캐시 Redis 조회 실패", e);
+            return Optional.empty();
+        }
+    }
+
+    private void putToRedis(final String tokenHash, final FriendyUserDetails userDetails, final long expiresAt) {
+        if (!redisEnabled) {
+            return;
+        }
+        final long ttl = expiresAt - System.currentTimeMillis();
+        if (ttl <= 0) {
+            return;
+        }
+        runOnRedis(() -> {
+            final String memberTokensKey = REDIS_MEMBER_TOKENS_PREFIX + userDetails.getEmail();
+            redisTemplate.opsForValue().set(REDIS_PRINCIPAL_PREFIX + tokenHash, toRedisValue(userDetails), ttl, TimeUnit.MILLISECONDS);
+            redisTemplate.opsForSet().add(memberTokensKey, tokenHash);
+            redisTemplate.expire(memberTokensKey, ttlInMs, TimeUnit.MILLISECONDS);
+        });
+    }
+
+    private void runOnRedis(final Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            log.warn("인증 캐시 Redis 반영 실패", e);
+        }
+    }
+
+    private String toRedisValue(final FriendyUserDetails userDetails) {
+        return userDetails.getMemberId() + REDIS_VALUE_DELIMITER + userDetails.getEmail();
+    }
+
+    private FriendyUserDetails fromRedisValue(final String value) {
+        final int delimiter = value.indexOf(REDIS_VALUE_DELIMITER);
+        return new FriendyUserDetails(
+            Long.parseLong(value.substring(0, delimiter)),
+            value.substring(delimiter + 1),
+            "",
+            Collections.emptyList()
+        );
+    }
+
+    private FriendyUserDetails withoutCredentials(final FriendyUserDetails userDetails) {
+        return new FriendyUserDetails(userDetails.getMemberId(), userDetails.getEmail(), "", userDetails.getAuthorities());
+    }
+
+    private String hash(final String token) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(FriendyUserDetails userDetails, long expiresAt) {
+    }
+}
@@ -0,0 +1,82 @@
+package friendy.community.domain.auth.jwt;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTest {
+
+    private static final String OLD_SECRET = "FriendyOldJwtSecretKeyForRotationTest1234!@#";
+    private static final String NEW_SECRET = "FriendyNewJwtSecretKeyForRotationTest5678!@#";
+
+    @Test
+    @DisplayName("현재 서명 키로 발급한 토큰을 kid 로 찾아 검증한다")
+    void parsesTokenSignedWithCurrentKey() {
+        // given
+        JwtKeyRing keyRing = JwtKeyRing.of("v1", OLD_SECRET, List.of());
+        String token = sign(keyRing, "v1");
+
+        // when & then
+        assertThat(keyRing.getParser().parseClaimsJws(token).getBody().get("email")).isEqualTo("example@friendy.com");
+    }
+
+    @Test
+    @DisplayName("키를 회전해도 검증 키로 남겨 둔 이전 키의 토큰을 검증한다")
+    void parsesTokenSignedWithRotatedKey() {
+        // given
+        String oldToken = sign(JwtKeyRing.of("v1", OLD_SECRET, List.of()), "v1");
+        JwtKeyRing rotated = JwtKeyRing.of("v2", NEW_SECRET, List.of("v1=" + OLD_SECRET));
+
+        // when & then
+        assertThat(rotated.getParser().parseClaimsJws(oldToken).getHeader().getKeyId()).isEqualTo("v1");
+        assertThat(rotated.getParser().parseClaimsJws(sign(rotated, "v2")).getHeader().getKeyId()).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 kid 의 토큰은 검증에 실패한다")
+    void rejectsUnknownKeyId() {
+        // given
+        String oldToken = sign(JwtKeyRing.of("v1", OLD_SECRET, List.of()), "v1");
+        JwtKeyRing rotated = JwtKeyRing.of("v2", NEW_SECRET, List.of());
+
+        // when & then
+        assertThatThrownBy(() -> rotated.getParser().parseClaimsJws(oldToken))
+            .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("kid 가 없는 토큰은 현재 서명 키로 검증한다")
+    void parsesTokenWithoutKeyIdWithSigningKey() {
+        // given
+        JwtKeyRing keyRing = JwtKeyRing.of("v1", OLD_SECRET, List.of());
+        String token = Jwts.builder()
+            .claim("email", "example@friendy.com")
+            .signWith(keyRing.getSigningKey())
+            .compact();
+
+        // when & then
+        assertThat(keyRing.getParser().parseClaimsJws(token).getBody().get("email")).isEqualTo("example@friendy.com");
+    }
+
+    @Test
+    @DisplayName("검증 키가 kid=secret 형식이 아니면 예외가 발생한다")
+    void rejectsMalformedVerificationKey() {
+        assertThatThrownBy(() -> JwtKeyRing.of("v2", NEW_SECRET, List.of(OLD_SECRET)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String sign(final JwtKeyRing keyRing, final String keyId) {
+        return Jwts.builder()
+            .setHeaderParam(JwsHeader.KEY_ID, keyId)
+            .claim("email", "example@friendy.com")
+            .signWith(keyRing.getSigningKey())
+            .compact();
+    }
+}
@@ -5,9 +5,11 @@ import friendy.community.domain.member.controller.code.MemberExceptionCode;
 import friendy.community.domain.member.dto.request.MemberSignUpRequest;
 import friendy.community.domain.member.fixture.MemberFixture;
 import friendy.community.domain.member.model.Member;
-import friendy.community.domain.member.service.MemberCommandService;
+import friendy.community.domain.member.service.MemberCommandFacade;
 import friendy.community.global.exception.domain.NotFoundException;
 import friendy.community.global.exception.domain.UnAuthorizedException;
+import friendy.community.global.security.AuthenticationCache;
+import friendy.community.global.security.FriendyUserDetailsService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +25,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.io.IOException;
 import java.io.PrintWriter;
@@ -40,7 +43,9 @@ class JwtTokenFilterTest {
     @Autowired
     JwtTokenFilter jwtTokenFilter;
     @Autowired
-    MemberCommandService memberCommandService;
+    MemberCommandFacade memberCommandFacade;
+    @Autowired
+    AuthenticationCache authenticationCache;
     @MockitoBean
     private JwtTokenProvider jwtTokenProvider;
     @MockitoBean
@@ -51,6 +56,8 @@ class JwtTokenFilterTest {
     private HttpServletResponse response;
     @MockitoBean
     private FilterChain filterChain;
+    @MockitoSpyBean
+    private FriendyUserDetailsService friendyUserDetailsService;
 
     @BeforeEach
     void setUp() {
@@ -62,7 +69,7 @@ class JwtTokenFilterTest {
 
         Member member = MemberFixture.memberFixture();
 
-        memberCommandService.signup(new MemberSignUpRequest(
+        memberCommandFacade.signup(new MemberSignUpRequest(
             member.getEmail(), member.getNickname(), member.getPassword(), member.getBirthDate(), null));
     }
 
@@ -72,13 +79,15 @@ class JwtTokenFilterTest {
     void shouldProceedWithFilterChainWhenTokenIsPresent() throws Exception {
         // Given
         when(jwtTokenExtractor.extractAccessToken(request)).thenReturn(CORRECT_ACCESS_TOKEN_WITHOUT_BEARER);
-        when(jwtTokenProvider.extractEmailFromAccessToken(CORRECT_ACCESS_TOKEN_WITHOUT_BEARER)).thenReturn("example@friendy.com");
+        when(jwtTokenProvider.parseAccessToken(CORRECT_ACCESS_TOKEN_WITHOUT_BEARER))
+            .thenReturn(new AccessTokenClaims("example@friendy.com", Long.MAX_VALUE));
 
         // When
         jwtTokenFilter.doFilterInternal(request, response, filterChain);
 
         // Then
-        verify(jwtTokenProvider).validateAccessToken(CORRECT_ACCESS_TOKEN_WITHOUT_BEARER);
+        verify(jwtTokenProvider, times(1)).parseAccessToken(CORRECT_ACCESS_TOKEN_WITHOUT_BEARER);
+        verify(jwtTokenProvider, never()).extractEmailFromAccessToken(any());
         verify(filterChain).doFilter(request, response);
     }
 
@@ -96,16 +105,35 @@ class JwtTokenFilterTest {
     }
 
     @Test
-    @DisplayName("사용자가 이메일을 찾을 수 없으면 예외가 발생한다.")
-    void shouldThrowExceptionWhenUserNotFound() {
+    @DisplayName("토큰에 이메일이 없으면 401 응답을 보낸다.")
+    void shouldRespondUnauthorizedWhenEmailMissing() throws Exception {
         // Given
-        when(jwtTokenProvider.extractEmailFromAccessToken(CORRECT_ACCESS_TOKEN))
+        when(jwtTokenExtractor.extractAccessToken(request)).thenReturn(CORRECT_ACCESS_TOKEN_WITHOUT_BEARER);
+        when(jwtTokenProvider.parseAccessToken(CORRECT_ACCESS_TOKEN_WITHOUT_BEARER))
             .thenThrow(new UnAuthorizedException(AuthExceptionCode.ACCESS_TOKEN_EMAIL_MISSING));
+        when(response.getWriter()).thenReturn(Mockito.mock(PrintWriter.class));
 
-        // When & Then
-        assertThrows(UnAuthorizedException.class, () -> {
-            jwtTokenFilter.setAuthentication(CORRECT_ACCESS_TOKEN);
-        });
+        // When
+        jwtTokenFilter.doFilterInternal(request, response, filterChain);
+
+        // Then
+        verify(response).setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        verify(filterChain, never()).doFilter(request, response);
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 인증하면 회원을 다시 조회하지 않는다.")
+    void shouldUseCachedPrincipalForSameToken() {
+        // Given
+        AccessTokenClaims claims = new AccessTokenClaims("example@friendy.com", Long.MAX_VALUE);
+        authenticationCache.evict(CORRECT_ACCESS_TOKEN_WITHOUT_BEARER);
+        jwtTokenFilter.setAuthentication(CORRECT_ACCESS_TOKEN_WITHOUT_BEARER, claims);
+
+        // When
+        jwtTokenFilter.setAuthentication(CORRECT_ACCESS_TOKEN_WITHOUT_BEARER, claims);
+
+        // Then
+        verify(friendyUserDetailsService, times(1)).loadUserByUsername("example@friendy.com");
     }
 
     @Test
@@ -113,10 +141,10 @@ class JwtTokenFilterTest {
     void shouldThrowNotFoundExceptionWhenEmailNotFoundInDb() {
         // Given
         String nonExistentEmail = "nonfoundemail@example.com";
-        when(jwtTokenProvider.extractEmailFromAccessToken(CORRECT_ACCESS_TOKEN)).thenReturn(nonExistentEmail);
+        AccessTokenClaims claims = new AccessTokenClaims(nonExistentEmail, Long.MAX_VALUE);
 
         // When & Then
-        assertThatThrownBy(() -> jwtTokenFilter.setAuthentication(CORRECT_ACCESS_TOKEN))
+        assertThatThrownBy(() -> jwtTokenFilter.setAuthentication(CORRECT_ACCESS_TOKEN, claims))
             .isInstanceOf(NotFoundException.class)
             .hasFieldOrPropertyWithValue("exceptionType", MemberExceptionCode.USER_NOT_FOUND_EXCEPTION);
     }
@@ -127,8 +155,8 @@ class JwtTokenFilterTest {
         // Given
         String invalidToken = "invalid-token";
         when(jwtTokenExtractor.extractAccessToken(request)).thenReturn(invalidToken);
-        doThrow(new UnAuthorizedException(AuthExceptionCode.MALFORMED_ACCESS_TOKEN))
-            .when(jwtTokenProvider).validateAccessToken(invalidToken);
+        when(jwtTokenProvider.parseAccessToken(invalidToken))
+            .thenThrow(new UnAuthorizedException(AuthExceptionCode.MALFORMED_ACCESS_TOKEN));
 
         PrintWriter mockWriter = Mockito.mock(PrintWriter.class);
         when(response.getWriter()).thenReturn(mockWriter);
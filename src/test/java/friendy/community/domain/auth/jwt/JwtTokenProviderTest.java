@@ -3,14 +3,17 @@ package friendy.community.domain.auth.jwt;
 import friendy.community.domain.auth.controller.code.AuthExceptionCode;
 import friendy.community.global.exception.domain.UnAuthorizedException;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
 
@@ -28,6 +31,9 @@ class JwtTokenProviderTest {
     @MockitoBean
     private StringRedisTemplate redisTemplate;
 
+    @Value("${jwt.access.secret}")
+    private String accessTokenSecret;
+
     @Test
     @DisplayName("엑세스 토큰 생성에 성공한다")
     void generateAccessTokenSuccessfully() {
@@ -57,6 +63,56 @@ class JwtTokenProviderTest {
         assertThat(extractedEmail).isEqualTo(email);
     }
 
+    @Test
+    @DisplayName("엑세스 토큰을 한 번 파싱해 이메일과 만료 시각을 함께 얻는다")
+    void parseAccessTokenSuccessfully() {
+        // given
+        String email = "example@friendy.com";
+        long issuedAt = System.currentTimeMillis();
+        String accessToken = jwtTokenProvider.generateAccessToken(email);
+
+        // when
+        AccessTokenClaims claims = jwtTokenProvider.parseAccessToken(accessToken);
+
+        // then
+        assertThat(claims.email()).isEqualTo(email);
+        assertThat(claims.expiresAt()).isGreaterThan(issuedAt);
+    }
+
+    @Test
+    @DisplayName("발급한 엑세스 토큰 헤더에 서명 키의 kid 를 담는다")
+    void generateAccessTokenWithKeyId() {
+        // given
+        String accessToken = jwtTokenProvider.generateAccessToken("example@friendy.com");
+
+        // when
+        String keyId = Jwts.parserBuilder()
+            .setSigningKey(accessTokenSecret.getBytes(StandardCharsets.UTF_8))
+            .build()
+            .parseClaimsJws(accessToken)
+            .getHeader()
+            .getKeyId();
+
+        // then
+        assertThat(keyId).isEqualTo("default");
+    }
+
+    @Test
+    @DisplayName("이메일이 없는 엑세스 토큰을 파싱하면 예외가 발생한다")
+    void parseAccessToken_withoutEmail() {
+        // given
+        String tokenWithoutEmail = Jwts.builder()
+            .setSubject("example@friendy.com")
+            .setExpiration(new Date(System.currentTimeMillis() + 10000))
+            .signWith(Keys.hmacShaKeyFor(accessTokenSecret.getBytes(StandardCharsets.UTF_8)))
+            .compact();
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.parseAccessToken(tokenWithoutEmail))
+            .isInstanceOf(UnAuthorizedException.class)
+            .hasMessageContaining(AuthExceptionCode.ACCESS_TOKEN_EMAIL_MISSING.getMessage());
+    }
+
     @Test
     @DisplayName("엑세스토큰 유효성 검사 통과")
     void validateAccessTokenSuccessfully() {
@@ -3,12 +3,15 @@ package friendy.community.domain.auth.service;
 import friendy.community.domain.auth.dto.request.LoginRequest;
 import friendy.community.domain.auth.dto.response.TokenResponse;
 import friendy.community.domain.auth.jwt.JwtTokenProvider;
-import friendy.community.domain.member.encryption.PasswordEncryptor;
+import friendy.community.domain.member.controller.code.MemberExceptionCode;
+import friendy.community.domain.member.encryption.PasswordHashingEngine;
 import friendy.community.domain.member.model.Member;
 import friendy.community.domain.member.repository.MemberRepository;
 import friendy.community.domain.member.service.MemberCommandService;
 import friendy.community.domain.member.service.MemberDomainService;
+import friendy.community.global.exception.domain.ServiceUnavailableException;
 import friendy.community.global.exception.domain.UnAuthorizedException;
+import friendy.community.global.security.AuthenticationCache;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +21,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,7 +31,7 @@ class AuthServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private PasswordEncryptor passwordEncryptor;
+    private PasswordHashingEngine passwordHashingEngine;
 
     @Mock
     private JwtTokenProvider jwtTokenProvider;
@@ -35,6 +39,9 @@ class AuthServiceTest {
     @Mock
     private MemberDomainService memberDomainService;
 
+    @Mock
+    private AuthenticationCache authenticationCache;
+
     @InjectMocks
     private AuthService authService;
 
@@ -51,8 +58,9 @@ class AuthServiceTest {
 
         when(memberDomainService.getMemberByEmail(email)).thenReturn(mockMember);
         when(mockMember.getSalt()).thenReturn(salt);
-        when(passwordEncryptor.encrypt(rawPassword, salt)).thenReturn(encryptedPassword);
-        when(mockMember.matchPassword(encryptedPassword)).thenReturn(true);
+        when(mockMember.getPassword()).thenReturn(encryptedPassword);
+        when(passwordHashingEngine.matches(rawPassword, salt, encryptedPassword)).thenReturn(true);
+        when(passwordHashingEngine.needsUpgrade(encryptedPassword)).thenReturn(false);
         when(mockMember.getId()).thenReturn(1L);
         when(jwtTokenProvider.generateAccessToken(email)).thenReturn("access-token");
         when(jwtTokenProvider.generateRefreshToken(email)).thenReturn("refresh-token");
@@ -78,12 +86,64 @@ class AuthServiceTest {
 
         when(memberDomainService.getMemberByEmail(email)).thenReturn(mockMember);
         when(mockMember.getSalt()).thenReturn(salt);
-        when(passwordEncryptor.encrypt(rawPassword, salt)).thenReturn(encryptedPassword);
-        when(mockMember.matchPassword(encryptedPassword)).thenReturn(false);
+        when(mockMember.getPassword()).thenReturn(encryptedPassword);
+        when(passwordHashingEngine.matches(rawPassword, salt, encryptedPassword)).thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> authService.login(new LoginRequest(email, rawPassword)))
             .isInstanceOf(UnAuthorizedException.class);
+        verify(passwordHashingEngine, never()).hash(any(), any());
+    }
+
+    @Test
+    @DisplayName("기존 방식으로 해시된 비밀번호는 로그인 성공 시 새 해시로 갱신된다")
+    void loginUpgradesLegacyPasswordHash() {
+        // given
+        String email = "test@example.com";
+        String rawPassword = "password123";
+        String salt = "salt123";
+        String legacyPassword = "legacyEncryptedPw";
+        Member mockMember = mock(Member.class);
+
+        when(memberDomainService.getMemberByEmail(email)).thenReturn(mockMember);
+        when(mockMember.getSalt()).thenReturn(salt);
+        when(mockMember.getPassword()).thenReturn(legacyPassword);
+        when(passwordHashingEngine.matches(rawPassword, salt, legacyPassword)).thenReturn(true);
+        when(passwordHashingEngine.needsUpgrade(legacyPassword)).thenReturn(true);
+        when(passwordHashingEngine.hash(rawPassword, salt)).thenReturn("$pbkdf2-sha256$1000$hash");
+
+        // when
+        authService.login(new LoginRequest(email, rawPassword));
+
+        // then
+        verify(memberRepository).upgradePassword(mockMember.getId(), legacyPassword, "$pbkdf2-sha256$1000$hash");
+    }
+
+    @Test
+    @DisplayName("해시 갱신이 거절되어도 로그인은 성공한다")
+    void loginSucceedsWhenUpgradeIsRejected() {
+        // given
+        String email = "test@example.com";
+        String rawPassword = "password123";
+        String salt = "salt123";
+        String legacyPassword = "legacyEncryptedPw";
+        Member mockMember = mock(Member.class);
+
+        when(memberDomainService.getMemberByEmail(email)).thenReturn(mockMember);
+        when(mockMember.getSalt()).thenReturn(salt);
+        when(mockMember.getPassword()).thenReturn(legacyPassword);
+        when(passwordHashingEngine.matches(rawPassword, salt, legacyPassword)).thenReturn(true);
+        when(passwordHashingEngine.needsUpgrade(legacyPassword)).thenReturn(true);
+        when(passwordHashingEngine.hash(rawPassword, salt))
+            .thenThrow(new ServiceUnavailableException(MemberExceptionCode.PASSWORD_HASHING_BUSY));
+        when(jwtTokenProvider.generateAccessToken(email)).thenReturn("access-token");
+
+        // when
+        TokenResponse result = authService.login(new LoginRequest(email, rawPassword));
+
+        // then
+        assertThat(result.accessToken()).isEqualTo("access-token");
+        verify(memberRepository, never()).upgradePassword(any(), any(), any());
     }
 
     @Test
@@ -98,6 +158,7 @@ class AuthServiceTest {
 
         // then
         verify(jwtTokenProvider).deleteRefreshToken("user@example.com");
+        verify(authenticationCache).evict(token);
     }
 
     @Test
@@ -141,5 +202,6 @@ class AuthServiceTest {
         // then
         verify(jwtTokenProvider).deleteRefreshToken(email);
         verify(memberRepository).delete(member);
+        verify(authenticationCache).evictMember(email);
     }
 }
@@ -10,10 +10,12 @@ import friendy.community.domain.comment.model.Comment;
 import friendy.community.domain.comment.model.Reply;
 import friendy.community.domain.comment.repository.CommentRepository;
 import friendy.community.domain.comment.repository.ReplyRepository;
+import friendy.community.domain.counter.model.CounterType;
+import friendy.community.domain.counter.service.CounterService;
 import friendy.community.domain.member.dto.request.MemberSignUpRequest;
 import friendy.community.domain.member.fixture.MemberFixture;
 import friendy.community.domain.member.model.Member;
-import friendy.community.domain.member.service.MemberCommandService;
+import friendy.community.domain.member.service.MemberCommandFacade;
 import friendy.community.domain.member.service.MemberDomainService;
 import friendy.community.domain.post.dto.request.PostCreateRequest;
 import friendy.community.domain.post.fixture.PostFixture;
@@ -48,13 +50,15 @@ public class CommentServiceTest {
     @Autowired
     private ReplyRepository replyRepository;
     @Autowired
-    private MemberCommandService memberCommandService;
+    private MemberCommandFacade memberCommandFacade;
     @Autowired
     private MemberDomainService memberDomainService;
     @Autowired
     private PostCommandService postCommandService;
     @Autowired
     private EntityManager entityManager;
+    @Autowired
+    private CounterService counterService;
 
     private Member member;
 
@@ -63,7 +67,7 @@ public class CommentServiceTest {
         resetDataBase();
 
         member = MemberFixture.memberFixture();
-        Long memberId = memberCommandService.signup(new MemberSignUpRequest(member.getEmail(), member.getNickname(), member.getPassword(), member.getBirthDate(), null));
+        Long memberId = memberCommandFacade.signup(new MemberSignUpRequest(member.getEmail(), member.getNickname(), member.getPassword(), member.getBirthDate(), null));
 
         member = memberDomainService.getMemberById(memberId);
 
@@ -119,7 +123,7 @@ public class CommentServiceTest {
         assertThat(savedReplies).extracting(Reply::getContent).contains("new valid reply contents");
 
         List<Comment> savedComments = commentRepository.findAll();
-        assertThat(savedComments.getFirst()).extracting("replyCount").isEqualTo(1);
+        assertThat(counterService.getPendingDelta(CounterType.COMMENT_REPLY, savedComments.getFirst().getId())).isEqualTo(1);
     }
 
     @Test
@@ -181,7 +185,7 @@ public class CommentServiceTest {
         createComment();
         CommentUpdateRequest commentUpdateRequest = new CommentUpdateRequest("new valid content");
 
-        memberCommandService.signup(new MemberSignUpRequest(
+        memberCommandFacade.signup(new MemberSignUpRequest(
             "user@example.com", "홍길동", "password123!", LocalDate.parse("2002-08-13"), null));
         // When & Then
         assertThatThrownBy(() -> commentService.updateComment(commentUpdateRequest, 1L, 2L))
@@ -232,7 +236,7 @@ public class CommentServiceTest {
 
         Reply savedReply = replyRepository.findAll().getFirst();
 
-        memberCommandService.signup(new MemberSignUpRequest(
+        memberCommandFacade.signup(new MemberSignUpRequest(
             "user@example.com", "홍길동", "password123!", LocalDate.parse("2002-08-13"), null));
 
         CommentUpdateRequest commentUpdateRequest = new CommentUpdateRequest("new valid content");
@@ -293,7 +297,7 @@ public class CommentServiceTest {
         List<Comment> comments = commentRepository.findAll();
         List<Reply> replies = replyRepository.findAll();
         assertThat(replies.size()).isEqualTo(0);
-        assertThat(comments.getFirst().getReplyCount()).isEqualTo(0);
+        assertThat(counterService.getPendingDelta(CounterType.COMMENT_REPLY, comments.getFirst().getId())).isEqualTo(0);
     }
 
     @Test
@@ -0,0 +1,81 @@
+package friendy.community.domain.counter.repository;
+
+import friendy.community.domain.counter.model.CounterType;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.dto.request.PostUpdateRequest;
+import friendy.community.domain.post.model.Post;
+import friendy.community.global.config.TestQuerydslConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestQuerydslConfig.class, CounterRepository.class})
+class CounterRepositoryTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private CounterRepository counterRepository;
+
+    private Post firstPost;
+    private Post secondPost;
+
+    @BeforeEach
+    void setUp() {
+        Member member = MemberFixture.memberFixture();
+        em.persist(member);
+        firstPost = Post.of(new PostCreateRequest("첫 게시글", List.of(), List.of(), "서울시"), member);
+        secondPost = Post.of(new PostCreateRequest("두 번째 게시글", List.of(), List.of(), "서울시"), member);
+        em.persist(firstPost);
+        em.persist(secondPost);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("증감분을 현재 값에 더하는 방식으로 여러 행을 한 번에 갱신한다")
+    void addAllAppliesDeltasRelativeToCurrentValue() {
+        // given
+        counterRepository.addAll(CounterType.POST_COMMENT, Map.of(firstPost.getId(), 3L, secondPost.getId(), 1L));
+
+        // when
+        counterRepository.addAll(CounterType.POST_COMMENT, Map.of(firstPost.getId(), -1L));
+
+        // then
+        assertThat(em.find(Post.class, firstPost.getId()).getCommentCount()).isEqualTo(2);
+        assertThat(em.find(Post.class, secondPost.getId()).getCommentCount()).isEqualTo(1);
+        assertThat(em.find(Post.class, secondPost.getId()).getLikeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("엔티티를 수정해도 카운터 컬럼은 덮어쓰지 않는다")
+    void entityUpdateDoesNotOverwriteCounter() {
+        // given
+        Post post = em.find(Post.class, firstPost.getId());
+        counterRepository.addAll(CounterType.POST_LIKE, Map.of(firstPost.getId(), 5L));
+
+        // when
+        post.updatePost(new PostUpdateRequest("수정된 게시글", List.of(), List.of(), "부산시"));
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(em.find(Post.class, firstPost.getId()).getLikeCount()).isEqualTo(5);
+    }
+}
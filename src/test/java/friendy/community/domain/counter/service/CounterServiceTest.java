@@ -0,0 +1,146 @@
+package friendy.community.domain.counter.service;
+
+import friendy.community.domain.counter.model.CounterType;
+import friendy.community.domain.counter.repository.CounterRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CounterServiceTest {
+
+    @InjectMocks
+    private CounterService counterService;
+
+    @Mock
+    private CounterRepository counterRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 증가시키고 주기적으로 flush 해도 증가분이 유실되지 않는다")
+    void concurrentIncrementsAreNeverLost() throws Exception {
+        // given
+        int threadCount = 8;
+        int incrementsPerThread = 20_000;
+        Map<Long, Long> flushed = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            Map<Long, Long> deltas = invocation.getArgument(1);
+            deltas.forEach((postId, delta) -> flushed.merge(postId, delta, Long::sum));
+            return null;
+        }).when(counterRepository).addAll(eq(CounterType.POST_LIKE), any());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        // when
+        for (int i = 0; i < threadCount; i++) {
+            long postId = i % 2 + 1;
+            executor.submit(() -> {
+                start.await();
+                for (int count = 0; count < incrementsPerThread; count++) {
+                    counterService.increment(CounterType.POST_LIKE, postId);
+                }
+                done.countDown();
+                return null;
+            });
+        }
+        executor.submit(() -> {
+            start.await();
+            while (running.get()) {
+                counterService.flush();
+            }
+            return null;
+        });
+        start.countDown();
+        assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+        running.set(false);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        counterService.flush();
+
+        // then
+        long expectedPerPost = (long) threadCount / 2 * incrementsPerThread;
+        assertThat(flushed).containsEntry(1L, expectedPerPost).containsEntry(2L, expectedPerPost);
+        assertThat(counterService.getPendingDelta(CounterType.POST_LIKE, 1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("증감 후 상쇄된 카운터는 flush 대상에서 제외된다")
+    void flushSkipsCancelledDeltas() {
+        // given
+        counterService.increment(CounterType.POST_COMMENT, 1L);
+        counterService.decrement(CounterType.POST_COMMENT, 1L);
+        counterService.increment(CounterType.COMMENT_REPLY, 2L);
+
+        // when
+        counterService.flush();
+
+        // then
+        verify(counterRepository).addAll(CounterType.COMMENT_REPLY, Map.of(2L, 1L));
+        verify(counterRepository, never()).addAll(eq(CounterType.POST_COMMENT), any());
+    }
+
+    @Test
+    @DisplayName("flush 에 실패하면 증가분을 다시 쌓아 다음 flush 에 반영한다")
+    void failedFlushKeepsDeltas() {
+        // given
+        counterService.add(CounterType.POST_SHARE, 1L, 3);
+        doThrow(new IllegalStateException("db down"))
+            .when(counterRepository).addAll(CounterType.POST_SHARE, Map.of(1L, 3L));
+
+        // when
+        counterService.flush();
+
+        // then
+        assertThat(counterService.getPendingDelta(CounterType.POST_SHARE, 1L)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("호출한 트랜잭션이 롤백되면 증가분을 되돌린다")
+    void rollbackRevertsDelta() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        counterService.increment(CounterType.COMMENT_REPLY, 1L);
+
+        // when
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertThat(counterService.getPendingDelta(CounterType.COMMENT_REPLY, 1L)).isZero();
+    }
+}
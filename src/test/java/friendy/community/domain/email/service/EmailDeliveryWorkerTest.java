@@ -0,0 +1,117 @@
+package friendy.community.domain.email.service;
+
+import friendy.community.domain.email.model.EmailOutbox;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmailDeliveryWorkerTest {
+
+    @Mock
+    private EmailOutboxService emailOutboxService;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private EmailTemplateRenderer emailTemplateRenderer;
+
+    @InjectMocks
+    private EmailDeliveryWorker emailDeliveryWorker;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(emailDeliveryWorker, "batchSize", 50);
+        when(mailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        when(emailTemplateRenderer.render(anyString())).thenReturn("<html>123456</html>".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("한 배치의 메일을 send 한 번으로 보내고 발송한 행을 완료 처리한다")
+    void deliversBatchInSingleSend() {
+        // given
+        List<EmailOutbox> batch = List.of(outbox(1L, "a@example.com"), outbox(2L, "b@example.com"));
+        when(emailOutboxService.claim(anyInt())).thenReturn(batch, List.of());
+
+        // when
+        int delivered = emailDeliveryWorker.deliverPending();
+
+        // then
+        assertThat(delivered).isEqualTo(2);
+        verify(mailSender, times(1)).send(any(MimeMessage[].class));
+        verify(emailOutboxService).complete(argThat(ids -> ids.containsAll(List.of(1L, 2L)) && ids.size() == 2));
+        verify(emailOutboxService, never()).retry(any());
+    }
+
+    @Test
+    @DisplayName("일부 메일만 실패하면 실패한 행만 재시도한다")
+    void retriesOnlyFailedMessages() {
+        // given
+        List<EmailOutbox> batch = List.of(outbox(1L, "a@example.com"), outbox(2L, "b@example.com"));
+        when(emailOutboxService.claim(anyInt())).thenReturn(batch, List.of());
+        doAnswer(invocation -> {
+            MimeMessage failed = null;
+            for (Object message : invocation.getArguments()) {
+                if (((MimeMessage) message).getAllRecipients()[0].toString().equals("b@example.com")) {
+                    failed = (MimeMessage) message;
+                }
+            }
+            throw new MailSendException(Map.of(failed, new Exception("550 mailbox unavailable")));
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        // when
+        int delivered = emailDeliveryWorker.deliverPending();
+
+        // then
+        assertThat(delivered).isEqualTo(1);
+        verify(emailOutboxService).complete(List.of(1L));
+        verify(emailOutboxService).retry(argThat(ids -> ids.size() == 1 && ids.contains(2L)));
+    }
+
+    @Test
+    @DisplayName("어떤 메일이 실패했는지 알 수 없으면 배치 전체를 재시도한다")
+    void retriesWholeBatchWhenConnectionFails() {
+        // given
+        List<EmailOutbox> batch = List.of(outbox(1L, "a@example.com"), outbox(2L, "b@example.com"));
+        when(emailOutboxService.claim(anyInt())).thenReturn(batch, List.of());
+        doThrow(new MailSendException("connection refused")).when(mailSender).send(any(MimeMessage[].class));
+
+        // when
+        int delivered = emailDeliveryWorker.deliverPending();
+
+        // then
+        assertThat(delivered).isZero();
+        ArgumentCaptor<Collection<Long>> retried = ArgumentCaptor.forClass(Collection.class);
+        verify(emailOutboxService).retry(retried.capture());
+        assertThat(retried.getValue()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    private EmailOutbox outbox(final Long id, final String recipient) {
+        EmailOutbox outbox = EmailOutbox.of(recipient, "123456", LocalDateTime.now());
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
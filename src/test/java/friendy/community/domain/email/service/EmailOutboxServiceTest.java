@@ -0,0 +1,128 @@
+package friendy.community.domain.email.service;
+
+import friendy.community.domain.email.model.EmailOutbox;
+import friendy.community.domain.email.model.EmailOutboxStatus;
+import friendy.community.domain.email.repository.EmailOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class EmailOutboxServiceTest {
+
+    @Autowired
+    private EmailOutboxService emailOutboxService;
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    @MockitoBean
+    private JavaMailSender mailSender;
+
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("선점한 행은 다시 선점되지 않고 시도 횟수가 올라간다")
+    void claimLeasesDueRowsOnce() {
+        // given
+        EmailOutbox outbox = emailOutboxRepository.save(EmailOutbox.of("test@example.com", "123456", LocalDateTime.now()));
+
+        // when
+        List<EmailOutbox> first = emailOutboxService.claim(10);
+        List<EmailOutbox> second = emailOutboxService.claim(10);
+
+        // then
+        assertThat(first).extracting(EmailOutbox::getId).containsExactly(outbox.getId());
+        assertThat(first.get(0).getAttempts()).isEqualTo(1);
+        assertThat(first.get(0).getClaimToken()).isNotNull();
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("발송에 성공한 행은 아웃박스에서 삭제된다")
+    void completeDeletesSentRows() {
+        // given
+        emailOutboxRepository.save(EmailOutbox.of("test@example.com", "123456", LocalDateTime.now()));
+        List<EmailOutbox> claimed = emailOutboxService.claim(10);
+
+        // when
+        emailOutboxService.complete(claimed.stream().map(EmailOutbox::getId).toList());
+
+        // then
+        assertThat(emailOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("발송에 실패한 행은 백오프 후 다시 발송 대상이 된다")
+    void retryBacksOff() {
+        // given
+        emailOutboxRepository.save(EmailOutbox.of("test@example.com", "123456", LocalDateTime.now()));
+        EmailOutbox claimed = emailOutboxService.claim(10).get(0);
+        LocalDateTime retriedAt = LocalDateTime.now();
+
+        // when
+        emailOutboxService.retry(List.of(claimed.getId()));
+
+        // then
+        EmailOutbox retried = emailOutboxRepository.findById(claimed.getId()).orElseThrow();
+        assertThat(retried.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(retried.getClaimToken()).isNull();
+        assertThat(retried.getNextAttemptAt()).isAfterOrEqualTo(retriedAt.plusSeconds(2));
+        assertThat(emailOutboxService.claim(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘긴 행은 FAILED 로 남고 더 발송하지 않는다")
+    void retryGivesUpAfterMaxAttempts() {
+        // given
+        EmailOutbox outbox = EmailOutbox.of("test@example.com", "123456", LocalDateTime.now());
+        ReflectionTestUtils.setField(outbox, "attempts", 4);
+        emailOutboxRepository.save(outbox);
+        EmailOutbox claimed = emailOutboxService.claim(10).get(0);
+
+        // when
+        emailOutboxService.retry(List.of(claimed.getId()));
+
+        // then
+        EmailOutbox failed = emailOutboxRepository.findById(claimed.getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(failed.getAuthCode()).isNull();
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 FAILED 행만 삭제한다")
+    void purgeFailedDeletesOnlyExpiredFailedRows() {
+        // given
+        EmailOutbox outbox = EmailOutbox.of("failed@example.com", "123456", LocalDateTime.now());
+        ReflectionTestUtils.setField(outbox, "attempts", 4);
+        emailOutboxRepository.save(outbox);
+        emailOutboxService.retry(List.of(emailOutboxService.claim(10).get(0).getId()));
+        EmailOutbox pending = emailOutboxRepository.save(EmailOutbox.of("pending@example.com", "654321", LocalDateTime.now()));
+
+        // when
+        int keptWithinRetention = emailOutboxService.purgeFailed(LocalDateTime.now().minusHours(1));
+        int purged = emailOutboxService.purgeFailed(LocalDateTime.now().plusSeconds(1));
+
+        // then
+        assertThat(keptWithinRetention).isZero();
+        assertThat(purged).isEqualTo(1);
+        assertThat(emailOutboxRepository.findAll()).extracting(EmailOutbox::getId).containsExactly(pending.getId());
+    }
+}
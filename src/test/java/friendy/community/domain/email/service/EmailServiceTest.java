@@ -1,79 +1,118 @@
 package friendy.community.domain.email.service;
 
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
 import friendy.community.domain.email.controller.code.EmailExceptionCode;
 import friendy.community.domain.email.dto.request.EmailRequest;
 import friendy.community.domain.email.dto.request.VerifyCodeRequest;
-import friendy.community.global.exception.domain.BadGatewayException;
+import friendy.community.domain.email.repository.EmailOutboxRepository;
 import friendy.community.global.exception.domain.BadRequestException;
-import jakarta.mail.MessagingException;
+import jakarta.mail.Multipart;
+import jakarta.mail.Part;
 import jakarta.mail.internet.MimeMessage;
-import jakarta.transaction.Transactional;
-import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
-import org.thymeleaf.spring6.SpringTemplateEngine;
 
+import java.time.Duration;
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.Mockito.*;
 
-
-@SpringBootTest
-@Transactional
+/**
+ * 실제 SMTP 대신 테스트 프로세스 안에서 뜨는 GreenMail 서버로 발송까지 확인한다.
+ */
+@SpringBootTest(properties = {
+    "spring.mail.host=localhost",
+    "spring.mail.port=3025",
+    "spring.mail.username=" + EmailServiceTest.SMTP_USER,
+    "spring.mail.password=",
+    "spring.mail.properties.mail.smtp.auth=false",
+    "spring.mail.properties.mail.smtp.starttls.enable=false"
+})
 @DirtiesContext
 class EmailServiceTest {
 
+    static final String SMTP_USER = "friendy@example.com";
+
+    // 인증을 끈 GreenMail 은 처음 로그인한 계정을 그때 만드는데, 워커들이 동시에 로그인하면 같은 계정을 두 번 만들다 실패하므로 미리 만들어 둔다
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP)
+        .withConfiguration(GreenMailConfiguration.aConfig()
+            .withUser(SMTP_USER, SMTP_USER, "")
+            .withDisabledAuthentication());
+
     @Autowired
     private EmailService emailService;
 
-    @MockitoBean
-    private StringRedisTemplate redisTemplate;
-
-    @MockitoBean
-    private JavaMailSender mailSender;
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
 
-    @MockitoBean
-    private SpringTemplateEngine templateEngine;
+    @Autowired
+    private EmailDeliveryWorker emailDeliveryWorker;
 
     @MockitoBean
-    private MimeMessage mimeMessage;
+    private StringRedisTemplate redisTemplate;
 
-    @MockitoBean
-    private ValueOperations<String, String> valueOperations;
+    @AfterEach
+    void tearDown() {
+        emailOutboxRepository.deleteAll();
+    }
 
     @Test
-    @DisplayName("이메일 전송이 성공하면 Redis에 인증 코드가 저장된다")
-    void sendAuthenticatedEmailSuccessfullyStoresCodeInRedis() throws Exception {
+    @DisplayName("인증 코드를 Redis에 저장하고 인증 메일은 백그라운드에서 발송된다")
+    void sendAuthenticatedEmailStoresCodeAndDeliversInBackground() throws Exception {
         // Given
         EmailRequest request = new EmailRequest("test@example.com");
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-
-        // Redis Mock 설정
         ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
 
-        // TemplateEngine Mock 설정
-        when(templateEngine.process(anyString(), any())).thenReturn("<html>dummy content</html>");
-
         // When
         emailService.sendAuthenticatedEmail(request);
 
         // Then
-        verify(mailSender, times(1)).send(any(MimeMessage.class));
+        ArgumentCaptor<String> authCode = ArgumentCaptor.forClass(String.class);
         verify(valueOperations, times(1)).set(
             eq(request.email()),
-            anyString(),
+            authCode.capture(),
             eq(300000L),
             eq(TimeUnit.MILLISECONDS)
         );
+        awaitDelivered();
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(GreenMailUtil.getAddressList(received.getAllRecipients())).isEqualTo(request.email());
+        assertThat(textOf(received)).contains(authCode.getValue());
+    }
+
+    @Test
+    @DisplayName("여러 건을 연달아 요청해도 모두 발송된다")
+    void sendAuthenticatedEmailDeliversAll() {
+        // Given
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            emailService.sendAuthenticatedEmail(new EmailRequest("user" + i + "@example.com"));
+        }
+
+        // Then
+        awaitDelivered();
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
     }
 
     @Test
@@ -129,17 +168,26 @@ class EmailServiceTest {
             .hasFieldOrPropertyWithValue("exceptionType", EmailExceptionCode.AUTH_CODE_MISMATCH);
     }
 
-    @Test
-    void sendAuthenticatedEmail_throwsBadGatewayException_whenMessagingExceptionOccurs() throws MessagingException {
-        // given
-        EmailRequest request = new EmailRequest("test@example.com");
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
-        doAnswer(invocation -> { throw new MessagingException("메일 생성 실패"); })
-            .when(mailSender).createMimeMessage();
+    // 테스트에서는 주기 발송이 돌지 않으므로, 백오프 뒤 다시 보낼 메일까지 직접 보내며 아웃박스가 빌 때까지 기다린다
+    private void awaitDelivered() {
+        await().atMost(Duration.ofSeconds(30))
+            .pollInterval(Duration.ofMillis(500))
+            .until(() -> {
+                emailDeliveryWorker.deliverPending();
+                return emailOutboxRepository.count() == 0;
+            });
+    }
 
-        // when & then
-        assertThatThrownBy(() -> emailService.sendAuthenticatedEmail(request))
-            .isInstanceOf(BadGatewayException.class)
-            .hasFieldOrPropertyWithValue("exceptionType", EmailExceptionCode.EMAIL_SEND_FAILURE);
+    private String textOf(final Part part) throws Exception {
+        if (part.isMimeType("text/*")) {
+            return (String) part.getContent();
+        }
+        final StringBuilder text = new StringBuilder();
+        if (part.getContent() instanceof Multipart multipart) {
+            for (int i = 0; i < multipart.getCount(); i++) {
+                text.append(textOf(multipart.getBodyPart(i)));
+            }
+        }
+        return text.toString();
     }
 }
@@ -0,0 +1,73 @@
+package friendy.community.domain.email.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import org.thymeleaf.templateresolver.StringTemplateResolver;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmailTemplateRendererTest {
+
+    private SpringTemplateEngine templateEngine;
+    private EmailTemplateRenderer emailTemplateRenderer;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        emailTemplateRenderer = new EmailTemplateRenderer(templateEngine);
+        emailTemplateRenderer.init();
+    }
+
+    @Test
+    @DisplayName("미리 렌더링한 본문은 템플릿 엔진으로 렌더링한 결과와 같다")
+    void rendersSameContentAsTemplateEngine() {
+        // given
+        Context context = new Context();
+        context.setVariable("authCode", "012345");
+        String expected = templateEngine.process(EmailTemplateRenderer.TEMPLATE_NAME, context);
+
+        // when
+        byte[] rendered = emailTemplateRenderer.render("012345");
+
+        // then
+        assertThat(new String(rendered, StandardCharsets.UTF_8)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("인증 코드에 들어간 HTML 특수문자는 이스케이프된다")
+    void escapesAuthCode() {
+        // when
+        String rendered = new String(emailTemplateRenderer.render("<b>1</b>"), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(rendered).contains("&lt;b&gt;1&lt;/b&gt;").doesNotContain("<b>1</b>");
+    }
+
+    @Test
+    @DisplayName("템플릿에 인증 코드 자리가 없으면 기동에 실패한다")
+    void failsWithoutAuthCodePlaceholder() {
+        // given
+        SpringTemplateEngine engine = new SpringTemplateEngine();
+        engine.setTemplateResolver(new StringTemplateResolver());
+        EmailTemplateRenderer renderer = new EmailTemplateRenderer(engine);
+
+        // when & then
+        assertThatThrownBy(renderer::init)
+            .isInstanceOf(IllegalStateException.class);
+    }
+}
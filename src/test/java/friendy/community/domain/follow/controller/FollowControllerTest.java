@@ -2,6 +2,7 @@ package friendy.community.domain.follow.controller;
 
 import friendy.community.domain.auth.jwt.JwtTokenFilter;
 import friendy.community.domain.follow.dto.response.FollowListResponse;
+import friendy.community.domain.follow.dto.response.FollowRelationResponse;
 import friendy.community.domain.follow.service.FollowCommandService;
 import friendy.community.domain.follow.service.FollowQueryService;
 import friendy.community.global.config.MockSecurityConfig;
@@ -27,10 +28,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = FollowController.class,
@@ -118,4 +121,33 @@ class FollowControllerTest {
             .andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON));
     }
+
+    @Test
+    @DisplayName("맞팔로우 목록 조회 API 성공")
+    void getMutualMembersSuccess() throws Exception {
+        // given
+        FollowListResponse mockResponse = new FollowListResponse(Collections.emptyList(), false, null);
+        when(followQueryService.getMutualList(any(), any()))
+            .thenReturn(mockResponse);
+
+        // when & then
+        mockMvc.perform(get("/follow/mutual/1")
+                .header("Authorization", "Bearer test-token"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("팔로우 관계 조회 API 성공")
+    void getRelationSuccess() throws Exception {
+        // given
+        when(followQueryService.getRelation(eq(1L), eq(2L)))
+            .thenReturn(new FollowRelationResponse(true, true, 3, 1));
+
+        // when & then
+        mockMvc.perform(get("/follow/relation/2")
+                .header("Authorization", "Bearer test-token"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result.mutualCount").value(3));
+    }
 }
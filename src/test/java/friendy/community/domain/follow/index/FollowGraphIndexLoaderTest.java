@@ -0,0 +1,67 @@
+package friendy.community.domain.follow.index;
+
+import friendy.community.domain.follow.model.Follow;
+import friendy.community.domain.follow.repository.FollowIndexRepository;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.global.config.TestQuerydslConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 여러 번 나눠 읽는 경로를 타도록 한 번에 두 행씩 읽는다
+@DataJpaTest(properties = "friendy.follow.index.page-size=2")
+@ActiveProfiles("test")
+@Import({
+    TestQuerydslConfig.class,
+    FollowIndexRepository.class,
+    FollowGraphIndexLoader.class,
+    FollowGraphIndex.class
+})
+class FollowGraphIndexLoaderTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private FollowGraphIndexLoader followGraphIndexLoader;
+
+    @Autowired
+    private FollowGraphIndex followGraphIndex;
+
+    @Test
+    @DisplayName("DB 의 팔로우 관계를 읽어 팔로우 그래프 색인을 다시 만든다")
+    void loadRebuildsIndexFromDatabase() {
+        // given
+        List<Member> members = MemberFixture.createMultipleMembers(3);
+        members.forEach(em::persist);
+        em.persist(Follow.of(members.get(0), members.get(1)));
+        em.persist(Follow.of(members.get(1), members.get(0)));
+        em.persist(Follow.of(members.get(2), members.get(1)));
+        em.flush();
+        followGraphIndex.follow(members.get(2).getId(), members.get(0).getId());
+
+        Long first = members.get(0).getId();
+        Long second = members.get(1).getId();
+        Long third = members.get(2).getId();
+
+        // when
+        followGraphIndexLoader.load();
+
+        // then
+        assertThat(followGraphIndex.isReady()).isTrue();
+        assertThat(followGraphIndex.isFollowing(first, second)).isTrue();
+        assertThat(followGraphIndex.isFollowing(third, first)).isFalse();
+        assertThat(followGraphIndex.filterFollowing(third, List.of(first, second))).containsExactly(second);
+        assertThat(followGraphIndex.findMutualIds(first)).containsExactly(second);
+    }
+}
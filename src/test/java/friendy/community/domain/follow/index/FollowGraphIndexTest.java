@@ -0,0 +1,115 @@
+package friendy.community.domain.follow.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FollowGraphIndexTest {
+
+    private final FollowGraphIndex followGraphIndex = new FollowGraphIndex();
+
+    @Test
+    @DisplayName("팔로우/언팔로우를 반영해 팔로우 여부와 함께 팔로우하는 회원 수를 답한다")
+    void followAndUnfollow() {
+        // given
+        followGraphIndex.follow(1L, 2L);
+        followGraphIndex.follow(1L, 3L);
+        followGraphIndex.follow(3L, 2L);
+
+        // when
+        followGraphIndex.unfollow(1L, 3L);
+
+        // then
+        assertThat(followGraphIndex.isFollowing(1L, 2L)).isTrue();
+        assertThat(followGraphIndex.isFollowing(1L, 3L)).isFalse();
+        assertThat(followGraphIndex.isFollowing(2L, 1L)).isFalse();
+        assertThat(followGraphIndex.countCommonFollowings(1L, 3L)).isEqualTo(1);
+        assertThat(followGraphIndex.filterFollowing(1L, List.of(2L, 3L))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("맞팔로우 회원과 함께 팔로우하는 회원을 교집합으로 구한다")
+    void mutualsAndCommonFollowings() {
+        // given
+        followGraphIndex.follow(1L, 2L);
+        followGraphIndex.follow(2L, 1L);
+        followGraphIndex.follow(1L, 3L);
+        followGraphIndex.follow(3L, 1L);
+        followGraphIndex.follow(1L, 4L);
+        followGraphIndex.follow(5L, 3L);
+        followGraphIndex.follow(5L, 4L);
+
+        // when & then
+        assertThat(followGraphIndex.findMutualIds(1L)).containsExactly(2L, 3L);
+        assertThat(followGraphIndex.countMutuals(1L)).isEqualTo(2);
+        assertThat(followGraphIndex.countCommonFollowings(1L, 5L)).isEqualTo(2);
+        assertThat(followGraphIndex.findMutualIds(9L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대상 중 팔로우하는 회원만 골라낸다")
+    void filterFollowing() {
+        // given
+        followGraphIndex.follow(1L, 2L);
+        followGraphIndex.follow(1L, 4L);
+
+        // when
+        List<Long> followed = followGraphIndex.filterFollowing(1L, List.of(2L, 3L, 4L));
+
+        // then
+        assertThat(followed).containsExactly(2L, 4L);
+        assertThat(followGraphIndex.filterFollowing(9L, List.of(2L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("적재하는 동안에는 기존 그래프로 답하고, 적재 중 바뀐 관계를 반영한 새 그래프로 바꿔 끼운다")
+    void rebuildSwapsInFreshGraph() {
+        // given
+        followGraphIndex.startRebuild();
+        followGraphIndex.finishRebuild();
+        followGraphIndex.follow(7L, 8L);
+        followGraphIndex.follow(1L, 2L);
+        followGraphIndex.startRebuild();
+        followGraphIndex.unfollow(1L, 2L);
+        followGraphIndex.follow(1L, 3L);
+
+        // when
+        followGraphIndex.load(1L, 2L);
+        followGraphIndex.load(2L, 1L);
+        boolean readyWhileLoading = followGraphIndex.isReady();
+        boolean oldEdgeWhileLoading = followGraphIndex.isFollowing(7L, 8L);
+        boolean loadedEdgeWhileLoading = followGraphIndex.isFollowing(2L, 1L);
+        followGraphIndex.finishRebuild();
+
+        // then
+        assertThat(readyWhileLoading).isTrue();
+        assertThat(oldEdgeWhileLoading).isTrue();
+        assertThat(loadedEdgeWhileLoading).isFalse();
+        assertThat(followGraphIndex.isFollowing(1L, 2L)).isFalse();
+        assertThat(followGraphIndex.isFollowing(1L, 3L)).isTrue();
+        assertThat(followGraphIndex.isFollowing(2L, 1L)).isTrue();
+        assertThat(followGraphIndex.isFollowing(7L, 8L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("적재를 그만두면 기존 그래프를 그대로 쓴다")
+    void abortRebuildKeepsCurrentGraph() {
+        // given
+        followGraphIndex.follow(1L, 2L);
+        followGraphIndex.startRebuild();
+        followGraphIndex.load(3L, 4L);
+
+        // when
+        followGraphIndex.abortRebuild();
+        followGraphIndex.follow(5L, 6L);
+
+        // then
+        assertThat(followGraphIndex.isReady()).isFalse();
+        assertThat(followGraphIndex.isFollowing(1L, 2L)).isTrue();
+        assertThat(followGraphIndex.isFollowing(3L, 4L)).isFalse();
+        assertThat(followGraphIndex.isFollowing(5L, 6L)).isTrue();
+    }
+}
@@ -0,0 +1,110 @@
+package friendy.community.domain.follow.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberIdBitmapTest {
+
+    @Test
+    @DisplayName("회원 id 를 추가, 삭제, 조회하고 중복 추가는 무시한다")
+    void addRemoveContains() {
+        // given
+        MemberIdBitmap bitmap = new MemberIdBitmap();
+
+        // when
+        boolean added = bitmap.add(3L);
+        boolean duplicated = bitmap.add(3L);
+        bitmap.add(70_000L);
+        boolean removed = bitmap.remove(3L);
+        boolean missing = bitmap.remove(4L);
+
+        // then
+        assertThat(added).isTrue();
+        assertThat(duplicated).isFalse();
+        assertThat(removed).isTrue();
+        assertThat(missing).isFalse();
+        assertThat(bitmap.contains(3L)).isFalse();
+        assertThat(bitmap.contains(70_000L)).isTrue();
+        assertThat(bitmap.cardinality()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 구간의 원소가 많아져 비트맵으로 바꿔 담았다가 다시 줄어도 원소를 잃지 않는다")
+    void convertsBetweenArrayAndBitmap() {
+        // given
+        MemberIdBitmap bitmap = new MemberIdBitmap();
+        for (long memberId = 0; memberId <= MemberIdBitmap.ARRAY_CONTAINER_MAX; memberId++) {
+            bitmap.add(memberId * 2);
+        }
+
+        // when
+        bitmap.remove(0L);
+        bitmap.remove(2L);
+        bitmap.add(1L);
+        bitmap.add(3L);
+
+        // then
+        assertThat(bitmap.cardinality()).isEqualTo(MemberIdBitmap.ARRAY_CONTAINER_MAX + 1);
+        assertThat(bitmap.contains(0L)).isFalse();
+        assertThat(bitmap.contains(1L)).isTrue();
+        assertThat(bitmap.contains(4L)).isTrue();
+        assertThat(bitmap.contains(MemberIdBitmap.ARRAY_CONTAINER_MAX * 2L)).isTrue();
+        assertThat(bitmap.toArray()).startsWith(1L, 3L, 4L, 6L);
+    }
+
+    @Test
+    @DisplayName("배열과 비트맵이 섞여 있어도 교집합과 그 크기가 정확하다")
+    void andMatchesTreeSetIntersection() {
+        // given
+        Random random = new Random(42);
+        MemberIdBitmap dense = new MemberIdBitmap();
+        MemberIdBitmap sparse = new MemberIdBitmap();
+        TreeSet<Long> denseIds = new TreeSet<>();
+        TreeSet<Long> sparseIds = new TreeSet<>();
+        for (int i = 0; i < 30_000; i++) {
+            long memberId = random.nextInt(200_000);
+            dense.add(memberId);
+            denseIds.add(memberId);
+        }
+        for (int i = 0; i < 500; i++) {
+            long memberId = random.nextInt(200_000);
+            sparse.add(memberId);
+            sparseIds.add(memberId);
+        }
+        TreeSet<Long> expected = new TreeSet<>(denseIds);
+        expected.retainAll(sparseIds);
+
+        // when
+        MemberIdBitmap intersection = dense.and(sparse);
+        MemberIdBitmap selfIntersection = dense.and(dense);
+
+        // then
+        assertThat(intersection.toArray()).containsExactly(expected.stream().mapToLong(Long::longValue).toArray());
+        assertThat(intersection.cardinality()).isEqualTo(expected.size());
+        assertThat(dense.andCardinality(sparse)).isEqualTo(expected.size());
+        assertThat(sparse.andCardinality(dense)).isEqualTo(expected.size());
+        assertThat(selfIntersection.toArray()).containsExactly(denseIds.stream().mapToLong(Long::longValue).toArray());
+    }
+
+    @Test
+    @DisplayName("순서와 관계없이 추가해도 여러 구간에 걸친 id 를 오름차순으로 돌려준다")
+    void toArrayReturnsSortedIdsAcrossContainers() {
+        // given
+        MemberIdBitmap bitmap = new MemberIdBitmap();
+        bitmap.add(1L << 40);
+        bitmap.add(65_536L);
+        bitmap.add(7L);
+        bitmap.add(65_535L);
+
+        // when
+        long[] memberIds = bitmap.toArray();
+
+        // then
+        assertThat(memberIds).containsExactly(7L, 65_535L, 65_536L, 1L << 40);
+    }
+}
@@ -84,4 +84,57 @@ class FollowRepositoryImplTest {
         // then
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("팔로워 ID 목록 조회")
+    void findFollowerIds() {
+        // when
+        List<Long> result = followRepositoryImpl.findFollowerIds(memberA.getId(), 10);
+
+        // then
+        assertThat(result).containsExactly(memberB.getId());
+    }
+
+    @Test
+    @DisplayName("대상 회원 중 팔로우한 회원 ID만 조회")
+    void findFollowingIdsIn() {
+        // when
+        List<Long> result = followRepositoryImpl.findFollowingIdsIn(memberA.getId(), List.of(memberC.getId(), memberA.getId()));
+
+        // then
+        assertThat(result).containsExactly(memberC.getId());
+    }
+
+    @Test
+    @DisplayName("서로 팔로우하는 회원 ID를 오름차순으로 조회하고 수를 센다")
+    void findAndCountMutuals() {
+        // given
+        em.persist(Follow.of(em.find(Member.class, memberC.getId()), em.find(Member.class, memberA.getId())));
+        em.flush();
+
+        // when
+        List<Long> mutualIds = followRepositoryImpl.findMutualIds(memberA.getId(), null, 10);
+        List<Long> nextIds = followRepositoryImpl.findMutualIds(memberA.getId(), memberB.getId(), 10);
+
+        // then
+        assertThat(mutualIds).containsExactly(memberB.getId(), memberC.getId());
+        assertThat(nextIds).containsExactly(memberC.getId());
+        assertThat(followRepositoryImpl.countMutuals(memberA.getId())).isEqualTo(2);
+        assertThat(followRepositoryImpl.countMutuals(memberB.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("두 회원이 함께 팔로우하는 회원 수를 센다")
+    void countCommonFollowings() {
+        // given
+        em.persist(Follow.of(em.find(Member.class, memberC.getId()), em.find(Member.class, memberB.getId())));
+        em.flush();
+
+        // when
+        long common = followRepositoryImpl.countCommonFollowings(memberA.getId(), memberC.getId());
+
+        // then
+        assertThat(common).isEqualTo(1);
+        assertThat(followRepositoryImpl.countCommonFollowings(memberA.getId(), memberB.getId())).isZero();
+    }
 }
@@ -0,0 +1,107 @@
+package friendy.community.domain.follow.service;
+
+import friendy.community.domain.follow.repository.FollowRepository;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 다른 컨텍스트가 닫히며 공유 인메모리 DB 의 스키마를 지워도 영향받지 않도록 전용 DB 를 쓴다
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:follow-concurrency;MODE=MySQL;DATABASE_TO_LOWER=TRUE")
+class FollowCommandServiceConcurrencyTest {
+
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private FollowCommandService followCommandService;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        followRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("두 회원이 서로를 동시에 팔로우/언팔로우해도 교착 없이 모두 반영된다")
+    void mutualFollowsRunConcurrently() throws Exception {
+        // given
+        List<Member> members = memberRepository.saveAll(MemberFixture.createMultipleMembers(2));
+        Long first = members.get(0).getId();
+        Long second = members.get(1).getId();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                // when
+                runTogether(executor,
+                    () -> followCommandService.follow(first, second),
+                    () -> followCommandService.follow(second, first));
+                assertCounts(first, 1, 1);
+                assertCounts(second, 1, 1);
+
+                runTogether(executor,
+                    () -> followCommandService.unfollow(first, second),
+                    () -> followCommandService.unfollow(second, first));
+                assertCounts(first, 0, 0);
+                assertCounts(second, 0, 0);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(followRepository.count()).isZero();
+    }
+
+    private void runTogether(ExecutorService executor, Runnable left, Runnable right) throws Exception {
+        CountDownLatch ready = new CountDownLatch(2);
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?> leftResult = executor.submit(() -> awaitAndRun(ready, start, left));
+        Future<?> rightResult = executor.submit(() -> awaitAndRun(ready, start, right));
+        ready.await();
+        start.countDown();
+        leftResult.get(10, TimeUnit.SECONDS);
+        rightResult.get(10, TimeUnit.SECONDS);
+    }
+
+    private void awaitAndRun(CountDownLatch ready, CountDownLatch start, Runnable action) {
+        ready.countDown();
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        action.run();
+    }
+
+    private void assertCounts(Long memberId, int followerCount, int followingCount) {
+        Member member = memberRepository.findById(memberId).orElseThrow();
+        assertThat(member.getFollowerCount()).isEqualTo(followerCount);
+        assertThat(member.getFollowingCount()).isEqualTo(followingCount);
+    }
+}
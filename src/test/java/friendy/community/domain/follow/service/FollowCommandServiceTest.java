@@ -1,21 +1,29 @@
 package friendy.community.domain.follow.service;
 
+import friendy.community.domain.follow.event.FollowChangedEvent;
+import friendy.community.domain.follow.index.FollowGraphIndex;
 import friendy.community.domain.follow.model.Follow;
 import friendy.community.domain.follow.repository.FollowRepository;
 import friendy.community.domain.member.fixture.MemberFixture;
 import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
 import friendy.community.domain.member.service.MemberDomainService;
+import friendy.community.global.exception.domain.BadRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +38,15 @@ class FollowCommandServiceTest {
     @Mock
     private FollowRepository followRepository;
 
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private FollowGraphIndex followGraphIndex;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private FollowCommandService followCommandService;
 
@@ -57,7 +74,11 @@ class FollowCommandServiceTest {
 
         // then
         verify(followDomainService).validateFollowable(follower, following);
-        verify(followRepository).save(any(Follow.class));
+        verify(followRepository).saveAndFlush(any(Follow.class));
+        verify(memberRepository).increaseFollowingCount(1L);
+        verify(memberRepository).increaseFollowerCount(2L);
+        verify(followGraphIndex).follow(1L, 2L);
+        verify(eventPublisher).publishEvent(new FollowChangedEvent(1L, 2L));
     }
 
     @Test
@@ -75,5 +96,41 @@ class FollowCommandServiceTest {
         // then
         verify(followDomainService).validateUnfollowable(follower, following);
         verify(followRepository).delete(any(Follow.class));
+        verify(memberRepository).decreaseFollowingCount(1L);
+        verify(memberRepository).decreaseFollowerCount(2L);
+        verify(followGraphIndex).unfollow(1L, 2L);
+        verify(eventPublisher).publishEvent(new FollowChangedEvent(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("팔로우 수는 요청 방향과 관계없이 id 가 작은 회원부터, follow 행을 저장하기 전에 갱신한다")
+    void follow_shouldUpdateCountsInIdOrderBeforeInsert() {
+        // given
+        when(memberDomainService.getMemberById(2L)).thenReturn(following);
+        when(memberDomainService.getMemberById(1L)).thenReturn(follower);
+
+        // when
+        followCommandService.follow(2L, 1L);
+
+        // then
+        InOrder inOrder = inOrder(memberRepository, followRepository);
+        inOrder.verify(memberRepository).increaseFollowerCount(1L);
+        inOrder.verify(memberRepository).increaseFollowingCount(2L);
+        inOrder.verify(followRepository).saveAndFlush(any(Follow.class));
+    }
+
+    @Test
+    @DisplayName("동시에 같은 팔로우가 저장되어 유니크 제약에 걸리면 이미 팔로우한 회원으로 응답한다")
+    void follow_shouldThrowAlreadyFollowed_whenUniqueConstraintViolated() {
+        // given
+        when(memberDomainService.getMemberById(1L)).thenReturn(follower);
+        when(memberDomainService.getMemberById(2L)).thenReturn(following);
+        when(followRepository.saveAndFlush(any(Follow.class)))
+            .thenThrow(new DataIntegrityViolationException("unique_follow"));
+
+        // when & then
+        assertThatThrownBy(() -> followCommandService.follow(1L, 2L))
+            .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(followGraphIndex);
     }
 }
@@ -0,0 +1,103 @@
+package friendy.community.domain.follow.service;
+
+import friendy.community.domain.follow.model.Follow;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.global.config.TestQuerydslConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(TestQuerydslConfig.class)
+class FollowCountReconcilerTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private FollowCountReconciler followCountReconciler;
+    private List<Member> members;
+
+    @BeforeEach
+    void setUp() {
+        followCountReconciler = new FollowCountReconciler(memberRepository, meterRegistry);
+        ReflectionTestUtils.setField(followCountReconciler, "chunkSize", 2);
+
+        members = memberRepository.saveAll(MemberFixture.createMultipleMembers(5));
+        em.persist(Follow.of(members.get(0), members.get(1)));
+        em.persist(Follow.of(members.get(0), members.get(4)));
+        em.persist(Follow.of(members.get(3), members.get(4)));
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("어긋난 팔로워/팔로잉 수를 id 구간별로 다시 세어 고친다")
+    void repairsDriftedCounts() {
+        // when
+        int repaired = followCountReconciler.reconcile();
+
+        // then
+        em.clear();
+        assertThat(repaired).isEqualTo(4);
+        assertCounts(members.get(0), 0, 2);
+        assertCounts(members.get(1), 1, 0);
+        assertCounts(members.get(2), 0, 0);
+        assertCounts(members.get(3), 0, 1);
+        assertCounts(members.get(4), 2, 0);
+        assertThat(meterRegistry.counter(FollowCountReconciler.REPAIRED_METRIC).count()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("저장된 값이 맞으면 아무 회원도 고치지 않는다")
+    void skipsConsistentCounts() {
+        // given
+        followCountReconciler.reconcile();
+
+        // when
+        int repaired = followCountReconciler.reconcile();
+
+        // then
+        assertThat(repaired).isZero();
+    }
+
+    @Test
+    @DisplayName("팔로우 수 감소는 0 아래로 내려가지 않는다")
+    void decreaseStopsAtZero() {
+        // given
+        Long memberId = members.get(2).getId();
+        memberRepository.increaseFollowerCount(memberId);
+
+        // when
+        memberRepository.decreaseFollowerCount(memberId);
+        int updated = memberRepository.decreaseFollowerCount(memberId);
+
+        // then
+        em.clear();
+        assertThat(updated).isZero();
+        assertCounts(members.get(2), 0, 0);
+    }
+
+    private void assertCounts(Member member, int followerCount, int followingCount) {
+        Member found = memberRepository.findById(member.getId()).orElseThrow();
+        assertThat(found.getFollowerCount()).isEqualTo(followerCount);
+        assertThat(found.getFollowingCount()).isEqualTo(followingCount);
+    }
+}
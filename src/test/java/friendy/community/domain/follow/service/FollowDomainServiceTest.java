@@ -1,5 +1,6 @@
 package friendy.community.domain.follow.service;
 
+import friendy.community.domain.follow.index.FollowGraphIndex;
 import friendy.community.domain.follow.model.Follow;
 import friendy.community.domain.follow.repository.FollowRepository;
 import friendy.community.domain.member.fixture.MemberFixture;
@@ -19,6 +20,9 @@ import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +31,9 @@ class FollowDomainServiceTest {
     @Mock
     private FollowRepository followRepository;
 
+    @Mock
+    private FollowGraphIndex followGraphIndex;
+
     @InjectMocks
     private FollowDomainService followDomainService;
 
@@ -97,6 +104,66 @@ class FollowDomainServiceTest {
             .doesNotThrowAnyException();
     }
 
+    @Test
+    @DisplayName("색인이 팔로우하지 않았다고 답하면 DB 를 조회하지 않고 팔로우를 허용한다")
+    void validateFollowable_shouldSkipDatabase_whenIndexHasNoEdge() {
+        // given
+        when(followGraphIndex.isReady()).thenReturn(true);
+        when(followGraphIndex.isFollowing(1L, 2L)).thenReturn(false);
+
+        // when & then
+        assertThatCode(() -> followDomainService.validateFollowable(follower, following))
+            .doesNotThrowAnyException();
+        verify(followRepository, never()).existsByFollowerAndFollowing(any(), any());
+    }
+
+    @Test
+    @DisplayName("색인이 이미 팔로우했다고 답해도 DB 에 없으면 팔로우를 허용한다")
+    void validateFollowable_shouldConfirmWithDatabase_whenIndexHasEdge() {
+        // given
+        when(followGraphIndex.isReady()).thenReturn(true);
+        when(followGraphIndex.isFollowing(1L, 2L)).thenReturn(true);
+        when(followRepository.existsByFollowerAndFollowing(follower, following)).thenReturn(false);
+
+        // when & then
+        assertThatCode(() -> followDomainService.validateFollowable(follower, following))
+            .doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("색인이 팔로우했다고 답하면 DB 를 조회하지 않고 언팔로우를 허용한다")
+    void validateUnfollowable_shouldSkipDatabase_whenIndexHasEdge() {
+        // given
+        when(followGraphIndex.isReady()).thenReturn(true);
+        when(followGraphIndex.isFollowing(1L, 2L)).thenReturn(true);
+
+        // when & then
+        assertThatCode(() -> followDomainService.validateUnfollowable(follower, following))
+            .doesNotThrowAnyException();
+        verify(followRepository, never()).existsByFollowerAndFollowing(any(), any());
+    }
+
+    @Test
+    @DisplayName("색인이 팔로우하지 않았다고 답하면 DB 로 확인해 언팔로우를 거절한다")
+    void validateUnfollowable_shouldConfirmWithDatabase_whenIndexHasNoEdge() {
+        // given
+        when(followGraphIndex.isReady()).thenReturn(true);
+        when(followGraphIndex.isFollowing(1L, 2L)).thenReturn(false);
+        when(followRepository.existsByFollowerAndFollowing(follower, following)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> followDomainService.validateUnfollowable(follower, following))
+            .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    @DisplayName("맞팔로우 목록이 비어있으면 예외가 발생해야 한다")
+    void validateMutualExists_shouldThrowException_whenEmpty() {
+        // when & then
+        assertThatThrownBy(() -> followDomainService.validateMutualExists(List.of()))
+            .isInstanceOf(NotFoundException.class);
+    }
+
     @Test
     @DisplayName("팔로잉 리스트가 비어있으면 예외가 발생해야 한다")
     void validateFollowingExists_shouldThrowException_whenEmpty() {
@@ -1,10 +1,15 @@
 package friendy.community.domain.follow.service;
 
 import friendy.community.domain.follow.dto.response.FollowListResponse;
+import friendy.community.domain.follow.dto.response.FollowMemberResponse;
+import friendy.community.domain.follow.dto.response.FollowRelationResponse;
+import friendy.community.domain.follow.index.FollowGraphIndex;
 import friendy.community.domain.follow.model.Follow;
 import friendy.community.domain.follow.repository.FollowRepository;
 import friendy.community.domain.member.fixture.MemberFixture;
 import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.repository.MemberRepository;
+import friendy.community.domain.upload.service.ImageVariantService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +22,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -30,6 +36,15 @@ class FollowQueryServiceTest {
     @Mock
     private FollowDomainService followDomainService;
 
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    @Mock
+    private FollowGraphIndex followGraphIndex;
+
+    @Mock
+    private MemberRepository memberRepository;
+
     @InjectMocks
     private FollowQueryService followQueryService;
 
@@ -126,28 +141,107 @@ class FollowQueryServiceTest {
     }
 
     @Test
-    @DisplayName("팔로워 수를 정상적으로 반환해야 한다")
-    void getFollowerCount_shouldReturnCount() {
+    @DisplayName("팔로워 수는 팔로우 행을 세지 않고 회원에 저장된 값을 반환한다")
+    void getFollowerCount_shouldReturnStoredCount() {
         // given
-        when(followRepository.countByFollower(follower)).thenReturn(10);
+        ReflectionTestUtils.setField(following, "followerCount", 10);
+        ReflectionTestUtils.setField(following, "followingCount", 3);
 
         // when
-        int count = followQueryService.getFollowerCount(follower);
+        int count = followQueryService.getFollowerCount(following);
 
         // then
         assertThat(count).isEqualTo(10);
+        verifyNoInteractions(followRepository);
     }
 
     @Test
-    @DisplayName("팔로잉 수를 정상적으로 반환해야 한다")
-    void getFollowingCount_shouldReturnCount() {
+    @DisplayName("팔로잉 수는 팔로우 행을 세지 않고 회원에 저장된 값을 반환한다")
+    void getFollowingCount_shouldReturnStoredCount() {
         // given
-        when(followRepository.countByFollowing(following)).thenReturn(5);
+        ReflectionTestUtils.setField(follower, "followerCount", 2);
+        ReflectionTestUtils.setField(follower, "followingCount", 5);
 
         // when
-        int count = followQueryService.getFollowingCount(following);
+        int count = followQueryService.getFollowingCount(follower);
 
         // then
         assertThat(count).isEqualTo(5);
+        verifyNoInteractions(followRepository);
+    }
+
+    @Test
+    @DisplayName("색인이 준비되면 맞팔로우 목록을 색인에서 회원 id 순으로 20명씩 끊어 조회한다")
+    void getMutualList_shouldPageIdsFromIndex() {
+        // given
+        long[] mutualIds = LongStream.rangeClosed(2, 31).toArray();
+        List<Member> members = MemberFixture.createMultipleMembers(20);
+        for (int i = 0; i < members.size(); i++) {
+            ReflectionTestUtils.setField(members.get(i), "id", 6L + i);
+        }
+        when(followGraphIndex.isReady()).thenReturn(true);
+        when(followGraphIndex.findMutualIds(1L)).thenReturn(mutualIds);
+        when(memberRepository.findAllWithImageByIdIn(LongStream.rangeClosed(6, 25).boxed().toList())).thenReturn(members);
+
+        // when
+        FollowListResponse response = followQueryService.getMutualList(1L, 5L);
+
+        // then
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.lastFollowId()).isEqualTo(25L);
+        assertThat(response.members()).extracting(FollowMemberResponse::memberId).startsWith(6L, 7L);
+        verify(followRepository, never()).findMutualIds(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("색인이 준비되기 전에는 맞팔로우 목록을 DB 로 조회한다")
+    void getMutualList_shouldFallBackToDatabase_whenIndexNotReady() {
+        // given
+        when(followGraphIndex.isReady()).thenReturn(false);
+        when(followRepository.findMutualIds(1L, null, 20)).thenReturn(List.of(2L));
+        when(memberRepository.findAllWithImageByIdIn(List.of(2L))).thenReturn(List.of(following));
+
+        // when
+        FollowListResponse response = followQueryService.getMutualList(1L, null);
+
+        // then
+        verify(followDomainService).validateMutualExists(List.of(2L));
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.members()).extracting(FollowMemberResponse::memberId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("색인이 준비되면 팔로우 관계와 맞팔로우 수, 함께 팔로우하는 회원 수를 색인으로 답한다")
+    void getRelation_shouldReadFromIndex() {
+        // given
+        when(followGraphIndex.isReady()).thenReturn(true);
+        when(followGraphIndex.isFollowing(1L, 2L)).thenReturn(true);
+        when(followGraphIndex.isFollowing(2L, 1L)).thenReturn(false);
+        when(followGraphIndex.countMutuals(2L)).thenReturn(4);
+        when(followGraphIndex.countCommonFollowings(1L, 2L)).thenReturn(3);
+
+        // when
+        FollowRelationResponse response = followQueryService.getRelation(1L, 2L);
+
+        // then
+        assertThat(response).isEqualTo(new FollowRelationResponse(true, false, 4, 3));
+        verifyNoInteractions(followRepository);
+    }
+
+    @Test
+    @DisplayName("색인이 준비되기 전에는 팔로우 관계를 DB 로 조회한다")
+    void getRelation_shouldFallBackToDatabase_whenIndexNotReady() {
+        // given
+        when(followGraphIndex.isReady()).thenReturn(false);
+        when(followRepository.existsByFollowerIdAndFollowingId(1L, 2L)).thenReturn(false);
+        when(followRepository.existsByFollowerIdAndFollowingId(2L, 1L)).thenReturn(true);
+        when(followRepository.countMutuals(2L)).thenReturn(1L);
+        when(followRepository.countCommonFollowings(1L, 2L)).thenReturn(0L);
+
+        // when
+        FollowRelationResponse response = followQueryService.getRelation(1L, 2L);
+
+        // then
+        assertThat(response).isEqualTo(new FollowRelationResponse(false, true, 1, 0));
     }
 }
@@ -0,0 +1,105 @@
+package friendy.community.domain.hashtag.controller;
+
+import friendy.community.domain.auth.jwt.JwtTokenFilter;
+import friendy.community.domain.hashtag.controller.code.HashtagExceptionCode;
+import friendy.community.domain.hashtag.dto.response.FindTrendingHashtagsResponse;
+import friendy.community.domain.hashtag.dto.response.TrendingHashtagResponse;
+import friendy.community.domain.hashtag.service.HashtagQueryService;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.global.config.MockSecurityConfig;
+import friendy.community.global.config.SecurityConfig;
+import friendy.community.global.config.WebConfig;
+import friendy.community.global.exception.domain.NotFoundException;
+import friendy.community.global.security.FriendyUserDetails;
+import friendy.community.global.security.resolver.LoggedInUserArgumentResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = HashtagController.class,
+    excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtTokenFilter.class),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = WebConfig.class),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = LoggedInUserArgumentResolver.class)
+    })
+@Import(MockSecurityConfig.class)
+class HashtagControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private HashtagQueryService hashtagQueryService;
+
+    @BeforeEach
+    void setUp() {
+        FriendyUserDetails userDetails = new FriendyUserDetails(
+            1L,
+            "user@example.com",
+            "password123",
+            Collections.emptyList()
+        );
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @Test
+    @DisplayName("해시태그 게시글 목록 조회 API 성공")
+    void getPostsByHashtagSuccess() throws Exception {
+        // given
+        when(hashtagQueryService.getPostsByHashtag("java", 20L, 1L))
+            .thenReturn(new FindAllPostResponse(List.of(), false, 11L));
+
+        // when & then
+        mockMvc.perform(get("/hashtags/java/posts")
+                .param("lastPostId", "20"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result.lastPostId").value(11));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 해시태그 조회 시 404 응답")
+    void getPostsByHashtagNotFound() throws Exception {
+        // given
+        when(hashtagQueryService.getPostsByHashtag("kotlin", null, 1L))
+            .thenThrow(new NotFoundException(HashtagExceptionCode.HASHTAG_NOT_FOUND));
+
+        // when & then
+        mockMvc.perform(get("/hashtags/kotlin/posts"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("인기 해시태그 조회 API 성공")
+    void getTrendingHashtagsSuccess() throws Exception {
+        // given
+        when(hashtagQueryService.getTrendingHashtags(5))
+            .thenReturn(new FindTrendingHashtagsResponse(List.of(new TrendingHashtagResponse("java", 3.0, 7))));
+
+        // when & then
+        mockMvc.perform(get("/hashtags/trending")
+                .param("size", "5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result.hashtags[0].name").value("java"));
+    }
+}
@@ -0,0 +1,113 @@
+package friendy.community.domain.hashtag.index;
+
+import friendy.community.domain.hashtag.model.Hashtag;
+import friendy.community.domain.hashtag.repository.HashtagIndexRepository;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.model.PostHashtag;
+import friendy.community.global.config.JpaConfig;
+import friendy.community.global.config.TestQuerydslConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "friendy.hashtag.index.page-size=2")
+@ActiveProfiles("test")
+@Import({
+    TestQuerydslConfig.class,
+    JpaConfig.class,
+    HashtagIndexRepository.class,
+    HashtagIndexLoader.class,
+    HashtagIndex.class,
+    HashtagTrendingCounter.class
+})
+class HashtagIndexLoaderTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private HashtagIndexLoader hashtagIndexLoader;
+
+    @Autowired
+    private HashtagIndex hashtagIndex;
+
+    @Autowired
+    private HashtagTrendingCounter hashtagTrendingCounter;
+
+    @Test
+    @DisplayName("DB 의 게시글 해시태그를 읽어 색인과 인기 해시태그 집계를 다시 만든다")
+    void loadRebuildsIndexFromDatabase() {
+        // given
+        Member member = MemberFixture.memberFixture();
+        em.persist(member);
+        Hashtag java = new Hashtag("java");
+        Hashtag spring = new Hashtag("spring");
+        em.persist(java);
+        em.persist(spring);
+
+        List<Long> postIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Post post = Post.of(new PostCreateRequest("게시글" + i, List.of(), List.of(), "서울시"), member);
+            em.persist(post);
+            em.persist(new PostHashtag(post, java));
+            if (i == 0) {
+                em.persist(new PostHashtag(post, spring));
+            }
+            postIds.add(post.getId());
+        }
+        em.flush();
+
+        // when
+        hashtagIndexLoader.load();
+
+        // then
+        assertThat(hashtagIndex.findPostIds("java", null, 10)).containsExactlyElementsOf(postIds.reversed());
+        assertThat(hashtagIndex.findPostIds("spring", null, 10)).containsExactly(postIds.get(0));
+        assertThat(hashtagTrendingCounter.findTop(1, System.currentTimeMillis()))
+            .extracting(HashtagTrendingCounter.TrendingScore::hashtagId)
+            .containsExactly(java.getId());
+    }
+
+    @Test
+    @DisplayName("다시 적재하면 DB 에서 지워진 행을 빼고, 인기 해시태그 집계는 두 번 세지 않는다")
+    void reloadDropsDeletedRowsWithoutDoubleCounting() {
+        // given
+        Member member = MemberFixture.memberFixture();
+        em.persist(member);
+        Hashtag java = new Hashtag("java");
+        em.persist(java);
+        Post first = Post.of(new PostCreateRequest("게시글1", List.of(), List.of(), "서울시"), member);
+        Post second = Post.of(new PostCreateRequest("게시글2", List.of(), List.of(), "서울시"), member);
+        em.persist(first);
+        em.persist(second);
+        em.persist(new PostHashtag(first, java));
+        em.persist(new PostHashtag(second, java));
+        em.flush();
+        hashtagIndexLoader.load();
+        double score = hashtagTrendingCounter.findTop(1, System.currentTimeMillis()).get(0).score();
+
+        em.createNativeQuery("DELETE FROM post_hashtag WHERE post_id = :postId")
+            .setParameter("postId", first.getId())
+            .executeUpdate();
+
+        // when
+        hashtagIndexLoader.load();
+
+        // then
+        assertThat(hashtagIndex.findPostIds("java", null, 10)).containsExactly(second.getId());
+        assertThat(hashtagTrendingCounter.findTop(1, System.currentTimeMillis()).get(0).score()).isEqualTo(score);
+    }
+}
@@ -0,0 +1,167 @@
+package friendy.community.domain.hashtag.index;
+
+import friendy.community.domain.hashtag.model.Hashtag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashtagIndexTest {
+
+    private final HashtagIndex hashtagIndex = new HashtagIndex();
+    private final Hashtag java = new Hashtag(1L, "java");
+    private final Hashtag spring = new Hashtag(2L, "spring");
+
+    @Test
+    @DisplayName("해시태그 이름으로 게시글 id 를 최신순으로 조회한다")
+    void findPostIdsByHashtagName() {
+        // given
+        hashtagIndex.index(10L, List.of(java));
+        hashtagIndex.index(11L, List.of(java, spring));
+        hashtagIndex.index(12L, List.of(java));
+
+        // when & then
+        assertThat(hashtagIndex.findPostIds("java", null, 10)).containsExactly(12L, 11L, 10L);
+        assertThat(hashtagIndex.findPostIds("java", 12L, 1)).containsExactly(11L);
+        assertThat(hashtagIndex.findPostIds("spring", null, 10)).containsExactly(11L);
+        assertThat(hashtagIndex.findPostIds("kotlin", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("게시글 해시태그를 바꾸면 빠진 해시태그에서 제거하고 새로 붙은 해시태그만 반환한다")
+    void indexAppliesDiff() {
+        // given
+        hashtagIndex.index(10L, List.of(java));
+
+        // when
+        List<Long> added = hashtagIndex.index(10L, List.of(spring));
+
+        // then
+        assertThat(added).containsExactly(2L);
+        assertThat(hashtagIndex.findPostIds("java", null, 10)).isEmpty();
+        assertThat(hashtagIndex.findPostIds("spring", null, 10)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("게시글을 색인에서 제거한다")
+    void removePost() {
+        // given
+        hashtagIndex.index(10L, List.of(java, spring));
+
+        // when
+        hashtagIndex.remove(10L);
+
+        // then
+        assertThat(hashtagIndex.countPosts(1L)).isZero();
+        assertThat(hashtagIndex.countPosts(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("적재 도중 삭제된 게시글은 적재 결과에 다시 포함되지 않는다")
+    void loadSkipsPostsRemovedDuringRebuild() {
+        // given
+        hashtagIndex.registerHashtag(java);
+        hashtagIndex.startRebuild();
+
+        // when
+        hashtagIndex.remove(10L);
+        hashtagIndex.load(10L, 1L);
+        hashtagIndex.load(11L, 1L);
+        hashtagIndex.finishRebuild();
+
+        // then
+        assertThat(hashtagIndex.findPostIds("java", null, 10)).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("적재 도중 수정으로 빠진 해시태그는 적재가 예전 행을 읽어 와도 다시 붙지 않는다")
+    void loadSkipsHashtagsUnlinkedDuringRebuild() {
+        // given
+        hashtagIndex.registerHashtag(java);
+        hashtagIndex.registerHashtag(spring);
+        hashtagIndex.startRebuild();
+
+        // when
+        hashtagIndex.index(10L, List.of(spring));
+        hashtagIndex.load(10L, 1L);
+        hashtagIndex.load(10L, 2L);
+        hashtagIndex.load(11L, 1L);
+        hashtagIndex.finishRebuild();
+
+        // then
+        assertThat(hashtagIndex.findPostIds("java", null, 10)).containsExactly(11L);
+        assertThat(hashtagIndex.findPostIds("spring", null, 10)).containsExactly(10L);
+    }
+
+    @Test
+    @DisplayName("다시 적재하면 DB 에서 사라진 게시글을 빼고, 적재하는 동안에는 기존 색인으로 답한다")
+    void rebuildSwapsInFreshIndex() {
+        // given
+        hashtagIndex.index(10L, List.of(java));
+        hashtagIndex.index(11L, List.of(java));
+        hashtagIndex.startRebuild();
+        hashtagIndex.loadHashtag(java);
+
+        // when
+        hashtagIndex.load(11L, 1L);
+        List<Long> duringRebuild = hashtagIndex.findPostIds("java", null, 10);
+        hashtagIndex.finishRebuild();
+
+        // then
+        assertThat(duringRebuild).containsExactly(11L, 10L);
+        assertThat(hashtagIndex.findPostIds("java", null, 10)).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("적재 중 읽은 행은 기존 색인에 없던 행일 때만 새로 들어온 것으로 알린다")
+    void loadReportsOnlyRowsMissingFromLiveIndex() {
+        // given
+        hashtagIndex.index(10L, List.of(java));
+        hashtagIndex.startRebuild();
+        hashtagIndex.loadHashtag(java);
+
+        // when
+        boolean existing = hashtagIndex.load(10L, 1L);
+        boolean missing = hashtagIndex.load(11L, 1L);
+        hashtagIndex.finishRebuild();
+
+        // then
+        assertThat(existing).isFalse();
+        assertThat(missing).isTrue();
+        assertThat(hashtagIndex.findPostIds("java", null, 10)).containsExactly(11L, 10L);
+    }
+
+    @Test
+    @DisplayName("적재 중 새로 색인된 게시글과 해시태그는 바꿔 끼운 색인에도 남는다")
+    void rebuildKeepsPostsIndexedDuringRebuild() {
+        // given
+        hashtagIndex.startRebuild();
+        hashtagIndex.loadHashtag(java);
+        hashtagIndex.load(10L, 1L);
+
+        // when
+        hashtagIndex.index(11L, List.of(spring));
+        hashtagIndex.finishRebuild();
+
+        // then
+        assertThat(hashtagIndex.findPostIds("java", null, 10)).containsExactly(10L);
+        assertThat(hashtagIndex.findPostIds("spring", null, 10)).containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("적재를 중단하면 기존 색인을 그대로 쓴다")
+    void abortRebuildKeepsLiveIndex() {
+        // given
+        hashtagIndex.index(10L, List.of(java));
+        hashtagIndex.startRebuild();
+        hashtagIndex.loadHashtag(java);
+
+        // when
+        hashtagIndex.abortRebuild();
+
+        // then
+        assertThat(hashtagIndex.findPostIds("java", null, 10)).containsExactly(10L);
+    }
+}
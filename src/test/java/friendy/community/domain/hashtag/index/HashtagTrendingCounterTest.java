@@ -0,0 +1,74 @@
+package friendy.community.domain.hashtag.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class HashtagTrendingCounterTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    private final HashtagTrendingCounter counter = new HashtagTrendingCounter();
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(counter, "bucketMinutes", 60L);
+        ReflectionTestUtils.setField(counter, "windowBuckets", 24);
+        ReflectionTestUtils.setField(counter, "halfLifeMinutes", 60L);
+        now = System.currentTimeMillis() / HOUR * HOUR;
+    }
+
+    @Test
+    @DisplayName("오래된 사용량은 반감기에 따라 낮은 점수를 받는다")
+    void olderUsageDecays() {
+        // given
+        counter.recordAll(List.of(1L, 1L), now);
+        counter.recordAll(List.of(2L, 2L, 2L), now - 2 * HOUR);
+
+        // when
+        List<HashtagTrendingCounter.TrendingScore> top = counter.findTop(10, now);
+
+        // then
+        assertThat(top).extracting(HashtagTrendingCounter.TrendingScore::hashtagId).containsExactly(1L, 2L);
+        assertThat(top.get(0).score()).isCloseTo(2.0, within(1e-9));
+        assertThat(top.get(1).score()).isCloseTo(0.75, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("집계 기간을 벗어난 사용량은 점수에 포함하지 않는다")
+    void usageOutsideWindowIsIgnored() {
+        // given
+        counter.record(1L, now - 30 * HOUR);
+        counter.record(2L, now);
+
+        // when
+        List<HashtagTrendingCounter.TrendingScore> top = counter.findTop(10, now);
+
+        // then
+        assertThat(top).extracting(HashtagTrendingCounter.TrendingScore::hashtagId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("요청한 개수만큼 점수가 높은 순으로 반환한다")
+    void findTopLimitsResult() {
+        // given
+        for (long hashtagId = 1; hashtagId <= 5; hashtagId++) {
+            for (int count = 0; count < hashtagId; count++) {
+                counter.record(hashtagId, now);
+            }
+        }
+
+        // when
+        List<HashtagTrendingCounter.TrendingScore> top = counter.findTop(2, now);
+
+        // then
+        assertThat(top).extracting(HashtagTrendingCounter.TrendingScore::hashtagId).containsExactly(5L, 4L);
+    }
+}
@@ -0,0 +1,87 @@
+package friendy.community.domain.hashtag.index;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostingListTest {
+
+    @Test
+    @DisplayName("게시글 id 를 최신순으로 커서 페이징한다")
+    void findBeforeReturnsDescendingPage() {
+        // given
+        PostingList postingList = new PostingList();
+        for (long postId = 1; postId <= 300; postId++) {
+            postingList.add(postId);
+        }
+
+        // when
+        List<Long> firstPage = postingList.findBefore(null, 3);
+        List<Long> acrossBlocks = postingList.findBefore(130L, 4);
+
+        // then
+        assertThat(firstPage).containsExactly(300L, 299L, 298L);
+        assertThat(acrossBlocks).containsExactly(129L, 128L, 127L, 126L);
+        assertThat(postingList.size()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("순서와 관계없이 추가해도 정렬을 유지하고 중복은 무시한다")
+    void addOutOfOrderKeepsSortedUniqueIds() {
+        // given
+        PostingList postingList = new PostingList();
+        TreeSet<Long> expected = new TreeSet<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 2000; i++) {
+            long postId = 1 + random.nextInt(1500);
+            assertThat(postingList.add(postId)).isEqualTo(expected.add(postId));
+        }
+
+        // then
+        assertThat(postingList.size()).isEqualTo(expected.size());
+        assertThat(postingList.findBefore(null, Integer.MAX_VALUE)).containsExactlyElementsOf(expected.descendingSet());
+    }
+
+    @Test
+    @DisplayName("삭제한 id 는 더 이상 조회되지 않는다")
+    void removeDeletesId() {
+        // given
+        PostingList postingList = new PostingList();
+        for (long postId = 1; postId <= 200; postId++) {
+            postingList.add(postId);
+        }
+
+        // when
+        boolean removed = postingList.remove(150L);
+        boolean missing = postingList.remove(1000L);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(missing).isFalse();
+        assertThat(postingList.contains(150L)).isFalse();
+        assertThat(postingList.findBefore(152L, 2)).containsExactly(151L, 149L);
+    }
+
+    @Test
+    @DisplayName("연속된 id 는 id 당 1바이트 남짓으로 저장된다")
+    void consecutiveIdsAreCompressed() {
+        // given
+        PostingList postingList = new PostingList();
+        long base = 10_000_000_000L;
+
+        // when
+        for (long offset = 0; offset < 10_000; offset++) {
+            postingList.add(base + offset * 3);
+        }
+
+        // then
+        assertThat(postingList.encodedBytes()).isLessThan(10_000L * 2);
+    }
+}
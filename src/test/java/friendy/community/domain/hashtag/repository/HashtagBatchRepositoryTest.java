@@ -0,0 +1,135 @@
+package friendy.community.domain.hashtag.repository;
+
+import friendy.community.domain.hashtag.model.Hashtag;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.model.Post;
+import friendy.community.global.config.TestQuerydslConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({TestQuerydslConfig.class, HashtagBatchRepository.class})
+class HashtagBatchRepositoryTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private HashtagBatchRepository hashtagBatchRepository;
+
+    @Autowired
+    private HashtagRepository hashtagRepository;
+
+    @Autowired
+    private PostHashtagRepository postHashtagRepository;
+
+    @Test
+    @DisplayName("이미 있는 해시태그는 다시 삽입하지 않고 모든 이름의 id 를 반환한다")
+    void upsertAllIgnoresExistingNames() {
+        // given
+        Hashtag java = new Hashtag("java");
+        em.persist(java);
+        em.flush();
+
+        // when
+        Map<String, Long> ids = hashtagBatchRepository.upsertAll(List.of("java", "spring"));
+
+        // then
+        assertThat(ids).containsEntry("java", java.getId()).containsKey("spring");
+        assertThat(hashtagRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("요청 순서와 관계없이 이름 순으로 삽입한다")
+    void upsertAllInsertsInNameOrder() {
+        // when
+        Map<String, Long> ids = hashtagBatchRepository.upsertAll(List.of("spring", "jpa", "java"));
+
+        // then
+        assertThat(ids.get("java")).isLessThan(ids.get("jpa"));
+        assertThat(ids.get("jpa")).isLessThan(ids.get("spring"));
+    }
+
+    @Test
+    @DisplayName("컬럼보다 긴 이름은 잘라 넣지 않고 실패한다")
+    void upsertAllRejectsTooLongName() {
+        // given
+        String tooLong = "a".repeat(300);
+
+        // when & then
+        assertThatThrownBy(() -> hashtagBatchRepository.upsertAll(List.of(tooLong)))
+            .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(hashtagRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("이름으로 해시태그 id 를 한 번에 조회한다")
+    void findIdsByNames() {
+        // given
+        Hashtag java = new Hashtag("java");
+        em.persist(java);
+        em.flush();
+
+        // when
+        Map<String, Long> ids = hashtagBatchRepository.findIdsByNames(List.of("java", "kotlin"));
+
+        // then
+        assertThat(ids).containsExactly(Map.entry("java", java.getId()));
+    }
+
+    @Test
+    @DisplayName("게시글과 해시태그 연결을 한 번의 배치로 삽입한다")
+    void insertPostHashtags() {
+        // given
+        Member member = MemberFixture.memberFixture();
+        em.persist(member);
+        Post post = Post.of(new PostCreateRequest("게시글", List.of(), List.of(), "서울시"), member);
+        em.persist(post);
+        em.flush();
+        Map<String, Long> ids = hashtagBatchRepository.upsertAll(List.of("java", "spring"));
+
+        // when
+        hashtagBatchRepository.insertPostHashtags(post.getId(), ids.values());
+
+        // then
+        assertThat(postHashtagRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("게시글의 지정한 해시태그 연결만 한 번에 삭제한다")
+    void deletePostHashtags() {
+        // given
+        Member member = MemberFixture.memberFixture();
+        em.persist(member);
+        Post post = Post.of(new PostCreateRequest("게시글", List.of(), List.of(), "서울시"), member);
+        em.persist(post);
+        em.flush();
+        Map<String, Long> ids = hashtagBatchRepository.upsertAll(List.of("java", "spring", "jpa"));
+        hashtagBatchRepository.insertPostHashtags(post.getId(), ids.values());
+
+        // when
+        int deleted = hashtagBatchRepository.deletePostHashtags(post.getId(), List.of(ids.get("java"), ids.get("jpa")));
+
+        // then
+        assertThat(deleted).isEqualTo(2);
+        assertThat(hashtagBatchRepository.findHashtagIdsByPostId(post.getId())).containsExactly(ids.get("spring"));
+    }
+}
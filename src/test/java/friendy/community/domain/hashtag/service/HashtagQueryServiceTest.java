@@ -0,0 +1,109 @@
+package friendy.community.domain.hashtag.service;
+
+import friendy.community.domain.hashtag.controller.code.HashtagExceptionCode;
+import friendy.community.domain.hashtag.dto.response.FindTrendingHashtagsResponse;
+import friendy.community.domain.hashtag.index.HashtagIndex;
+import friendy.community.domain.hashtag.index.HashtagTrendingCounter;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.domain.post.dto.response.FindPostResponse;
+import friendy.community.domain.post.fixture.PostFixture;
+import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.service.PostQueryService;
+import friendy.community.global.exception.domain.NotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HashtagQueryServiceTest {
+
+    @InjectMocks
+    private HashtagQueryService hashtagQueryService;
+
+    @Mock
+    private HashtagIndex hashtagIndex;
+
+    @Mock
+    private HashtagTrendingCounter hashtagTrendingCounter;
+
+    @Mock
+    private PostQueryService postQueryService;
+
+    @Test
+    @DisplayName("해시태그 게시글을 한 페이지 조회하고 다음 페이지 여부를 알린다")
+    void getPostsByHashtag_hasNext() {
+        // given
+        List<Long> postIds = LongStream.rangeClosed(100, 110).boxed().sorted((a, b) -> Long.compare(b, a)).toList();
+        List<Long> pageIds = postIds.subList(0, 10);
+        when(hashtagIndex.findHashtagId("java")).thenReturn(Optional.of(1L));
+        when(hashtagIndex.findPostIds("java", null, 11)).thenReturn(postIds);
+        when(postQueryService.getPostResponsesByIds(pageIds, 1L)).thenReturn(createPostResponses(pageIds));
+
+        // when
+        FindAllPostResponse response = hashtagQueryService.getPostsByHashtag("java", null, 1L);
+
+        // then
+        assertThat(response.posts()).hasSize(10);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.lastPostId()).isEqualTo(101L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 해시태그로 조회하면 예외가 발생한다")
+    void getPostsByHashtag_unknownHashtag() {
+        // given
+        when(hashtagIndex.findHashtagId("kotlin")).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> hashtagQueryService.getPostsByHashtag("kotlin", null, 1L))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage(HashtagExceptionCode.HASHTAG_NOT_FOUND.getMessage());
+    }
+
+    @Test
+    @DisplayName("인기 해시태그를 점수 순으로 이름과 함께 반환한다")
+    void getTrendingHashtags() {
+        // given
+        when(hashtagTrendingCounter.findTop(eq(2), anyLong())).thenReturn(List.of(
+            new HashtagTrendingCounter.TrendingScore(2L, 5.0),
+            new HashtagTrendingCounter.TrendingScore(1L, 3.0)
+        ));
+        when(hashtagIndex.findHashtagName(2L)).thenReturn(Optional.of("spring"));
+        when(hashtagIndex.findHashtagName(1L)).thenReturn(Optional.of("java"));
+        when(hashtagIndex.countPosts(2L)).thenReturn(4);
+        when(hashtagIndex.countPosts(1L)).thenReturn(7);
+
+        // when
+        FindTrendingHashtagsResponse response = hashtagQueryService.getTrendingHashtags(2);
+
+        // then
+        assertThat(response.hashtags()).extracting("name").containsExactly("spring", "java");
+        assertThat(response.hashtags()).extracting("postCount").containsExactly(4, 7);
+    }
+
+    private List<FindPostResponse> createPostResponses(List<Long> ids) {
+        List<FindPostResponse> responses = new ArrayList<>();
+        for (Long id : ids) {
+            Post post = PostFixture.postFixture();
+            ReflectionTestUtils.setField(post, "id", id);
+            ReflectionTestUtils.setField(post.getMember(), "id", 2L);
+            responses.add(FindPostResponse.from(post, List.of(), List.of("java"), false, false));
+        }
+        return responses;
+    }
+}
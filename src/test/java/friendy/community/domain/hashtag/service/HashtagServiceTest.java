@@ -1,30 +1,45 @@
 package friendy.community.domain.hashtag.service;
 
+import friendy.community.domain.hashtag.index.HashtagIndex;
+import friendy.community.domain.hashtag.index.HashtagTrendingCounter;
 import friendy.community.domain.hashtag.model.Hashtag;
-import friendy.community.domain.hashtag.repository.HashtagRepository;
-import friendy.community.domain.hashtag.repository.PostHashtagRepository;
+import friendy.community.domain.hashtag.repository.HashtagBatchRepository;
 import friendy.community.domain.post.model.Post;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class HashtagServiceTest {
 
     @Mock
-    private HashtagRepository hashtagRepository;
+    private HashtagBatchRepository hashtagBatchRepository;
 
     @Mock
-    private PostHashtagRepository postHashtagRepository;
+    private HashtagIndex hashtagIndex;
+
+    @Mock
+    private HashtagTrendingCounter hashtagTrendingCounter;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private HashtagService hashtagService;
@@ -34,44 +49,95 @@ class HashtagServiceTest {
     void saveHashtags_mixedExistingAndNew() {
         // given
         Post post = mock(Post.class);
-        List<String> hashtagNames = List.of("java", "spring", "newTag");
+        when(post.getId()).thenReturn(10L);
+        List<String> hashtagNames = List.of("java", "spring", "newTag", "java");
 
-        Hashtag existing1 = new Hashtag("java");
-        Hashtag existing2 = new Hashtag("spring");
+        when(hashtagIndex.findHashtagId(any())).thenReturn(Optional.empty());
+        when(hashtagIndex.findHashtagId("java")).thenReturn(Optional.of(1L));
+        when(hashtagBatchRepository.findIdsByNames(List.of("spring", "newTag"))).thenReturn(Map.of("spring", 2L));
+        when(hashtagBatchRepository.upsertAll(List.of("newTag"))).thenReturn(Map.of("newTag", 3L));
+
+        // when
+        hashtagService.saveHashtags(post, hashtagNames);
 
-        when(hashtagRepository.findAllByNameIn(hashtagNames))
-            .thenReturn(new ArrayList<>(List.of(existing1, existing2)));
+        // then
+        verify(hashtagBatchRepository).insertPostHashtags(10L, List.of(1L, 2L, 3L));
+        verify(hashtagIndex).registerHashtag(argThat(hashtag -> hashtag.getId().equals(2L)));
+        verify(hashtagIndex).index(eq(10L), argThat(hashtags -> hashtags.size() == 3));
+    }
 
-        when(hashtagRepository.saveAll(any()))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+    @Test
+    @DisplayName("모든 해시태그가 캐시에 있으면 해시태그 테이블을 조회하지 않는다")
+    void saveHashtags_allCached() {
+        // given
+        Post post = mock(Post.class);
+        when(post.getId()).thenReturn(10L);
+        when(hashtagIndex.findHashtagId("java")).thenReturn(Optional.of(1L));
+        when(hashtagIndex.findHashtagId("spring")).thenReturn(Optional.of(2L));
 
         // when
-        hashtagService.saveHashtags(post, hashtagNames);
+        hashtagService.saveHashtags(post, List.of("java", "spring"));
 
         // then
-        verify(postHashtagRepository).saveAll(any());
+        verify(hashtagBatchRepository, never()).findIdsByNames(any());
+        verify(hashtagBatchRepository, never()).upsertAll(any());
+        verify(hashtagBatchRepository).insertPostHashtags(10L, List.of(1L, 2L));
     }
 
     @Test
-    @DisplayName("해시태그 업데이트 시 기존 해시태그 삭제 후 저장")
-    void updateHashtags_success() {
+    @DisplayName("해시태그가 없으면 연결을 만들지 않는다")
+    void saveHashtags_empty() {
+        // given
+        Post post = mock(Post.class);
+        when(post.getId()).thenReturn(10L);
+
+        // when
+        hashtagService.saveHashtags(post, List.of());
+
+        // then
+        verify(hashtagBatchRepository, never()).findIdsByNames(any());
+        verify(hashtagBatchRepository).insertPostHashtags(10L, List.of());
+    }
+
+    @Test
+    @DisplayName("해시태그 업데이트 시 빠진 연결만 삭제하고 새로 붙은 연결만 삽입한다")
+    void updateHashtags_appliesDiff() {
         // given
         Post post = mock(Post.class);
         when(post.getId()).thenReturn(1L);
-        List<String> hashtags = List.of("tag1", "tag2");
+        when(hashtagIndex.findHashtagId("tag1")).thenReturn(Optional.of(5L));
+        when(hashtagIndex.findHashtagId("tag2")).thenReturn(Optional.of(6L));
+        when(hashtagBatchRepository.findHashtagIdsByPostId(1L)).thenReturn(List.of(4L, 5L));
+        when(hashtagBatchRepository.deletePostHashtags(1L, List.of(4L))).thenReturn(1);
+
+        // when
+        hashtagService.updateHashtags(post, List.of("tag1", "tag2"));
 
-        when(hashtagRepository.findAllByNameIn(any()))
-            .thenReturn(new ArrayList<>());
+        // then
+        verify(hashtagBatchRepository).deletePostHashtags(1L, List.of(4L));
+        verify(hashtagBatchRepository).insertPostHashtags(1L, List.of(6L));
+        verify(hashtagIndex).index(eq(1L), any());
+        assertThat(meterRegistry.summary("friendy.hashtag.update.rows", "operation", "delete").totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.summary("friendy.hashtag.update.rows", "operation", "insert").totalAmount()).isEqualTo(1);
+    }
 
-        when(hashtagRepository.saveAll(any()))
-            .thenAnswer(invocation -> invocation.getArgument(0));
+    @Test
+    @DisplayName("해시태그가 그대로이면 아무것도 쓰지 않는다")
+    void updateHashtags_unchanged() {
+        // given
+        Post post = mock(Post.class);
+        when(post.getId()).thenReturn(1L);
+        when(hashtagIndex.findHashtagId("tag1")).thenReturn(Optional.of(5L));
+        when(hashtagBatchRepository.findHashtagIdsByPostId(1L)).thenReturn(List.of(5L));
 
         // when
-        hashtagService.updateHashtags(post, hashtags);
+        hashtagService.updateHashtags(post, List.of("tag1"));
 
         // then
-        verify(postHashtagRepository).deleteAllByPostId(1L);
-        verify(postHashtagRepository).saveAll(any());
+        verify(hashtagBatchRepository, never()).deletePostHashtags(anyLong(), any());
+        verify(hashtagBatchRepository, never()).insertPostHashtags(anyLong(), any());
+        verify(hashtagIndex, never()).index(anyLong(), any());
+        assertThat(meterRegistry.counter("friendy.hashtag.update.unchanged").count()).isEqualTo(1);
     }
 
     @Test
@@ -81,6 +147,23 @@ class HashtagServiceTest {
         hashtagService.deleteHashtags(10L);
 
         // then
-        verify(postHashtagRepository).deleteAllByPostId(10L);
+        verify(hashtagBatchRepository).deleteAllByPostId(10L);
+        verify(hashtagIndex).remove(10L);
+    }
+
+    @Test
+    @DisplayName("새로 붙은 해시태그만 인기 해시태그 집계에 반영한다")
+    void saveHashtags_recordsTrendingForAddedHashtags() {
+        // given
+        Post post = mock(Post.class);
+        when(post.getId()).thenReturn(1L);
+        when(hashtagIndex.findHashtagId("tag1")).thenReturn(Optional.of(7L));
+        when(hashtagIndex.index(eq(1L), any())).thenReturn(List.of(7L));
+
+        // when
+        hashtagService.saveHashtags(post, List.of("tag1"));
+
+        // then
+        verify(hashtagTrendingCounter).recordAll(eq(List.of(7L)), anyLong());
     }
 }
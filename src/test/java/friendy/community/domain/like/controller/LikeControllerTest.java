@@ -0,0 +1,110 @@
+package friendy.community.domain.like.controller;
+
+import friendy.community.domain.auth.jwt.JwtTokenFilter;
+import friendy.community.domain.like.model.LikeTargetType;
+import friendy.community.domain.like.service.LikeCommandService;
+import friendy.community.domain.post.controller.code.PostExceptionCode;
+import friendy.community.global.config.MockSecurityConfig;
+import friendy.community.global.config.SecurityConfig;
+import friendy.community.global.config.WebConfig;
+import friendy.community.global.exception.domain.NotFoundException;
+import friendy.community.global.security.FriendyUserDetails;
+import friendy.community.global.security.resolver.LoggedInUserArgumentResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Collections;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = LikeController.class,
+    excludeFilters = {
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = SecurityConfig.class),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = JwtTokenFilter.class),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = WebConfig.class),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = LoggedInUserArgumentResolver.class)
+    })
+@Import(MockSecurityConfig.class)
+class LikeControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private LikeCommandService likeCommandService;
+
+    @BeforeEach
+    void setUp() {
+        FriendyUserDetails userDetails = new FriendyUserDetails(
+            1L,
+            "user@example.com",
+            "password123",
+            Collections.emptyList()
+        );
+
+        Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 API 성공")
+    void likePostSuccess() throws Exception {
+        // when & then
+        mockMvc.perform(post("/likes/posts/10")
+                .header("Authorization", "Bearer test-token"))
+            .andExpect(status().isOk());
+        verify(likeCommandService).like(1L, LikeTargetType.POST, 10L);
+    }
+
+    @Test
+    @DisplayName("게시글 좋아요 취소 API 성공")
+    void unlikePostSuccess() throws Exception {
+        // when & then
+        mockMvc.perform(delete("/likes/posts/10")
+                .header("Authorization", "Bearer test-token"))
+            .andExpect(status().isOk());
+        verify(likeCommandService).unlike(1L, LikeTargetType.POST, 10L);
+    }
+
+    @Test
+    @DisplayName("댓글과 답글 좋아요 API 성공")
+    void likeCommentAndReplySuccess() throws Exception {
+        // when & then
+        mockMvc.perform(post("/likes/comments/3")
+                .header("Authorization", "Bearer test-token"))
+            .andExpect(status().isOk());
+        mockMvc.perform(delete("/likes/replies/4")
+                .header("Authorization", "Bearer test-token"))
+            .andExpect(status().isOk());
+        verify(likeCommandService).like(1L, LikeTargetType.COMMENT, 3L);
+        verify(likeCommandService).unlike(1L, LikeTargetType.REPLY, 4L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글에 좋아요하면 404 응답")
+    void likeMissingPostReturns404() throws Exception {
+        // given
+        doThrow(new NotFoundException(PostExceptionCode.POST_NOT_FOUND))
+            .when(likeCommandService).like(1L, LikeTargetType.POST, 99L);
+
+        // when & then
+        mockMvc.perform(post("/likes/posts/99")
+                .header("Authorization", "Bearer test-token"))
+            .andExpect(status().isNotFound());
+    }
+}
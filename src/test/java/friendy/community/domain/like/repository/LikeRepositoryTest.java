@@ -0,0 +1,101 @@
+package friendy.community.domain.like.repository;
+
+import friendy.community.domain.like.model.LikeKey;
+import friendy.community.domain.like.model.LikeTargetType;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.global.config.TestQuerydslConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({TestQuerydslConfig.class, LikeBatchRepository.class})
+class LikeRepositoryTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private LikeBatchRepository likeBatchRepository;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        member = MemberFixture.memberFixture();
+        em.persist(member);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("이미 존재하는 좋아요를 다시 기록해도 중복 행이 생기지 않는다")
+    void applyAllIgnoresDuplicateLikes() {
+        // given
+        LikeKey key = new LikeKey(member.getId(), LikeTargetType.POST, 10L);
+        likeBatchRepository.applyAll(List.of(key), List.of());
+
+        // when
+        LikeKey commentKey = new LikeKey(member.getId(), LikeTargetType.COMMENT, 10L);
+        Map<LikeKey, Integer> changedRows = likeBatchRepository.applyAll(List.of(key, commentKey), List.of());
+
+        // then
+        assertThat(changedRows).containsExactlyInAnyOrderEntriesOf(Map.of(key, 0, commentKey, 1));
+        assertThat(likeRepository.count()).isEqualTo(2);
+        assertThat(likeRepository.existsByMemberIdAndTargetTypeAndTargetId(member.getId(), LikeTargetType.POST, 10L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("좋아요 취소는 해당 회원과 대상의 행만 삭제한다")
+    void applyAllDeletesUnlikes() {
+        // given
+        likeBatchRepository.applyAll(List.of(
+            new LikeKey(member.getId(), LikeTargetType.POST, 10L),
+            new LikeKey(member.getId(), LikeTargetType.POST, 11L)
+        ), List.of());
+
+        // when
+        LikeKey unliked = new LikeKey(member.getId(), LikeTargetType.POST, 10L);
+        LikeKey neverLiked = new LikeKey(member.getId(), LikeTargetType.POST, 12L);
+        Map<LikeKey, Integer> changedRows = likeBatchRepository.applyAll(List.of(), List.of(unliked, neverLiked));
+
+        // then
+        assertThat(changedRows).containsExactlyInAnyOrderEntriesOf(Map.of(unliked, 1, neverLiked, 0));
+        assertThat(likeRepository.findLikedTargetIds(member.getId(), LikeTargetType.POST, List.of(10L, 11L)))
+            .containsExactly(11L);
+    }
+
+    @Test
+    @DisplayName("여러 대상 중 좋아요한 대상 id만 한 번에 조회한다")
+    void findLikedTargetIds() {
+        // given
+        likeBatchRepository.applyAll(List.of(
+            new LikeKey(member.getId(), LikeTargetType.POST, 1L),
+            new LikeKey(member.getId(), LikeTargetType.POST, 3L),
+            new LikeKey(member.getId(), LikeTargetType.REPLY, 2L)
+        ), List.of());
+
+        // when
+        List<Long> result = likeRepository.findLikedTargetIds(member.getId(), LikeTargetType.POST, List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(1L, 3L);
+    }
+}
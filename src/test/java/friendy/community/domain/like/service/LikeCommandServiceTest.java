@@ -0,0 +1,93 @@
+package friendy.community.domain.like.service;
+
+import friendy.community.domain.comment.controller.code.CommentExceptionCode;
+import friendy.community.domain.comment.repository.CommentRepository;
+import friendy.community.domain.comment.repository.ReplyRepository;
+import friendy.community.domain.like.model.LikeKey;
+import friendy.community.domain.like.model.LikeTargetType;
+import friendy.community.domain.post.controller.code.PostExceptionCode;
+import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.global.exception.domain.NotFoundException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LikeCommandServiceTest {
+
+    @InjectMocks
+    private LikeCommandService likeCommandService;
+
+    @Mock
+    private LikeWriteBuffer likeWriteBuffer;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private ReplyRepository replyRepository;
+
+    @Test
+    @DisplayName("게시글 좋아요 요청은 버퍼에 좋아요 상태로 기록된다")
+    void likePost() {
+        // given
+        when(postRepository.existsById(10L)).thenReturn(true);
+
+        // when
+        likeCommandService.like(1L, LikeTargetType.POST, 10L);
+
+        // then
+        verify(likeWriteBuffer).apply(new LikeKey(1L, LikeTargetType.POST, 10L), true);
+    }
+
+    @Test
+    @DisplayName("답글 좋아요 취소 요청은 버퍼에 취소 상태로 기록된다")
+    void unlikeReply() {
+        // given
+        when(replyRepository.existsById(7L)).thenReturn(true);
+
+        // when
+        likeCommandService.unlike(1L, LikeTargetType.REPLY, 7L);
+
+        // then
+        verify(likeWriteBuffer).apply(new LikeKey(1L, LikeTargetType.REPLY, 7L), false);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 게시글에 좋아요하면 예외가 발생한다")
+    void likeMissingPost() {
+        // given
+        when(postRepository.existsById(10L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> likeCommandService.like(1L, LikeTargetType.POST, 10L))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage(PostExceptionCode.POST_NOT_FOUND.getMessage());
+        verify(likeWriteBuffer, never()).apply(any(), anyBoolean());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 댓글에 좋아요하면 예외가 발생한다")
+    void likeMissingComment() {
+        // given
+        when(commentRepository.existsById(3L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> likeCommandService.like(1L, LikeTargetType.COMMENT, 3L))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage(CommentExceptionCode.COMMENT_NOT_FOUND.getMessage());
+    }
+}
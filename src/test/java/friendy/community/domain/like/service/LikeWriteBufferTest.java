@@ -0,0 +1,266 @@
+package friendy.community.domain.like.service;
+
+import friendy.community.domain.counter.model.CounterType;
+import friendy.community.domain.counter.service.CounterService;
+import friendy.community.domain.like.model.LikeKey;
+import friendy.community.domain.like.model.LikeTargetType;
+import friendy.community.domain.like.repository.LikeBatchRepository;
+import friendy.community.domain.like.repository.LikeRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LikeWriteBufferTest {
+
+    @InjectMocks
+    private LikeWriteBuffer likeWriteBuffer;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private LikeBatchRepository likeBatchRepository;
+
+    @Mock
+    private CounterService counterService;
+
+    private final LikeKey key = new LikeKey(1L, LikeTargetType.POST, 10L);
+
+    @Test
+    @DisplayName("같은 좋아요를 반복해도 한 번만 반영된다")
+    void likeIsIdempotent() {
+        // when
+        boolean first = likeWriteBuffer.apply(key, true);
+        boolean second = likeWriteBuffer.apply(key, true);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        verify(counterService, times(1)).add(CounterType.POST_LIKE, 10L, 1);
+    }
+
+    @Test
+    @DisplayName("좋아요하지 않은 대상의 좋아요 취소는 아무것도 바꾸지 않는다")
+    void unlikeWithoutLikeIsNoop() {
+        // when
+        boolean changed = likeWriteBuffer.apply(key, false);
+        likeWriteBuffer.flush();
+
+        // then
+        assertThat(changed).isFalse();
+        verify(counterService, never()).add(any(), anyLong(), anyLong());
+        verify(likeBatchRepository, never()).applyAll(anyList(), anyList());
+    }
+
+    @Test
+    @DisplayName("flush 전의 좋아요와 취소 반복은 마지막 상태 하나로 합쳐 기록된다")
+    void togglesAreCoalescedPerTarget() {
+        // given
+        likeWriteBuffer.apply(key, true);
+        likeWriteBuffer.apply(key, false);
+        likeWriteBuffer.apply(key, true);
+
+        // when
+        likeWriteBuffer.flush();
+
+        // then
+        verify(likeBatchRepository, times(1)).applyAll(List.of(key), List.of());
+        verify(counterService, times(2)).add(CounterType.POST_LIKE, 10L, 1);
+        verify(counterService, times(1)).add(CounterType.POST_LIKE, 10L, -1);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 좋아요를 취소하면 삭제로 기록된다")
+    void unlikePersistedLike() {
+        // given
+        when(likeRepository.existsByMemberIdAndTargetTypeAndTargetId(1L, LikeTargetType.POST, 10L)).thenReturn(true);
+
+        // when
+        likeWriteBuffer.apply(key, false);
+        likeWriteBuffer.flush();
+
+        // then
+        verify(counterService).add(CounterType.POST_LIKE, 10L, -1);
+        verify(likeBatchRepository).applyAll(List.of(), List.of(key));
+    }
+
+    @Test
+    @DisplayName("좋아요 여부 조회는 저장된 상태 위에 아직 기록되지 않은 변경을 덮어쓴다")
+    void findLikedTargetIdsOverlaysBufferedToggles() {
+        // given
+        when(likeRepository.findLikedTargetIds(1L, LikeTargetType.POST, List.of(10L, 11L, 12L))).thenReturn(List.of(11L, 12L));
+        when(likeRepository.existsByMemberIdAndTargetTypeAndTargetId(1L, LikeTargetType.POST, 10L)).thenReturn(false);
+        when(likeRepository.existsByMemberIdAndTargetTypeAndTargetId(1L, LikeTargetType.POST, 12L)).thenReturn(true);
+        likeWriteBuffer.apply(key, true);
+        likeWriteBuffer.apply(new LikeKey(1L, LikeTargetType.POST, 12L), false);
+
+        // when & then
+        assertThat(likeWriteBuffer.findLikedTargetIds(1L, LikeTargetType.POST, List.of(10L, 11L, 12L)))
+            .containsExactlyInAnyOrder(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("flush 에 실패하면 변경을 버퍼에 되돌려 다음 flush 에 다시 기록한다")
+    void failedFlushIsRetried() {
+        // given
+        likeWriteBuffer.apply(key, true);
+        doThrow(new IllegalStateException("db down")).when(likeBatchRepository).applyAll(List.of(key), List.of());
+
+        // when
+        likeWriteBuffer.flush();
+
+        // then
+        assertThat(likeWriteBuffer.findLikedTargetIds(1L, LikeTargetType.POST, List.of(10L))).containsExactly(10L);
+        likeWriteBuffer.flush();
+        verify(likeBatchRepository, times(2)).applyAll(List.of(key), List.of());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 먼저 기록해 바뀐 행이 없으면 미리 늘린 좋아요 수를 되돌린다")
+    void flushCorrectsCountWhenNoRowChanged() {
+        // given
+        likeWriteBuffer.apply(key, true);
+        when(likeBatchRepository.applyAll(List.of(key), List.of())).thenReturn(Map.of(key, 0));
+
+        // when
+        likeWriteBuffer.flush();
+
+        // then
+        verify(counterService).add(CounterType.POST_LIKE, 10L, 1);
+        verify(counterService).add(CounterType.POST_LIKE, 10L, -1);
+    }
+
+    @Test
+    @DisplayName("좋아요 후 취소가 합쳐져 미리 센 값이 0 이어도 실제로 지운 행이 있으면 좋아요 수를 줄인다")
+    void flushCorrectsCountFromDeletedRow() {
+        // given
+        likeWriteBuffer.apply(key, true);
+        likeWriteBuffer.apply(key, false);
+        when(likeBatchRepository.applyAll(List.of(), List.of(key))).thenReturn(Map.of(key, 1));
+
+        // when
+        likeWriteBuffer.flush();
+
+        // then
+        verify(counterService).add(CounterType.POST_LIKE, 10L, 1);
+        verify(counterService, times(2)).add(CounterType.POST_LIKE, 10L, -1);
+    }
+
+    @Test
+    @DisplayName("실패한 변경을 되돌릴 때 처음 상태를 기준으로 남겨 다음 flush 에서 바로잡는다")
+    void failedFlushKeepsInitialState() {
+        // given
+        likeWriteBuffer.apply(key, true);
+        doThrow(new IllegalStateException("db down")).when(likeBatchRepository).applyAll(List.of(key), List.of());
+        likeWriteBuffer.flush();
+        likeWriteBuffer.apply(key, false);
+        when(likeBatchRepository.applyAll(List.of(), List.of(key))).thenReturn(Map.of(key, 0));
+
+        // when
+        likeWriteBuffer.flush();
+
+        // then
+        verify(counterService, times(1)).add(CounterType.POST_LIKE, 10L, 1);
+        verify(counterService, times(1)).add(CounterType.POST_LIKE, 10L, -1);
+    }
+
+    @Test
+    @DisplayName("한 게시글에 좋아요가 몰려도 회원마다 한 번씩만 세고 한 번의 배치로 기록한다")
+    void likeStormIsAbsorbedInOneBatch() throws Exception {
+        // given
+        int memberCount = 500;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch done = new CountDownLatch(memberCount * 2);
+
+        // when
+        for (long memberId = 1; memberId <= memberCount; memberId++) {
+            LikeKey memberKey = new LikeKey(memberId, LikeTargetType.POST, 10L);
+            for (int repeat = 0; repeat < 2; repeat++) {
+                executor.submit(() -> {
+                    likeWriteBuffer.apply(memberKey, true);
+                    done.countDown();
+                });
+            }
+        }
+        assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+        likeWriteBuffer.flush();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<LikeKey>> likes = ArgumentCaptor.forClass(List.class);
+        verify(likeBatchRepository, times(1)).applyAll(likes.capture(), eq(List.of()));
+        assertThat(likes.getValue()).hasSize(memberCount);
+        verify(counterService, times(memberCount)).add(CounterType.POST_LIKE, 10L, 1);
+    }
+
+    @Test
+    @DisplayName("좋아요와 취소를 반복하는 중에 flush 가 겹쳐도 좋아요 수가 저장된 상태와 같다")
+    void concurrentFlushKeepsCountInSync() throws Exception {
+        // given
+        Set<LikeKey> stored = ConcurrentHashMap.newKeySet();
+        AtomicLong count = new AtomicLong();
+        when(likeRepository.existsByMemberIdAndTargetTypeAndTargetId(1L, LikeTargetType.POST, 10L))
+            .thenAnswer(invocation -> stored.contains(key));
+        when(likeBatchRepository.applyAll(anyList(), anyList())).thenAnswer(invocation -> {
+            List<LikeKey> likes = invocation.getArgument(0);
+            List<LikeKey> unlikes = invocation.getArgument(1);
+            Map<LikeKey, Integer> changedRows = new HashMap<>();
+            likes.forEach(like -> changedRows.put(like, stored.add(like) ? 1 : 0));
+            unlikes.forEach(unlike -> changedRows.put(unlike, stored.remove(unlike) ? 1 : 0));
+            return changedRows;
+        });
+        doAnswer(invocation -> count.addAndGet(invocation.getArgument(2)))
+            .when(counterService).add(eq(CounterType.POST_LIKE), eq(10L), anyLong());
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        AtomicBoolean toggling = new AtomicBoolean(true);
+
+        // when
+        Future<?> flusher = executor.submit(() -> {
+            while (toggling.get()) {
+                likeWriteBuffer.flush();
+            }
+        });
+        for (int repeat = 0; repeat < 20_000; repeat++) {
+            likeWriteBuffer.apply(key, repeat % 2 == 0);
+        }
+        toggling.set(false);
+        flusher.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+        likeWriteBuffer.flush();
+
+        // then
+        assertThat(stored).isEmpty();
+        assertThat(count.get()).isZero();
+    }
+}
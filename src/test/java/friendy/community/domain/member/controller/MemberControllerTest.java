@@ -8,7 +8,7 @@ import friendy.community.domain.member.dto.request.PasswordRequest;
 import friendy.community.domain.member.dto.response.FindMemberPostsResponse;
 import friendy.community.domain.member.dto.response.FindMemberResponse;
 import friendy.community.domain.member.dto.response.PostPreview;
-import friendy.community.domain.member.service.MemberCommandService;
+import friendy.community.domain.member.service.MemberCommandFacade;
 import friendy.community.domain.member.service.MemberQueryService;
 import friendy.community.global.config.MockSecurityConfig;
 import friendy.community.global.config.SecurityConfig;
@@ -64,7 +64,7 @@ class MemberControllerTest {
     private ObjectMapper objectMapper;
 
     @MockitoBean
-    private MemberCommandService memberCommandService;
+    private MemberCommandFacade memberCommandFacade;
 
     @MockitoBean
     private MemberQueryService memberQueryService;
@@ -87,7 +87,7 @@ class MemberControllerTest {
             LocalDate.of(2000, 1, 1),
             "https://example.com/image.jpg"
         );
-        given(memberCommandService.signup(any())).willReturn(1L);
+        given(memberCommandFacade.signup(any())).willReturn(1L);
 
         // when & then
         mockMvc.perform(post("/signup")
@@ -104,7 +104,7 @@ class MemberControllerTest {
             "test@friendy.com",
             "newPassword123!"
         );
-        willDoNothing().given(memberCommandService).changePassword(any());
+        willDoNothing().given(memberCommandFacade).changePassword(any());
 
         // when & then
         mockMvc.perform(post("/password")
@@ -179,7 +179,7 @@ class MemberControllerTest {
             "https://cdn.friendy.com/profile/updated.jpg"
         );
 
-        doNothing().when(memberCommandService).updateMember(any(MemberUpdateRequest.class), anyLong());
+        doNothing().when(memberCommandFacade).updateMember(any(MemberUpdateRequest.class), anyLong());
 
         // when & then
         mockMvc.perform(post("/member")
@@ -0,0 +1,63 @@
+package friendy.community.domain.member.encryption;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PBKDF2PasswordEncryptorTest {
+
+    private final PBKDF2PasswordEncryptor passwordEncryptor = new PBKDF2PasswordEncryptor(1000);
+
+    @Test
+    @DisplayName("반복 횟수를 포함한 형식으로 해시를 만든다")
+    void encryptIncludesIterations() {
+        // when
+        String encryptedPassword = passwordEncryptor.encrypt("password123!", "salt");
+
+        // then
+        assertThat(encryptedPassword).startsWith("$pbkdf2-sha256$1000$");
+        assertThat(PBKDF2PasswordEncryptor.supports(encryptedPassword)).isTrue();
+        assertThat(PBKDF2PasswordEncryptor.iterationsOf(encryptedPassword)).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("같은 평문과 salt 로 만든 해시와 일치하면 성공")
+    void matchesSamePassword() {
+        // given
+        String encryptedPassword = passwordEncryptor.encrypt("password123!", "salt");
+
+        // when & then
+        assertThat(passwordEncryptor.matches("password123!", "salt", encryptedPassword)).isTrue();
+        assertThat(passwordEncryptor.matches("wrongPassword!", "salt", encryptedPassword)).isFalse();
+        assertThat(passwordEncryptor.matches("password123!", "otherSalt", encryptedPassword)).isFalse();
+    }
+
+    @Test
+    @DisplayName("반복 횟수가 다른 해시도 해시에 기록된 반복 횟수로 검증한다")
+    void matchesHashWithDifferentIterations() {
+        // given
+        String encryptedPassword = new PBKDF2PasswordEncryptor(500).encrypt("password123!", "salt");
+
+        // when & then
+        assertThat(passwordEncryptor.matches("password123!", "salt", encryptedPassword)).isTrue();
+    }
+
+    @Test
+    @DisplayName("기존 SHA-256 해시는 지원하지 않는 형식으로 판단한다")
+    void doesNotSupportLegacyHash() {
+        // given
+        String legacyPassword = new SHA2PasswordEncryptor().encrypt("password123!", "salt");
+
+        // when & then
+        assertThat(PBKDF2PasswordEncryptor.supports(legacyPassword)).isFalse();
+    }
+
+    @Test
+    @DisplayName("반복 횟수가 1 미만이면 예외가 발생한다")
+    void rejectsNonPositiveIterations() {
+        assertThatThrownBy(() -> new PBKDF2PasswordEncryptor(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,130 @@
+package friendy.community.domain.member.encryption;
+
+import friendy.community.domain.member.controller.code.MemberExceptionCode;
+import friendy.community.global.exception.domain.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHashingEngineTest {
+
+    private PasswordHashingEngine passwordHashingEngine;
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingEngine.shutdown();
+    }
+
+    @Test
+    @DisplayName("새 해시는 PBKDF2 로 만들고 같은 평문과 일치한다")
+    void hashAndMatch() {
+        // given
+        passwordHashingEngine = createEngine(1000, 2, 8);
+
+        // when
+        String encryptedPassword = passwordHashingEngine.hash("password123!", "salt");
+
+        // then
+        assertThat(encryptedPassword).startsWith("$pbkdf2-sha256$1000$");
+        assertThat(passwordHashingEngine.matches("password123!", "salt", encryptedPassword)).isTrue();
+        assertThat(passwordHashingEngine.matches("wrongPassword!", "salt", encryptedPassword)).isFalse();
+        assertThat(passwordHashingEngine.needsUpgrade(encryptedPassword)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기존 SHA-256 해시도 검증하고 갱신 대상으로 판단한다")
+    void matchLegacyHash() {
+        // given
+        passwordHashingEngine = createEngine(1000, 2, 8);
+        String legacyPassword = new SHA2PasswordEncryptor().encrypt("password123!", "salt");
+
+        // when & then
+        assertThat(passwordHashingEngine.matches("password123!", "salt", legacyPassword)).isTrue();
+        assertThat(passwordHashingEngine.matches("wrongPassword!", "salt", legacyPassword)).isFalse();
+        assertThat(passwordHashingEngine.needsUpgrade(legacyPassword)).isTrue();
+    }
+
+    @Test
+    @DisplayName("현재보다 적은 반복 횟수로 만든 해시는 갱신 대상이다")
+    void needsUpgradeForWeakerHash() {
+        // given
+        passwordHashingEngine = createEngine(2000, 2, 8);
+        String weakerPassword = new PBKDF2PasswordEncryptor(1000).encrypt("password123!", "salt");
+
+        // when & then
+        assertThat(passwordHashingEngine.matches("password123!", "salt", weakerPassword)).isTrue();
+        assertThat(passwordHashingEngine.needsUpgrade(weakerPassword)).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업 풀과 대기열이 가득 차면 즉시 예외가 발생한다")
+    void rejectsWhenQueueIsFull() throws Exception {
+        // given
+        passwordHashingEngine = createEngine(1000, 1, 1);
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(passwordHashingEngine, "executor");
+        CountDownLatch release = new CountDownLatch(1);
+        executor.submit(() -> awaitQuietly(release));
+        executor.submit(() -> awaitQuietly(release));
+
+        // when & then
+        try {
+            assertThatThrownBy(() -> passwordHashingEngine.hash("password123!", "salt"))
+                .isInstanceOf(ServiceUnavailableException.class)
+                .hasMessage(MemberExceptionCode.PASSWORD_HASHING_BUSY.getMessage());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 해시해도 결과가 섞이지 않는다")
+    void hashConcurrently() throws Exception {
+        // given
+        passwordHashingEngine = createEngine(1000, 4, 64);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 64; i++) {
+            String password = "password" + i;
+            results.add(callers.submit(() ->
+                passwordHashingEngine.matches(password, "salt", passwordHashingEngine.hash(password, "salt"))));
+        }
+
+        // then
+        for (Future<Boolean> result : results) {
+            assertThat(result.get()).isTrue();
+        }
+        callers.shutdown();
+    }
+
+    private PasswordHashingEngine createEngine(int iterations, int poolSize, int queueCapacity) {
+        PasswordHashingEngine engine = new PasswordHashingEngine(new SHA2PasswordEncryptor());
+        ReflectionTestUtils.setField(engine, "minIterations", iterations);
+        ReflectionTestUtils.setField(engine, "poolSize", poolSize);
+        ReflectionTestUtils.setField(engine, "queueCapacity", queueCapacity);
+        ReflectionTestUtils.setField(engine, "timeoutMillis", 5000L);
+        engine.init();
+        return engine;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
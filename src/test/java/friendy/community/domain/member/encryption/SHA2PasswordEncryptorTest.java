@@ -7,7 +7,12 @@ import org.mockito.MockedStatic;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -79,6 +84,30 @@ class SHA2PasswordEncryptorTest {
         assertThat(encryptedPassword1).isNotEqualTo(encryptedPassword2);
     }
 
+    @Test
+    @DisplayName("여러 스레드가 동시에 암호화해도 단일 스레드와 같은 결과를 반환한다")
+    void encryptIsThreadSafe() throws Exception {
+        // Given
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            expected.add(passwordEncryptor.encrypt("password" + i, "salt" + i));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            int index = i;
+            results.add(executor.submit(() -> passwordEncryptor.encrypt("password" + index, "salt" + index)));
+        }
+
+        // Then
+        for (int i = 0; i < 200; i++) {
+            assertThat(results.get(i).get()).isEqualTo(expected.get(i));
+        }
+        executor.shutdown();
+    }
+
     @Test
     @DisplayName("SHA-256 알고리즘이 없을 경우 BadRequestException을 던져야 한다")
     void testSHA2PasswordEncryptorThrowsBadRequestExceptionWhenNoSuchAlgorithm() {
@@ -0,0 +1,155 @@
+package friendy.community.domain.member.service;
+
+import friendy.community.domain.member.dto.request.MemberSignUpRequest;
+import friendy.community.domain.member.dto.request.MemberUpdateRequest;
+import friendy.community.domain.member.dto.request.PasswordRequest;
+import friendy.community.domain.member.encryption.HashedPassword;
+import friendy.community.domain.member.encryption.PasswordHashingEngine;
+import friendy.community.domain.member.encryption.SaltGenerator;
+import friendy.community.domain.member.model.MemberImage;
+import friendy.community.domain.upload.service.S3ObjectMover;
+import friendy.community.domain.upload.service.S3service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberCommandFacadeTest {
+
+    private static final String TEMP_URL = "https://s3/temp/image.png";
+    private static final String MOVED_URL = "https://s3/profile/image.png";
+    private static final HashedPassword HASHED_PASSWORD = new HashedPassword("encryptedPassword", "salt");
+
+    @Mock
+    private MemberCommandService memberCommandService;
+
+    @Mock
+    private S3ObjectMover s3ObjectMover;
+
+    @Mock
+    private S3service s3service;
+
+    @Mock
+    private SaltGenerator saltGenerator;
+
+    @Mock
+    private PasswordHashingEngine passwordHashingEngine;
+
+    @InjectMocks
+    private MemberCommandFacade memberCommandFacade;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(saltGenerator.generate()).thenReturn("salt");
+        lenient().when(passwordHashingEngine.hash(any(), eq("salt"))).thenReturn("encryptedPassword");
+    }
+
+    @Test
+    @DisplayName("비밀번호를 해시하고 프로필 이미지를 옮겨 형식을 확인한 뒤 회원을 저장한다")
+    void signupMovesProfileImageBeforeTransaction() {
+        // given
+        MemberSignUpRequest request = signUpRequest(TEMP_URL);
+        when(s3ObjectMover.moveAll(List.of(TEMP_URL), "profile")).thenReturn(List.of(MOVED_URL));
+        when(s3service.extractFilePath(MOVED_URL)).thenReturn("profile/image.png");
+        when(s3service.getContentTypeFromS3("profile/image.png")).thenReturn("image/png");
+        when(memberCommandService.signup(eq(request), eq(HASHED_PASSWORD), any(MemberImage.class))).thenReturn(1L);
+
+        // when
+        Long memberId = memberCommandFacade.signup(request);
+
+        // then
+        assertThat(memberId).isEqualTo(1L);
+        ArgumentCaptor<MemberImage> memberImage = ArgumentCaptor.forClass(MemberImage.class);
+        InOrder inOrder = inOrder(passwordHashingEngine, s3ObjectMover, s3service, memberCommandService);
+        inOrder.verify(passwordHashingEngine).hash("Password123!", "salt");
+        inOrder.verify(s3ObjectMover).moveAll(List.of(TEMP_URL), "profile");
+        inOrder.verify(s3service).getContentTypeFromS3("profile/image.png");
+        inOrder.verify(memberCommandService).signup(eq(request), eq(HASHED_PASSWORD), memberImage.capture());
+        assertThat(memberImage.getValue().getImageUrl()).isEqualTo(MOVED_URL);
+        assertThat(memberImage.getValue().getS3Key()).isEqualTo("profile/image.png");
+        assertThat(memberImage.getValue().getFileType()).isEqualTo("image/png");
+    }
+
+    @Test
+    @DisplayName("회원 저장이 실패하면 옮긴 프로필 이미지를 지운다")
+    void signupCompensatesWhenTransactionFails() {
+        // given
+        MemberSignUpRequest request = signUpRequest(TEMP_URL);
+        when(s3ObjectMover.moveAll(List.of(TEMP_URL), "profile")).thenReturn(List.of(MOVED_URL));
+        when(s3service.extractFilePath(MOVED_URL)).thenReturn("profile/image.png");
+        when(s3service.getContentTypeFromS3("profile/image.png")).thenReturn("image/png");
+        when(memberCommandService.signup(eq(request), eq(HASHED_PASSWORD), any(MemberImage.class))).thenThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> memberCommandFacade.signup(request))
+            .isInstanceOf(IllegalStateException.class);
+        verify(s3ObjectMover).deleteMoved(List.of(TEMP_URL), List.of(MOVED_URL));
+    }
+
+    @Test
+    @DisplayName("프로필 이미지 없이 가입하면 S3 를 거치지 않는다")
+    void signupWithoutImageSkipsMove() {
+        // given
+        MemberSignUpRequest request = signUpRequest(null);
+        when(memberCommandService.signup(request, HASHED_PASSWORD, null)).thenReturn(1L);
+
+        // when
+        memberCommandFacade.signup(request);
+
+        // then
+        verifyNoInteractions(s3ObjectMover, s3service);
+    }
+
+    @Test
+    @DisplayName("프로필 수정도 이미지를 옮긴 뒤 옮긴 이미지로 회원을 수정한다")
+    void updateMemberMovesProfileImageBeforeTransaction() {
+        // given
+        MemberUpdateRequest request = new MemberUpdateRequest("nickname", LocalDate.of(2000, 1, 1), TEMP_URL);
+        when(s3ObjectMover.moveAll(List.of(TEMP_URL), "profile")).thenReturn(List.of(MOVED_URL));
+        when(s3service.extractFilePath(MOVED_URL)).thenReturn("profile/image.png");
+        when(s3service.getContentTypeFromS3("profile/image.png")).thenReturn("image/png");
+
+        // when
+        memberCommandFacade.updateMember(request, 1L);
+
+        // then
+        ArgumentCaptor<MemberImage> memberImage = ArgumentCaptor.forClass(MemberImage.class);
+        verify(memberCommandService).updateMember(eq(request), eq(1L), memberImage.capture());
+        assertThat(memberImage.getValue().getImageUrl()).isEqualTo(MOVED_URL);
+        verify(s3ObjectMover, never()).deleteMoved(any(), any());
+    }
+
+    @Test
+    @DisplayName("비밀번호 변경은 트랜잭션 밖에서 해시한 값을 넘긴다")
+    void changePasswordHashesBeforeTransaction() {
+        // given
+        PasswordRequest request = new PasswordRequest("user@example.com", "newPassword123!");
+
+        // when
+        memberCommandFacade.changePassword(request);
+
+        // then
+        InOrder inOrder = inOrder(passwordHashingEngine, memberCommandService);
+        inOrder.verify(passwordHashingEngine).hash("newPassword123!", "salt");
+        inOrder.verify(memberCommandService).changePassword("user@example.com", HASHED_PASSWORD);
+    }
+
+    private MemberSignUpRequest signUpRequest(String imageUrl) {
+        return new MemberSignUpRequest("user@example.com", "nickname", "Password123!", LocalDate.of(2000, 1, 1), imageUrl);
+    }
+}
@@ -1,27 +1,32 @@
 package friendy.community.domain.member.service;
 
+import friendy.community.domain.member.dto.request.MemberSignUpRequest;
 import friendy.community.domain.member.dto.request.MemberUpdateRequest;
-import friendy.community.domain.member.dto.request.PasswordRequest;
-import friendy.community.domain.member.encryption.PasswordEncryptor;
-import friendy.community.domain.member.encryption.SaltGenerator;
+import friendy.community.domain.member.encryption.HashedPassword;
 import friendy.community.domain.member.fixture.MemberFixture;
 import friendy.community.domain.member.model.Member;
 import friendy.community.domain.member.model.MemberImage;
 import friendy.community.domain.member.repository.MemberRepository;
-import friendy.community.domain.upload.service.S3service;
+import friendy.community.domain.upload.event.ImageStoredEvent;
+import friendy.community.domain.upload.service.ImageVariantService;
+import friendy.community.domain.upload.service.S3DeletionOutboxService;
+import friendy.community.domain.upload.service.StoredContentService;
+import friendy.community.global.security.AuthenticationCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,16 +36,22 @@ class MemberCommandServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private S3service s3Service;
+    private S3DeletionOutboxService s3DeletionOutboxService;
 
     @Mock
     private MemberDomainService memberDomainService;
 
     @Mock
-    private SaltGenerator saltGenerator;
+    private AuthenticationCache authenticationCache;
 
     @Mock
-    private PasswordEncryptor passwordEncryptor;
+    private ImageVariantService imageVariantService;
+
+    @Mock
+    private StoredContentService storedContentService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private MemberCommandService memberCommandService;
@@ -57,40 +68,36 @@ class MemberCommandServiceTest {
     @DisplayName("비밀번호를 성공적으로 변경한다")
     void shouldChangePassword() {
         // given
-        PasswordRequest request = new PasswordRequest("example@friendy.com", "password123!");
         when(memberDomainService.getMemberByEmail("example@friendy.com")).thenReturn(member);
-        when(saltGenerator.generate()).thenReturn("salt");
-        when(passwordEncryptor.encrypt(request.newPassword(), "salt")).thenReturn("encryptedPassword");
 
         // when
-        memberCommandService.changePassword(request);
+        memberCommandService.changePassword("example@friendy.com", new HashedPassword("encryptedPassword", "salt"));
 
         // then
         assertThat(member.getPassword()).isEqualTo("encryptedPassword");
         assertThat(member.getSalt()).isEqualTo("salt");
         verify(memberRepository).save(member);
+        verify(authenticationCache).evictMember(member.getEmail());
     }
 
     @Test
-    @DisplayName("프로필 이미지를 저장한다")
-    void shouldSaveProfileImage() {
+    @DisplayName("옮겨 둔 프로필 이미지로 가입하면 참조를 늘리고 파생 이미지 생성을 알린다")
+    void shouldSignupWithProfileImage() {
         // given
-        String originalUrl = "https://temp-bucket.s3.amazonaws.com/tmp/image.jpg";
         String movedUrl = "https://real-bucket.s3.amazonaws.com/profile/image.jpg";
-        String s3Key = "profile/image.jpg";
-        String fileType = "image/jpeg";
-
-        when(s3Service.moveS3Object(originalUrl, "profile")).thenReturn(movedUrl);
-        when(s3Service.extractFilePath(movedUrl)).thenReturn(s3Key);
-        when(s3Service.getContentTypeFromS3(s3Key)).thenReturn(fileType);
+        MemberImage memberImage = MemberImage.of(movedUrl, "profile/image.jpg", "image/jpeg");
+        MemberSignUpRequest request = new MemberSignUpRequest(
+            "user@example.com", "nickname", "Password123!", LocalDate.of(2000, 1, 1), "https://s3/temp/image.jpg");
 
         // when
-        MemberImage result = memberCommandService.saveProfileImage(originalUrl);
+        memberCommandService.signup(request, new HashedPassword("encryptedPassword", "salt"), memberImage);
 
         // then
-        assertThat(result.getImageUrl()).isEqualTo(movedUrl);
-        assertThat(result.getS3Key()).isEqualTo(s3Key);
-        assertThat(result.getFileType()).isEqualTo(fileType);
+        ArgumentCaptor<Member> saved = ArgumentCaptor.forClass(Member.class);
+        verify(memberRepository).save(saved.capture());
+        assertThat(saved.getValue().getMemberImage()).isSameAs(memberImage);
+        verify(storedContentService).acquire(movedUrl);
+        verify(eventPublisher).publishEvent(new ImageStoredEvent(movedUrl));
     }
 
     @Test
@@ -99,21 +106,39 @@ class MemberCommandServiceTest {
         // given
         when(memberDomainService.getMemberById(1L)).thenReturn(member);
         member.updateMemberImage(new MemberImage("origin", "origin-key", "jpg"));
-        doNothing().when(s3Service).deleteFromS3(anyString());
 
-        when(s3Service.moveS3Object(anyString(), eq("profile"))).thenReturn("https://moved.url/image.jpg");
-        when(s3Service.extractFilePath(anyString())).thenReturn("profile/image.jpg");
-        when(s3Service.getContentTypeFromS3(anyString())).thenReturn("image/jpeg");
+        when(storedContentService.release(List.of("origin"))).thenReturn(List.of("origin"));
+        when(imageVariantService.removeVariants(List.of("origin"))).thenReturn(List.of("origin-key_w160.jpg"));
 
         MemberUpdateRequest request = new MemberUpdateRequest("newnickname", LocalDate.of(2000, 1, 1), "new-image.png");
 
         // when
-        memberCommandService.updateMember(request, 1L);
+        memberCommandService.updateMember(request, 1L, MemberImage.of("https://moved.url/image.jpg", "profile/image.jpg", "image/jpeg"));
 
         // then
         assertThat(member.getNickname()).isEqualTo("newnickname");
         assertThat(member.getMemberImage().getImageUrl()).isEqualTo("https://moved.url/image.jpg");
+        verify(s3DeletionOutboxService).enqueue(List.of("origin-key", "origin-key_w160.jpg"));
+        verify(storedContentService).acquire("https://moved.url/image.jpg");
     }
 
+    @Test
+    @DisplayName("기존 프로필 이미지를 다른 곳에서 함께 쓰고 있으면 S3 삭제 대상에 넣지 않는다")
+    void shouldKeepSharedProfileImage() {
+        // given
+        when(memberDomainService.getMemberById(1L)).thenReturn(member);
+        member.updateMemberImage(new MemberImage("shared", "shared-key", "jpg"));
+
+        when(storedContentService.release(List.of("shared"))).thenReturn(List.of());
+
+        MemberUpdateRequest request = new MemberUpdateRequest("newnickname", LocalDate.of(2000, 1, 1), "new-image.png");
+
+        // when
+        memberCommandService.updateMember(request, 1L, MemberImage.of("https://moved.url/image.jpg", "profile/image.jpg", "image/jpeg"));
 
+        // then
+        assertThat(member.getMemberImage().getImageUrl()).isEqualTo("https://moved.url/image.jpg");
+        verify(s3DeletionOutboxService, never()).enqueue(anyList());
+        verify(imageVariantService, never()).removeVariants(anyList());
+    }
 }
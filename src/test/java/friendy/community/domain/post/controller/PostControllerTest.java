@@ -7,7 +7,9 @@ import friendy.community.domain.post.dto.request.PostUpdateRequest;
 import friendy.community.domain.post.dto.response.FindAllPostResponse;
 import friendy.community.domain.post.dto.response.FindMemberResponse;
 import friendy.community.domain.post.dto.response.FindPostResponse;
+import friendy.community.domain.post.service.PostCommandFacade;
 import friendy.community.domain.post.service.PostCommandService;
+import friendy.community.domain.post.service.PostFeedService;
 import friendy.community.domain.post.service.PostQueryService;
 import friendy.community.global.config.MockSecurityConfig;
 import friendy.community.global.config.SecurityConfig;
@@ -60,9 +62,15 @@ class PostControllerTest {
     @MockitoBean
     private PostCommandService postCommandService;
 
+    @MockitoBean
+    private PostCommandFacade postCommandFacade;
+
     @MockitoBean
     private PostQueryService postQueryService;
 
+    @MockitoBean
+    private PostFeedService postFeedService;
+
     private String generateLongContent(int length) {
         return "a".repeat(length);
     }
@@ -90,7 +98,7 @@ class PostControllerTest {
             List.of("https://example.com/image.jpg"),
             "창원시"
         );
-        when(postCommandService.savePost(any(PostCreateRequest.class), anyLong())).thenReturn(1L);
+        when(postCommandFacade.savePost(any(PostCreateRequest.class), anyLong())).thenReturn(1L);
 
         // when & then
         mockMvc.perform(post(BASE_URL)
@@ -148,6 +156,8 @@ class PostControllerTest {
             0,
             new FindMemberResponse(1L, "nickname", null),
             null,
+            null,
+            null,
             null
         );
         when(postQueryService.getPost(eq(postId), anyLong())).thenReturn(response);
@@ -170,4 +180,17 @@ class PostControllerTest {
             .andDo(print())
             .andExpect(status().isOk());
     }
+
+    @Test
+    @DisplayName("피드 조회 성공 시 200 OK 응답")
+    void getFeedSuccessfullyReturns200Ok() throws Exception {
+        // given
+        FindAllPostResponse response = new FindAllPostResponse(List.of(), false, null);
+        when(postFeedService.getFeed(anyLong(), any())).thenReturn(response);
+
+        // when & then
+        mockMvc.perform(get(BASE_URL + "/feed"))
+            .andDo(print())
+            .andExpect(status().isOk());
+    }
 }
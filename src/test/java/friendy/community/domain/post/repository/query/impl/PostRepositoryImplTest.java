@@ -1,12 +1,14 @@
 package friendy.community.domain.post.repository.query.impl;
 
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import friendy.community.domain.hashtag.model.Hashtag;
 import friendy.community.domain.member.fixture.MemberFixture;
 import friendy.community.domain.member.model.Member;
 import friendy.community.domain.member.repository.MemberRepository;
 import friendy.community.domain.post.dto.request.PostCreateRequest;
 import friendy.community.domain.post.fixture.PostFixture;
 import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.model.PostHashtag;
 import friendy.community.domain.post.model.PostImage;
 import friendy.community.domain.post.repository.PostRepository;
 import friendy.community.global.config.TestQuerydslConfig;
@@ -22,6 +24,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -152,4 +155,102 @@ class PostRepositoryImplTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getContent()).isEqualTo("테스트 게시글입니다.");
     }
+
+    @Test
+    @DisplayName("이미지가 여러 장인 게시글도 컬렉션 fetch join 메모리 페이징 없이 페이지 크기만큼 조회")
+    void findPostsByLastIdPagesInDatabase() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            Post multiImagePost = Post.of(new PostCreateRequest(
+                "여러 이미지 게시글" + i,
+                List.of(),
+                List.of("https://example.com/a.jpg", "https://example.com/b.jpg"),
+                "서울시"
+            ), member);
+            multiImagePost.addImage(new PostImage("https://example.com/b" + i + ".jpg", 2));
+            multiImagePost.addImage(new PostImage("https://example.com/a" + i + ".jpg", 1));
+            postRepository.save(multiImagePost);
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        List<Post> result = postRepositoryImpl.findPostsByLastId(null, 2);
+
+        // then
+        assertThat(result).hasSize(3);
+        assertThat(result).extracting(Post::getContent)
+            .containsExactly("여러 이미지 게시글4", "여러 이미지 게시글3", "여러 이미지 게시글2");
+        assertThat(postRepositoryImpl.findImageUrlsByPostIds(List.of(result.get(0).getId())).get(result.get(0).getId()))
+            .containsExactly("https://example.com/a4.jpg", "https://example.com/b4.jpg");
+    }
+
+    @Test
+    @DisplayName("memberId로 게시글 조회 시 최대 13건만 조회")
+    void findPostsByMemberIdPagesInDatabase() {
+        // given
+        for (int i = 0; i < 15; i++) {
+            Post extraPost = Post.of(new PostCreateRequest("추가 게시글" + i, List.of(), List.of(), "서울시"), member);
+            extraPost.addImage(new PostImage("https://example.com/extra" + i + ".jpg", 1));
+            extraPost.addImage(new PostImage("https://example.com/extra" + i + "-2.jpg", 2));
+            postRepository.save(extraPost);
+        }
+        em.flush();
+        em.clear();
+
+        // when
+        List<Post> result = postRepositoryImpl.findPostsByMemberId(member.getId(), null);
+
+        // then
+        assertThat(result).hasSize(13);
+    }
+
+    @Test
+    @DisplayName("게시글 id 목록으로 이미지 URL을 순서대로 묶어 조회")
+    void findImageUrlsByPostIds() {
+        // given
+        Post multiImagePost = Post.of(new PostCreateRequest("여러 이미지 게시글", List.of(), List.of(), "서울시"), member);
+        multiImagePost.addImage(new PostImage("https://example.com/second.jpg", 2));
+        multiImagePost.addImage(new PostImage("https://example.com/first.jpg", 1));
+        postRepository.save(multiImagePost);
+        em.flush();
+        em.clear();
+
+        // when
+        Map<Long, List<String>> result = postRepositoryImpl.findImageUrlsByPostIds(List.of(post.getId(), multiImagePost.getId()));
+
+        // then
+        assertThat(result.get(post.getId())).containsExactly("https://example.com/image.jpg");
+        assertThat(result.get(multiImagePost.getId()))
+            .containsExactly("https://example.com/first.jpg", "https://example.com/second.jpg");
+    }
+
+    @Test
+    @DisplayName("게시글 id 목록으로 해시태그 이름을 묶어 조회")
+    void findHashtagNamesByPostIds() {
+        // given
+        Hashtag friendy = new Hashtag("프렌디");
+        Hashtag study = new Hashtag("스터디");
+        em.persist(friendy);
+        em.persist(study);
+        Post savedPost = em.find(Post.class, post.getId());
+        em.persist(new PostHashtag(savedPost, friendy));
+        em.persist(new PostHashtag(savedPost, study));
+        em.flush();
+        em.clear();
+
+        // when
+        Map<Long, List<String>> result = postRepositoryImpl.findHashtagNamesByPostIds(List.of(post.getId()));
+
+        // then
+        assertThat(result.get(post.getId())).containsExactly("프렌디", "스터디");
+    }
+
+    @Test
+    @DisplayName("게시글 id 목록이 비어 있으면 쿼리 없이 빈 결과를 반환")
+    void findAssociationsByEmptyPostIds() {
+        // when & then
+        assertThat(postRepositoryImpl.findImageUrlsByPostIds(List.of())).isEmpty();
+        assertThat(postRepositoryImpl.findHashtagNamesByPostIds(List.of())).isEmpty();
+    }
 }
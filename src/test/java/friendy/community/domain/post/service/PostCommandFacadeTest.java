@@ -0,0 +1,129 @@
+package friendy.community.domain.post.service;
+
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.dto.request.PostUpdateRequest;
+import friendy.community.domain.post.dto.response.PostIdResponse;
+import friendy.community.domain.upload.service.S3ObjectMover;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostCommandFacadeTest {
+
+    private static final List<String> TEMP_URLS = List.of("https://s3/temp/a.png", "https://s3/temp/b.png");
+    private static final List<String> MOVED_URLS = List.of("https://s3/post/a.png", "https://s3/post/b.png");
+
+    @Mock
+    private PostCommandService postCommandService;
+
+    @Mock
+    private S3ObjectMover s3ObjectMover;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PostCommandFacade postCommandFacade;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        postCommandFacade = new PostCommandFacade(postCommandService, s3ObjectMover, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("이미지를 먼저 옮기고 옮긴 URL 로 게시글을 저장한다")
+    void savePostMovesImagesBeforeTransaction() {
+        // given
+        PostCreateRequest request = new PostCreateRequest("content", List.of("tag"), TEMP_URLS, "부산");
+        when(s3ObjectMover.moveAll(TEMP_URLS, "post")).thenReturn(MOVED_URLS);
+        when(postCommandService.savePost(any(PostCreateRequest.class), eq(1L))).thenReturn(10L);
+
+        // when
+        long postId = postCommandFacade.savePost(request, 1L);
+
+        // then
+        assertThat(postId).isEqualTo(10L);
+        ArgumentCaptor<PostCreateRequest> saved = ArgumentCaptor.forClass(PostCreateRequest.class);
+        InOrder inOrder = inOrder(s3ObjectMover, postCommandService);
+        inOrder.verify(s3ObjectMover).moveAll(TEMP_URLS, "post");
+        inOrder.verify(postCommandService).savePost(saved.capture(), eq(1L));
+        assertThat(saved.getValue().imageUrls()).isEqualTo(MOVED_URLS);
+        assertThat(saved.getValue().content()).isEqualTo("content");
+        assertThat(meterRegistry.timer(PostCommandFacade.STAGE_METRIC, "operation", "save", "stage", "image-move").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer(PostCommandFacade.STAGE_METRIC, "operation", "save", "stage", "transaction").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글 저장이 실패하면 옮긴 이미지를 지운다")
+    void savePostCompensatesWhenTransactionFails() {
+        // given
+        PostCreateRequest request = new PostCreateRequest("content", List.of(), TEMP_URLS, "부산");
+        when(s3ObjectMover.moveAll(TEMP_URLS, "post")).thenReturn(MOVED_URLS);
+        when(postCommandService.savePost(any(PostCreateRequest.class), anyLong())).thenThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> postCommandFacade.savePost(request, 1L))
+            .isInstanceOf(IllegalStateException.class);
+        verify(s3ObjectMover).deleteMoved(TEMP_URLS, MOVED_URLS);
+        assertThat(meterRegistry.timer(PostCommandFacade.STAGE_METRIC, "operation", "save", "stage", "compensation").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미지 이동이 실패하면 게시글을 저장하지 않는다")
+    void savePostDoesNotSaveWhenMoveFails() {
+        // given
+        PostCreateRequest request = new PostCreateRequest("content", List.of(), TEMP_URLS, "부산");
+        when(s3ObjectMover.moveAll(TEMP_URLS, "post")).thenThrow(new IllegalStateException("s3 down"));
+
+        // when & then
+        assertThatThrownBy(() -> postCommandFacade.savePost(request, 1L))
+            .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(postCommandService);
+    }
+
+    @Test
+    @DisplayName("이미지를 옮긴 뒤 옮긴 URL 로 게시글을 수정한다")
+    void updatePostMovesImagesBeforeTransaction() {
+        // given
+        PostUpdateRequest request = new PostUpdateRequest("updated", List.of(), TEMP_URLS, "서울");
+        when(s3ObjectMover.moveAll(TEMP_URLS, "post")).thenReturn(MOVED_URLS);
+        when(postCommandService.updatePost(any(PostUpdateRequest.class), eq(1L), eq(2L))).thenReturn(new PostIdResponse(2L));
+
+        // when
+        PostIdResponse response = postCommandFacade.updatePost(request, 1L, 2L);
+
+        // then
+        assertThat(response.id()).isEqualTo(2L);
+        ArgumentCaptor<PostUpdateRequest> updated = ArgumentCaptor.forClass(PostUpdateRequest.class);
+        verify(postCommandService).updatePost(updated.capture(), eq(1L), eq(2L));
+        assertThat(updated.getValue().imageUrls()).isEqualTo(MOVED_URLS);
+    }
+
+    @Test
+    @DisplayName("이미지 없이 수정하면 S3 를 거치지 않는다")
+    void updatePostWithoutImagesSkipsMove() {
+        // given
+        PostUpdateRequest request = new PostUpdateRequest("updated", List.of(), null, "서울");
+        when(postCommandService.updatePost(request, 1L, 2L)).thenReturn(new PostIdResponse(2L));
+
+        // when
+        postCommandFacade.updatePost(request, 1L, 2L);
+
+        // then
+        verifyNoInteractions(s3ObjectMover);
+    }
+}
@@ -8,6 +8,7 @@ import friendy.community.domain.member.service.MemberDomainService;
 import friendy.community.domain.post.dto.request.PostCreateRequest;
 import friendy.community.domain.post.dto.request.PostUpdateRequest;
 import friendy.community.domain.post.dto.response.PostIdResponse;
+import friendy.community.domain.post.event.PostCreatedEvent;
 import friendy.community.domain.post.fixture.PostFixture;
 import friendy.community.domain.post.model.Post;
 import friendy.community.domain.post.repository.PostRepository;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
@@ -49,6 +51,9 @@ class PostCommandServiceTest {
     @Mock
     private HashtagService hashtagService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Member member;
     private Post post;
 
@@ -87,6 +92,7 @@ class PostCommandServiceTest {
         assertThat(savedId).isEqualTo(1L);
         verify(postImageService).saveImagesForPost(any(Post.class), eq(request.imageUrls()));
         verify(hashtagService).saveHashtags(any(Post.class), eq(request.hashtags()));
+        verify(eventPublisher).publishEvent(new PostCreatedEvent(1L, 1L));
     }
 
     @Test
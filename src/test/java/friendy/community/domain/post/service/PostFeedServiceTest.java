@@ -0,0 +1,327 @@
+package friendy.community.domain.post.service;
+
+import friendy.community.domain.follow.event.FollowChangedEvent;
+import friendy.community.domain.follow.index.FollowGraphIndex;
+import friendy.community.domain.follow.repository.FollowRepository;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.service.MemberDomainService;
+import friendy.community.domain.post.controller.code.PostExceptionCode;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.domain.post.dto.response.FindPostResponse;
+import friendy.community.domain.post.event.PostCreatedEvent;
+import friendy.community.domain.post.fixture.PostFixture;
+import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.domain.post.repository.PostTimelineRepository;
+import friendy.community.global.exception.domain.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostFeedServiceTest {
+
+    @InjectMocks
+    private PostFeedService postFeedService;
+
+    @Mock
+    private PostTimelineRepository postTimelineRepository;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private FollowRepository followRepository;
+
+    @Mock
+    private FollowGraphIndex followGraphIndex;
+
+    @Mock
+    private PostQueryService postQueryService;
+
+    @Mock
+    private MemberDomainService memberDomainService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postFeedService, "fanOutThreshold", 3);
+        ReflectionTestUtils.setField(postFeedService, "timelineSize", 800);
+        ReflectionTestUtils.setField(postFeedService, "backfillSize", 20);
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 임계치 이하이면 작성자와 팔로워 타임라인에 게시글을 추가한다")
+    void fanOut_pushesToFollowersTimeline() {
+        // given
+        when(followRepository.findFollowerIds(1L, 4)).thenReturn(List.of(2L, 3L));
+
+        // when
+        postFeedService.fanOut(new PostCreatedEvent(10L, 1L));
+
+        // then
+        verify(postTimelineRepository).pushAll(List.of(1L, 2L, 3L), 10L);
+        verify(postTimelineRepository, never()).markFanOutOnRead(any());
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 임계치를 넘으면 작성자 타임라인에만 추가하고 읽기 시점 병합 대상으로 표시한다")
+    void fanOut_marksFanOutOnReadForPopularAuthor() {
+        // given
+        when(followRepository.findFollowerIds(1L, 4)).thenReturn(List.of(2L, 3L, 4L, 5L));
+
+        // when
+        postFeedService.fanOut(new PostCreatedEvent(10L, 1L));
+
+        // then
+        verify(postTimelineRepository).markFanOutOnRead(1L);
+        verify(postTimelineRepository).pushAll(List.of(1L), 10L);
+    }
+
+    @Test
+    @DisplayName("타임라인 반영 중 예외가 발생해도 전파하지 않는다")
+    void fanOut_swallowsTimelineFailure() {
+        // given
+        when(followRepository.findFollowerIds(1L, 4)).thenReturn(List.of(2L));
+        doThrow(new IllegalStateException("redis down")).when(postTimelineRepository).pushAll(any(), any());
+
+        // when & then
+        postFeedService.fanOut(new PostCreatedEvent(10L, 1L));
+    }
+
+    @Test
+    @DisplayName("팔로우하면 작성자의 최근 게시글을 팔로워 타임라인에 채운다")
+    void syncTimeline_backfillsFollowedAuthorPosts() {
+        // given
+        when(followRepository.existsByFollowerIdAndFollowingId(2L, 1L)).thenReturn(true);
+        when(postTimelineRepository.isFanOutOnRead(1L)).thenReturn(false);
+        when(postRepository.findPostIdsByMemberIds(List.of(1L), null, 20)).thenReturn(List.of(12L, 11L));
+        when(memberDomainService.getMemberById(1L)).thenReturn(authorWithFollowers(1));
+
+        // when
+        postFeedService.syncTimeline(new FollowChangedEvent(2L, 1L));
+
+        // then
+        verify(postTimelineRepository).backfill(List.of(2L), List.of(12L, 11L));
+        verify(postTimelineRepository, never()).markFanOutOnRead(any());
+        verify(postTimelineRepository, never()).unmarkFanOutOnRead(any());
+    }
+
+    @Test
+    @DisplayName("읽기 시점 병합 대상 작성자를 팔로우하면 타임라인을 채우지 않는다")
+    void syncTimeline_skipsBackfillForFanOutOnReadAuthor() {
+        // given
+        when(followRepository.existsByFollowerIdAndFollowingId(2L, 1L)).thenReturn(true);
+        when(postTimelineRepository.isFanOutOnRead(1L)).thenReturn(true);
+        when(memberDomainService.getMemberById(1L)).thenReturn(authorWithFollowers(4));
+
+        // when
+        postFeedService.syncTimeline(new FollowChangedEvent(2L, 1L));
+
+        // then
+        verify(postTimelineRepository, never()).backfill(any(), any());
+        verify(postTimelineRepository, never()).markFanOutOnRead(any());
+    }
+
+    @Test
+    @DisplayName("언팔로우하면 팔로워 타임라인에서 작성자의 게시글을 지운다")
+    void syncTimeline_removesUnfollowedAuthorPosts() {
+        // given
+        when(followRepository.existsByFollowerIdAndFollowingId(2L, 1L)).thenReturn(false);
+        when(postRepository.findPostIdsByMemberIds(List.of(1L), null, 800)).thenReturn(List.of(12L, 11L));
+        when(memberDomainService.getMemberById(1L)).thenReturn(authorWithFollowers(0));
+
+        // when
+        postFeedService.syncTimeline(new FollowChangedEvent(2L, 1L));
+
+        // then
+        verify(postTimelineRepository).removeAll(2L, List.of(12L, 11L));
+        verify(postTimelineRepository, never()).backfill(any(), any());
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 임계치를 넘으면 작성자를 읽기 시점 병합 대상으로 표시한다")
+    void syncTimeline_marksAuthorOverThreshold() {
+        // given
+        when(followRepository.existsByFollowerIdAndFollowingId(2L, 1L)).thenReturn(true);
+        when(postTimelineRepository.isFanOutOnRead(1L)).thenReturn(false);
+        when(memberDomainService.getMemberById(1L)).thenReturn(authorWithFollowers(4));
+
+        // when
+        postFeedService.syncTimeline(new FollowChangedEvent(2L, 1L));
+
+        // then
+        verify(postTimelineRepository).markFanOutOnRead(1L);
+    }
+
+    @Test
+    @DisplayName("팔로워 수가 임계치 이하로 줄면 최근 게시글을 팔로워 타임라인에 채운 뒤 병합 대상에서 뺀다")
+    void syncTimeline_unmarksAuthorUnderThreshold() {
+        // given
+        when(followRepository.existsByFollowerIdAndFollowingId(2L, 1L)).thenReturn(false);
+        when(postRepository.findPostIdsByMemberIds(List.of(1L), null, 800)).thenReturn(List.of(12L, 11L));
+        when(memberDomainService.getMemberById(1L)).thenReturn(authorWithFollowers(3));
+        when(postTimelineRepository.isFanOutOnRead(1L)).thenReturn(true);
+        when(followRepository.findFollowerIds(1L, 4)).thenReturn(List.of(3L, 4L, 5L));
+        when(postRepository.findPostIdsByMemberIds(List.of(1L), null, 20)).thenReturn(List.of(12L, 11L));
+
+        // when
+        postFeedService.syncTimeline(new FollowChangedEvent(2L, 1L));
+
+        // then
+        InOrder inOrder = inOrder(postTimelineRepository);
+        inOrder.verify(postTimelineRepository).backfill(List.of(3L, 4L, 5L, 1L), List.of(12L, 11L));
+        inOrder.verify(postTimelineRepository).unmarkFanOutOnRead(1L);
+    }
+
+    @Test
+    @DisplayName("팔로우 그래프 색인이 적재되어 있으면 읽기 시점 병합 대상 중 팔로우한 작성자를 DB 없이 고른다")
+    void getFeed_filtersFanOutOnReadAuthorsWithIndex() {
+        // given
+        when(postTimelineRepository.findPostIds(1L, null, 11)).thenReturn(List.of(30L));
+        when(postTimelineRepository.findFanOutOnReadAuthorIds()).thenReturn(Set.of(7L));
+        when(followGraphIndex.isReady()).thenReturn(true);
+        when(followGraphIndex.filterFollowing(1L, Set.of(7L))).thenReturn(List.of(7L));
+        when(postRepository.findPostIdsByMemberIds(List.of(7L), null, 11)).thenReturn(List.of(25L));
+        when(postQueryService.getPostResponsesByIds(List.of(30L, 25L), 1L)).thenReturn(createPostResponses(30L, 25L));
+
+        // when
+        FindAllPostResponse response = postFeedService.getFeed(1L, null);
+
+        // then
+        assertThat(response.posts()).extracting(FindPostResponse::id).containsExactly(30L, 25L);
+        verify(followRepository, never()).findFollowingIdsIn(any(), any());
+    }
+
+    @Test
+    @DisplayName("타임라인과 읽기 시점 병합 대상 작성자의 게시글을 최신순으로 합쳐 조회한다")
+    void getFeed_mergesTimelineAndFanOutOnReadPosts() {
+        // given
+        when(postTimelineRepository.findPostIds(1L, null, 11)).thenReturn(List.of(30L, 20L, 10L));
+        when(postTimelineRepository.findFanOutOnReadAuthorIds()).thenReturn(Set.of(7L));
+        when(followRepository.findFollowingIdsIn(1L, Set.of(7L))).thenReturn(List.of(7L));
+        when(postRepository.findPostIdsByMemberIds(List.of(7L), null, 11)).thenReturn(List.of(25L, 15L));
+        when(postQueryService.getPostResponsesByIds(List.of(30L, 25L, 20L, 15L, 10L), 1L))
+            .thenReturn(createPostResponses(30L, 25L, 20L, 15L, 10L));
+
+        // when
+        FindAllPostResponse response = postFeedService.getFeed(1L, null);
+
+        // then
+        assertThat(response.posts()).extracting(FindPostResponse::id).containsExactly(30L, 25L, 20L, 15L, 10L);
+        assertThat(response.hasNext()).isFalse();
+        assertThat(response.lastPostId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("조회 결과가 페이지 크기를 넘으면 다음 페이지가 있음을 알린다")
+    void getFeed_hasNext() {
+        // given
+        List<Long> timeline = new ArrayList<>();
+        for (long id = 111; id >= 101; id--) {
+            timeline.add(id);
+        }
+        when(postTimelineRepository.findPostIds(1L, 112L, 11)).thenReturn(timeline);
+        when(postTimelineRepository.findFanOutOnReadAuthorIds()).thenReturn(Set.of());
+        List<Long> pageIds = timeline.subList(0, 10);
+        when(postQueryService.getPostResponsesByIds(pageIds, 1L))
+            .thenReturn(createPostResponses(pageIds.stream().mapToLong(Long::longValue).toArray()));
+
+        // when
+        FindAllPostResponse response = postFeedService.getFeed(1L, 112L);
+
+        // then
+        assertThat(response.posts()).hasSize(10);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.lastPostId()).isEqualTo(102L);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글은 건너뛰고 페이지가 찰 때까지 이어 읽으며 타임라인에서 지운다")
+    void getFeed_skipsDeletedPosts() {
+        // given
+        List<Long> timeline = new ArrayList<>();
+        for (long id = 111; id >= 101; id--) {
+            timeline.add(id);
+        }
+        when(postTimelineRepository.findPostIds(1L, null, 11)).thenReturn(timeline);
+        when(postTimelineRepository.findPostIds(1L, 102L, 11)).thenReturn(List.of(101L, 100L, 99L));
+        when(postTimelineRepository.findFanOutOnReadAuthorIds()).thenReturn(Set.of());
+        when(postQueryService.getPostResponsesByIds(timeline.subList(0, 10), 1L))
+            .thenReturn(createPostResponses(111L, 109L, 108L, 107L, 106L, 104L, 103L, 102L));
+        when(postQueryService.getPostResponsesByIds(List.of(101L, 100L), 1L))
+            .thenReturn(createPostResponses(101L, 100L));
+
+        // when
+        FindAllPostResponse response = postFeedService.getFeed(1L, null);
+
+        // then
+        assertThat(response.posts()).extracting(FindPostResponse::id)
+            .containsExactly(111L, 109L, 108L, 107L, 106L, 104L, 103L, 102L, 101L, 100L);
+        assertThat(response.hasNext()).isTrue();
+        assertThat(response.lastPostId()).isEqualTo(100L);
+        verify(postTimelineRepository).removeAll(1L, List.of(110L, 105L));
+    }
+
+    @Test
+    @DisplayName("다음 페이지의 게시글이 모두 삭제됐으면 예외 없이 빈 마지막 페이지를 준다")
+    void getFeed_lastPageOfDeletedPosts() {
+        // given
+        when(postTimelineRepository.findPostIds(1L, 50L, 11)).thenReturn(List.of(40L, 30L));
+        when(postTimelineRepository.findFanOutOnReadAuthorIds()).thenReturn(Set.of());
+        when(postQueryService.getPostResponsesByIds(List.of(40L, 30L), 1L)).thenReturn(List.of());
+
+        // when
+        FindAllPostResponse response = postFeedService.getFeed(1L, 50L);
+
+        // then
+        assertThat(response.posts()).isEmpty();
+        assertThat(response.hasNext()).isFalse();
+        verify(postTimelineRepository).removeAll(1L, List.of(40L, 30L));
+    }
+
+    @Test
+    @DisplayName("피드가 비어 있으면 예외가 발생한다")
+    void getFeed_empty() {
+        // given
+        when(postTimelineRepository.findPostIds(1L, null, 11)).thenReturn(List.of());
+        when(postTimelineRepository.findFanOutOnReadAuthorIds()).thenReturn(Set.of());
+
+        // when & then
+        assertThatThrownBy(() -> postFeedService.getFeed(1L, null))
+            .isInstanceOf(NotFoundException.class)
+            .hasMessage(PostExceptionCode.POST_NOT_FOUND.getMessage());
+    }
+
+    private Member authorWithFollowers(int followerCount) {
+        Member author = MemberFixture.memberFixture();
+        ReflectionTestUtils.setField(author, "followerCount", followerCount);
+        return author;
+    }
+
+    private List<FindPostResponse> createPostResponses(long... ids) {
+        List<FindPostResponse> responses = new ArrayList<>();
+        for (long id : ids) {
+            Post post = PostFixture.postFixture();
+            ReflectionTestUtils.setField(post, "id", id);
+            ReflectionTestUtils.setField(post.getMember(), "id", 2L);
+            responses.add(FindPostResponse.from(post, List.of(), List.of(), false, false));
+        }
+        return responses;
+    }
+}
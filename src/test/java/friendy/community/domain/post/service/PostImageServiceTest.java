@@ -4,13 +4,18 @@ import friendy.community.domain.post.fixture.PostFixture;
 import friendy.community.domain.post.model.Post;
 import friendy.community.domain.post.model.PostImage;
 import friendy.community.domain.post.repository.PostImageRepository;
+import friendy.community.domain.upload.event.ImageStoredEvent;
+import friendy.community.domain.upload.service.ImageVariantService;
+import friendy.community.domain.upload.service.S3DeletionOutboxService;
 import friendy.community.domain.upload.service.S3service;
+import friendy.community.domain.upload.service.StoredContentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.*;
@@ -30,6 +35,18 @@ class PostImageServiceTest {
     @Mock
     private S3service s3service;
 
+    @Mock
+    private S3DeletionOutboxService s3DeletionOutboxService;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
+    @Mock
+    private StoredContentService storedContentService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private Post post;
 
     @BeforeEach
@@ -45,14 +62,16 @@ class PostImageServiceTest {
         Post post = mock(Post.class);
         List<String> imageUrls = List.of("url1", "url2");
 
-        when(s3service.moveS3Object(anyString(), eq("post")))
-            .thenAnswer(invocation -> invocation.getArgument(0));
-
         // when
         postImageService.saveImagesForPost(post, imageUrls);
 
         // then
         verify(post, times(2)).addImage(any(PostImage.class));
+        verify(s3service, never()).moveS3Object(anyString(), anyString());
+        verify(storedContentService).acquire("url1");
+        verify(storedContentService).acquire("url2");
+        verify(eventPublisher).publishEvent(new ImageStoredEvent("url1"));
+        verify(eventPublisher).publishEvent(new ImageStoredEvent("url2"));
     }
 
     @Test
@@ -73,17 +92,16 @@ class PostImageServiceTest {
             .thenReturn(existingImages)
             .thenReturn(Collections.emptyList());
 
+        when(storedContentService.release(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
         when(s3service.extractS3Key(anyString())).thenReturn("key");
 
-        when(s3service.moveS3Object(anyString(), eq("post")))
-            .thenAnswer(invocation -> invocation.getArgument(0));
-
         // when
         postImageService.updateImagesForPost(post, newImageUrls);
 
         // then
         verify(postImageRepository, times(2)).findByPostIdOrderByImageOrderAsc(1L);
-        verify(postImageRepository, times(2)).delete(any(PostImage.class));
+        verify(postImageRepository).deleteAll(existingImages);
+        verify(s3DeletionOutboxService).enqueue(List.of("key", "key"));
     }
 
     @Test
@@ -102,7 +120,9 @@ class PostImageServiceTest {
         List<PostImage> images = List.of(image1, image2);
 
         when(postImageRepository.findByPostIdOrderByImageOrderAsc(1L)).thenReturn(images);
+        when(storedContentService.release(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
         when(s3service.extractS3Key(anyString())).thenReturn("s3-key");
+        when(imageVariantService.removeVariants(List.of("url1", "url2"))).thenReturn(List.of("s3-key_w320.jpg"));
 
         // when
         postImageService.deleteImagesForPost(post);
@@ -110,8 +130,38 @@ class PostImageServiceTest {
         // then
         verify(postImageRepository).findByPostIdOrderByImageOrderAsc(1L);
         verify(s3service, times(2)).extractS3Key(anyString());
-        verify(s3service, times(2)).deleteFromS3(anyString());
-        verify(postImageRepository, times(2)).delete(any(PostImage.class));
+        verify(postImageRepository).deleteAll(images);
+        verify(s3DeletionOutboxService).enqueue(List.of("s3-key", "s3-key", "s3-key_w320.jpg"));
+        verify(s3service, never()).deleteFromS3(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 게시글이나 프로필이 함께 쓰는 이미지는 S3 삭제 대상에 넣지 않는다")
+    void deleteImagesForPost_keepsSharedContent() {
+        // given
+        Post post = mock(Post.class);
+        when(post.getId()).thenReturn(1L);
+
+        PostImage shared = mock(PostImage.class);
+        when(shared.getImageUrl()).thenReturn("shared-url");
+
+        PostImage owned = mock(PostImage.class);
+        when(owned.getImageUrl()).thenReturn("owned-url");
+
+        List<PostImage> images = List.of(shared, owned);
+
+        when(postImageRepository.findByPostIdOrderByImageOrderAsc(1L)).thenReturn(images);
+        when(storedContentService.release(List.of("shared-url", "owned-url"))).thenReturn(List.of("owned-url"));
+        when(s3service.extractS3Key("owned-url")).thenReturn("owned-key");
+        when(imageVariantService.removeVariants(List.of("owned-url"))).thenReturn(List.of());
+
+        // when
+        postImageService.deleteImagesForPost(post);
+
+        // then
+        verify(postImageRepository).deleteAll(images);
+        verify(s3DeletionOutboxService).enqueue(List.of("owned-key"));
+        verify(s3service, never()).extractS3Key("shared-url");
     }
 
     @Test
@@ -127,8 +177,6 @@ class PostImageServiceTest {
         when(postImageRepository.findByPostIdOrderByImageOrderAsc(1L))
             .thenReturn(List.of(existingImage));
 
-        when(s3service.moveS3Object("new-url", "post")).thenReturn("new-url");
-
         // when
         postImageService.updateImagesForPost(post, newImageUrls);
 
@@ -0,0 +1,130 @@
+package friendy.community.domain.post.service;
+
+import friendy.community.domain.counter.repository.CounterRepository;
+import friendy.community.domain.counter.service.CounterService;
+import friendy.community.domain.hashtag.model.Hashtag;
+import friendy.community.domain.like.repository.LikeBatchRepository;
+import friendy.community.domain.like.service.LikeQueryService;
+import friendy.community.domain.like.service.LikeWriteBuffer;
+import friendy.community.domain.member.fixture.MemberFixture;
+import friendy.community.domain.member.model.Member;
+import friendy.community.domain.member.model.MemberImage;
+import friendy.community.domain.post.dto.request.PostCreateRequest;
+import friendy.community.domain.post.dto.response.FindAllPostResponse;
+import friendy.community.domain.post.model.Post;
+import friendy.community.domain.post.model.PostHashtag;
+import friendy.community.domain.post.model.PostImage;
+import friendy.community.domain.upload.service.ImageVariantService;
+import friendy.community.global.config.TestQuerydslConfig;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({
+    TestQuerydslConfig.class,
+    PostQueryService.class,
+    LikeQueryService.class,
+    LikeWriteBuffer.class,
+    LikeBatchRepository.class,
+    CounterService.class,
+    CounterRepository.class,
+    ImageVariantService.class
+})
+class PostQueryServiceStatementCountTest {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Autowired
+    private PostQueryService postQueryService;
+
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    private Statistics statistics;
+    private Hashtag firstHashtag;
+    private Hashtag secondHashtag;
+    private List<Member> authors;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+
+        firstHashtag = new Hashtag("프렌디");
+        secondHashtag = new Hashtag("개발");
+        em.persist(firstHashtag);
+        em.persist(secondHashtag);
+
+        authors = MemberFixture.createMultipleMembers(3);
+        for (int i = 0; i < authors.size(); i++) {
+            Member author = authors.get(i);
+            author.updateMemberImage(MemberImage.of("https://example.com/profile" + i + ".jpg", "profile" + i, "image/jpeg"));
+            em.persist(author);
+        }
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 시 실행되는 SQL 수는 페이지의 게시글 수와 무관하다")
+    void getPostsByLastIdRunsConstantStatementsPerPage() {
+        // given
+        savePosts(1);
+        long singlePostStatements = countStatements(() -> postQueryService.getPostsByLastId(null, 1L));
+        savePosts(20);
+
+        // when
+        statistics.clear();
+        FindAllPostResponse response = postQueryService.getPostsByLastId(null, 1L);
+        long fullPageStatements = statistics.getPrepareStatementCount();
+
+        // then
+        assertThat(response.posts()).hasSize(10);
+        assertThat(response.posts()).allSatisfy(post -> {
+            assertThat(post.imageUrls()).hasSize(2);
+            assertThat(post.hashtags()).containsExactly("프렌디", "개발");
+            assertThat(post.authorResponse().profileImageUrl()).startsWith("https://example.com/profile");
+        });
+        assertThat(fullPageStatements).isEqualTo(6);
+        assertThat(fullPageStatements).isEqualTo(singlePostStatements);
+    }
+
+    private void savePosts(int count) {
+        Hashtag first = em.find(Hashtag.class, firstHashtag.getId());
+        Hashtag second = em.find(Hashtag.class, secondHashtag.getId());
+        for (int i = 0; i < count; i++) {
+            Member author = em.find(Member.class, authors.get(i % authors.size()).getId());
+            Post post = Post.of(new PostCreateRequest("게시글" + i, List.of(), List.of(), "서울시"), author);
+            post.addImage(new PostImage("https://example.com/post" + i + "-1.jpg", 1));
+            post.addImage(new PostImage("https://example.com/post" + i + "-2.jpg", 2));
+            em.persist(post);
+            em.persist(new PostHashtag(post, first));
+            em.persist(new PostHashtag(post, second));
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private long countStatements(Runnable query) {
+        statistics.clear();
+        query.run();
+        long count = statistics.getPrepareStatementCount();
+        em.clear();
+        return count;
+    }
+}
@@ -1,5 +1,7 @@
 package friendy.community.domain.post.service;
 
+import friendy.community.domain.like.model.LikeTargetType;
+import friendy.community.domain.like.service.LikeQueryService;
 import friendy.community.domain.member.dto.response.FindMemberPostsResponse;
 import friendy.community.domain.post.controller.code.PostExceptionCode;
 import friendy.community.domain.post.dto.response.FindAllPostResponse;
@@ -7,6 +9,7 @@ import friendy.community.domain.post.dto.response.FindPostResponse;
 import friendy.community.domain.post.fixture.PostFixture;
 import friendy.community.domain.post.model.Post;
 import friendy.community.domain.post.repository.PostRepository;
+import friendy.community.domain.upload.service.ImageVariantService;
 import friendy.community.global.exception.domain.NotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,11 +22,16 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +43,12 @@ class PostQueryServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private LikeQueryService likeQueryService;
+
+    @Mock
+    private ImageVariantService imageVariantService;
+
     private Post post;
 
     @BeforeEach
@@ -58,6 +72,20 @@ class PostQueryServiceTest {
         assertThat(response.me()).isTrue();
     }
 
+    @Test
+    @DisplayName("게시글 단건 조회 시 해시태그를 함께 반환한다")
+    void getPost_withHashtags() {
+        // given
+        when(postRepository.findPostById(1L)).thenReturn(Optional.of(post));
+        when(postRepository.findHashtagNamesByPostIds(List.of(1L))).thenReturn(Map.of(1L, List.of("프렌디", "개발")));
+
+        // when
+        FindPostResponse response = postQueryService.getPost(1L, 1L);
+
+        // then
+        assertThat(response.hashtags()).containsExactly("프렌디", "개발");
+    }
+
     @Test
     @DisplayName("게시글 단건 조회 실패 - 존재하지 않음")
     void getPost_notFound() {
@@ -114,6 +142,56 @@ class PostQueryServiceTest {
         assertThat(response.lastPostId()).isEqualTo(109L);
     }
 
+    @Test
+    @DisplayName("게시글 페이지 조회 시 이미지와 해시태그를 게시글 id로 묶어 한 번에 조회한다")
+    void getPostsByLastId_batchLoadsAssociations() {
+        // given
+        List<Post> posts = new ArrayList<>();
+        for (long id = 2; id >= 1; id--) {
+            Post p = PostFixture.postFixture();
+            ReflectionTestUtils.setField(p, "id", id);
+            ReflectionTestUtils.setField(p.getMember(), "id", 1L);
+            posts.add(p);
+        }
+        when(postRepository.findPostsByLastId(null, 10)).thenReturn(posts);
+        when(postRepository.findImageUrlsByPostIds(List.of(2L, 1L)))
+            .thenReturn(Map.of(2L, List.of("https://example.com/2.jpg")));
+        when(postRepository.findHashtagNamesByPostIds(List.of(2L, 1L)))
+            .thenReturn(Map.of(1L, List.of("프렌디")));
+
+        // when
+        FindAllPostResponse response = postQueryService.getPostsByLastId(null, 1L);
+
+        // then
+        assertThat(response.posts()).extracting(FindPostResponse::imageUrls)
+            .containsExactly(List.of("https://example.com/2.jpg"), List.of());
+        assertThat(response.posts()).extracting(FindPostResponse::hashtags)
+            .containsExactly(List.of(), List.of("프렌디"));
+        verify(postRepository, times(1)).findImageUrlsByPostIds(any());
+        verify(postRepository, times(1)).findHashtagNamesByPostIds(any());
+    }
+
+    @Test
+    @DisplayName("게시글 페이지 조회 시 좋아요 여부를 한 번에 조회해 표시한다")
+    void getPostsByLastId_marksLikedPosts() {
+        // given
+        List<Post> posts = new ArrayList<>();
+        for (long id = 3; id >= 1; id--) {
+            Post p = PostFixture.postFixture();
+            ReflectionTestUtils.setField(p, "id", id);
+            ReflectionTestUtils.setField(p.getMember(), "id", 2L);
+            posts.add(p);
+        }
+        when(postRepository.findPostsByLastId(null, 10)).thenReturn(posts);
+        when(likeQueryService.getLikedTargetIds(1L, LikeTargetType.POST, List.of(3L, 2L, 1L))).thenReturn(Set.of(3L, 1L));
+
+        // when
+        FindAllPostResponse response = postQueryService.getPostsByLastId(null, 1L);
+
+        // then
+        assertThat(response.posts()).extracting(FindPostResponse::liked).containsExactly(true, false, true);
+    }
+
     @Test
     @DisplayName("게시글 페이지 조회 실패 - 비어있음")
     void getPostsByLastId_notFound() {
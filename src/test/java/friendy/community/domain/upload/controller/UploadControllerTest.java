@@ -1,7 +1,11 @@
 package friendy.community.domain.upload.controller;
 
 import friendy.community.domain.auth.jwt.JwtTokenFilter;
+import friendy.community.domain.upload.dto.request.PresignedUploadConfirmRequest;
+import friendy.community.domain.upload.dto.request.PresignedUploadRequest;
+import friendy.community.domain.upload.dto.response.PresignedUploadResponse;
 import friendy.community.domain.upload.dto.response.UploadResponse;
+import friendy.community.domain.upload.service.S3PresignedUploadService;
 import friendy.community.domain.upload.service.S3service;
 import friendy.community.global.config.MockSecurityConfig;
 import friendy.community.global.config.SecurityConfig;
@@ -21,8 +25,15 @@ import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = UploadController.class,
@@ -41,6 +52,9 @@ public class UploadControllerTest {
     @MockitoBean
     private S3service s3service;
 
+    @MockitoBean
+    private S3PresignedUploadService s3PresignedUploadService;
+
     @InjectMocks
     private UploadController uploadController;
 
@@ -59,4 +73,60 @@ public class UploadControllerTest {
                 .contentType(MediaType.MULTIPART_FORM_DATA))
             .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("스트리밍 업로드 시 요청 본문을 그대로 넘기고 파일 URL을 반환한다.")
+    void uploadStreamReturnFileUrl() throws Exception {
+        // Given
+        when(s3service.uploadStream(any(InputStream.class), eq("test.png"), eq("temp")))
+            .thenReturn(new UploadResponse("https://s3.example.com/temp/test.png"));
+
+        // When & Then
+        mockMvc.perform(post("/file/upload/stream")
+                .param("fileName", "test.png")
+                .contentType(MediaType.IMAGE_PNG)
+                .content(new byte[]{(byte) 0x89, 'P', 'N', 'G'}))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result.imageUrl").value("https://s3.example.com/temp/test.png"));
+    }
+
+    @Test
+    @DisplayName("직접 업로드 URL 발급 요청이 성공하면 서명된 URL 을 반환한다.")
+    void issuePresignedUploadReturnsUploadUrl() throws Exception {
+        // Given
+        PresignedUploadRequest request = new PresignedUploadRequest("test.png", "image/png", 1024L);
+        when(s3PresignedUploadService.issue(request)).thenReturn(new PresignedUploadResponse(
+            "https://s3.example.com/temp/test.png?X-Amz-Signature=abc", "temp/test.png", LocalDateTime.now()));
+
+        // When & Then
+        mockMvc.perform(post("/file/presigned")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fileName\":\"test.png\",\"contentType\":\"image/png\",\"contentLength\":1024}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result.key").value("temp/test.png"));
+    }
+
+    @Test
+    @DisplayName("직접 업로드 URL 발급 시 파일 크기가 없으면 400 을 반환한다.")
+    void issuePresignedUploadWithoutContentLengthReturnsBadRequest() throws Exception {
+        mockMvc.perform(post("/file/presigned")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"fileName\":\"test.png\",\"contentType\":\"image/png\"}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("직접 업로드 확인 요청이 성공하면 이미지 URL 을 반환한다.")
+    void confirmPresignedUploadReturnsImageUrl() throws Exception {
+        // Given
+        when(s3PresignedUploadService.confirm(new PresignedUploadConfirmRequest("temp/test.png")))
+            .thenReturn(new UploadResponse("https://s3.example.com/temp/test.png"));
+
+        // When & Then
+        mockMvc.perform(post("/file/presigned/confirm")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"key\":\"temp/test.png\"}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.result.imageUrl").value("https://s3.example.com/temp/test.png"));
+    }
+}
@@ -0,0 +1,444 @@
+package friendy.community.domain.upload.fixtures;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 테스트 프로세스 안에서 뜨는 S3 호환 서버. path-style 요청만 받으며 서명은 검사하지 않는다.
+ * 객체 PUT/GET(Range 포함)/HEAD/DELETE/복사, 목록 조회(ListObjectsV2), 다중 삭제와 멀티파트 업로드(시작, 파트, 완료, 중단)를 지원한다.
+ */
+public class LocalS3Server implements AutoCloseable {
+
+    private static final Pattern PART_NUMBER = Pattern.compile("<PartNumber>(\\d+)</PartNumber>");
+    private static final Pattern OBJECT_KEY = Pattern.compile("<Key>(.*?)</Key>");
+    private static final DateTimeFormatter LAST_MODIFIED = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'")
+        .withZone(ZoneOffset.UTC);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final Map<String, MultipartUpload> uploads = new ConcurrentHashMap<>();
+    private final AtomicInteger activePartUploads = new AtomicInteger();
+    private final AtomicInteger maxActivePartUploads = new AtomicInteger();
+    private final AtomicInteger partUploads = new AtomicInteger();
+    private final AtomicInteger activeCopies = new AtomicInteger();
+    private final AtomicInteger maxActiveCopies = new AtomicInteger();
+    private final AtomicInteger multiDeleteRequests = new AtomicInteger();
+    private final AtomicInteger maxKeysPerMultiDelete = new AtomicInteger();
+    private final Set<String> undeletablePaths = ConcurrentHashMap.newKeySet();
+    private final Map<String, Instant> lastModified = new ConcurrentHashMap<>();
+    private final AtomicInteger listRequests = new AtomicInteger();
+    private volatile long partLatencyMillis;
+    private volatile long copyLatencyMillis;
+
+    private LocalS3Server(final HttpServer server) {
+        this.server = server;
+    }
+
+    public static LocalS3Server start() {
+        try {
+            final LocalS3Server localS3Server = new LocalS3Server(HttpServer.create(new InetSocketAddress("localhost", 0), 0));
+            localS3Server.server.createContext("/", localS3Server::handle);
+            localS3Server.server.setExecutor(localS3Server.executor);
+            localS3Server.server.start();
+            return localS3Server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public AmazonS3 client() {
+        return AmazonS3ClientBuilder.standard()
+            .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint(), "us-east-2"))
+            .withPathStyleAccessEnabled(true)
+            .withChunkedEncodingDisabled(true)
+            .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+            .build();
+    }
+
+    public String endpoint() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public StoredObject getObject(final String bucket, final String key) {
+        return objects.get(bucket + "/" + key);
+    }
+
+    public void putObject(final String bucket, final String key, final byte[] content, final String contentType) {
+        objects.put(bucket + "/" + key, new StoredObject(content, contentType, md5Hex(content)));
+    }
+
+    // 따로 정하지 않은 객체는 목록에서 지금 막 올라온 것으로 보인다
+    public void setLastModified(final String bucket, final String key, final Instant modifiedAt) {
+        lastModified.put(bucket + "/" + key, modifiedAt);
+    }
+
+    public int listRequests() {
+        return listRequests.get();
+    }
+
+    public Set<String> objectPaths() {
+        return Set.copyOf(objects.keySet());
+    }
+
+    public int pendingUploads() {
+        return uploads.size();
+    }
+
+    public int partUploads() {
+        return partUploads.get();
+    }
+
+    public int maxActivePartUploads() {
+        return maxActivePartUploads.get();
+    }
+
+    public int maxActiveCopies() {
+        return maxActiveCopies.get();
+    }
+
+    public int multiDeleteRequests() {
+        return multiDeleteRequests.get();
+    }
+
+    public int maxKeysPerMultiDelete() {
+        return maxKeysPerMultiDelete.get();
+    }
+
+    /**
+     * 다중 삭제 요청에서 이 객체만 AccessDenied 로 실패시킨다.
+     */
+    public void failDeletionOf(final String bucket, final String key) {
+        undeletablePaths.add(bucket + "/" + key);
+    }
+
+    public void setPartLatencyMillis(final long partLatencyMillis) {
+        this.partLatencyMillis = partLatencyMillis;
+    }
+
+    public void setCopyLatencyMillis(final long copyLatencyMillis) {
+        this.copyLatencyMillis = copyLatencyMillis;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            final String path = URLDecoder.decode(exchange.getRequestURI().getRawPath().substring(1), StandardCharsets.UTF_8);
+            final Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+            final byte[] body = exchange.getRequestBody().readAllBytes();
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> handlePut(exchange, path, query, body);
+                case "POST" -> handlePost(exchange, path, query, body);
+                case "GET", "HEAD" -> handleGet(exchange, path, query);
+                case "DELETE" -> handleDelete(exchange, path, query);
+                default -> respond(exchange, 405, new byte[0]);
+            }
+        }
+    }
+
+    private void handlePut(final HttpExchange exchange, final String path, final Map<String, String> query, final byte[] body)
+        throws IOException {
+        if (query.containsKey("uploadId")) {
+            uploadPart(exchange, query, body);
+            return;
+        }
+        final String copySource = exchange.getRequestHeaders().getFirst("x-amz-copy-source");
+        if (copySource != null) {
+            final int active = activeCopies.incrementAndGet();
+            maxActiveCopies.accumulateAndGet(active, Math::max);
+            try {
+                sleep(copyLatencyMillis);
+            } finally {
+                activeCopies.decrementAndGet();
+            }
+            final StoredObject source = objects.get(URLDecoder.decode(copySource, StandardCharsets.UTF_8).replaceFirst("^/", ""));
+            if (source == null) {
+                respondError(exchange, 404, "NoSuchKey");
+                return;
+            }
+            objects.put(path, source);
+            respondXml(exchange, "<CopyObjectResult><ETag>\"" + source.etag() + "\"</ETag>"
+                + "<LastModified>2024-01-01T00:00:00.000Z</LastModified></CopyObjectResult>");
+            return;
+        }
+        final StoredObject stored = new StoredObject(body, exchange.getRequestHeaders().getFirst("Content-Type"), md5Hex(body));
+        objects.put(path, stored);
+        exchange.getResponseHeaders().add("ETag", "\"" + stored.etag() + "\"");
+        respond(exchange, 200, new byte[0]);
+    }
+
+    private void uploadPart(final HttpExchange exchange, final Map<String, String> query, final byte[] body) throws IOException {
+        final MultipartUpload upload = uploads.get(query.get("uploadId"));
+        if (upload == null) {
+            respondError(exchange, 404, "NoSuchUpload");
+            return;
+        }
+        final int active = activePartUploads.incrementAndGet();
+        maxActivePartUploads.accumulateAndGet(active, Math::max);
+        try {
+            sleep(partLatencyMillis);
+            upload.parts().put(Integer.parseInt(query.get("partNumber")), body);
+            partUploads.incrementAndGet();
+        } finally {
+            activePartUploads.decrementAndGet();
+        }
+        exchange.getResponseHeaders().add("ETag", "\"" + md5Hex(body) + "\"");
+        respond(exchange, 200, new byte[0]);
+    }
+
+    private void handlePost(final HttpExchange exchange, final String path, final Map<String, String> query, final byte[] body)
+        throws IOException {
+        if (query.containsKey("delete")) {
+            deleteObjects(exchange, path.replaceFirst("/$", ""), body);
+            return;
+        }
+        if (query.containsKey("uploads")) {
+            final String uploadId = UUID.randomUUID().toString();
+            uploads.put(uploadId, new MultipartUpload(path, exchange.getRequestHeaders().getFirst("Content-Type"), new ConcurrentSkipListMap<>()));
+            final int slash = path.indexOf('/');
+            respondXml(exchange, "<InitiateMultipartUploadResult><Bucket>" + path.substring(0, slash) + "</Bucket>"
+                + "<Key>" + path.substring(slash + 1) + "</Key><UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+            return;
+        }
+        if (query.containsKey("uploadId")) {
+            final MultipartUpload upload = uploads.remove(query.get("uploadId"));
+            if (upload == null) {
+                respondError(exchange, 404, "NoSuchUpload");
+                return;
+            }
+            final ByteArrayOutputStream content = new ByteArrayOutputStream();
+            final Matcher partNumbers = PART_NUMBER.matcher(new String(body, StandardCharsets.UTF_8));
+            int partCount = 0;
+            while (partNumbers.find()) {
+                content.writeBytes(upload.parts().get(Integer.parseInt(partNumbers.group(1))));
+                partCount++;
+            }
+            final String etag = md5Hex(content.toByteArray()) + "-" + partCount;
+            objects.put(path, new StoredObject(content.toByteArray(), upload.contentType(), etag));
+            final int slash = path.indexOf('/');
+            respondXml(exchange, "<CompleteMultipartUploadResult><Bucket>" + path.substring(0, slash) + "</Bucket>"
+                + "<Key>" + path.substring(slash + 1) + "</Key><ETag>\"" + etag + "\"</ETag></CompleteMultipartUploadResult>");
+            return;
+        }
+        respond(exchange, 400, new byte[0]);
+    }
+
+    private void deleteObjects(final HttpExchange exchange, final String bucket, final byte[] body) throws IOException {
+        multiDeleteRequests.incrementAndGet();
+        final String request = new String(body, StandardCharsets.UTF_8);
+        final boolean quiet = request.contains("<Quiet>true</Quiet>");
+        final StringBuilder result = new StringBuilder("<DeleteResult>");
+        final Matcher keys = OBJECT_KEY.matcher(request);
+        int keyCount = 0;
+        while (keys.find()) {
+            keyCount++;
+            final String key = unescapeXml(keys.group(1));
+            if (undeletablePaths.contains(bucket + "/" + key)) {
+                result.append("<Error><Key>").append(keys.group(1)).append("</Key><Code>AccessDenied</Code>")
+                    .append("<Message>Access Denied</Message></Error>");
+                continue;
+            }
+            objects.remove(bucket + "/" + key);
+            if (!quiet) {
+                result.append("<Deleted><Key>").append(keys.group(1)).append("</Key></Deleted>");
+            }
+        }
+        maxKeysPerMultiDelete.accumulateAndGet(keyCount, Math::max);
+        respondXml(exchange, result.append("</DeleteResult>").toString());
+    }
+
+    private void handleGet(final HttpExchange exchange, final String path, final Map<String, String> query) throws IOException {
+        if (query.containsKey("list-type")) {
+            handleList(exchange, path.replaceFirst("/$", ""), query);
+            return;
+        }
+        final StoredObject stored = objects.get(path);
+        if (stored == null) {
+            respondError(exchange, 404, "NoSuchKey");
+            return;
+        }
+        final Headers headers = exchange.getResponseHeaders();
+        headers.add("ETag", "\"" + stored.etag() + "\"");
+        if (stored.contentType() != null) {
+            headers.add("Content-Type", stored.contentType());
+        }
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            headers.add("Content-Length", String.valueOf(stored.content().length));
+            exchange.sendResponseHeaders(200, -1);
+            return;
+        }
+        final String range = exchange.getRequestHeaders().getFirst("Range");
+        if (range != null) {
+            final String[] bounds = range.replace("bytes=", "").split("-");
+            final int start = Integer.parseInt(bounds[0]);
+            final int end = Math.min(Integer.parseInt(bounds[1]), stored.content().length - 1);
+            headers.add("Content-Range", "bytes " + start + "-" + end + "/" + stored.content().length);
+            respond(exchange, 206, Arrays.copyOfRange(stored.content(), start, end + 1));
+            return;
+        }
+        respond(exchange, 200, stored.content());
+    }
+
+    // 키 순으로 정렬해 돌려주고, 이어받기 토큰으로는 마지막으로 돌려준 키를 쓴다
+    private void handleList(final HttpExchange exchange, final String bucket, final Map<String, String> query) throws IOException {
+        listRequests.incrementAndGet();
+        final String prefix = query.getOrDefault("prefix", "");
+        final int maxKeys = Integer.parseInt(query.getOrDefault("max-keys", "1000"));
+        final String after = query.getOrDefault("continuation-token", query.getOrDefault("start-after", ""));
+        final boolean urlEncoded = "url".equals(query.get("encoding-type"));
+
+        final List<String> keys = objects.keySet().stream()
+            .filter(objectPath -> objectPath.startsWith(bucket + "/" + prefix))
+            .map(objectPath -> objectPath.substring(bucket.length() + 1))
+            .filter(key -> key.compareTo(after) > 0)
+            .sorted()
+            .toList();
+        final List<String> page = keys.subList(0, Math.min(maxKeys, keys.size()));
+        final boolean truncated = keys.size() > page.size();
+
+        final StringBuilder result = new StringBuilder("<ListBucketResult>")
+            .append("<Name>").append(bucket).append("</Name>")
+            .append("<Prefix>").append(prefix).append("</Prefix>")
+            .append("<KeyCount>").append(page.size()).append("</KeyCount>")
+            .append("<MaxKeys>").append(maxKeys).append("</MaxKeys>")
+            .append("<IsTruncated>").append(truncated).append("</IsTruncated>");
+        if (urlEncoded) {
+            result.append("<EncodingType>url</EncodingType>");
+        }
+        if (truncated) {
+            result.append("<NextContinuationToken>").append(page.get(page.size() - 1)).append("</NextContinuationToken>");
+        }
+        for (String key : page) {
+            final StoredObject stored = objects.get(bucket + "/" + key);
+            if (stored == null) {
+                continue;
+            }
+            final Instant modifiedAt = lastModified.getOrDefault(bucket + "/" + key, Instant.now());
+            result.append("<Contents>")
+                .append("<Key>").append(urlEncoded ? URLEncoder.encode(key, StandardCharsets.UTF_8).replace("%2F", "/") : key).append("</Key>")
+                .append("<LastModified>").append(LAST_MODIFIED.format(modifiedAt)).append("</LastModified>")
+                .append("<ETag>&quot;").append(stored.etag()).append("&quot;</ETag>")
+                .append("<Size>").append(stored.content().length).append("</Size>")
+                .append("<StorageClass>STANDARD</StorageClass>")
+                .append("</Contents>");
+        }
+        respondXml(exchange, result.append("</ListBucketResult>").toString());
+    }
+
+    private void handleDelete(final HttpExchange exchange, final String path, final Map<String, String> query) throws IOException {
+        if (query.containsKey("uploadId")) {
+            uploads.remove(query.get("uploadId"));
+        } else {
+            objects.remove(path);
+        }
+        exchange.sendResponseHeaders(204, -1);
+    }
+
+    private static void respondXml(final HttpExchange exchange, final String xml) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        respond(exchange, 200, ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void respondError(final HttpExchange exchange, final int status, final String code) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        final byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error><Code>" + code + "</Code>"
+            + "<Message>" + code + "</Message></Error>").getBytes(StandardCharsets.UTF_8);
+        if ("HEAD".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        respond(exchange, status, body);
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        }
+    }
+
+    private static Map<String, String> parseQuery(final String rawQuery) {
+        final Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            final int equals = pair.indexOf('=');
+            final String name = equals < 0 ? pair : pair.substring(0, equals);
+            final String value = equals < 0 ? "" : pair.substring(equals + 1);
+            query.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static String unescapeXml(final String value) {
+        return value.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"").replace("&apos;", "'").replace("&amp;", "&");
+    }
+
+    private static void sleep(final long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String md5Hex(final byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record StoredObject(byte[] content, String contentType, String etag) {
+    }
+
+    private record MultipartUpload(String path, String contentType, NavigableMap<Integer, byte[]> parts) {
+    }
+}
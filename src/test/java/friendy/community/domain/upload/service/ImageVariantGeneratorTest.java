@@ -0,0 +1,241 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.upload.event.ImageStoredEvent;
+import friendy.community.domain.upload.fixtures.LocalS3Server;
+import friendy.community.domain.upload.model.ImageVariant;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ImageVariantGeneratorTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    private final ImageVariantService imageVariantService = mock(ImageVariantService.class);
+    private final UploadedFileMetadataService uploadedFileMetadataService = mock(UploadedFileMetadataService.class);
+    private final StoredContentService storedContentService = mock(StoredContentService.class);
+    private final ImageReferenceFinder imageReferenceFinder = mock(ImageReferenceFinder.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LocalS3Server localS3Server;
+    private ImageVariantGenerator imageVariantGenerator;
+
+    @BeforeEach
+    void setUp() {
+        localS3Server = LocalS3Server.start();
+        S3service s3service = new S3service(localS3Server.client(), new S3exception(), null, uploadedFileMetadataService, storedContentService);
+        ReflectionTestUtils.setField(s3service, "bucket", BUCKET);
+        imageVariantGenerator = new ImageVariantGenerator(
+            localS3Server.client(), s3service, imageVariantService, uploadedFileMetadataService, imageReferenceFinder, meterRegistry);
+        ReflectionTestUtils.setField(imageVariantGenerator, "bucket", BUCKET);
+        ReflectionTestUtils.setField(imageVariantGenerator, "widths", new int[]{640, 160, 320});
+        ReflectionTestUtils.setField(imageVariantGenerator, "jpegQuality", 0.8f);
+        ReflectionTestUtils.setField(imageVariantGenerator, "maxPixels", 40_000_000L);
+        ReflectionTestUtils.setField(imageVariantGenerator, "threads", 1);
+        ReflectionTestUtils.setField(imageVariantGenerator, "queueCapacity", 1);
+        imageVariantGenerator.init();
+        when(imageReferenceFinder.isReferenced(anyString(), anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageVariantGenerator.shutdown();
+        localS3Server.close();
+    }
+
+    @Test
+    @DisplayName("원본보다 작은 너비마다 비율을 지킨 JPEG 파생 이미지를 원본 옆에 올린다")
+    void generatesSmallerJpegVariants() throws IOException {
+        // given
+        localS3Server.putObject(BUCKET, "post/image.png", png(400, 200), "image/png");
+        String imageUrl = localS3Server.client().getUrl(BUCKET, "post/image.png").toString();
+
+        // when
+        int generated = imageVariantGenerator.generate(imageUrl);
+
+        // then
+        assertThat(generated).isEqualTo(2);
+        assertThat(localS3Server.objectPaths()).containsExactlyInAnyOrder(
+            BUCKET + "/post/image.png", BUCKET + "/post/image_w160.jpg", BUCKET + "/post/image_w320.jpg");
+
+        LocalS3Server.StoredObject thumbnail = localS3Server.getObject(BUCKET, "post/image_w160.jpg");
+        assertThat(thumbnail.contentType()).isEqualTo("image/jpeg");
+        BufferedImage decoded = ImageIO.read(new ByteArrayInputStream(thumbnail.content()));
+        assertThat(decoded.getWidth()).isEqualTo(160);
+        assertThat(decoded.getHeight()).isEqualTo(80);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ImageVariant>> variants = ArgumentCaptor.forClass(List.class);
+        verify(imageVariantService).saveVariants(variants.capture());
+        assertThat(variants.getValue())
+            .extracting(ImageVariant::getSourceUrl, ImageVariant::getWidth, ImageVariant::getS3Key)
+            .containsExactly(
+                Tuple.tuple(imageUrl, 160, "post/image_w160.jpg"),
+                Tuple.tuple(imageUrl, 320, "post/image_w320.jpg"));
+        verify(uploadedFileMetadataService).record(eq("post/image_w160.jpg"), eq("image/jpeg"), anyLong());
+        assertThat(meterRegistry.counter(ImageVariantGenerator.METRIC, "outcome", "generated").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("이미 파생 이미지가 있으면 원본을 내려받지 않는다")
+    void skipsWhenVariantsExist() {
+        // given
+        String imageUrl = localS3Server.client().getUrl(BUCKET, "post/done.png").toString();
+        when(imageVariantService.hasVariants(imageUrl)).thenReturn(true);
+
+        // when
+        int generated = imageVariantGenerator.generate(imageUrl);
+
+        // then
+        assertThat(generated).isZero();
+        verify(imageVariantService, never()).saveVariants(any());
+        assertThat(meterRegistry.counter(ImageVariantGenerator.METRIC, "outcome", "skipped").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글이나 프로필에서 이미 빠진 원본은 내려받지 않는다")
+    void skipsUnreferencedSource() {
+        // given
+        localS3Server.putObject(BUCKET, "post/removed.png", new byte[]{1}, "image/png");
+        String imageUrl = localS3Server.client().getUrl(BUCKET, "post/removed.png").toString();
+        when(imageReferenceFinder.isReferenced(imageUrl, "post/removed.png")).thenReturn(false);
+
+        // when
+        int generated = imageVariantGenerator.generate(imageUrl);
+
+        // then
+        assertThat(generated).isZero();
+        verify(imageVariantService, never()).saveVariants(any());
+        assertThat(meterRegistry.counter(ImageVariantGenerator.METRIC, "outcome", "unreferenced").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만드는 동안 원본이 빠지면 올린 파생 이미지를 지우고 기록하지 않는다")
+    void discardsVariantsWhenSourceRemovedDuringGeneration() throws IOException {
+        // given
+        localS3Server.putObject(BUCKET, "post/image.png", png(400, 200), "image/png");
+        String imageUrl = localS3Server.client().getUrl(BUCKET, "post/image.png").toString();
+        when(imageReferenceFinder.isReferenced(imageUrl, "post/image.png")).thenReturn(true, false);
+
+        // when
+        int generated = imageVariantGenerator.generate(imageUrl);
+
+        // then
+        assertThat(generated).isZero();
+        assertThat(localS3Server.objectPaths()).containsExactly(BUCKET + "/post/image.png");
+        verify(imageVariantService, never()).saveVariants(any());
+        verify(uploadedFileMetadataService).evictAll(List.of("post/image_w160.jpg", "post/image_w320.jpg"));
+        assertThat(meterRegistry.counter(ImageVariantGenerator.METRIC, "outcome", "unreferenced").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("픽셀 수가 한도를 넘는 원본은 디코딩하지 않고 건너뛴다")
+    void skipsOversizedSource() throws IOException {
+        // given
+        ReflectionTestUtils.setField(imageVariantGenerator, "maxPixels", 1_000L);
+        localS3Server.putObject(BUCKET, "post/huge.png", png(400, 200), "image/png");
+        String imageUrl = localS3Server.client().getUrl(BUCKET, "post/huge.png").toString();
+
+        // when
+        int generated = imageVariantGenerator.generate(imageUrl);
+
+        // then
+        assertThat(generated).isZero();
+        assertThat(localS3Server.objectPaths()).containsExactly(BUCKET + "/post/huge.png");
+        verify(imageVariantService, never()).saveVariants(any());
+    }
+
+    @Test
+    @DisplayName("이미지가 아니거나 원본이 없으면 예외를 던지지 않고 실패로 센다")
+    void countsFailuresWithoutThrowing() {
+        // given
+        localS3Server.putObject(BUCKET, "post/text.png", "not an image".getBytes(), "image/png");
+        String textUrl = localS3Server.client().getUrl(BUCKET, "post/text.png").toString();
+        String missingUrl = localS3Server.client().getUrl(BUCKET, "post/missing.png").toString();
+
+        // when
+        int fromText = imageVariantGenerator.generate(textUrl);
+        int fromMissing = imageVariantGenerator.generate(missingUrl);
+
+        // then
+        assertThat(fromText).isZero();
+        assertThat(fromMissing).isZero();
+        assertThat(meterRegistry.counter(ImageVariantGenerator.METRIC, "outcome", "skipped").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter(ImageVariantGenerator.METRIC, "outcome", "failed").count()).isEqualTo(1);
+        verify(uploadedFileMetadataService, never()).record(anyString(), anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 작업을 버리고 거절로 센다")
+    void rejectsWhenQueueIsFull() throws InterruptedException {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) ReflectionTestUtils.getField(imageVariantGenerator, "executor");
+        executor.execute(() -> awaitQuietly(release));
+        executor.execute(() -> awaitQuietly(release));
+        BlockingQueue<Runnable> queue = executor.getQueue();
+        assertThat(queue).hasSize(1);
+
+        // when
+        imageVariantGenerator.onStored(new ImageStoredEvent("https://friendybucket.s3.amazonaws.com/post/late.png"));
+        release.countDown();
+
+        // then
+        assertThat(meterRegistry.counter(ImageVariantGenerator.METRIC, "outcome", "rejected").count()).isEqualTo(1);
+        executor.shutdown();
+        assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("파생 이미지 키는 원본 키의 확장자를 너비와 jpg 로 바꾼다")
+    void variantKeyReplacesExtension() {
+        assertThat(ImageVariantGenerator.variantKey("post/uuid.png", 320)).isEqualTo("post/uuid_w320.jpg");
+        assertThat(ImageVariantGenerator.variantKey("post.v2/uuid", 160)).isEqualTo("post.v2/uuid_w160.jpg");
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(new Color(30, 120, 200, 180));
+        graphics.fillRect(0, 0, width, height / 2);
+        graphics.dispose();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", output);
+        return output.toByteArray();
+    }
+}
@@ -0,0 +1,97 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.upload.model.ImageVariant;
+import friendy.community.domain.upload.repository.ImageVariantRepository;
+import friendy.community.global.config.TestQuerydslConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({TestQuerydslConfig.class, ImageVariantService.class})
+class ImageVariantServiceTest {
+
+    private static final String SOURCE_URL = "https://friendybucket.s3.amazonaws.com/post/image.png";
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    @Autowired
+    private ImageVariantRepository imageVariantRepository;
+
+    @Test
+    @DisplayName("표시 크기 이상인 파생 이미지 중 가장 작은 것을 고른다")
+    void resolvesSmallestFittingVariant() {
+        // given
+        saveVariants(SOURCE_URL, 160, 320, 640);
+
+        // when
+        Map<String, String> avatars = imageVariantService.resolve(List.of(SOURCE_URL), ImageDisplaySize.AVATAR);
+        Map<String, String> previews = imageVariantService.resolve(List.of(SOURCE_URL), ImageDisplaySize.POST_PREVIEW);
+
+        // then
+        assertThat(avatars).containsEntry(SOURCE_URL, variantUrl(SOURCE_URL, 160));
+        assertThat(previews).containsEntry(SOURCE_URL, variantUrl(SOURCE_URL, 320));
+    }
+
+    @Test
+    @DisplayName("표시 크기를 덮는 파생 이미지가 없으면 결과에 담지 않아 원본을 쓰게 한다")
+    void omitsSourcesWithoutFittingVariant() {
+        // given
+        String smallSourceUrl = "https://friendybucket.s3.amazonaws.com/post/small.png";
+        saveVariants(smallSourceUrl, 160);
+
+        // when
+        Map<String, String> previews = imageVariantService.resolve(
+            Arrays.asList(smallSourceUrl, "https://friendybucket.s3.amazonaws.com/post/none.png", null),
+            ImageDisplaySize.POST_PREVIEW
+        );
+
+        // then
+        assertThat(previews).isEmpty();
+    }
+
+    @Test
+    @DisplayName("원본을 지우면 파생 이미지 기록을 지우고 함께 지울 S3 키를 돌려준다")
+    void removeVariantsReturnsS3Keys() {
+        // given
+        saveVariants(SOURCE_URL, 160, 320);
+        String otherSourceUrl = "https://friendybucket.s3.amazonaws.com/post/other.png";
+        saveVariants(otherSourceUrl, 160);
+
+        // when
+        List<String> s3Keys = imageVariantService.removeVariants(List.of(SOURCE_URL));
+
+        // then
+        assertThat(s3Keys).containsExactly("post/image_w160.jpg", "post/image_w320.jpg");
+        assertThat(imageVariantService.hasVariants(SOURCE_URL)).isFalse();
+        assertThat(imageVariantService.hasVariants(otherSourceUrl)).isTrue();
+    }
+
+    private void saveVariants(String sourceUrl, int... widths) {
+        imageVariantService.saveVariants(Arrays.stream(widths)
+            .mapToObj(width -> ImageVariant.of(sourceUrl, width, variantUrl(sourceUrl, width), variantKey(sourceUrl, width)))
+            .toList());
+        imageVariantRepository.flush();
+    }
+
+    private static String variantUrl(String sourceUrl, int width) {
+        return sourceUrl.replace(".png", "_w" + width + ".jpg");
+    }
+
+    private static String variantKey(String sourceUrl, int width) {
+        return variantUrl(sourceUrl, width).substring("https://friendybucket.s3.amazonaws.com/".length());
+    }
+}
@@ -0,0 +1,130 @@
+package friendy.community.domain.upload.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import friendy.community.domain.upload.model.S3DeletionOutbox;
+import friendy.community.domain.upload.model.S3DeletionOutboxStatus;
+import friendy.community.domain.upload.repository.S3DeletionOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class S3DeletionOutboxServiceTest {
+
+    @Autowired
+    private S3DeletionOutboxService s3DeletionOutboxService;
+
+    @Autowired
+    private S3DeletionOutboxRepository s3DeletionOutboxRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private AmazonS3 s3Client;
+
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    @MockitoBean
+    private S3DeletionWorker s3DeletionWorker;
+
+    @AfterEach
+    void tearDown() {
+        s3DeletionOutboxRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("요청 트랜잭션이 롤백되면 삭제 요청도 남지 않는다")
+    void enqueueRollsBackWithCaller() {
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            s3DeletionOutboxService.enqueue(List.of("post/a.png", "post/b.png"));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(s3DeletionOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("커밋된 삭제 요청은 한 번만 선점되고 시도 횟수가 올라간다")
+    void claimLeasesDueRowsOnce() {
+        // given
+        s3DeletionOutboxService.enqueue(List.of("post/a.png", "post/b.png"));
+
+        // when
+        List<S3DeletionOutbox> first = s3DeletionOutboxService.claim(10);
+        List<S3DeletionOutbox> second = s3DeletionOutboxService.claim(10);
+
+        // then
+        assertThat(first).extracting(S3DeletionOutbox::getS3Key).containsExactlyInAnyOrder("post/a.png", "post/b.png");
+        assertThat(first).allSatisfy(outbox -> assertThat(outbox.getAttempts()).isEqualTo(1));
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("삭제에 성공한 행은 아웃박스에서 지운다")
+    void completeDeletesRows() {
+        // given
+        s3DeletionOutboxService.enqueue(List.of("post/a.png"));
+        List<S3DeletionOutbox> claimed = s3DeletionOutboxService.claim(10);
+
+        // when
+        s3DeletionOutboxService.complete(claimed.stream().map(S3DeletionOutbox::getId).toList());
+
+        // then
+        assertThat(s3DeletionOutboxRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제에 실패한 행은 백오프 후 다시 삭제 대상이 된다")
+    void retryBacksOff() {
+        // given
+        s3DeletionOutboxService.enqueue(List.of("post/a.png"));
+        S3DeletionOutbox claimed = s3DeletionOutboxService.claim(10).get(0);
+        LocalDateTime retriedAt = LocalDateTime.now();
+
+        // when
+        int abandoned = s3DeletionOutboxService.retry(List.of(claimed.getId()));
+
+        // then
+        S3DeletionOutbox retried = s3DeletionOutboxRepository.findById(claimed.getId()).orElseThrow();
+        assertThat(abandoned).isZero();
+        assertThat(retried.getStatus()).isEqualTo(S3DeletionOutboxStatus.PENDING);
+        assertThat(retried.getClaimToken()).isNull();
+        assertThat(retried.getNextAttemptAt()).isAfterOrEqualTo(retriedAt.plusSeconds(5));
+        assertThat(s3DeletionOutboxService.claim(10)).isEmpty();
+        assertThat(s3DeletionOutboxService.count(S3DeletionOutboxStatus.PENDING)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘긴 행은 FAILED 로 남고 더 삭제하지 않는다")
+    void retryGivesUpAfterMaxAttempts() {
+        // given
+        S3DeletionOutbox outbox = S3DeletionOutbox.of("post/a.png", LocalDateTime.now());
+        ReflectionTestUtils.setField(outbox, "attempts", 9);
+        s3DeletionOutboxRepository.save(outbox);
+        S3DeletionOutbox claimed = s3DeletionOutboxService.claim(10).get(0);
+
+        // when
+        int abandoned = s3DeletionOutboxService.retry(List.of(claimed.getId()));
+
+        // then
+        assertThat(abandoned).isEqualTo(1);
+        assertThat(s3DeletionOutboxService.count(S3DeletionOutboxStatus.FAILED)).isEqualTo(1);
+        assertThat(s3DeletionOutboxService.claim(10)).isEmpty();
+    }
+}
@@ -0,0 +1,172 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.upload.fixtures.LocalS3Server;
+import friendy.community.domain.upload.model.S3DeletionOutbox;
+import friendy.community.domain.upload.model.S3DeletionOutboxStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3DeletionWorkerTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    private final S3DeletionOutboxService s3DeletionOutboxService = mock(S3DeletionOutboxService.class);
+    private final UploadedFileMetadataService uploadedFileMetadataService = mock(UploadedFileMetadataService.class);
+    private final StoredContentService storedContentService = mock(StoredContentService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LocalS3Server localS3Server;
+    private S3DeletionWorker s3DeletionWorker;
+
+    @BeforeEach
+    void setUp() {
+        localS3Server = LocalS3Server.start();
+        S3service s3service = new S3service(localS3Server.client(), new S3exception(), null, uploadedFileMetadataService, storedContentService);
+        ReflectionTestUtils.setField(s3service, "bucket", BUCKET);
+        s3DeletionWorker = new S3DeletionWorker(s3DeletionOutboxService, s3service, meterRegistry);
+        ReflectionTestUtils.setField(s3DeletionWorker, "threads", 1);
+        ReflectionTestUtils.setField(s3DeletionWorker, "batchSize", 1000);
+        s3DeletionWorker.init();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        s3DeletionWorker.shutdown();
+        localS3Server.close();
+    }
+
+    @Test
+    @DisplayName("한 배치의 객체를 다중 삭제 요청 한 번으로 지우고 삭제한 행을 완료 처리한다")
+    void deletesBatchInSingleRequest() {
+        // given
+        List<S3DeletionOutbox> batch = new ArrayList<>();
+        for (long id = 1; id <= 3; id++) {
+            localS3Server.putObject(BUCKET, "post/" + id + ".png", new byte[]{1}, "image/png");
+            batch.add(outbox(id, "post/" + id + ".png"));
+        }
+        when(s3DeletionOutboxService.claim(anyInt())).thenReturn(batch, List.of());
+
+        // when
+        int deleted = s3DeletionWorker.deletePending();
+
+        // then
+        assertThat(deleted).isEqualTo(3);
+        assertThat(localS3Server.objectPaths()).isEmpty();
+        assertThat(localS3Server.multiDeleteRequests()).isEqualTo(1);
+        assertThat(localS3Server.maxKeysPerMultiDelete()).isEqualTo(3);
+        verify(s3DeletionOutboxService).complete(argThat(ids -> ids.size() == 3 && ids.containsAll(List.of(1L, 2L, 3L))));
+        verify(s3DeletionOutboxService, never()).retry(any());
+        verify(uploadedFileMetadataService).evictAll(argThat(keys -> keys.size() == 3));
+        assertThat(meterRegistry.counter(S3DeletionWorker.OBJECTS_METRIC, "outcome", "deleted").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("일부 객체만 삭제에 실패하면 실패한 행만 재시도한다")
+    void retriesOnlyFailedKeys() {
+        // given
+        localS3Server.putObject(BUCKET, "post/ok.png", new byte[]{1}, "image/png");
+        localS3Server.putObject(BUCKET, "post/denied.png", new byte[]{1}, "image/png");
+        localS3Server.failDeletionOf(BUCKET, "post/denied.png");
+        when(s3DeletionOutboxService.claim(anyInt()))
+            .thenReturn(List.of(outbox(1L, "post/ok.png"), outbox(2L, "post/denied.png")), List.of());
+
+        // when
+        int deleted = s3DeletionWorker.deletePending();
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(localS3Server.objectPaths()).containsExactly(BUCKET + "/post/denied.png");
+        verify(s3DeletionOutboxService).complete(List.of(1L));
+        verify(s3DeletionOutboxService).retry(List.of(2L));
+        assertThat(meterRegistry.counter(S3DeletionWorker.OBJECTS_METRIC, "outcome", "retried").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다중 삭제 요청 자체가 실패하면 배치 전체를 재시도한다")
+    void retriesWholeBatchWhenRequestFails() {
+        // given
+        localS3Server.close();
+        when(s3DeletionOutboxService.claim(anyInt()))
+            .thenReturn(List.of(outbox(1L, "post/a.png"), outbox(2L, "post/b.png")), List.of());
+        when(s3DeletionOutboxService.retry(any())).thenReturn(1);
+
+        // when
+        int deleted = s3DeletionWorker.deletePending();
+
+        // then
+        assertThat(deleted).isZero();
+        verify(s3DeletionOutboxService).retry(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))));
+        verify(uploadedFileMetadataService, never()).evictAll(any());
+        assertThat(meterRegistry.counter(S3DeletionWorker.OBJECTS_METRIC, "outcome", "failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 키가 여러 행에 있어도 요청에는 한 번만 담고 모든 행을 완료 처리한다")
+    void deduplicatesKeysInRequest() {
+        // given
+        localS3Server.putObject(BUCKET, "post/same.png", new byte[]{1}, "image/png");
+        when(s3DeletionOutboxService.claim(anyInt()))
+            .thenReturn(List.of(outbox(1L, "post/same.png"), outbox(2L, "post/same.png")), List.of());
+
+        // when
+        s3DeletionWorker.deletePending();
+
+        // then
+        assertThat(localS3Server.maxKeysPerMultiDelete()).isEqualTo(1);
+        verify(s3DeletionOutboxService).complete(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(1L, 2L))));
+    }
+
+    @Test
+    @DisplayName("배치 크기는 다중 삭제 한도인 1000 개를 넘지 않는다")
+    void capsBatchSizeAtMultiDeleteLimit() throws InterruptedException {
+        // given
+        s3DeletionWorker.shutdown();
+        ReflectionTestUtils.setField(s3DeletionWorker, "batchSize", 5000);
+        s3DeletionWorker.init();
+        when(s3DeletionOutboxService.claim(anyInt())).thenReturn(List.of());
+
+        // when
+        s3DeletionWorker.deletePending();
+
+        // then
+        verify(s3DeletionOutboxService).claim(S3service.MAX_DELETE_KEYS);
+    }
+
+    @Test
+    @DisplayName("비운 뒤 남은 대기 건수를 상태별 게이지로 내보낸다")
+    void publishesBacklogGauges() {
+        // given
+        when(s3DeletionOutboxService.claim(anyInt())).thenReturn(List.of());
+        when(s3DeletionOutboxService.count(S3DeletionOutboxStatus.PENDING)).thenReturn(7L);
+        when(s3DeletionOutboxService.count(S3DeletionOutboxStatus.FAILED)).thenReturn(2L);
+
+        // when
+        s3DeletionWorker.deletePending();
+
+        // then
+        assertThat(meterRegistry.get(S3DeletionWorker.BACKLOG_METRIC).tag("status", "pending").gauge().value()).isEqualTo(7);
+        assertThat(meterRegistry.get(S3DeletionWorker.BACKLOG_METRIC).tag("status", "failed").gauge().value()).isEqualTo(2);
+    }
+
+    private static S3DeletionOutbox outbox(final Long id, final String s3Key) {
+        S3DeletionOutbox outbox = S3DeletionOutbox.of(s3Key, LocalDateTime.now());
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+}
@@ -0,0 +1,163 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.upload.controller.code.UploadExceptionCode;
+import friendy.community.domain.upload.fixtures.LocalS3Server;
+import friendy.community.global.exception.domain.BadGatewayException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class S3ObjectMoverTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int CONCURRENCY = 4;
+
+    private final UploadedFileMetadataService uploadedFileMetadataService = mock(UploadedFileMetadataService.class);
+    private final StoredContentService storedContentService = mock(StoredContentService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LocalS3Server localS3Server;
+    private S3ObjectMover s3ObjectMover;
+
+    @BeforeEach
+    void setUp() {
+        localS3Server = LocalS3Server.start();
+        S3service s3service = new S3service(
+            localS3Server.client(), new S3exception(), null, uploadedFileMetadataService, storedContentService);
+        ReflectionTestUtils.setField(s3service, "bucket", BUCKET);
+        s3ObjectMover = new S3ObjectMover(s3service, meterRegistry);
+        ReflectionTestUtils.setField(s3ObjectMover, "concurrency", CONCURRENCY);
+        ReflectionTestUtils.setField(s3ObjectMover, "timeoutMillis", 10_000L);
+        s3ObjectMover.init();
+        when(storedContentService.discard(anyString())).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3ObjectMover.shutdown();
+        localS3Server.close();
+    }
+
+    @Test
+    @DisplayName("여러 객체를 제한된 동시성으로 병렬 복사하고 요청 순서대로 URL 을 돌려준다")
+    void movesInParallelWithBoundedConcurrency() {
+        // given
+        localS3Server.setCopyLatencyMillis(100);
+        List<String> imageUrls = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            imageUrls.add(store("temp/image" + i + ".png"));
+        }
+
+        // when
+        List<String> movedUrls = s3ObjectMover.moveAll(imageUrls, "post");
+
+        // then
+        assertThat(movedUrls).hasSize(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(movedUrls.get(i)).endsWith("/" + BUCKET + "/post/image" + i + ".png");
+            assertThat(localS3Server.getObject(BUCKET, "post/image" + i + ".png")).isNotNull();
+        }
+        assertThat(localS3Server.maxActiveCopies()).isBetween(2, CONCURRENCY);
+        assertThat(meterRegistry.timer(S3ObjectMover.COPY_METRIC, "outcome", "success").count()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("이미 대상 디렉터리에 있는 객체는 복사하지 않는다")
+    void skipsObjectsAlreadyInTargetDir() {
+        // given
+        String existing = store("post/existing.png");
+        String uploaded = store("temp/uploaded.png");
+
+        // when
+        List<String> movedUrls = s3ObjectMover.moveAll(List.of(existing, uploaded), "post");
+
+        // then
+        assertThat(movedUrls.get(0)).isEqualTo(existing);
+        assertThat(movedUrls.get(1)).endsWith("/post/uploaded.png");
+        assertThat(meterRegistry.timer(S3ObjectMover.COPY_METRIC, "outcome", "success").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복사가 하나라도 실패하면 이미 복사한 객체를 지운다")
+    void rollsBackCopiedObjectsOnFailure() {
+        // given
+        String first = store("temp/first.png");
+        String missing = localS3Server.endpoint() + "/" + BUCKET + "/temp/missing.png";
+        String third = store("temp/third.png");
+
+        // when & then
+        assertThatThrownBy(() -> s3ObjectMover.moveAll(List.of(first, missing, third), "post"))
+            .isInstanceOf(BadGatewayException.class)
+            .hasFieldOrPropertyWithValue("exceptionType", UploadExceptionCode.S3_OBJECT_COPY_FAILED);
+        await().untilAsserted(() -> assertThat(localS3Server.objectPaths())
+            .containsExactlyInAnyOrder(BUCKET + "/temp/first.png", BUCKET + "/temp/third.png"));
+    }
+
+    @Test
+    @DisplayName("보상 삭제는 새로 복사한 객체만 지운다")
+    void deleteMovedRemovesOnlyCopiedObjects() {
+        // given
+        String existing = store("post/existing.png");
+        String uploaded = store("temp/uploaded.png");
+        List<String> movedUrls = s3ObjectMover.moveAll(List.of(existing, uploaded), "post");
+
+        // when
+        s3ObjectMover.deleteMoved(List.of(existing, uploaded), movedUrls);
+
+        // then
+        assertThat(localS3Server.objectPaths())
+            .containsExactlyInAnyOrder(BUCKET + "/post/existing.png", BUCKET + "/temp/uploaded.png");
+    }
+
+    @Test
+    @DisplayName("같은 내용이라 재사용한 객체는 복사하지 않고 보상 삭제에서도 지우지 않는다")
+    void reusedObjectIsNeitherCopiedNorDeleted() {
+        // given
+        String shared = store("post/shared.png");
+        String duplicate = store("temp/duplicate.png");
+        when(uploadedFileMetadataService.findSha256("temp/duplicate.png")).thenReturn("sha");
+        when(storedContentService.reuse("sha")).thenReturn(shared);
+
+        // when
+        List<String> movedUrls = s3ObjectMover.moveAll(List.of(duplicate), "post");
+        s3ObjectMover.deleteMoved(List.of(duplicate), movedUrls);
+
+        // then
+        assertThat(movedUrls).containsExactly(shared);
+        assertThat(localS3Server.objectPaths())
+            .containsExactlyInAnyOrder(BUCKET + "/post/shared.png", BUCKET + "/temp/duplicate.png");
+    }
+
+    @Test
+    @DisplayName("복사 뒤 같은 내용의 다른 업로드가 재사용한 객체는 보상 삭제에서 지우지 않는다")
+    void deleteMovedKeepsCopyReusedByAnotherUpload() {
+        // given
+        String uploaded = store("temp/uploaded.png");
+        List<String> movedUrls = s3ObjectMover.moveAll(List.of(uploaded), "post");
+        when(storedContentService.discard(movedUrls.get(0))).thenReturn(false);
+
+        // when
+        s3ObjectMover.deleteMoved(List.of(uploaded), movedUrls);
+
+        // then
+        assertThat(localS3Server.objectPaths())
+            .containsExactlyInAnyOrder(BUCKET + "/post/uploaded.png", BUCKET + "/temp/uploaded.png");
+    }
+
+    private String store(final String key) {
+        localS3Server.putObject(BUCKET, key, new byte[]{1, 2, 3}, "image/png");
+        return localS3Server.endpoint() + "/" + BUCKET + "/" + key;
+    }
+}
@@ -0,0 +1,212 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.member.repository.MemberImageRepository;
+import friendy.community.domain.post.repository.PostImageRepository;
+import friendy.community.domain.upload.fixtures.LocalS3Server;
+import friendy.community.domain.upload.model.ImageVariant;
+import friendy.community.domain.upload.repository.ImageVariantRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3OrphanSweeperTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final Instant TWO_DAYS_AGO = Instant.now().minus(Duration.ofDays(2));
+
+    private final PostImageRepository postImageRepository = mock(PostImageRepository.class);
+    private final MemberImageRepository memberImageRepository = mock(MemberImageRepository.class);
+    private final ImageVariantRepository imageVariantRepository = mock(ImageVariantRepository.class);
+    private final UploadedFileMetadataService uploadedFileMetadataService = mock(UploadedFileMetadataService.class);
+    private final StoredContentService storedContentService = mock(StoredContentService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private LocalS3Server localS3Server;
+    private S3OrphanSweeper s3OrphanSweeper;
+
+    @BeforeEach
+    void setUp() {
+        localS3Server = LocalS3Server.start();
+        S3service s3service = new S3service(localS3Server.client(), new S3exception(), null, uploadedFileMetadataService, storedContentService);
+        ReflectionTestUtils.setField(s3service, "bucket", BUCKET);
+        ImageReferenceFinder imageReferenceFinder = new ImageReferenceFinder(postImageRepository, memberImageRepository, storedContentService);
+        s3OrphanSweeper = new S3OrphanSweeper(localS3Server.client(), s3service,
+            imageReferenceFinder, imageVariantRepository, meterRegistry);
+        ReflectionTestUtils.setField(s3OrphanSweeper, "bucket", BUCKET);
+        ReflectionTestUtils.setField(s3OrphanSweeper, "pageSize", 1000);
+        ReflectionTestUtils.setField(s3OrphanSweeper, "tempTtlMillis", Duration.ofDays(1).toMillis());
+        ReflectionTestUtils.setField(s3OrphanSweeper, "orphanGraceMillis", Duration.ofDays(1).toMillis());
+        s3OrphanSweeper.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        localS3Server.close();
+    }
+
+    @Test
+    @DisplayName("temp/ 에서 TTL 이 지난 객체만 지우고 지운 크기를 메트릭으로 남긴다")
+    void deletesExpiredTempObjects() {
+        // given
+        putObject("temp/old.png", 100, TWO_DAYS_AGO);
+        putObject("temp/fresh.png", 50, Instant.now());
+
+        // when
+        long reclaimedBytes = s3OrphanSweeper.sweep();
+
+        // then
+        assertThat(reclaimedBytes).isEqualTo(100);
+        assertThat(localS3Server.objectPaths()).containsExactly(BUCKET + "/temp/fresh.png");
+        assertThat(meterRegistry.counter(S3OrphanSweeper.BYTES_METRIC, "prefix", "temp/").count()).isEqualTo(100);
+        assertThat(meterRegistry.counter(S3OrphanSweeper.OBJECTS_METRIC, "prefix", "temp/").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("post/ 와 profile/ 은 어디에서도 참조하지 않는 오래된 객체만 지운다")
+    void deletesUnreferencedStoredObjects() {
+        // given
+        putObject("post/used.png", 10, TWO_DAYS_AGO);
+        putObject("post/used_w320.jpg", 10, TWO_DAYS_AGO);
+        putObject("post/orphan.png", 30, TWO_DAYS_AGO);
+        putObject("post/moved-just-now.png", 10, Instant.now());
+        putObject("profile/used.png", 10, TWO_DAYS_AGO);
+        putObject("profile/orphan.png", 20, TWO_DAYS_AGO);
+
+        String usedPostUrl = localS3Server.client().getUrl(BUCKET, "post/used.png").toString();
+        when(postImageRepository.findImageUrlsIn(anyCollection())).thenAnswer(invocation ->
+            invocation.<Collection<String>>getArgument(0).stream().filter(usedPostUrl::equals).toList());
+        when(imageVariantRepository.findAllByS3KeyIn(anyCollection())).thenAnswer(invocation ->
+            invocation.<Collection<String>>getArgument(0).stream()
+                .filter("post/used_w320.jpg"::equals)
+                .map(s3Key -> ImageVariant.of(usedPostUrl, 320, localS3Server.client().getUrl(BUCKET, s3Key).toString(), s3Key))
+                .toList());
+        when(memberImageRepository.findS3KeysIn(anyCollection())).thenAnswer(invocation ->
+            invocation.<Collection<String>>getArgument(0).stream().filter("profile/used.png"::equals).toList());
+
+        // when
+        long reclaimedBytes = s3OrphanSweeper.sweep();
+
+        // then
+        assertThat(reclaimedBytes).isEqualTo(50);
+        assertThat(localS3Server.objectPaths()).containsExactlyInAnyOrder(
+            BUCKET + "/post/used.png",
+            BUCKET + "/post/used_w320.jpg",
+            BUCKET + "/post/moved-just-now.png",
+            BUCKET + "/profile/used.png"
+        );
+        assertThat(meterRegistry.counter(S3OrphanSweeper.BYTES_METRIC, "prefix", "post/").count()).isEqualTo(30);
+        assertThat(meterRegistry.counter(S3OrphanSweeper.BYTES_METRIC, "prefix", "profile/").count()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("원본이 더 이상 쓰이지 않으면 기록이 남은 파생 이미지도 지우고 그 기록을 지운다")
+    void deletesVariantsOfUnreferencedSource() {
+        // given
+        putObject("post/removed.png", 10, TWO_DAYS_AGO);
+        putObject("post/removed_w320.jpg", 5, TWO_DAYS_AGO);
+        String removedUrl = localS3Server.client().getUrl(BUCKET, "post/removed.png").toString();
+        String variantUrl = localS3Server.client().getUrl(BUCKET, "post/removed_w320.jpg").toString();
+        when(imageVariantRepository.findAllByS3KeyIn(anyCollection()))
+            .thenReturn(List.of(ImageVariant.of(removedUrl, 320, variantUrl, "post/removed_w320.jpg")));
+
+        // when
+        long reclaimedBytes = s3OrphanSweeper.sweep();
+
+        // then
+        assertThat(reclaimedBytes).isEqualTo(15);
+        assertThat(localS3Server.objectPaths()).isEmpty();
+        verify(imageVariantRepository).deleteAllByS3KeyIn(argThat(keys ->
+            keys.containsAll(List.of("post/removed.png", "post/removed_w320.jpg"))));
+    }
+
+    @Test
+    @DisplayName("내용이 같은 업로드가 함께 쓰거나 최근에 재사용한 객체는 참조가 없어도 지우지 않는다")
+    void keepsPinnedSharedObjects() {
+        // given
+        putObject("post/shared.png", 10, TWO_DAYS_AGO);
+        putObject("post/orphan.png", 30, TWO_DAYS_AGO);
+        when(storedContentService.findPinnedKeys(anyCollection())).thenAnswer(invocation ->
+            invocation.<Collection<String>>getArgument(0).stream()
+                .filter("post/shared.png"::equals)
+                .collect(Collectors.toSet()));
+
+        // when
+        long reclaimedBytes = s3OrphanSweeper.sweep();
+
+        // then
+        assertThat(reclaimedBytes).isEqualTo(30);
+        assertThat(localS3Server.objectPaths()).containsExactly(BUCKET + "/post/shared.png");
+    }
+
+    @Test
+    @DisplayName("목록을 페이지 단위로 이어 받으며 페이지마다 다중 삭제 한 번으로 지운다")
+    void sweepsPageByPage() {
+        // given
+        ReflectionTestUtils.setField(s3OrphanSweeper, "pageSize", 2);
+        for (int index = 0; index < 5; index++) {
+            putObject("temp/" + index + ".png", 1, TWO_DAYS_AGO);
+        }
+
+        // when
+        long reclaimedBytes = s3OrphanSweeper.sweep();
+
+        // then
+        assertThat(reclaimedBytes).isEqualTo(5);
+        assertThat(localS3Server.objectPaths()).isEmpty();
+        assertThat(localS3Server.multiDeleteRequests()).isEqualTo(3);
+        assertThat(localS3Server.maxKeysPerMultiDelete()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("삭제에 실패한 객체는 회수한 크기에 넣지 않고 다음 주기에 다시 시도한다")
+    void excludesFailedDeletions() {
+        // given
+        putObject("temp/stuck.png", 40, TWO_DAYS_AGO);
+        putObject("temp/gone.png", 60, TWO_DAYS_AGO);
+        localS3Server.failDeletionOf(BUCKET, "temp/stuck.png");
+
+        // when
+        long reclaimedBytes = s3OrphanSweeper.sweep();
+
+        // then
+        assertThat(reclaimedBytes).isEqualTo(60);
+        assertThat(localS3Server.objectPaths()).containsExactly(BUCKET + "/temp/stuck.png");
+    }
+
+    @Test
+    @DisplayName("지울 객체가 없으면 DB 를 조회하지 않는다")
+    void skipsLookupWithoutExpiredObjects() {
+        // given
+        putObject("post/fresh.png", 10, Instant.now());
+        when(postImageRepository.findImageUrlsIn(any())).thenThrow(new AssertionError("조회하면 안 된다"));
+
+        // when
+        long reclaimedBytes = s3OrphanSweeper.sweep();
+
+        // then
+        assertThat(reclaimedBytes).isZero();
+        assertThat(localS3Server.objectPaths()).containsExactly(BUCKET + "/post/fresh.png");
+        assertThat(localS3Server.multiDeleteRequests()).isZero();
+    }
+
+    private void putObject(String key, int size, Instant modifiedAt) {
+        localS3Server.putObject(BUCKET, key, new byte[size], "image/png");
+        localS3Server.setLastModified(BUCKET, key, modifiedAt);
+    }
+}
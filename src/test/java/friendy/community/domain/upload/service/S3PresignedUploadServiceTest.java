@@ -0,0 +1,138 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.upload.controller.code.UploadExceptionCode;
+import friendy.community.domain.upload.dto.request.PresignedUploadConfirmRequest;
+import friendy.community.domain.upload.dto.request.PresignedUploadRequest;
+import friendy.community.domain.upload.dto.response.PresignedUploadResponse;
+import friendy.community.domain.upload.dto.response.UploadResponse;
+import friendy.community.domain.upload.fixtures.LocalS3Server;
+import friendy.community.global.exception.domain.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class S3PresignedUploadServiceTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 0, 0, 0, 13, 'I', 'H', 'D', 'R', 1, 2, 3};
+    private static final byte[] JPEG = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 16, 'J', 'F', 'I', 'F'};
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final UploadedFileMetadataService uploadedFileMetadataService = mock(UploadedFileMetadataService.class);
+    private final StoredContentService storedContentService = mock(StoredContentService.class);
+    private LocalS3Server localS3Server;
+    private S3PresignedUploadService s3PresignedUploadService;
+
+    @BeforeEach
+    void setUp() {
+        localS3Server = LocalS3Server.start();
+        s3PresignedUploadService = new S3PresignedUploadService(
+            localS3Server.client(),
+            new S3service(localS3Server.client(), new S3exception(), null, uploadedFileMetadataService, storedContentService),
+            uploadedFileMetadataService
+        );
+        ReflectionTestUtils.setField(s3PresignedUploadService, "bucket", BUCKET);
+        ReflectionTestUtils.setField(s3PresignedUploadService, "expirationMillis", 600_000L);
+        ReflectionTestUtils.setField(s3PresignedUploadService, "maxSize", 1024L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        localS3Server.close();
+    }
+
+    @Test
+    @DisplayName("발급한 URL 에 Content-Type 과 Content-Length 를 서명해 둔다")
+    void issueSignsContentTypeAndLength() {
+        // when
+        PresignedUploadResponse response = s3PresignedUploadService.issue(new PresignedUploadRequest("image.png", "image/png", 19L));
+
+        // then
+        assertThat(response.key()).startsWith("temp/").endsWith(".png");
+        assertThat(response.uploadUrl())
+            .contains("/" + BUCKET + "/" + response.key())
+            .contains("X-Amz-SignedHeaders=content-length%3Bcontent-type%3Bhost");
+    }
+
+    @Test
+    @DisplayName("서명된 URL 로 올린 이미지를 확인하면 이미지 URL 을 돌려준다")
+    void confirmsUploadedImage() throws Exception {
+        // given
+        PresignedUploadResponse issued = s3PresignedUploadService.issue(new PresignedUploadRequest("image.png", "image/png", (long) PNG.length));
+        assertThat(put(issued.uploadUrl(), "image/png", PNG)).isEqualTo(200);
+
+        // when
+        UploadResponse response = s3PresignedUploadService.confirm(new PresignedUploadConfirmRequest(issued.key()));
+
+        // then
+        assertThat(response.imageUrl()).endsWith("/" + BUCKET + "/" + issued.key());
+        assertThat(localS3Server.getObject(BUCKET, issued.key()).content()).isEqualTo(PNG);
+        verify(uploadedFileMetadataService).record(issued.key(), "image/png", PNG.length);
+    }
+
+    @Test
+    @DisplayName("확장자와 Content-Type 이 맞지 않으면 URL 을 발급하지 않는다")
+    void issueRejectsMismatchedContentType() {
+        assertThatThrownBy(() -> s3PresignedUploadService.issue(new PresignedUploadRequest("image.png", "image/jpeg", 10L)))
+            .isInstanceOf(BadRequestException.class)
+            .hasFieldOrPropertyWithValue("exceptionType", UploadExceptionCode.INVALID_FILE_FORMAT);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 파일은 URL 을 발급하지 않는다")
+    void issueRejectsOversizedFile() {
+        assertThatThrownBy(() -> s3PresignedUploadService.issue(new PresignedUploadRequest("image.png", "image/png", 2048L)))
+            .isInstanceOf(BadRequestException.class)
+            .hasFieldOrPropertyWithValue("exceptionType", UploadExceptionCode.FILE_SIZE_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("올라간 파일의 실제 형식이 다르면 확인에 실패하고 파일을 지운다")
+    void confirmRejectsAndDeletesMismatchedContent() throws Exception {
+        // given
+        PresignedUploadResponse issued = s3PresignedUploadService.issue(new PresignedUploadRequest("image.png", "image/png", (long) JPEG.length));
+        put(issued.uploadUrl(), "image/png", JPEG);
+
+        // when & then
+        assertThatThrownBy(() -> s3PresignedUploadService.confirm(new PresignedUploadConfirmRequest(issued.key())))
+            .isInstanceOf(BadRequestException.class)
+            .hasFieldOrPropertyWithValue("exceptionType", UploadExceptionCode.INVALID_FILE_FORMAT);
+        assertThat(localS3Server.getObject(BUCKET, issued.key())).isNull();
+    }
+
+    @Test
+    @DisplayName("아직 올라가지 않은 파일은 확인에 실패한다")
+    void confirmRejectsMissingObject() {
+        assertThatThrownBy(() -> s3PresignedUploadService.confirm(new PresignedUploadConfirmRequest("temp/missing.png")))
+            .isInstanceOf(BadRequestException.class)
+            .hasFieldOrPropertyWithValue("exceptionType", UploadExceptionCode.UPLOADED_FILE_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("업로드 경로 밖의 키는 확인하지 않는다")
+    void confirmRejectsKeyOutsideUploadDir() {
+        assertThatThrownBy(() -> s3PresignedUploadService.confirm(new PresignedUploadConfirmRequest("post/image.png")))
+            .isInstanceOf(BadRequestException.class)
+            .hasFieldOrPropertyWithValue("exceptionType", UploadExceptionCode.INVALID_UPLOAD_KEY);
+    }
+
+    private int put(final String uploadUrl, final String contentType, final byte[] content) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uploadUrl))
+            .header("Content-Type", contentType)
+            .PUT(HttpRequest.BodyPublishers.ofByteArray(content))
+            .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
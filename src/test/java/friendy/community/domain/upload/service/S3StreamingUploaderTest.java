@@ -0,0 +1,191 @@
+package friendy.community.domain.upload.service;
+
+import friendy.community.domain.upload.controller.code.UploadExceptionCode;
+import friendy.community.domain.upload.fixtures.LocalS3Server;
+import friendy.community.global.exception.domain.BadRequestException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3StreamingUploaderTest {
+
+    private static final String BUCKET = "test-bucket";
+    private static final int PART_SIZE = 64 * 1024;
+    private static final int MAX_IN_FLIGHT_PARTS = 3;
+
+    private LocalS3Server localS3Server;
+    private S3StreamingUploader s3StreamingUploader;
+
+    @BeforeEach
+    void setUp() {
+        localS3Server = LocalS3Server.start();
+        s3StreamingUploader = new S3StreamingUploader(localS3Server.client());
+        ReflectionTestUtils.setField(s3StreamingUploader, "bucket", BUCKET);
+        ReflectionTestUtils.setField(s3StreamingUploader, "partSize", PART_SIZE);
+        ReflectionTestUtils.setField(s3StreamingUploader, "maxSize", 2L * 1024 * 1024);
+        ReflectionTestUtils.setField(s3StreamingUploader, "maxInFlightParts", MAX_IN_FLIGHT_PARTS);
+        ReflectionTestUtils.setField(s3StreamingUploader, "threads", 4);
+        s3StreamingUploader.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3StreamingUploader.shutdown();
+        localS3Server.close();
+    }
+
+    @Test
+    @DisplayName("파트 크기보다 작은 파일은 한 번의 PUT 으로 올리고 매직 바이트로 Content-Type 을 정한다")
+    void uploadsSmallFileInSinglePut() {
+        // given
+        byte[] content = png(10 * 1024);
+
+        // when
+        UploadedObject uploaded = s3StreamingUploader.upload(new ByteArrayInputStream(content), "temp/small.png", "png");
+
+        // then
+        LocalS3Server.StoredObject stored = localS3Server.getObject(BUCKET, "temp/small.png");
+        assertThat(uploaded.url()).endsWith("/temp/small.png");
+        assertThat(uploaded.contentType()).isEqualTo("image/png");
+        assertThat(uploaded.contentLength()).isEqualTo(content.length);
+        assertThat(stored.content()).isEqualTo(content);
+        assertThat(stored.contentType()).isEqualTo("image/png");
+        assertThat(localS3Server.partUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("큰 파일은 고정 크기 파트로 나눠 병렬로 올리고 동시에 올리는 파트 수는 제한된다")
+    void uploadsLargeFileInBoundedParallelParts() {
+        // given
+        byte[] content = png(PART_SIZE * 10 + 123);
+        localS3Server.setPartLatencyMillis(50);
+
+        // when
+        UploadedObject uploaded = s3StreamingUploader.upload(new ByteArrayInputStream(content), "temp/large.png", "png");
+
+        // then
+        LocalS3Server.StoredObject stored = localS3Server.getObject(BUCKET, "temp/large.png");
+        assertThat(stored.content()).isEqualTo(content);
+        assertThat(stored.contentType()).isEqualTo("image/png");
+        assertThat(uploaded.contentLength()).isEqualTo(content.length);
+        assertThat(localS3Server.partUploads()).isEqualTo(11);
+        assertThat(localS3Server.maxActivePartUploads()).isBetween(2, MAX_IN_FLIGHT_PARTS);
+        assertThat(localS3Server.pendingUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("파일 크기가 파트 크기의 배수여도 빈 파트 없이 올린다")
+    void uploadsFileOfExactPartMultiple() {
+        // given
+        byte[] content = png(PART_SIZE * 2);
+
+        // when
+        s3StreamingUploader.upload(new ByteArrayInputStream(content), "temp/exact.png", "png");
+
+        // then
+        assertThat(localS3Server.getObject(BUCKET, "temp/exact.png").content()).isEqualTo(content);
+        assertThat(localS3Server.partUploads()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("읽으면서 구한 내용 해시를 함께 돌려준다")
+    void returnsContentHash() throws Exception {
+        // given
+        byte[] content = png(PART_SIZE * 2 + 7);
+        String expected = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+
+        // when
+        UploadedObject uploaded = s3StreamingUploader.upload(new ByteArrayInputStream(content), "temp/hashed.png", "png");
+
+        // then
+        assertThat(uploaded.sha256()).isEqualTo(expected);
+        assertThat(uploaded.reused()).isFalse();
+    }
+
+    @Test
+    @DisplayName("같은 내용의 객체가 있으면 작은 파일은 PUT 하지 않고 그 객체를 돌려준다")
+    void reusesExistingObjectWithoutPut() {
+        // given
+        byte[] content = png(10 * 1024);
+
+        // when
+        UploadedObject uploaded = s3StreamingUploader.upload(
+            new ByteArrayInputStream(content), "temp/duplicate.png", "png", sha256 -> "https://cdn/post/shared.png");
+
+        // then
+        assertThat(uploaded.url()).isEqualTo("https://cdn/post/shared.png");
+        assertThat(uploaded.reused()).isTrue();
+        assertThat(localS3Server.objectPaths()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 내용의 객체가 있으면 큰 파일은 멀티파트 업로드를 완료하지 않고 중단한다")
+    void abortsMultipartUploadOfDuplicate() {
+        // given
+        byte[] content = png(PART_SIZE * 3 + 1);
+
+        // when
+        UploadedObject uploaded = s3StreamingUploader.upload(
+            new ByteArrayInputStream(content), "temp/duplicate.png", "png", sha256 -> "https://cdn/post/shared.png");
+
+        // then
+        assertThat(uploaded.url()).isEqualTo("https://cdn/post/shared.png");
+        assertThat(uploaded.contentLength()).isEqualTo(content.length);
+        assertThat(localS3Server.objectPaths()).isEmpty();
+        assertThat(localS3Server.pendingUploads()).isZero();
+    }
+
+    @Test
+    @DisplayName("확장자와 매직 바이트가 맞지 않으면 업로드하지 않는다")
+    void rejectsMismatchedSignature() {
+        // given
+        byte[] jpeg = new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0, 0, 0};
+
+        // when & then
+        assertThatThrownBy(() -> s3StreamingUploader.upload(new ByteArrayInputStream(jpeg), "temp/fake.png", "png"))
+            .isInstanceOf(BadRequestException.class)
+            .hasFieldOrPropertyWithValue("exceptionType", UploadExceptionCode.INVALID_FILE_FORMAT);
+        assertThat(localS3Server.objectPaths()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("빈 본문은 업로드하지 않는다")
+    void rejectsEmptyBody() {
+        assertThatThrownBy(() -> s3StreamingUploader.upload(InputStream.nullInputStream(), "temp/empty.png", "png"))
+            .isInstanceOf(BadRequestException.class)
+            .hasFieldOrPropertyWithValue("exceptionType", UploadExceptionCode.EMPTY_FILE);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 최대 크기를 넘기면 멀티파트 업로드를 중단한다")
+    void abortsWhenSizeExceededWhileStreaming() {
+        // given
+        byte[] content = png(3 * 1024 * 1024);
+
+        // when & then
+        assertThatThrownBy(() -> s3StreamingUploader.upload(new ByteArrayInputStream(content), "temp/huge.png", "png"))
+            .isInstanceOf(BadRequestException.class)
+            .hasFieldOrPropertyWithValue("exceptionType", UploadExceptionCode.FILE_SIZE_EXCEEDED);
+        assertThat(localS3Server.objectPaths()).isEmpty();
+        assertThat(localS3Server.pendingUploads()).isZero();
+    }
+
+    private static byte[] png(final int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        byte[] signature = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+        System.arraycopy(signature, 0, content, 0, signature.length);
+        return content;
+    }
+}
@@ -10,6 +10,7 @@ import jakarta.transaction.Transactional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -21,12 +22,18 @@ import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.exception.SdkClientException;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.AssertionsForClassTypes.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
@@ -40,6 +47,8 @@ class S3serviceTest {
     private S3service s3Service;
     @MockitoBean
     private AmazonS3 s3Client;
+    @MockitoBean
+    private StoredContentService storedContentService;
     @Mock
     private S3exception s3exception;
 
@@ -85,33 +94,102 @@ class S3serviceTest {
 
 
     @Test
-    @DisplayName("정상적인 파일 타입을 S3에서 가져오면 파일 타입을 반환한다.")
+    @DisplayName("같은 내용의 객체가 이미 있으면 업로드하지 않고 그 URL 을 반환한다.")
+    void uploadReusesStoredContent() throws Exception {
+        // Given
+        MockMultipartFile multipartFile = new MockMultipartFile("file", "dup.png", "image/png", "test".getBytes());
+        String sharedUrl = "https://your-bucket.s3.amazonaws.com/post/shared.png";
+        when(storedContentService.reuse(sha256("test".getBytes()))).thenReturn(sharedUrl);
+
+        // When
+        UploadResponse uploadResponse = s3Service.upload(multipartFile, "temp");
+
+        // Then
+        assertThat(uploadResponse.imageUrl()).isEqualTo(sharedUrl);
+        verify(s3Client, never()).putObject(anyString(), anyString(), any(InputStream.class), any(ObjectMetadata.class));
+    }
+
+    @Test
+    @DisplayName("내용 해시가 기록된 파일을 옮길 때 같은 내용의 객체가 있으면 복사하지 않는다.")
+    void moveS3ObjectReusesStoredContent() throws Exception {
+        // Given
+        MockMultipartFile multipartFile = new MockMultipartFile("file", "dup.png", "image/png", "same".getBytes());
+        String tempUrl = uploadToTemp(multipartFile);
+        String sharedUrl = "https://your-bucket.s3.amazonaws.com/post/shared.png";
+        when(storedContentService.reuse(sha256("same".getBytes()))).thenReturn(sharedUrl);
+
+        // When
+        String movedUrl = s3Service.moveS3Object(tempUrl, "post");
+
+        // Then
+        assertThat(movedUrl).isEqualTo(sharedUrl);
+        verify(s3Client, never()).copyObject(any());
+    }
+
+    @Test
+    @DisplayName("새로 복사한 객체는 내용 해시와 함께 기록해 이후 업로드가 재사용하게 한다.")
+    void moveS3ObjectRegistersCopiedContent() throws Exception {
+        // Given
+        MockMultipartFile multipartFile = new MockMultipartFile("file", "new.png", "image/png", "fresh".getBytes());
+        String tempUrl = uploadToTemp(multipartFile);
+        String newKey = "post/" + tempUrl.substring(tempUrl.lastIndexOf("/") + 1);
+        when(s3Client.getUrl(anyString(), eq(newKey))).thenReturn(new URL("https://your-bucket.s3.amazonaws.com/" + newKey));
+
+        // When
+        String movedUrl = s3Service.moveS3Object(tempUrl, "post");
+
+        // Then
+        verify(s3Client).copyObject(any());
+        verify(storedContentService).register(sha256("fresh".getBytes()), newKey, movedUrl);
+    }
+
+    @Test
+    @DisplayName("업로드할 때 기록한 파일 타입은 S3 에 묻지 않고 반환한다.")
+    void getContentTypeFromS3ReturnsTypeRecordedAtUpload() throws MalformedURLException {
+        // Given
+        MockMultipartFile multipartFile = new MockMultipartFile("file", "recorded.png", "image/png", "test".getBytes());
+        when(s3Client.getUrl(anyString(), anyString())).thenReturn(new URL("https://your-bucket.s3.amazonaws.com/test-dir/recorded.png"));
+        s3Service.upload(multipartFile, "test-dir");
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        verify(s3Client).putObject(anyString(), key.capture(), any(InputStream.class), any(ObjectMetadata.class));
+
+        // When
+        String result = s3Service.getContentTypeFromS3(key.getValue());
+
+        // Then
+        assertThat(result).isEqualTo("image/png");
+        verify(s3Client, never()).getObjectMetadata(anyString(), anyString());
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
+    }
+
+    @Test
+    @DisplayName("기록이 없는 파일은 본문 없이 메타데이터만 조회해 파일 타입을 반환한다.")
     void moveS3ObjectShouldReturnFileTypeWhenSuccessful() {
         // Given
-        S3Object s3Object = new S3Object();
         ObjectMetadata metadata = new ObjectMetadata();
         metadata.setContentType("image/png");
-        s3Object.setObjectMetadata(metadata);
+        metadata.setContentLength(4);
 
-        when(s3Client.getObject(any(GetObjectRequest.class))).thenReturn(s3Object);
+        when(s3Client.getObjectMetadata(anyString(), eq("legacy/head.png"))).thenReturn(metadata);
 
         // When
-        String result = s3Service.getContentTypeFromS3("test");
+        String result = s3Service.getContentTypeFromS3("legacy/head.png");
 
         // Then
         assertThat(result).isEqualTo("image/png");
+        verify(s3Client, never()).getObject(any(GetObjectRequest.class));
     }
 
     @Test
     @DisplayName("정상적인 파일 타입을 S3에서 가져오지 못하면 예외가 발생한다.")
     void throwsExceptionWhenGetContentTypeFromS3Fails() {
         // Given
-        when(s3Client.getObject(any(GetObjectRequest.class)))
-            .thenThrow(SdkClientException.class);
+        when(s3Client.getObjectMetadata(anyString(), eq("legacy/unavailable.png")))
+            .thenThrow(new AmazonS3Exception("unavailable"));
 
         // When & Then
         assertThrows(BadGatewayException.class, () -> {
-            s3Service.getContentTypeFromS3("test");
+            s3Service.getContentTypeFromS3("legacy/unavailable.png");
         });
     }
 
@@ -189,6 +267,19 @@ class S3serviceTest {
         assertThat(s3Key).isEqualTo("test/1da368de-8ad8-4c0a-bd12-d51ad6c4e937.png");
     }
 
+    @Test
+    @DisplayName("path-style URL 에서는 버킷 이름을 뺀 키를 추출한다")
+    void extractS3KeyFromPathStyleUrl() {
+        // Given
+        String imageUrl = "https://s3.us-east-2.amazonaws.com/test-bucket/post/test.jpg";
+
+        // When
+        String s3Key = s3Service.extractS3Key(imageUrl);
+
+        // Then
+        assertThat(s3Key).isEqualTo("post/test.jpg");
+    }
+
     @Test
     @DisplayName("잘못된 URL 형식일 경우 예외가 발생한다")
     void extractS3KeyInvalidUrl() {
@@ -213,4 +304,46 @@ class S3serviceTest {
         assertThatCode(() -> s3Service.deleteFromS3(s3Key)).doesNotThrowAnyException();
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("스트리밍 업로드 시 파일 이름이 없으면 예외가 발생한다")
+    void uploadStreamWithoutFileName() {
+        // when & then
+        assertThatThrownBy(() -> s3Service.uploadStream(InputStream.nullInputStream(), " ", "temp"))
+            .isInstanceOf(BadRequestException.class)
+            .hasFieldOrPropertyWithValue("exceptionType", UploadExceptionCode.MISSING_FILE_NAME);
+    }
+
+    @Test
+    @DisplayName("스트리밍 업로드 시 확장자가 없으면 예외가 발생한다")
+    void uploadStreamWithoutExtension() {
+        // when & then
+        assertThatThrownBy(() -> s3Service.uploadStream(InputStream.nullInputStream(), "image", "temp"))
+            .isInstanceOf(BadRequestException.class)
+            .hasFieldOrPropertyWithValue("exceptionType", UploadExceptionCode.UNSUPPORTED_FILE_EXTENSION);
+    }
+
+    @Test
+    @DisplayName("다중 삭제 한도보다 많은 키를 한 번에 지우려 하면 예외가 발생한다.")
+    void deleteAllFromS3RejectsTooManyKeys() {
+        // Given
+        List<String> s3Keys = IntStream.rangeClosed(0, S3service.MAX_DELETE_KEYS)
+            .mapToObj(index -> "post/" + index + ".png")
+            .toList();
+
+        // When & Then
+        assertThatThrownBy(() -> s3Service.deleteAllFromS3(s3Keys))
+            .isInstanceOf(IllegalArgumentException.class);
+        verify(s3Client, never()).deleteObjects(any(DeleteObjectsRequest.class));
+    }
+
+    // 업로드한 키를 그대로 URL 로 돌려줘 옮길 때 업로드 기록을 찾게 한다
+    private String uploadToTemp(MultipartFile multipartFile) throws MalformedURLException {
+        when(s3Client.getUrl(anyString(), anyString())).thenAnswer(invocation ->
+            new URL("https://your-bucket.s3.amazonaws.com/" + invocation.getArgument(1)));
+        return s3Service.upload(multipartFile, "temp").imageUrl();
+    }
+
+    private static String sha256(byte[] content) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+    }
+}
@@ -0,0 +1,163 @@
+package friendy.community.domain.upload.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import friendy.community.domain.upload.repository.StoredContentRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class StoredContentServiceTest {
+
+    private static final String URL = "https://bucket.s3.amazonaws.com/post/shared.png";
+
+    @Autowired
+    private StoredContentService storedContentService;
+
+    @Autowired
+    private StoredContentRepository storedContentRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private AmazonS3 s3Client;
+
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        storedContentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 내용의 객체가 있으면 그 URL 을 돌려주고 없으면 null 을 돌려준다")
+    void reuseFindsStoredContentBySha256() {
+        // given
+        storedContentService.register("sha", "post/shared.png", URL);
+        double hits = dedupCount("hit");
+        double misses = dedupCount("miss");
+
+        // when
+        String found = storedContentService.reuse("sha");
+        String missing = storedContentService.reuse("other");
+
+        // then
+        assertThat(found).isEqualTo(URL);
+        assertThat(missing).isNull();
+        assertThat(storedContentRepository.findBySha256("sha").orElseThrow().getLastReusedAt()).isNotNull();
+        assertThat(dedupCount("hit")).isEqualTo(hits + 1);
+        assertThat(dedupCount("miss")).isEqualTo(misses + 1);
+    }
+
+    @Test
+    @DisplayName("같은 내용을 다시 기록하면 먼저 기록한 객체를 그대로 둔다")
+    void registerIgnoresDuplicateContent() {
+        // given
+        storedContentService.register("sha", "post/shared.png", URL);
+
+        // when
+        storedContentService.register("sha", "post/other.png", "https://bucket.s3.amazonaws.com/post/other.png");
+
+        // then
+        assertThat(storedContentRepository.count()).isEqualTo(1);
+        assertThat(storedContentService.reuse("sha")).isEqualTo(URL);
+    }
+
+    @Test
+    @DisplayName("마지막 참조를 놓을 때만 지워도 되는 URL 로 돌려준다")
+    void releaseReturnsUrlOnlyForLastReference() {
+        // given
+        storedContentService.register("sha", "post/shared.png", URL);
+        storedContentService.acquire(URL);
+        storedContentService.acquire(URL);
+
+        // when
+        List<String> first = storedContentService.release(List.of(URL));
+        List<String> second = storedContentService.release(List.of(URL));
+
+        // then
+        assertThat(first).isEmpty();
+        assertThat(second).containsExactly(URL);
+        assertThat(storedContentRepository.existsByImageUrl(URL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("기록이 없는 예전 객체는 참조가 하나뿐인 것으로 보고 바로 돌려준다")
+    void releaseReturnsLegacyUrl() {
+        // when
+        List<String> released = storedContentService.release(List.of("https://bucket.s3.amazonaws.com/post/legacy.png"));
+
+        // then
+        assertThat(released).containsExactly("https://bucket.s3.amazonaws.com/post/legacy.png");
+    }
+
+    @Test
+    @DisplayName("되돌리는 복사본은 그 사이 재사용되지 않았을 때만 기록을 지우고 지워도 된다고 답한다")
+    void discardOnlyUnusedCopy() {
+        // given
+        storedContentService.register("unused", "post/unused.png", "https://bucket.s3.amazonaws.com/post/unused.png");
+        storedContentService.register("reused", "post/reused.png", "https://bucket.s3.amazonaws.com/post/reused.png");
+        storedContentService.reuse("reused");
+
+        // when
+        boolean unused = storedContentService.discard("https://bucket.s3.amazonaws.com/post/unused.png");
+        boolean reused = storedContentService.discard("https://bucket.s3.amazonaws.com/post/reused.png");
+        boolean legacy = storedContentService.discard("https://bucket.s3.amazonaws.com/post/legacy.png");
+
+        // then
+        assertThat(unused).isTrue();
+        assertThat(reused).isFalse();
+        assertThat(legacy).isTrue();
+        assertThat(storedContentService.reuse("unused")).isNull();
+        assertThat(storedContentService.reuse("reused")).isEqualTo("https://bucket.s3.amazonaws.com/post/reused.png");
+    }
+
+    @Test
+    @DisplayName("최근에 재사용한 객체는 참조가 없어져도 유예 기간 동안 남기고 정리 작업에서도 지키게 한다")
+    void keepsRecentlyReusedContent() {
+        // given
+        storedContentService.register("sha", "post/shared.png", URL);
+        storedContentService.acquire(URL);
+        storedContentService.reuse("sha");
+
+        // when
+        List<String> released = storedContentService.release(List.of(URL));
+
+        // then
+        assertThat(released).isEmpty();
+        assertThat(storedContentService.findPinnedKeys(List.of("post/shared.png"))).containsExactly("post/shared.png");
+    }
+
+    @Test
+    @DisplayName("참조 중인 키만 정리 작업에서 지키고, 지운 키의 기록은 잊는다")
+    void findPinnedKeysAndForget() {
+        // given
+        storedContentService.register("used", "post/used.png", "https://bucket.s3.amazonaws.com/post/used.png");
+        storedContentService.register("idle", "post/idle.png", "https://bucket.s3.amazonaws.com/post/idle.png");
+        storedContentService.acquire("https://bucket.s3.amazonaws.com/post/used.png");
+
+        // when
+        Set<String> pinned = storedContentService.findPinnedKeys(List.of("post/used.png", "post/idle.png", "post/none.png"));
+        storedContentService.forget(List.of("post/idle.png"));
+
+        // then
+        assertThat(pinned).containsExactly("post/used.png");
+        assertThat(storedContentService.reuse("idle")).isNull();
+    }
+
+    private double dedupCount(String outcome) {
+        return meterRegistry.counter(StoredContentService.DEDUP_METRIC, "outcome", outcome).count();
+    }
+}
@@ -0,0 +1,184 @@
+package friendy.community.domain.upload.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import friendy.community.domain.upload.repository.UploadedFileRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+class UploadedFileMetadataServiceTest {
+
+    @Autowired
+    private UploadedFileMetadataService uploadedFileMetadataService;
+
+    @Autowired
+    private UploadedFileRepository uploadedFileRepository;
+
+    @MockitoBean
+    private AmazonS3 s3Client;
+
+    @MockitoBean
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        uploadedFileRepository.deleteAll();
+        localEntries().clear();
+        ReflectionTestUtils.setField(uploadedFileMetadataService, "maxSize", 10000);
+    }
+
+    @Test
+    @DisplayName("업로드할 때 기록한 형식과 크기는 S3 에 묻지 않고 돌려준다")
+    void returnsRecordedMetadataWithoutS3() {
+        // given
+        uploadedFileMetadataService.record("temp/recorded.png", "image/png", 1234L);
+
+        // when
+        UploadedFileMetadata metadata = uploadedFileMetadataService.get("temp/recorded.png");
+
+        // then
+        assertThat(metadata).isEqualTo(new UploadedFileMetadata("image/png", 1234L));
+        assertThat(uploadedFileRepository.findByS3Key("temp/recorded.png")).isPresent();
+        verify(s3Client, never()).getObjectMetadata(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없으면 DB 에 기록된 값을 읽어 다시 캐시한다")
+    void readsRecordedMetadataFromDatabase() {
+        // given
+        uploadedFileMetadataService.record("temp/stored.gif", "image/gif", 99L);
+        localEntries().clear();
+
+        // when
+        UploadedFileMetadata metadata = uploadedFileMetadataService.get("temp/stored.gif");
+
+        // then
+        assertThat(metadata.contentType()).isEqualTo("image/gif");
+        assertThat(localEntries()).containsKey("temp/stored.gif");
+        verify(s3Client, never()).getObjectMetadata(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("기록이 없는 예전 객체는 HEAD 로 한 번만 조회하고 이후에는 기록된 값을 쓴다")
+    void fetchesLegacyMetadataOnceWithHead() {
+        // given
+        ObjectMetadata objectMetadata = new ObjectMetadata();
+        objectMetadata.setContentType("image/jpeg");
+        objectMetadata.setContentLength(2048L);
+        when(s3Client.getObjectMetadata(anyString(), eq("profile/legacy.jpg"))).thenReturn(objectMetadata);
+
+        // when
+        UploadedFileMetadata first = uploadedFileMetadataService.get("profile/legacy.jpg");
+        localEntries().clear();
+        UploadedFileMetadata second = uploadedFileMetadataService.get("profile/legacy.jpg");
+
+        // then
+        assertThat(first).isEqualTo(new UploadedFileMetadata("image/jpeg", 2048L));
+        assertThat(second).isEqualTo(first);
+        verify(s3Client, times(1)).getObjectMetadata(anyString(), eq("profile/legacy.jpg"));
+    }
+
+    @Test
+    @DisplayName("복사한 객체에는 원본의 기록을 그대로 옮겨 적는다")
+    void recordCopyCarriesSourceMetadata() {
+        // given
+        uploadedFileMetadataService.record("temp/moved.png", "image/png", 10L);
+
+        // when
+        uploadedFileMetadataService.recordCopy("temp/moved.png", "profile/moved.png");
+
+        // then
+        assertThat(uploadedFileRepository.findByS3Key("profile/moved.png")).isPresent();
+        assertThat(uploadedFileMetadataService.get("profile/moved.png")).isEqualTo(new UploadedFileMetadata("image/png", 10L));
+        verify(s3Client, never()).getObjectMetadata(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("복사한 객체에는 원본의 내용 해시도 함께 옮겨 적는다")
+    void recordCopyCarriesContentHash() {
+        // given
+        uploadedFileMetadataService.record("temp/hashed.png", "image/png", 10L, "sha");
+
+        // when
+        uploadedFileMetadataService.recordCopy("temp/hashed.png", "post/hashed.png");
+        localEntries().clear();
+
+        // then
+        assertThat(uploadedFileMetadataService.findSha256("post/hashed.png")).isEqualTo("sha");
+    }
+
+    @Test
+    @DisplayName("내용 해시는 기록이 없으면 S3 에 묻지 않고 null 을 돌려준다")
+    void findSha256WithoutRecordSkipsS3() {
+        // given
+        uploadedFileMetadataService.record("temp/unhashed.png", "image/png", 10L);
+
+        // when & then
+        assertThat(uploadedFileMetadataService.findSha256("temp/unhashed.png")).isNull();
+        assertThat(uploadedFileMetadataService.findSha256("temp/unknown.png")).isNull();
+        verify(s3Client, never()).getObjectMetadata(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("원본 기록이 없으면 복사할 때 S3 에 묻지 않는다")
+    void recordCopySkipsUnknownSource() {
+        // when
+        uploadedFileMetadataService.recordCopy("temp/unknown.png", "post/unknown.png");
+
+        // then
+        assertThat(uploadedFileRepository.findByS3Key("post/unknown.png")).isEmpty();
+        verify(s3Client, never()).getObjectMetadata(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("삭제한 객체의 기록은 캐시와 DB 에서 지운다")
+    void evictRemovesRecord() {
+        // given
+        uploadedFileMetadataService.record("post/deleted.png", "image/png", 10L);
+
+        // when
+        uploadedFileMetadataService.evict("post/deleted.png");
+
+        // then
+        assertThat(localEntries()).doesNotContainKey("post/deleted.png");
+        assertThat(uploadedFileRepository.findByS3Key("post/deleted.png")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로컬 캐시는 설정한 크기를 넘지 않는다")
+    void localCacheIsBounded() {
+        // given
+        ReflectionTestUtils.setField(uploadedFileMetadataService, "maxSize", 10);
+
+        // when
+        for (int index = 0; index < 25; index++) {
+            uploadedFileMetadataService.record("temp/" + index + ".png", "image/png", index);
+        }
+
+        // then
+        assertThat(localEntries()).hasSizeLessThanOrEqualTo(10);
+        assertThat(uploadedFileRepository.count()).isEqualTo(25);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, UploadedFileMetadata> localEntries() {
+        return (Map<String, UploadedFileMetadata>) ReflectionTestUtils.getField(uploadedFileMetadataService, "entries");
+    }
+}
@@ -0,0 +1,182 @@
+package friendy.community.global.load;
+
+import com.amazonaws.services.s3.AmazonS3;
+import friendy.community.FriendyBeApplication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * S3 호출에 인위적인 지연을 넣은 대역으로 같은 부하를 플랫폼 스레드 모드와 가상 스레드 모드에 보내 처리량을 비교한다.
+ * 인증 메일은 백그라운드 워커가 보내 요청 스레드를 막지 않으므로, 요청 스레드에서 S3 를 기다리는 두 업로드 경로로만 부하를 만든다.
+ * 일반 테스트에서는 제외되며 {@code ./gradlew loadTest} 로 실행한다. 결과는 build/reports/load 에 남는다.
+ */
+@Tag("load")
+class VirtualThreadLoadTest {
+
+    // 요청 처리에 드는 CPU 시간보다 충분히 길어야 스레드 수 제한이 처리량을 가른다
+    private static final long STAND_IN_LATENCY_MILLIS = 500;
+    private static final int TOMCAT_MAX_THREADS = 10;
+    private static final int CONCURRENCY = 200;
+    private static final int REQUESTS = 400;
+    private static final double MIN_SPEEDUP = 1.5;
+    private static final String BOUNDARY = "friendy-load-test";
+    private static final byte[] PNG_BODY = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n', 'l', 'o', 'a', 'd'};
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .build();
+
+    @Test
+    @DisplayName("요청 스레드에서 S3 를 기다리는 업로드 부하에서 가상 스레드 모드의 처리량이 1.5배 이상 높다")
+    void virtualThreadsOutperformPlatformThreadsOnBlockingCalls() throws Exception {
+        // when
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        // then
+        String report = String.format(
+            "stand-in latency : %d ms, tomcat max threads : %d, concurrency : %d, requests : %d%n%s%n%s%n",
+            STAND_IN_LATENCY_MILLIS, TOMCAT_MAX_THREADS, CONCURRENCY, REQUESTS, platform, virtual);
+        log.info("\n{}", report);
+        Path reportFile = Path.of("build", "reports", "load", "virtual-threads.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report);
+
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        assertThat(virtual.throughput()).isGreaterThanOrEqualTo(platform.throughput() * MIN_SPEEDUP);
+    }
+
+    private LoadResult run(final boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(FriendyBeApplication.class, StandIns.class)
+            .properties(
+                "server.port=0",
+                "spring.threads.virtual.enabled=" + virtualThreads,
+                "server.tomcat.threads.max=" + TOMCAT_MAX_THREADS,
+                "spring.jpa.show-sql=false",
+                // 요청마다 파트 크기만큼 버퍼를 잡으므로, 한 파트로 끝나는 작은 본문에 맞춰 줄여 힙 대신 스레드 모델만 비교한다
+                "friendy.upload.stream.part-size=65536",
+                "friendy.hashtag.index.load-on-startup=false"
+            )
+            .run()) {
+            final int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            send(port, 0);
+
+            final List<Future<Integer>> responses = new ArrayList<>();
+            final long startedAt = System.nanoTime();
+            try (ExecutorService clients = Executors.newFixedThreadPool(CONCURRENCY)) {
+                for (int index = 0; index < REQUESTS; index++) {
+                    final int requestIndex = index;
+                    responses.add(clients.submit(() -> send(port, requestIndex)));
+                }
+            }
+            final double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+            int failures = 0;
+            for (Future<Integer> response : responses) {
+                if (response.get() != 200) {
+                    failures++;
+                }
+            }
+            return new LoadResult(virtualThreads ? "virtual" : "platform", REQUESTS / elapsedSeconds, elapsedSeconds, failures);
+        }
+    }
+
+    // 짝수 요청은 스트리밍 업로드, 홀수 요청은 multipart 업로드. 둘 다 요청 스레드에서 S3 putObject 를 기다린다
+    private int send(final int port, final int requestIndex) throws IOException, InterruptedException {
+        final HttpRequest request = requestIndex % 2 == 0
+            ? HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/file/upload/stream?fileName=image.png"))
+                .header("Content-Type", "image/png")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(PNG_BODY))
+                .build()
+            : HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/file/upload"))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofString(multipartBody(), StandardCharsets.UTF_8))
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static String multipartBody() {
+        return "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"file\"; filename=\"image.png\"\r\n"
+            + "Content-Type: image/png\r\n\r\n"
+            + "load-test-image\r\n"
+            + "--" + BOUNDARY + "--\r\n";
+    }
+
+    private static void sleepStandInLatency() {
+        try {
+            Thread.sleep(Duration.ofMillis(STAND_IN_LATENCY_MILLIS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record LoadResult(String mode, double throughput, double elapsedSeconds, int failures) {
+
+        @Override
+        public String toString() {
+            return String.format("%-8s : %8.1f req/s (%.2f s, failures : %d)", mode, throughput, elapsedSeconds, failures);
+        }
+    }
+
+    /**
+     * 컴포넌트 스캔에 잡히지 않도록 @Configuration 없이 소스로만 등록한다.
+     */
+    static class StandIns {
+
+        @Bean
+        @Primary
+        AmazonS3 slowAmazonS3() throws Exception {
+            final AmazonS3 amazonS3 = mock(AmazonS3.class, invocation -> {
+                sleepStandInLatency();
+                return null;
+            });
+            doReturn(new URL("https://friendybucket.s3.amazonaws.com/temp/image.png"))
+                .when(amazonS3).getUrl(anyString(), anyString());
+            return amazonS3;
+        }
+
+        @Bean
+        @Primary
+        @SuppressWarnings("unchecked")
+        StringRedisTemplate inMemoryRedisTemplate() {
+            final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+            when(redisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+            return redisTemplate;
+        }
+    }
+}
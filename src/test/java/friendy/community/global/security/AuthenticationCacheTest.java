@@ -0,0 +1,150 @@
+package friendy.community.global.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticationCacheTest {
+
+    @InjectMocks
+    private AuthenticationCache authenticationCache;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    private final FriendyUserDetails userDetails = new FriendyUserDetails(1L, "user@example.com", "encrypted", Collections.emptyList());
+    private final long farFuture = Long.MAX_VALUE;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(authenticationCache, "maxSize", 100);
+        ReflectionTestUtils.setField(authenticationCache, "ttlInMs", 60000L);
+        ReflectionTestUtils.setField(authenticationCache, "redisEnabled", false);
+    }
+
+    @Test
+    @DisplayName("캐시한 토큰은 비밀번호 없이 사용자 정보를 돌려준다")
+    void getCachedPrincipal() {
+        // given
+        authenticationCache.put("token", userDetails, farFuture);
+
+        // when
+        Optional<FriendyUserDetails> cached = authenticationCache.get("token");
+
+        // then
+        assertThat(cached).hasValueSatisfying(details -> {
+            assertThat(details.getMemberId()).isEqualTo(1L);
+            assertThat(details.getEmail()).isEqualTo("user@example.com");
+            assertThat(details.getPassword()).isEmpty();
+        });
+        assertThat(authenticationCache.get("other-token")).isEmpty();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 캐시에서 사라진다")
+    void expiresWithToken() {
+        // given
+        authenticationCache.put("token", userDetails, System.currentTimeMillis() - 1);
+
+        // when & then
+        assertThat(authenticationCache.get("token")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("로그아웃한 토큰과 탈퇴한 회원의 토큰은 캐시에서 제거된다")
+    void evictTokenAndMember() {
+        // given
+        FriendyUserDetails other = new FriendyUserDetails(2L, "other@example.com", "", Collections.emptyList());
+        authenticationCache.put("token-1", userDetails, farFuture);
+        authenticationCache.put("token-2", userDetails, farFuture);
+        authenticationCache.put("token-3", other, farFuture);
+
+        // when
+        authenticationCache.evict("token-1");
+        authenticationCache.evictMember("user@example.com");
+
+        // then
+        assertThat(authenticationCache.get("token-1")).isEmpty();
+        assertThat(authenticationCache.get("token-2")).isEmpty();
+        assertThat(authenticationCache.get("token-3")).isPresent();
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않도록 오래된 항목을 비운다")
+    void boundedSize() {
+        // when
+        for (int i = 0; i < 1000; i++) {
+            authenticationCache.put("token-" + i, userDetails, farFuture);
+        }
+
+        // then
+        assertThat(authenticationCache.get("token-999")).isPresent();
+        @SuppressWarnings("unchecked")
+        int size = ((Map<String, ?>) ReflectionTestUtils.getField(authenticationCache, "entries")).size();
+        assertThat(size).isLessThanOrEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없으면 Redis 에서 사용자 정보를 읽는다")
+    void fallbackToRedis() {
+        // given
+        ReflectionTestUtils.setField(authenticationCache, "redisEnabled", true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get(anyString())).thenReturn("7:redis@example.com");
+        when(redisTemplate.getExpire(anyString(), eq(TimeUnit.MILLISECONDS))).thenReturn(30000L);
+
+        // when
+        Optional<FriendyUserDetails> cached = authenticationCache.get("token");
+
+        // then
+        assertThat(cached).hasValueSatisfying(details -> {
+            assertThat(details.getMemberId()).isEqualTo(7L);
+            assertThat(details.getEmail()).isEqualTo("redis@example.com");
+        });
+    }
+
+    @Test
+    @DisplayName("Redis 를 쓰면 토큰과 회원별 토큰 목록을 함께 저장한다")
+    void putToRedis() {
+        // given
+        ReflectionTestUtils.setField(authenticationCache, "redisEnabled", true);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+
+        // when
+        authenticationCache.put("token", userDetails, farFuture);
+
+        // then
+        verify(valueOperations).set(anyString(), eq("1:user@example.com"), anyLong(), eq(TimeUnit.MILLISECONDS));
+        verify(setOperations).add(eq("auth:principal-tokens:user@example.com"), anyString());
+    }
+}